@@ -10,4 +10,16 @@ public class Constants {
 
     public static final int START_MONEY = 1000;
     public static final int START_HEALTH = 10;
+
+    /** Map loaded for a regular match, resolved under {@code assets/text/maps/}. */
+    public static final String MAIN_MAP_ID = "MainMap";
+
+    /**
+     * Development mode: watch {@code maps/<map>.txt} and apply edits to the running match.
+     * Enabled with {@code -Dmap.hotReload=true}.
+     */
+    public static final boolean MAP_HOT_RELOAD = Boolean.getBoolean("map.hotReload");
+
+    /** Fixed simulation rate; every tick advances the world by exactly {@code 1 / TICKS_PER_SECOND} seconds. */
+    public static final int TICKS_PER_SECOND = 60;
 }
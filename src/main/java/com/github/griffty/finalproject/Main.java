@@ -2,17 +2,12 @@ package com.github.griffty.finalproject;
 
 import com.almasb.fxgl.app.GameApplication;
 import com.almasb.fxgl.app.GameSettings;
-import com.almasb.fxgl.entity.Entity;
-import com.almasb.fxgl.physics.CollisionHandler;
+import com.almasb.fxgl.audio.Music;
 import com.github.griffty.finalproject.util.input.InputManager;
 import com.github.griffty.finalproject.ui.UIManager;
-import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WaveScript;
 import com.github.griffty.finalproject.world.WorldManager;
-import com.github.griffty.finalproject.world.entities.EntityType;
-import com.github.griffty.finalproject.world.entities.components.bulets.AbstractProjectileComponent;
-import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
-
-import java.util.Optional;
+import com.github.griffty.finalproject.world.map.GameMap;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 
@@ -20,7 +15,7 @@ import static com.almasb.fxgl.dsl.FXGL.*;
  * Main application entry point for the Tower Defense Prototype.
  *
  * <p>Extends FXGL's {@link GameApplication} to configure settings, initialize input,
- * game state, UI, and physics (collision handlers).</p>
+ * game state and UI, and forwards frame updates to the fixed-step world simulation.</p>
  */
 public class Main extends GameApplication {
 
@@ -52,27 +47,45 @@ public class Main extends GameApplication {
     @Override
     protected void initInput() {}
 
+    /**
+     * Startup of the current game until its first frame has been shown; {@code null} afterwards.
+     */
+    private StartupPipeline startup;
+
     /**
      * Initialize core game systems.
      *
      * <p>This method sets up UI stylesheets, resets singletons/managers,
-     * initializes input mappings, sets global audio volume and begins background music.</p>
+     * initializes input mappings, sets global audio volume and begins background music.
+     * Assets that do not need the scene (map, wave script, sprites, music) are loaded in
+     * parallel by a {@link StartupPipeline}, which times every phase.</p>
      */
     @Override
     protected void initGame() {
+        StartupPipeline startup = new StartupPipeline();
+
         // Add UI stylesheet to the scene
-        getGameScene().getRoot().getStylesheets().add("assets/ui/css/style.css");
+        startup.run("stylesheet attach", () -> getGameScene().getRoot().getStylesheets().add("assets/ui/css/style.css"));
 
-        // Reset UI and world managers to default initial state
-        UIManager.reset();
-        WorldManager.reset();
+        // Reset input, UI and world managers to default initial state; input goes first so
+        // the previous world's bindings are not carried into the new one
+        startup.run("input reset", InputManager::reset);
+        startup.run("UI build", UIManager::reset);
+        GameMap map = startup.map();
+        WaveScript waves = startup.waves();
+        startup.awaitSprites();
+        startup.run("world build", () -> WorldManager.reset(map, waves));
 
         // Initialize inputs via the project's InputManager
-        InputManager.get().initInputs();
+        startup.run("input bindings", () -> InputManager.get().initInputs());
 
         // Set low global music volume and loop background music track
-        getSettings().setGlobalMusicVolume(0.1);
-        loopBGM("soundTrack.mp3");
+        Music music = startup.music();
+        startup.run("audio start", () -> {
+            getSettings().setGlobalMusicVolume(0.1);
+            getAudioPlayer().loopMusic(music);
+        });
+        this.startup = startup;
     }
 
     /**
@@ -88,41 +101,31 @@ public class Main extends GameApplication {
     /**
      * Initialize physics and collision handlers.
      *
-     * <p>Registers a collision handler between projectiles and enemies. When a collision
-     * begins, it attempts to retrieve the associated components from both entities,
-     * apply damage to the enemy, notify the projectile's tower that an enemy was
-     * killed (or hit), and remove the projectile from the world.</p>
+     * <p>Left empty because the simulation does not use FXGL's physics at all.
+     * Projectile/enemy collisions are found by the broadphase owned by
+     * {@link WorldManager}, which runs together with the fixed-rate simulation.</p>
      */
     @Override
-    protected void initPhysics() {
-        getPhysicsWorld().addCollisionHandler(new CollisionHandler(
-                EntityType.PROJECTILE, EntityType.ENEMY) {
-            /**
-             * Called when a projectile collides with an enemy.
-             *
-             * <p>Safely obtains optional components for the enemy and projectile, deals damage
-             * to the enemy using the projectile's damage value, notifies the tower that fired
-             * the projectile, and removes the projectile from the world regardless of component presence.</p>
-             *
-             * @param proj  the projectile entity involved in the collision
-             * @param enemy the enemy entity involved in the collision
-             */
-            @Override
-            protected void onCollisionBegin(Entity proj, Entity enemy) {
-                Optional<AbstractEnemyComponent> enemyComp = EntityUtil.getOptionalComponent(enemy, AbstractEnemyComponent.class);
-                Optional<AbstractProjectileComponent> projComp = EntityUtil.getOptionalComponent(proj, AbstractProjectileComponent.class);
-
-                if (enemyComp.isPresent() && projComp.isPresent()) {
-                    // Apply damage from projectile to enemy
-                    enemyComp.get().dealDamage(projComp.get().getDamage());
-                    // Notify the tower that fired this projectile (may update stats, cooldowns, etc.)
-                    projComp.get().getTower().enemyKilled();
-                }
-
-                // Remove projectile entity from the world after collision
-                proj.removeFromWorld();
-            }
-        });
+    protected void initPhysics() {}
+
+    /**
+     * Advance the world simulation.
+     *
+     * <p>Frame time is handed to {@link WorldManager#update(double)}, which converts it into
+     * fixed-length simulation ticks. The first frame after startup also completes the
+     * startup report.</p>
+     *
+     * @param tpf seconds elapsed since the previous frame
+     */
+    @Override
+    protected void onUpdate(double tpf) {
+        if (startup != null) {
+            startup.run("first frame world update", () -> WorldManager.get().update(tpf));
+            startup.firstFrame();
+            startup = null;
+            return;
+        }
+        WorldManager.get().update(tpf);
     }
 
     /**
@@ -0,0 +1,172 @@
+package com.github.griffty.finalproject;
+
+import com.almasb.fxgl.audio.Music;
+import com.github.griffty.finalproject.util.TextureCache;
+import com.github.griffty.finalproject.world.WaveScript;
+import com.github.griffty.finalproject.world.map.GameMap;
+import com.github.griffty.finalproject.world.map.MapManager;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static com.almasb.fxgl.dsl.FXGL.getAssetLoader;
+
+/**
+ * Startup of the interactive game, split into timed phases.
+ *
+ * <p>FXGL runs {@code initGame} on its loading thread while the loading screen is shown.
+ * Work that does not touch the scene runs in parallel with it on virtual threads as soon as
+ * the pipeline is created: parsing the main map and its wave script, decoding every sprite
+ * and decoding the background music. Meanwhile the loading thread builds the UI; it only
+ * waits for a background result right before building what depends on it. The stylesheet is
+ * only attached, since JavaFX parses it lazily during the first CSS pass of the scene. The
+ * JavaFX application thread is left with what must happen there: rasterizing the visible map
+ * chunks on the first frame.</p>
+ *
+ * <p>Every phase is recorded with its thread, start offset and duration. The report is
+ * printed on the first frame after {@code initGame}, together with the time from process
+ * start and from the beginning of {@code initGame} to that first interactive frame.</p>
+ */
+final class StartupPipeline {
+    /** Background music, relative to FXGL's {@code assets/music/}. */
+    static final String BGM = "soundTrack.mp3";
+
+    private final long begin = System.nanoTime();
+    private final List<Phase> phases = Collections.synchronizedList(new ArrayList<>());
+    private final ExecutorService background = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Future<GameMap> map;
+    private final Future<WaveScript> waves;
+    private final List<Future<?>> sprites = new ArrayList<>();
+    private final Future<Music> music;
+
+    /**
+     * One timed step of the startup.
+     *
+     * @param name   what was done
+     * @param thread thread it ran on, {@code virtual} for background phases
+     * @param start  offset from the start of the pipeline, in milliseconds
+     * @param millis duration in milliseconds
+     */
+    private record Phase(String name, String thread, double start, double millis) { }
+
+    /**
+     * Starts all background phases.
+     */
+    StartupPipeline() {
+        map = submit("map parse", () -> MapManager.load(Constants.MAIN_MAP_ID));
+        waves = submit("wave script parse", () -> WaveScript.load(Constants.MAIN_MAP_ID));
+        for (String sprite : TextureCache.SPRITES) {
+            sprites.add(submit("texture " + sprite, () -> TextureCache.preload(sprite)));
+        }
+        music = submit("audio decode", () -> getAssetLoader().loadMusic(BGM));
+        background.shutdown();
+    }
+
+    /**
+     * Runs a phase on the calling thread.
+     */
+    void run(String name, Runnable phase) {
+        long start = System.nanoTime();
+        phase.run();
+        record(name, start);
+    }
+
+    /**
+     * @return the parsed main map, waiting for it if needed
+     */
+    GameMap map() {
+        return await("wait for map", map);
+    }
+
+    /**
+     * @return the main map's wave script, waiting for it if needed
+     */
+    WaveScript waves() {
+        return await("wait for wave script", waves);
+    }
+
+    /**
+     * Waits until every sprite is decoded, so no entity view decodes during a frame.
+     */
+    void awaitSprites() {
+        long start = System.nanoTime();
+        for (Future<?> sprite : sprites) {
+            result(sprite);
+        }
+        record("wait for textures", start);
+    }
+
+    /**
+     * @return the decoded background music, waiting for it if needed
+     */
+    Music music() {
+        return await("wait for audio", music);
+    }
+
+    /**
+     * Prints the report; call on the first frame after startup.
+     */
+    void firstFrame() {
+        long now = System.nanoTime();
+        double sinceInit = (now - begin) / 1e6;
+        long sinceProcess = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("Startup: first interactive frame %.1f ms after initGame, %d ms after process start%n",
+                sinceInit, sinceProcess));
+        List<Phase> sorted;
+        synchronized (phases) {
+            sorted = new ArrayList<>(phases);
+        }
+        sorted.sort((a, b) -> Double.compare(a.start(), b.start()));
+        for (Phase phase : sorted) {
+            report.append(String.format("  %-36s %-24s +%7.1f ms %8.1f ms%n",
+                    phase.name(), phase.thread(), phase.start(), phase.millis()));
+        }
+        System.out.print(report);
+    }
+
+    private <T> Future<T> submit(String name, Callable<T> task) {
+        return background.submit(() -> {
+            long start = System.nanoTime();
+            T result = task.call();
+            record(name, start);
+            return result;
+        });
+    }
+
+    private <T> T await(String name, Future<T> future) {
+        long start = System.nanoTime();
+        T result = result(future);
+        record(name, start);
+        return result;
+    }
+
+    private static <T> T result(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during startup", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Startup phase failed", e.getCause());
+        }
+    }
+
+    private void record(String name, long start) {
+        Thread thread = Thread.currentThread();
+        phases.add(new Phase(name, thread.isVirtual() ? "virtual" : thread.getName(),
+                (start - begin) / 1e6, (System.nanoTime() - start) / 1e6));
+    }
+}
@@ -1,7 +1,8 @@
 package com.github.griffty.finalproject.ui;
 
 import com.almasb.fxgl.app.scene.Viewport;
-import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.LevelOfDetail;
+import com.github.griffty.finalproject.util.TextureCache;
 import com.github.griffty.finalproject.util.input.InputManager;
 import com.github.griffty.finalproject.util.input.PublicUserAction;
 import javafx.scene.input.MouseButton;
@@ -10,22 +11,38 @@ import javafx.geometry.Point2D;
 import static com.almasb.fxgl.dsl.FXGL.*;
 
 /**
- * Controller responsible for camera/viewport behavior and user-driven panning.
+ * Controller responsible for camera/viewport behavior and user-driven panning and zooming.
  *
  * <p>This class configures the FXGL {@link Viewport} bounds based on a world
  * size (in pixels) and registers input handlers that allow the user to pan
- * the view using the middle mouse button drag.</p>
+ * the view using the middle mouse button drag and to zoom with the mouse wheel. The world
+ * size is supplied by the map once it is loaded, see {@link #setWorldSize(double, double)}.</p>
+ *
+ * <p>Zooming keeps the world point under the cursor in place. The camera can zoom out until
+ * the whole map fits the window and in to {@link #MAX_ZOOM}. Every zoom change is reported to
+ * {@link LevelOfDetail}, which the map renderer and entity views use to simplify what they
+ * draw when zoomed out.</p>
  */
 public class CameraController {
+    /**
+     * Largest zoom factor; two screen pixels per world unit.
+     */
+    private static final double MAX_ZOOM = 2;
+
+    /**
+     * Zoom factor applied per notch of the mouse wheel.
+     */
+    private static final double ZOOM_STEP = 1.1;
+
     /**
      * World width in pixels. Used to compute viewport bounds and clamp movement.
      */
-    private final double worldWidth;
+    private double worldWidth;
 
     /**
      * World height in pixels. Used to compute viewport bounds and clamp movement.
      */
-    private final double worldHeight;
+    private double worldHeight;
 
     /**
      * Whether a drag operation (middle mouse button) is currently active.
@@ -43,46 +60,113 @@ public class CameraController {
     private double lastY;
 
     /**
-     * Construct a CameraController with a fixed world size and initialize
-     * camera bounds and input handlers.
+     * Construct a CameraController and initialize camera bounds and input handlers.
      *
-     * <p>The current implementation uses hard-coded tile counts to compute the
-     * world dimensions: 16 tiles horizontally and 10 tiles vertically. These
-     * are multiplied by {@link Constants#TILE_SIZE} to produce pixel sizes.</p>
+     * <p>The world is empty until a map reports its size through
+     * {@link #setWorldSize(double, double)}, so the camera starts pinned to the origin.</p>
      */
     public CameraController() {
-        this.worldWidth = 16 * Constants.TILE_SIZE;
-        this.worldHeight = 10 * Constants.TILE_SIZE;
         initCamera();
         initInput();
     }
 
     /**
-     * Configure the FXGL viewport position and bounds according to the world size
+     * Set the size of the world the camera may pan over and reset the camera to the origin.
+     *
+     * <p>The zoom is kept unless the new world is too small for it.</p>
+     *
+     * @param width  world width in pixels
+     * @param height world height in pixels
+     */
+    public void setWorldSize(double width, double height) {
+        this.worldWidth = width;
+        this.worldHeight = height;
+        initCamera();
+    }
+
+    /**
+     * Configure the FXGL viewport position, zoom and bounds according to the world size
      * and the application window size.
      *
      * <p>The viewport origin is set to (0,0). The maximum X/Y bounds are computed
-     * as the world size minus the application size (clamped to zero).</p>
+     * as the world size minus the visible area (clamped to zero).</p>
      */
     private void initCamera() {
         Viewport viewport = getGameScene().getViewport();
 
         viewport.setX(0);
         viewport.setY(0);
+        setZoom(viewport, viewport.getZoom());
+    }
 
-        int maxX = (int) Math.max(0, worldWidth - getAppWidth());
-        int maxY = (int) Math.max(0, worldHeight - getAppHeight());
+    /**
+     * Zoom by a factor while keeping the world point under a screen position in place.
+     *
+     * @param factor multiplier applied to the current zoom
+     * @param uiX    screen x of the fixed point
+     * @param uiY    screen y of the fixed point
+     */
+    public void zoomAt(double factor, double uiX, double uiY) {
+        Viewport viewport = getGameScene().getViewport();
+        double oldZoom = viewport.getZoom();
+        double worldX = viewport.getX() + uiX / oldZoom;
+        double worldY = viewport.getY() + uiY / oldZoom;
 
-        viewport.setBounds(0, 0, maxX, maxY);
+        double zoom = setZoom(viewport, oldZoom * factor);
+        viewport.setX(clamp(worldX - uiX / zoom, 0, maxX(zoom)));
+        viewport.setY(clamp(worldY - uiY / zoom, 0, maxY(zoom)));
     }
 
     /**
-     * Initialize input handling for camera panning.
+     * Apply a zoom clamped to the allowed range, update the viewport bounds and the level of
+     * detail, and keep the current position inside the world.
+     *
+     * @return the zoom actually applied
+     */
+    private double setZoom(Viewport viewport, double requested) {
+        double zoom = clamp(requested, minZoom(), MAX_ZOOM);
+        viewport.setZoom(zoom);
+        viewport.setBounds(0, 0, (int) maxX(zoom), (int) maxY(zoom));
+        viewport.setX(clamp(viewport.getX(), 0, maxX(zoom)));
+        viewport.setY(clamp(viewport.getY(), 0, maxY(zoom)));
+
+        LevelOfDetail.setZoom(zoom);
+        TextureCache.setDownscaled(LevelOfDetail.isSimplified());
+        return zoom;
+    }
+
+    /**
+     * Smallest zoom: the whole world fits the window, but never zoom in beyond 1 to get there.
+     */
+    private double minZoom() {
+        if (worldWidth <= 0 || worldHeight <= 0) {
+            return 1;
+        }
+        return Math.min(1, Math.min(getAppWidth() / worldWidth, getAppHeight() / worldHeight));
+    }
+
+    /**
+     * Largest viewport x at the given zoom.
+     */
+    private double maxX(double zoom) {
+        return Math.max(0, worldWidth - getAppWidth() / zoom);
+    }
+
+    /**
+     * Largest viewport y at the given zoom.
+     */
+    private double maxY(double zoom) {
+        return Math.max(0, worldHeight - getAppHeight() / zoom);
+    }
+
+    /**
+     * Initialize input handling for camera panning and zooming.
      *
      * <p>Registers a {@link PublicUserAction} that begins dragging on
      * middle-button press, pans the viewport while dragging, and ends dragging
      * on release. The action reads mouse positions in UI coordinates and
-     * applies clamped offsets to the viewport.</p>
+     * applies clamped offsets to the viewport, converted to world units by the zoom.
+     * A scroll handler zooms in or out by {@link #ZOOM_STEP} per wheel notch around the cursor.</p>
      */
     private void initInput() {
         PublicUserAction hitBall = new PublicUserAction() {
@@ -111,11 +195,12 @@ public class CameraController {
 
                 Viewport viewport = getGameScene().getViewport();
 
-                double newX = viewport.getX() - dx;
-                double newY = viewport.getY() - dy;
+                double zoom = viewport.getZoom();
+                double newX = viewport.getX() - dx / zoom;
+                double newY = viewport.getY() - dy / zoom;
 
-                newX = clamp(newX, 0, worldWidth - getAppWidth());
-                newY = clamp(newY, 0, worldHeight - getAppHeight());
+                newX = clamp(newX, 0, maxX(zoom));
+                newY = clamp(newY, 0, maxY(zoom));
 
                 viewport.setX(newX);
                 viewport.setY(newY);
@@ -134,6 +219,14 @@ public class CameraController {
         };
 
         InputManager.get().registerMouseInput(new InputManager.MouseInput(hitBall, MouseButton.MIDDLE));
+        InputManager.get().registerScrollInput(event -> {
+            if (event.getDeltaY() == 0) {
+                return;
+            }
+            double notches = event.getDeltaY() / (event.getMultiplierY() > 0 ? event.getMultiplierY() : 40);
+            Point2D p = getInput().getMousePositionUI();
+            zoomAt(Math.pow(ZOOM_STEP, notches), p.getX(), p.getY());
+        });
     }
 
     /**
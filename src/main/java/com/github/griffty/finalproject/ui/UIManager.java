@@ -16,6 +16,10 @@ import static com.almasb.fxgl.dsl.FXGL.*;
  *
  * <p>It uses FXGL's utility methods (statically imported) to query application
  * dimensions and to add UI nodes to the game scene graph.</p>
+ *
+ * <p>The UI belongs to the interactive world only and is touched exclusively from the
+ * JavaFX application thread, so the singleton needs no synchronization. Headless worlds
+ * never reach it.</p>
  */
 @Getter
 public class UIManager {
@@ -1,12 +1,17 @@
 package com.github.griffty.finalproject.ui.side.panels;
 
-import com.almasb.fxgl.entity.Entity;
 import com.github.griffty.finalproject.ui.UIManager;
-import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.towers.AcidTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.ChainTowerComponent;
 import com.github.griffty.finalproject.world.entities.components.towers.FastTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FlameTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FrostTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.HasteTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.ScopeTowerComponent;
 import com.github.griffty.finalproject.world.entities.components.towers.SniperTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.SplashTowerComponent;
 import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
-import com.github.griffty.finalproject.world.entities.components.GroundComponent;
 import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -27,8 +32,8 @@ import java.util.Optional;
  * <p>Responsibilities:
  * <ul>
  *   <li>Render a small UI with a description label and buttons to build towers.</li>
- *   <li>Invoke {@link TowerHelper} to add towers to the tile's entity when build
- *       actions are triggered.</li>
+ *   <li>Invoke {@link TowerHelper} to build towers on the tile, addressed by its
+ *       coordinates, when build actions are triggered.</li>
  *   <li>When a tower is added (or already exists), instruct {@link UIManager}
  *       to show the tower-specific info panel obtained from {@link TowerHelper}.</li>
  * </ul>
@@ -36,21 +41,24 @@ import java.util.Optional;
  */
 public class GroundTilePanel extends AbstractInfoPanel {
     /**
-     * Constructs a new {@code GroundTilePanel} for the provided ground component.
+     * Constructs a new {@code GroundTilePanel} for the ground tile at the given coordinates.
      *
      * <p>Creates and configures UI elements:
      * <ul>
      *   <li>A wrapped informational {@link Label} describing the tile.</li>
-     *   <li>Buttons to build a simple (fast) tower and a sniper tower.</li>
+     *   <li>Buttons to build each tower type: simple (fast), sniper, frost, flame, acid, splash
+ *       and chain.</li>
      *   <li>Each button attempts to add the respective tower via
-     *       {@link TowerHelper#addTower(Class, Entity)}}
+     *       {@link TowerHelper#addTower(WorldManager, Class, int, int)}
      *       and, on success, replaces the sidebar content with the tower's UI.</li>
      * </ul>
      * </p>
      *
-     * @param component the {@link GroundComponent} representing the selected tile
+     * @param world world the tile belongs to
+     * @param tileX tile column
+     * @param tileY tile row
      */
-    protected GroundTilePanel(GroundComponent component) {
+    protected GroundTilePanel(WorldManager world, int tileX, int tileY) {
         VBox vBox = new VBox();
         vBox.setAlignment(Pos.TOP_CENTER);
         vBox.setSpacing(10);
@@ -60,52 +68,59 @@ public class GroundTilePanel extends AbstractInfoPanel {
         infoLabel.setStyle("-fx-font-size: 16");
 
 
-        Button addFastTower = new Button("Simple Tower ($50)");
-        addFastTower.setStyle("-fx-background-color: #5e5e5e; -fx-text-fill: white; -fx-font-weight: bold;");
-
-        addFastTower.setOnAction(_ -> {
-            Optional<AbstractTowerComponent> tower = TowerHelper.addTower(FastTowerComponent.class, component.getEntity());
-
-            tower.ifPresent(abstractTowerComponent ->
-                    UIManager.get().getSideBar().show(
-                            TowerHelper.getTowerInfoMap().get(abstractTowerComponent.getClass())
-                                    .getUI().apply(abstractTowerComponent)));
-        });
-        Button addSniperTower = new Button("Sniper Tower ($150)");
-        addSniperTower.setStyle("-fx-background-color: #5e5e5e; -fx-text-fill: white; -fx-font-weight: bold;");
-
-        addSniperTower.setOnAction(_ -> {
-            Optional<AbstractTowerComponent> tower = TowerHelper.addTower(SniperTowerComponent.class, component.getEntity());
-
-            tower.ifPresent(abstractTowerComponent ->
-                    UIManager.get().getSideBar().show(
-                            TowerHelper.getTowerInfoMap().get(abstractTowerComponent.getClass())
-                                    .getUI().apply(abstractTowerComponent)));
-        });
-
-
-        vBox.getChildren().addAll(infoLabel, addFastTower, addSniperTower);
+        vBox.getChildren().addAll(infoLabel,
+                towerButton(world, FastTowerComponent.class, "Simple Tower", tileX, tileY),
+                towerButton(world, SniperTowerComponent.class, "Sniper Tower", tileX, tileY),
+                towerButton(world, FrostTowerComponent.class, "Frost Tower", tileX, tileY),
+                towerButton(world, FlameTowerComponent.class, "Flame Tower", tileX, tileY),
+                towerButton(world, AcidTowerComponent.class, "Acid Tower", tileX, tileY),
+                towerButton(world, SplashTowerComponent.class, "Splash Tower", tileX, tileY),
+                towerButton(world, ChainTowerComponent.class, "Chain Tower", tileX, tileY),
+                towerButton(world, HasteTowerComponent.class, "Haste Tower", tileX, tileY),
+                towerButton(world, ScopeTowerComponent.class, "Scope Tower", tileX, tileY));
 
         super("Ground Tile", vBox);
     }
 
     /**
-     * Factory method that returns the appropriate panel for a ground component.
+     * Factory method that returns the appropriate panel for a ground tile.
      *
      * <p>If the ground tile already has a tower (an {@link AbstractTowerComponent}),
      * this method resolves and returns the tower-specific info panel using
      * {@link TowerHelper#getTowerInfoMap()}. Otherwise, it returns a new
      * {@link GroundTilePanel} allowing the player to build towers.</p>
      *
-     * @param component the ground component for which to create a panel
+     * @param world world the tile belongs to
+     * @param tileX tile column
+     * @param tileY tile row
      * @return an {@link AbstractInfoPanel} representing either the existing tower's
      *         info panel or a ground tile build panel
      */
-    public static AbstractInfoPanel create(GroundComponent component) {
-        Optional<AbstractTowerComponent> towerComp = EntityUtil.getOptionalComponent(component.getEntity(), AbstractTowerComponent.class);
+    public static AbstractInfoPanel create(WorldManager world, int tileX, int tileY) {
+        Optional<AbstractTowerComponent> towerComp = TowerHelper.getTower(world, tileX, tileY);
         if (towerComp.isPresent()) {
             return TowerHelper.getTowerInfoMap().get(towerComp.get().getClass()).getUI().apply(towerComp.get());
         }
-        return  new GroundTilePanel(component);
+        return  new GroundTilePanel(world, tileX, tileY);
+    }
+
+    /**
+     * Creates a button that buys a tower on the tile, labelled with its name and price.
+     *
+     * <p>On success the sidebar content is replaced with the tower's UI.</p>
+     */
+    private static Button towerButton(WorldManager world, Class<? extends AbstractTowerComponent> towerClass, String name, int tileX, int tileY) {
+        Button button = new Button(name + " ($" + TowerHelper.getTowerInfoMap().get(towerClass).price() + ")");
+        button.setStyle("-fx-background-color: #5e5e5e; -fx-text-fill: white; -fx-font-weight: bold;");
+
+        button.setOnAction(_ -> {
+            Optional<AbstractTowerComponent> tower = TowerHelper.addTower(world, towerClass, tileX, tileY);
+
+            tower.ifPresent(abstractTowerComponent ->
+                    UIManager.get().getSideBar().show(
+                            TowerHelper.getTowerInfoMap().get(abstractTowerComponent.getClass())
+                                    .getUI().apply(abstractTowerComponent)));
+        });
+        return button;
     }
 }
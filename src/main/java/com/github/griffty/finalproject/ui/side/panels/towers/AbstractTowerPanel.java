@@ -1,6 +1,5 @@
 package com.github.griffty.finalproject.ui.side.panels.towers;
 
-import com.almasb.fxgl.entity.Entity;
 import com.github.griffty.finalproject.ui.UIManager;
 import com.github.griffty.finalproject.ui.side.panels.AbstractInfoPanel;
 import com.github.griffty.finalproject.ui.side.panels.GroundTilePanel;
@@ -13,7 +12,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.VBox;
 
 /**
- * Shared UI scaffolding for tower-specific panels (name, sell action, custom stats).
+ * Shared UI scaffolding for tower-specific panels (name, sell action, custom stats, aura bonuses).
  */
 public abstract class AbstractTowerPanel extends AbstractInfoPanel {
     private final VBox towerInfoBox;
@@ -29,12 +28,19 @@ public abstract class AbstractTowerPanel extends AbstractInfoPanel {
         Button sellButton = new Button("Sell Tower");
         sellButton.setStyle("-fx-background-color: #5e5e5e; -fx-text-fill: white; -fx-font-weight: bold;");
         sellButton.setOnAction(_ -> {
-            Entity towerEntity = tower.getEntity();
-            if (TowerHelper.removeTower(towerEntity)) {
-                UIManager.get().getSideBar().show(GroundTilePanel.create(towerEntity.getComponent(GroundComponent.class)));
+            GroundComponent tile = tower.getEntity().getComponent(GroundComponent.class);
+            if (TowerHelper.removeTower(tower.getWorld(), tile.getTileX(), tile.getTileY())) {
+                UIManager.get().getSideBar().show(GroundTilePanel.create(tower.getWorld(), tile.getTileX(), tile.getTileY()));
             }
         });
-        towerInfoBox.getChildren().addAll(shotsFiredLabel, enemiesKilledLabel, sellButton);
+        towerInfoBox.getChildren().addAll(shotsFiredLabel, enemiesKilledLabel);
+        if (tower.getFireRateBonus() > 0 || tower.getRangeBonus() > 0) {
+            Label auraLabel = new Label("Aura Bonus: +" + tower.getFireRateBonus() + "% fire rate, +"
+                    + tower.getRangeBonus() + "% range");
+            auraLabel.setStyle("-fx-font-size: 12px");
+            towerInfoBox.getChildren().add(auraLabel);
+        }
+        towerInfoBox.getChildren().add(sellButton);
         super(title, towerInfoBox);
         this.towerInfoBox = towerInfoBox;
     }
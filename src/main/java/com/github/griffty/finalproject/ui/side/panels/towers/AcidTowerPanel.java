@@ -0,0 +1,45 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AcidTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the acid tower, which makes the enemies it hits take more damage.
+ *
+ * <p>Prepends the tower name and a description of the effect its shots apply to the tower
+ * info box managed by {@link AbstractTowerPanel}.</p>
+ */
+public class AcidTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link AcidTowerComponent} instance this panel represents
+     */
+    public AcidTowerPanel(AcidTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Acid Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label effect = new Label("Each hit adds " + Math.round(AcidTowerComponent.EFFECT.strength() * 100) + "% damage taken");
+        effect.setTextAlignment(TextAlignment.CENTER);
+        effect.setWrapText(true);
+        effect.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Acid Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, effect));
+    }
+
+    /**
+     * Factory method that creates a {@code AcidTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link AcidTowerComponent}
+     * @return a new {@link AcidTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        AcidTowerComponent tower = (AcidTowerComponent) component;
+        return new AcidTowerPanel(tower);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.ChainTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the chain tower, whose lightning jumps between nearby enemies.
+ *
+ * <p>Prepends the tower name and a description of how many enemies its attacks reach to the
+ * tower info box managed by {@link AbstractTowerPanel}.</p>
+ */
+public class ChainTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link ChainTowerComponent} instance this panel represents
+     */
+    public ChainTowerPanel(ChainTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Chain Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label reach = new Label("Jumps to " + ChainTowerComponent.JUMPS + " more enemies");
+        reach.setTextAlignment(TextAlignment.CENTER);
+        reach.setWrapText(true);
+        reach.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Chain Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, reach));
+    }
+
+    /**
+     * Factory method that creates a {@code ChainTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link ChainTowerComponent}
+     * @return a new {@link ChainTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        ChainTowerComponent tower = (ChainTowerComponent) component;
+        return new ChainTowerPanel(tower);
+    }
+}
@@ -0,0 +1,45 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FlameTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the flame tower, which sets the enemies it hits on fire.
+ *
+ * <p>Prepends the tower name and a description of the effect its shots apply to the tower
+ * info box managed by {@link AbstractTowerPanel}.</p>
+ */
+public class FlameTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link FlameTowerComponent} instance this panel represents
+     */
+    public FlameTowerPanel(FlameTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Flame Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label effect = new Label("Burns enemies for " + Math.round(FlameTowerComponent.EFFECT.strength()) + " damage per second");
+        effect.setTextAlignment(TextAlignment.CENTER);
+        effect.setWrapText(true);
+        effect.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Flame Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, effect));
+    }
+
+    /**
+     * Factory method that creates a {@code FlameTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link FlameTowerComponent}
+     * @return a new {@link FlameTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        FlameTowerComponent tower = (FlameTowerComponent) component;
+        return new FlameTowerPanel(tower);
+    }
+}
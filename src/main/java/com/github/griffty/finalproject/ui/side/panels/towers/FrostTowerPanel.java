@@ -0,0 +1,45 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FrostTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the frost tower, which slows the enemies it hits.
+ *
+ * <p>Prepends the tower name and a description of the effect its shots apply to the tower
+ * info box managed by {@link AbstractTowerPanel}.</p>
+ */
+public class FrostTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link FrostTowerComponent} instance this panel represents
+     */
+    public FrostTowerPanel(FrostTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Frost Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label effect = new Label("Slows enemies to " + Math.round(FrostTowerComponent.EFFECT.strength() * 100) + "% speed");
+        effect.setTextAlignment(TextAlignment.CENTER);
+        effect.setWrapText(true);
+        effect.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Frost Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, effect));
+    }
+
+    /**
+     * Factory method that creates a {@code FrostTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link FrostTowerComponent}
+     * @return a new {@link FrostTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        FrostTowerComponent tower = (FrostTowerComponent) component;
+        return new FrostTowerPanel(tower);
+    }
+}
@@ -0,0 +1,47 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractAuraTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.HasteTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the haste tower, which makes the towers around it fire more often.
+ *
+ * <p>Prepends the tower name and a description of its aura to the tower info box managed by
+ * {@link AbstractTowerPanel}.</p>
+ */
+public class HasteTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link HasteTowerComponent} instance this panel represents
+     */
+    public HasteTowerPanel(HasteTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Haste Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label aura = new Label("+" + HasteTowerComponent.FIRE_RATE_AURA + "% fire rate for towers within "
+                + AbstractAuraTowerComponent.REACH_TILES + " tiles");
+        aura.setTextAlignment(TextAlignment.CENTER);
+        aura.setWrapText(true);
+        aura.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Haste Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, aura));
+    }
+
+    /**
+     * Factory method that creates a {@code HasteTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link HasteTowerComponent}
+     * @return a new {@link HasteTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        HasteTowerComponent tower = (HasteTowerComponent) component;
+        return new HasteTowerPanel(tower);
+    }
+}
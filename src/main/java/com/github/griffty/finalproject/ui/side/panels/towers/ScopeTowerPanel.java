@@ -0,0 +1,47 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractAuraTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.ScopeTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the scope tower, which extends the range of the towers around it.
+ *
+ * <p>Prepends the tower name and a description of its aura to the tower info box managed by
+ * {@link AbstractTowerPanel}.</p>
+ */
+public class ScopeTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link ScopeTowerComponent} instance this panel represents
+     */
+    public ScopeTowerPanel(ScopeTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Scope Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label aura = new Label("+" + ScopeTowerComponent.RANGE_AURA + "% range for towers within "
+                + AbstractAuraTowerComponent.REACH_TILES + " tiles");
+        aura.setTextAlignment(TextAlignment.CENTER);
+        aura.setWrapText(true);
+        aura.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Scope Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, aura));
+    }
+
+    /**
+     * Factory method that creates a {@code ScopeTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link ScopeTowerComponent}
+     * @return a new {@link ScopeTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        ScopeTowerComponent tower = (ScopeTowerComponent) component;
+        return new ScopeTowerPanel(tower);
+    }
+}
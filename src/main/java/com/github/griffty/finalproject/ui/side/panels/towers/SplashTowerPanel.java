@@ -0,0 +1,45 @@
+package com.github.griffty.finalproject.ui.side.panels.towers;
+
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.SplashTowerComponent;
+import javafx.scene.control.Label;
+import javafx.scene.text.TextAlignment;
+
+import java.util.List;
+
+/**
+ * UI panel for the splash tower, whose shells damage every enemy near the point of impact.
+ *
+ * <p>Prepends the tower name and a description of how many enemies its attacks reach to the
+ * tower info box managed by {@link AbstractTowerPanel}.</p>
+ */
+public class SplashTowerPanel extends AbstractTowerPanel {
+    /**
+     * Constructs a new panel for the given tower.
+     *
+     * @param tower the {@link SplashTowerComponent} instance this panel represents
+     */
+    public SplashTowerPanel(SplashTowerComponent tower) {
+        Label towerName = new Label("Tower Name: " + "Splash Tower");
+        towerName.setTextAlignment(TextAlignment.CENTER);
+        towerName.setWrapText(true);
+        Label reach = new Label("Blast radius: " + Math.round(SplashTowerComponent.SPLASH_RADIUS));
+        reach.setTextAlignment(TextAlignment.CENTER);
+        reach.setWrapText(true);
+        reach.setStyle("-fx-font-size: 12px");
+
+        super(tower, "Splash Tower");
+        getTowerInfoBox().getChildren().addAll(0, List.of(towerName, reach));
+    }
+
+    /**
+     * Factory method that creates a {@code SplashTowerPanel} from a generic tower component.
+     *
+     * @param component the generic tower component expected to be a {@link SplashTowerComponent}
+     * @return a new {@link SplashTowerPanel} representing the provided component
+     */
+    public static AbstractTowerPanel create(AbstractTowerComponent component) {
+        SplashTowerComponent tower = (SplashTowerComponent) component;
+        return new SplashTowerPanel(tower);
+    }
+}
@@ -1,20 +1,21 @@
 package com.github.griffty.finalproject.util;
 
 import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
 import com.almasb.fxgl.entity.component.Component;
 import com.github.griffty.finalproject.world.entities.EntityType;
 import javafx.geometry.Point2D;
 
 import java.util.Optional;
+import java.util.function.Predicate;
 
-import static com.almasb.fxgl.dsl.FXGL.getGameWorld;
 import static com.almasb.fxgl.dsl.FXGL.getInput;
 
 /**
  * Utility helpers for locating entities in the game world and for safely
  * retrieving components from an entity.
  *
- * <p>Methods in this class query the FXGL game world and input system to
+ * <p>Methods in this class query the given {@link GameWorld} and the input system to
  * return the closest entity of a given {@link EntityType} relative to the
  * mouse position or an arbitrary point. Results are wrapped in {@link Optional}
  * to represent the possibility of "no match".</p>
@@ -25,49 +26,71 @@ public class EntityUtil {
     /**
      * Find the closest entity of the given type to the current mouse world position.
      *
-     * <p>This is equivalent to calling {@link #getClosestEntityToMousePoint(EntityType, double)}
+     * <p>This is equivalent to calling {@link #getClosestEntityToMousePoint(GameWorld, EntityType, double)}
      * with an effectively unlimited search range.</p>
      *
-     * @param type the entity type to search for
+     * @param world the world to search
+     * @param type  the entity type to search for
      * @return an {@link Optional} containing the closest {@link Entity} if any, otherwise empty
      */
-    public static Optional<Entity> getClosestEntityToMousePoint(EntityType type) {
-        return getClosestEntityToMousePoint(type, Double.MAX_VALUE);
+    public static Optional<Entity> getClosestEntityToMousePoint(GameWorld world, EntityType type) {
+        return getClosestEntityToMousePoint(world, type, Double.MAX_VALUE);
     }
 
     /**
      * Find the closest entity of the given type to the current mouse world position
      * within the specified radial range.
      *
+     * @param world the world to search
      * @param type  the entity type to search for
      * @param range maximum distance from the mouse position to consider (entities farther away are ignored)
      * @return an {@link Optional} containing the closest {@link Entity} within range if any, otherwise empty
      */
-    public static Optional<Entity> getClosestEntityToMousePoint(EntityType type, double range) {
+    public static Optional<Entity> getClosestEntityToMousePoint(GameWorld world, EntityType type, double range) {
         Point2D mouse = getInput().getMousePositionWorld();
-        return getClosestEntityToPoint(type, mouse, range);
+        return getClosestEntityToPoint(world, type, mouse, range);
     }
 
     /**
      * Find the closest entity of the given type to an arbitrary point within the provided range.
      *
      * <p>The method iterates over all entities of the requested {@code type} returned by
-     * the FXGL game world, measures the Euclidean distance from each entity's center to
+     * the world, measures the Euclidean distance from each entity's center to
      * the provided {@code point}, and returns the nearest entity whose distance is less
      * than {@code range}.</p>
      *
+     * @param world the world to search
      * @param type  the entity type to search for
      * @param point the world coordinate to measure distance from
      * @param range the inclusive maximum distance to consider
      * @return an {@link Optional} containing the closest {@link Entity} within {@code range}, or empty if none found
      */
-    public static Optional<Entity> getClosestEntityToPoint(EntityType type, Point2D point, double range) {
+    public static Optional<Entity> getClosestEntityToPoint(GameWorld world, EntityType type, Point2D point, double range) {
+        return getClosestEntityToPoint(world, type, point, range, e -> true);
+    }
+
+    /**
+     * Find the closest entity of the given type to a point within range that passes a filter.
+     *
+     * <p>The filter is only evaluated for entities closer than the best match so far, so a
+     * filter that is costlier than a distance check runs for a handful of entities per call
+     * rather than for all of them.</p>
+     *
+     * @param world  the world to search
+     * @param type   the entity type to search for
+     * @param point  the world coordinate to measure distance from
+     * @param range  the inclusive maximum distance to consider
+     * @param filter condition an entity must satisfy to be returned
+     * @return an {@link Optional} containing the closest matching {@link Entity} within {@code range}, or empty if none found
+     */
+    public static Optional<Entity> getClosestEntityToPoint(GameWorld world, EntityType type, Point2D point, double range,
+                                                           Predicate<Entity> filter) {
         Entity closest = null;
         double bestDist = range;
 
-        for (Entity e : getGameWorld().getEntitiesByType(type)) {
+        for (Entity e : world.getEntitiesByType(type)) {
             double dist = e.getCenter().distance(point);
-            if (dist < bestDist) {
+            if (dist < bestDist && filter.test(e)) {
                 bestDist = dist;
                 closest = e;
             }
@@ -83,18 +106,19 @@ public class EntityUtil {
      * and {@code boxHeight} are considered. Among those, the closest one (by Euclidean
      * distance to the mouse position) is returned.</p>
      *
+     * @param world     the world to search
      * @param type      the entity type to search for
      * @param boxWidth  width of the selection box (world units)
      * @param boxHeight height of the selection box (world units)
      * @return an {@link Optional} containing the closest {@link Entity} inside the box, or empty if none found
      */
-    public static Optional<Entity> getClosestEntityToMousePoint(EntityType type, double boxWidth, double boxHeight) {
+    public static Optional<Entity> getClosestEntityToMousePoint(GameWorld world, EntityType type, double boxWidth, double boxHeight) {
         Point2D mouse = getInput().getMousePositionWorld();
 
         Entity closest = null;
         double bestDist = Double.MAX_VALUE;
 
-        for (Entity e : getGameWorld().getEntitiesByType(type)) {
+        for (Entity e : world.getEntitiesByType(type)) {
             if (Math.abs(e.getCenter().getX() - mouse.getX()) < boxWidth/2 && Math.abs(e.getCenter().getY() - mouse.getY()) < boxHeight/2) {
                 double dist = e.getCenter().distance(mouse);
                 if (dist < bestDist) {
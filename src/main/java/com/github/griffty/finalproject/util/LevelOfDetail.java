@@ -0,0 +1,72 @@
+package com.github.griffty.finalproject.util;
+
+import javafx.scene.Node;
+
+/**
+ * Level of detail the interactive world is drawn with, derived from the camera zoom.
+ *
+ * <p>The camera reports every zoom change through {@link #setZoom(double)}; renderers and
+ * entity views ask the thresholds below instead of reading the viewport themselves, so all
+ * of them switch at the same zoom. Headless worlds never change the zoom and always see full
+ * detail. Only written from the JavaFX application thread.</p>
+ *
+ * <ul>
+ *   <li>Below {@link #SIMPLIFIED_ZOOM} the map is drawn as flat tiles without rounded corners
+ *       and sprites show a downscaled image.</li>
+ *   <li>Entities whose on-screen size drops below {@link #ROTATION_MIN_PIXELS} stop updating
+ *       the rotation of their view; nobody can see which way a few pixels face. Neither do
+ *       entities whose view was culled from the scene.</li>
+ *   <li>From {@link #CLOSE_UP_ZOOM} on, enemy hordes draw every member instead of one sprite
+ *       with a count.</li>
+ * </ul>
+ */
+public final class LevelOfDetail {
+    /** Zoom below which the simplified map and downscaled sprites are used. */
+    public static final double SIMPLIFIED_ZOOM = 0.5;
+    /** Zoom from which hordes are drawn member by member. */
+    public static final double CLOSE_UP_ZOOM = 1;
+    /** On-screen size in pixels below which entity views are no longer rotated. */
+    public static final double ROTATION_MIN_PIXELS = 10;
+
+    private static volatile double zoom = 1;
+
+    private LevelOfDetail() { }
+
+    /**
+     * @param zoom current camera zoom, 1 for one screen pixel per world unit
+     */
+    public static void setZoom(double zoom) {
+        LevelOfDetail.zoom = zoom;
+    }
+
+    /**
+     * @return current camera zoom
+     */
+    public static double zoom() {
+        return zoom;
+    }
+
+    /**
+     * @return true if the map and sprites should be drawn in their simplified form
+     */
+    public static boolean isSimplified() {
+        return zoom < SIMPLIFIED_ZOOM;
+    }
+
+    /**
+     * @return true if the camera is close enough for hordes to show their members
+     */
+    public static boolean isCloseUp() {
+        return zoom >= CLOSE_UP_ZOOM;
+    }
+
+    /**
+     * @param view      an entity's view, or {@code null} for headless entities
+     * @param worldSize size of the view in world units
+     * @return true if the view is in the scene (not culled) and large enough on screen for its
+     *         rotation to show
+     */
+    public static boolean showsRotation(Node view, double worldSize) {
+        return view != null && view.getScene() != null && worldSize * zoom >= ROTATION_MIN_PIXELS;
+    }
+}
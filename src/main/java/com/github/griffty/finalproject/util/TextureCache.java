@@ -0,0 +1,106 @@
+package com.github.griffty.finalproject.util;
+
+import com.almasb.fxgl.texture.Texture;
+import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.SimpleObjectProperty;
+import javafx.scene.image.Image;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoded sprite images shared by every entity view.
+ *
+ * <p>Images are decoded once, on whichever thread asks first, and kept for the lifetime of
+ * the application. Decoding does not need the JavaFX application thread, so startup
+ * {@link #preload(String) preloads} all sprites in parallel and the first tower or enemy on
+ * screen no longer stalls a frame decoding its PNG.</p>
+ *
+ * <p>Every sprite is also decoded at {@link #DOWNSCALED_SIZE} pixels. Textures created by
+ * {@link #texture(String)} are bound to one shared image per sprite, so
+ * {@link #setDownscaled(boolean)} switches every view of the game between the full and the
+ * downscaled image with a single property change per sprite.</p>
+ */
+public final class TextureCache {
+    /** Sprites used by entity views, relative to {@code assets/textures/}. */
+    public static final String[] SPRITES = {
+            "towers/fastTower.png",
+            "towers/sniperTower.png",
+            "enemies/groundEnemy.png",
+            "enemies/airEnemy.png",
+    };
+
+    /** Edge length of the downscaled sprite images, in pixels. */
+    public static final int DOWNSCALED_SIZE = 16;
+
+    private static final Map<String, Image> images = new ConcurrentHashMap<>();
+    private static final Map<String, Image> downscaledImages = new ConcurrentHashMap<>();
+    /** Image currently shown by the textures of each sprite; only touched on the application thread. */
+    private static final Map<String, ObjectProperty<Image>> shown = new ConcurrentHashMap<>();
+    private static boolean downscaled = false;
+
+    private TextureCache() { }
+
+    /**
+     * Decodes a sprite and its downscaled image unless they are cached already. Safe to call
+     * from any thread.
+     *
+     * @param name path relative to {@code assets/textures/}
+     * @return the decoded full-size image
+     * @throws IllegalArgumentException if there is no such sprite
+     */
+    public static Image preload(String name) {
+        downscaledImages.computeIfAbsent(name, n -> decode(n, DOWNSCALED_SIZE));
+        return images.computeIfAbsent(name, n -> decode(n, 0));
+    }
+
+    /**
+     * Creates a texture view of a sprite, decoding it first if needed.
+     *
+     * <p>The texture follows {@link #setDownscaled(boolean)}; call on the JavaFX application
+     * thread.</p>
+     *
+     * @param name path relative to {@code assets/textures/}
+     * @return a new texture node showing the shared image
+     */
+    public static Texture texture(String name) {
+        preload(name);
+        ObjectProperty<Image> image = shown.computeIfAbsent(name,
+                n -> new SimpleObjectProperty<>(downscaled ? downscaledImages.get(n) : images.get(n)));
+        Texture texture = new Texture(image.get());
+        /* Bindings only hold the texture weakly, so views of removed entities are not kept alive. */
+        texture.imageProperty().bind(image);
+        return texture;
+    }
+
+    /**
+     * Switches all textures between the full and the downscaled sprite images. Views are
+     * sized in world units, so they keep their size either way. Call on the JavaFX
+     * application thread.
+     *
+     * @param downscaled true to show the downscaled images
+     */
+    public static void setDownscaled(boolean downscaled) {
+        if (TextureCache.downscaled == downscaled) {
+            return;
+        }
+        TextureCache.downscaled = downscaled;
+        shown.forEach((name, image) -> image.set(downscaled ? downscaledImages.get(name) : images.get(name)));
+    }
+
+    /**
+     * @param size edge length to decode to, or 0 for the original size
+     */
+    private static Image decode(String name, int size) {
+        URL url = TextureCache.class.getResource("/assets/textures/" + name);
+        if (url == null) {
+            throw new IllegalArgumentException("Texture not found: " + name);
+        }
+        Image image = new Image(url.toExternalForm(), size, size, true, true);
+        if (image.isError()) {
+            throw new IllegalArgumentException("Could not decode texture " + name, image.getException());
+        }
+        return image;
+    }
+}
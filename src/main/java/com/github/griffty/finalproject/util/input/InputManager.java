@@ -2,8 +2,10 @@
 package com.github.griffty.finalproject.util.input;
 
 import com.almasb.fxgl.input.UserAction;
+import javafx.event.EventHandler;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
+import javafx.scene.input.ScrollEvent;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,11 +22,15 @@ import static com.almasb.fxgl.dsl.FXGL.getInput;
  * input bindings via {@link #registerMouseInput(MouseInput)} and
  * {@link #registerKeyboardInput(KeyboardInput)} and then call {@link #initInputs()}
  * to install FXGL {@link UserAction}s that delegate to the registered
- * {@code PublicUserAction} instances.</p>
+ * {@code PublicUserAction} instances. Mouse wheel handlers registered via
+ * {@link #registerScrollInput(EventHandler)} are installed at the same time.</p>
  *
  * <p>Note: {@link #initInputs()} is idempotent — repeated calls after successful
  * initialization do nothing. Call {@link #reset()} to recreate the singleton and
  * allow re-initialization.</p>
+ *
+ * <p>Like the UI, input is bound to the interactive world and only used from the JavaFX
+ * application thread; headless worlds never register bindings.</p>
  */
 public class InputManager {
     private static InputManager instance;
@@ -77,6 +83,17 @@ public class InputManager {
      */
     public final Map<KeyCode, List<PublicUserAction>> keyInputs = new HashMap<>();
 
+    /**
+     * Handlers for mouse wheel scrolling over the game, invoked in registration order.
+     */
+    public final List<EventHandler<ScrollEvent>> scrollInputs = new ArrayList<>();
+
+    /**
+     * Scroll handlers installed into FXGL by the last {@link #initInputs()} of any instance.
+     * FXGL keeps event handlers across bindings resets, so they are removed explicitly.
+     */
+    private static List<EventHandler<ScrollEvent>> installedScrollInputs = List.of();
+
     /**
      * Tracks whether {@link #initInputs()} has been executed to avoid duplicate FXGL registrations.
      */
@@ -108,6 +125,18 @@ public class InputManager {
         keyInputs.computeIfAbsent(input.keyCode, _ -> new ArrayList<>()).add(input.action);
     }
 
+    /**
+     * Register a mouse wheel handler.
+     *
+     * <p>Only records the handler; call {@link #initInputs()} to install it into FXGL.
+     * Scrolling over UI nodes that consume the event, such as the side bar, does not reach it.</p>
+     *
+     * @param handler handler receiving scroll events over the game
+     */
+    public void registerScrollInput(EventHandler<ScrollEvent> handler) {
+        scrollInputs.add(handler);
+    }
+
     /**
      * Initialize and install FXGL {@link UserAction} delegates for all registered inputs.
      *
@@ -169,5 +198,9 @@ public class InputManager {
             };
             getInput().addAction(keyAction, keyCode);
         });
+
+        installedScrollInputs.forEach(handler -> getInput().removeEventHandler(ScrollEvent.SCROLL, handler));
+        scrollInputs.forEach(handler -> getInput().addEventHandler(ScrollEvent.SCROLL, handler));
+        installedScrollInputs = List.copyOf(scrollInputs);
     }
 }
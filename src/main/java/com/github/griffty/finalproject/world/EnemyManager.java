@@ -1,157 +1,365 @@
 package com.github.griffty.finalproject.world;
 
 import com.almasb.fxgl.dsl.EntityBuilder;
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.world.entities.EnemyBuffer;
 import com.github.griffty.finalproject.world.entities.EntityType;
 import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
 import com.github.griffty.finalproject.world.entities.components.enemies.AirEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.EnemyType;
 import com.github.griffty.finalproject.world.entities.components.enemies.GroundEnemyComponent;
-import javafx.util.Duration;
-import kotlin.Unit;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.SwarmEnemyComponent;
+import javafx.geometry.Point2D;
 import lombok.Getter;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.SplittableRandom;
+
 import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
-import static com.almasb.fxgl.dsl.FXGLForKtKt.runOnce;
 
 /**
  * Controls wave progression and enemy spawning logic.
  *
- * <p>The manager tracks the current wave number, expands difficulty by adjusting counts,
- * health, and air ratios, and relies on FXGL's {@code runOnce} utility to schedule both
- * individual spawns and subsequent waves.</p>
+ * <p>Waves come from the map's {@link WaveScript}. Its scripted waves are compiled into a
+ * {@link SpawnTimeline} when the manager is created; once they are used up the script's
+ * endless {@link WaveFormula} appends one wave at a time to the same timeline. Each tick the
+ * manager spawns every entry under the timeline's cursor that has become due, so a spawn
+ * costs no scheduling objects and no queue operations. Swarms are ordinary timeline entries
+ * a few hundredths of a second apart, each spawning one {@link SwarmEnemyComponent}.</p>
+ *
+ * <p>If the script turns hordes on, ground enemies spawn as {@link HordeEnemyComponent}s and a
+ * new one joins the horde of its kind whose last member is closest to the start point,
+ * found with the world's enemy grid, when the gap fits. Endless waves then add members to a
+ * few hordes instead of entities to the world. Every {@link #REGROUP_TICKS} ticks each horde
+ * also tries to take in the horde right behind it, so hordes broken up by area damage grow
+ * back together. Hordes are visited in world order, which a restored match keeps.</p>
+ *
+ * <p>Time only advances through {@link #onUpdate(double)}, which the world calls once per
+ * fixed tick, so spawns happen on the same tick in a live match and in a replay.</p>
  */
 public class EnemyManager {
+    /** Ticks between two passes merging hordes that walk in step. */
+    private static final int REGROUP_TICKS = 15;
 
     @Getter private int wave = 0;
     private boolean running = false;
 
+    /** Simulation time in seconds since {@link #start()}. */
+    @Getter private double time = 0;
+    /** Simulation time at which the next wave begins; infinite once the script has ended. */
+    @Getter private double nextWaveTime = 0;
+
+    /** Waves of this match. */
+    @Getter private final WaveScript script;
+
+    /** Outstanding spawns ordered by due time; waves may overlap once they get long. */
+    private SpawnTimeline timeline;
+
+    /** World the spawned enemies belong to. */
+    private final WorldManager world;
+    /** Enemies near the start point, reused between horde lookups. */
+    private final EnemyBuffer nearStart = new EnemyBuffer();
+    /** Horde spawned during the current tick, which the enemy grid only sees after its next rebuild. */
+    private HordeEnemyComponent spawnedHorde;
+    /** Enemies near a horde's last member, reused between regroup lookups. */
+    private final EnemyBuffer nearTail = new EnemyBuffer();
+
     /**
-     * Duration in seconds between waves.
+     * @param world  world the enemies are spawned into
+     * @param script waves of this match
      */
-    private static final double WAVE_DURATION = 12.0;
+    public EnemyManager(WorldManager world, WaveScript script) {
+        this.world = world;
+        this.script = script;
+        this.timeline = script.compile();
+    }
 
     /**
      * Begins spawning waves if not already running.
      *
-     * <p>Subsequent waves are chained via {@link #scheduleNextWave()} so callers only need
-     * to trigger this once when the match starts.</p>
+     * <p>The first wave starts on the next tick and later waves follow their predecessor's
+     * duration, so callers only need to trigger this once when the match starts.</p>
      */
     public void start() {
         if (running) return;
         running = true;
-        scheduleNextWave();
+        nextWaveTime = time;
     }
 
     /**
-     * Calculates wave parameters and schedules the next cycle.
-     *
-     * <p>Returns {@code null} to satisfy Kotlin interop signatures used by FXGL's helper
-     * callbacks.</p>
+     * Returns to the state right after construction: no wave started, timers at zero and the
+     * script's waves compiled afresh. Used when a match is restarted on the same world.
      */
-    private Unit scheduleNextWave() {
-        wave++;
+    public void reset() {
+        running = false;
+        wave = 0;
+        time = 0;
+        nextWaveTime = 0;
+        timeline = script.compile();
+        spawnedHorde = null;
+    }
 
-        int enemyCount   = computeEnemyCount(wave);
-        double airRatio  = computeAirRatio(wave);
-        double hpMul     = computeHpMultiplier(wave);
-        double interval  = computeSpawnInterval(wave);
+    /**
+     * Advances wave timers by one tick and spawns every enemy that has become due.
+     *
+     * @param tpf length of the tick in seconds
+     */
+    public void onUpdate(double tpf) {
+        if (!running) return;
+        spawnedHorde = null;
+        if (script.hordes() && world.getTick() % REGROUP_TICKS == 0) {
+            regroup(tpf);
+        }
 
-        System.out.println("Wave " + wave + " starting: "
-                + enemyCount + " enemies, " +
-                (int)(airRatio * 100) + "% air, " +
-                "hp x" + String.format("%.2f", hpMul) + ", " +
-                "interval " + String.format("%.2f", interval) + "s");
+        while (time >= nextWaveTime) {
+            beginNextWave();
+        }
 
-        spawnWave(enemyCount, airRatio, hpMul, interval);
+        while (timeline.hasDue(time)) {
+            int spawn = timeline.next();
+            double hpMul = timeline.hpMultiplier(spawn);
+            switch (timeline.type(spawn)) {
+                case Ground -> spawnGroundEnemy(hpMul);
+                case Air -> spawnAirEnemy(hpMul);
+                case Swarm -> spawnSwarmEnemy(hpMul, timeline.time(spawn));
+            }
+        }
 
-        runOnce(this::scheduleNextWave, Duration.seconds(WAVE_DURATION));
-        return null;
+        time += tpf;
     }
 
     /**
-     * Calculates the number of enemies for the wave.
+     * Advances the wave counter and schedules the start of the wave after it.
      *
-     * @param wave current wave index
-     * @return enemy count
+     * <p>Scripted waves are already on the timeline; endless waves are appended here.</p>
      */
-    private int computeEnemyCount(int wave) {
-        return 4 + wave * 2;
+    private void beginNextWave() {
+        List<WaveScript.Wave> scripted = script.waves();
+        if (wave < scripted.size()) {
+            wave++;
+            WaveScript.Wave next = scripted.get(wave - 1);
+            logWave(next.enemyCount(), next.airCount(), next.swarmCount(), next.hpMultiplier());
+            nextWaveTime += next.duration();
+        } else if (script.endless() != null) {
+            wave++;
+            appendFormulaWave(script.endless());
+            nextWaveTime += script.endless().waveDuration();
+        } else {
+            nextWaveTime = Double.POSITIVE_INFINITY;
+        }
     }
 
     /**
-     * Determines the proportion of air enemies in the wave.
+     * Puts the spawns of the current wave, as described by the formula, on the timeline.
      *
-     * @param wave current wave index
-     * @return ratio between 0.1 and 0.6
+     * <p>Air enemies are spread evenly through the wave rather than sent first. A swarm,
+     * if the wave has one, sets off a third into the wave.</p>
      */
-    private double computeAirRatio(int wave) {
-        double r = 0.1 * wave;
-        if (r < 0.1) r = 0.1;
-        if (r > 0.6) r = 0.6;
-        return r;
+    private void appendFormulaWave(WaveFormula formula) {
+        int enemyCount = formula.enemyCount(wave);
+        int airCount = (int) (enemyCount * formula.airRatio(wave));
+        double hpMul = formula.hpMultiplier(wave);
+        double interval = formula.spawnInterval(wave);
+
+        int swarmCount = formula.swarmCount(wave);
+
+        logWave(enemyCount + swarmCount, airCount, swarmCount, hpMul);
+        for (int i = 0; i < enemyCount; i++) {
+            boolean air = (long) (i + 1) * airCount / enemyCount > (long) i * airCount / enemyCount;
+            timeline.add(nextWaveTime + interval * i, air ? EnemyType.Air : EnemyType.Ground, hpMul);
+        }
+        double swarmStart = nextWaveTime + formula.waveDuration() / 3;
+        for (int i = 0; i < swarmCount; i++) {
+            timeline.add(swarmStart + WaveFormula.SWARM_SPACING * i, EnemyType.Swarm, hpMul);
+        }
+    }
+
+    private void logWave(int enemyCount, int airCount, int swarmCount, double hpMul) {
+        if (!world.isHeadless()) {
+            System.out.println("Wave " + wave + " starting: "
+                    + enemyCount + " enemies, " + airCount + " air, " + swarmCount + " swarm, "
+                    + "hp x" + String.format("%.2f", hpMul));
+        }
     }
 
     /**
-     * Computes the health multiplier for enemies in the wave.
+     * Number of bytes {@link #writeState(ByteBuffer)} will produce.
      *
-     * @param wave current wave index
-     * @return multiplier applied to base health
+     * @return serialized size of the wave state
      */
-    private double computeHpMultiplier(int wave) {
-        return 1.0 + 0.12 * wave;
+    public int stateSize() {
+        return 1 + 4 + 8 + 8 + 4 + timeline.remaining() * 17;
     }
 
     /**
-     * Computes the interval between enemy spawns.
+     * Serializes wave counter, timers and outstanding spawns.
      *
-     * @param wave current wave index
-     * @return seconds between spawns
+     * @param buffer destination with at least {@link #stateSize()} bytes remaining
      */
-    private double computeSpawnInterval(int wave) {
-        double interval = 1.8 - 0.12 * wave;
-        if (interval < 0.3) interval = 0.3;
-        return interval;
+    public void writeState(ByteBuffer buffer) {
+        buffer.put((byte) (running ? 1 : 0));
+        buffer.putInt(wave);
+        buffer.putDouble(time);
+        buffer.putDouble(nextWaveTime);
+        buffer.putInt(timeline.remaining());
+        for (int i = timeline.cursor(); i < timeline.end(); i++) {
+            buffer.putDouble(timeline.time(i));
+            buffer.put((byte) timeline.type(i).ordinal());
+            buffer.putDouble(timeline.hpMultiplier(i));
+        }
     }
 
     /**
-     * Enqueues timed spawns for a single wave using fixed intervals.
+     * Replaces the wave state with one produced by {@link #writeState(ByteBuffer)}.
+     *
+     * <p>The save carries the outstanding spawns itself, so it restores correctly even if the
+     * map's wave script changed since it was taken.</p>
+     *
+     * @param buffer source positioned at the serialized state
      */
-    private void spawnWave(int enemyCount, double airRatio, double hpMul, double interval) {
-        for (int i = 0; i < enemyCount; i++) {
-            int index = i;
-            runOnce(() -> spawnSingleEnemyInWave(index, enemyCount, airRatio, hpMul),
-                    Duration.seconds(interval * index));
+    public void readState(ByteBuffer buffer) {
+        running = buffer.get() != 0;
+        wave = buffer.getInt();
+        time = buffer.getDouble();
+        nextWaveTime = buffer.getDouble();
+        timeline.clear();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            timeline.add(buffer.getDouble(), EnemyType.values()[buffer.get()], buffer.getDouble());
         }
     }
 
     /**
-     * Spawns one enemy according to its index and configured air ratio.
+     * Adds an enemy to the world at an arbitrary position.
+     *
+     * <p>Used for enemies leaving a horde; regular spawns always start at the map's start point.</p>
+     *
+     * @param enemy    configured enemy component
+     * @param position world position of the enemy
+     * @return the attached entity
      */
-    private Unit spawnSingleEnemyInWave(int index, int total, double airRatio, double hpMul) {
-        boolean isAir = (index < (int)(total * airRatio));
+    public Entity spawn(AbstractEnemyComponent enemy, Point2D position) {
+        Entity entity = create(enemy, position);
+        world.getGameWorld().addEntity(entity);
+        return entity;
+    }
 
-        if (isAir) {
-            spawnAirEnemy(hpMul);
-        } else {
-            spawnGroundEnemy(hpMul);
-        }
-        return null;
+    /**
+     * Builds the entity of an enemy at an arbitrary position without adding it to the world.
+     *
+     * <p>Used when restoring a saved match, which adds its entities in their saved order.</p>
+     *
+     * @param enemy    configured enemy component
+     * @param position world position of the enemy
+     * @return the entity, not yet in the world
+     */
+    public Entity create(AbstractEnemyComponent enemy, Point2D position) {
+        return getBaseBuilder(enemy).at(position).build();
     }
 
     private void spawnGroundEnemy(double hpMul) {
-        getBaseBuilder(new GroundEnemyComponent((int)(25 * hpMul), 1, (int)(4 * ((hpMul-1)/4+1)), 50 * ((hpMul-1)/2+1)))
-                .buildAndAttach();
+        int health = (int)(25 * hpMul);
+        int reward = (int)(4 * ((hpMul-1)/4+1));
+        double speed = 50 * ((hpMul-1)/2+1);
+        if (!script.hordes()) {
+            attach(getBaseBuilder(new GroundEnemyComponent(world, health, 1, reward, speed)));
+            return;
+        }
+        HordeEnemyComponent spawned = new HordeEnemyComponent(world, health, 1, reward, speed);
+        HordeEnemyComponent ahead = hordeAhead(spawned);
+        if (ahead == null || !ahead.join(world.getTickDuration())) {
+            attach(getBaseBuilder(spawned));
+            spawnedHorde = spawned;
+        }
+    }
+
+    /**
+     * Lets every horde take in the closest horde whose front walks behind its last member.
+     *
+     * @param tpf length of the tick in seconds
+     */
+    private void regroup(double tpf) {
+        for (Entity entity : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+            if (!entity.isActive() || !entity.hasComponent(HordeEnemyComponent.class)) {
+                continue;
+            }
+            HordeEnemyComponent horde = entity.getComponent(HordeEnemyComponent.class);
+            Point2D tail = horde.tail().point();
+            world.getEnemyGrid().within(tail.getX(), tail.getY(), HordeEnemyComponent.MAX_SPACING, nearTail);
+            double tailDistance = horde.tailDistance();
+            HordeEnemyComponent behind = null;
+            double closest = Double.POSITIVE_INFINITY;
+            for (int i = 0; i < nearTail.size(); i++) {
+                if (nearTail.get(i) instanceof HordeEnemyComponent other && other != horde && other.isLike(horde)) {
+                    double gap = tailDistance - other.routeDistance();
+                    if (gap >= 0 && gap < closest) {
+                        closest = gap;
+                        behind = other;
+                    }
+                }
+            }
+            nearTail.clear();
+            if (behind != null) {
+                horde.merge(behind, tpf);
+            }
+        }
+    }
+
+    /**
+     * @return the horde like {@code spawned} whose last member is closest to the start point,
+     *         or {@code null} if none is near enough to take it in
+     */
+    private HordeEnemyComponent hordeAhead(HordeEnemyComponent spawned) {
+        Point2D start = world.getMapManager().getGameMap().getStartPoint().point();
+        world.getEnemyGrid().within(start.getX(), start.getY(),
+                HordeEnemyComponent.MAX_LENGTH + HordeEnemyComponent.MAX_SPACING, nearStart);
+        if (spawnedHorde != null) {
+            nearStart.add(spawnedHorde);
+        }
+        HordeEnemyComponent ahead = null;
+        double closest = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < nearStart.size(); i++) {
+            if (nearStart.get(i) instanceof HordeEnemyComponent horde && horde.isLike(spawned)) {
+                double tail = horde.tailDistance();
+                if (tail < closest) {
+                    closest = tail;
+                    ahead = horde;
+                }
+            }
+        }
+        nearStart.clear();
+        return ahead;
     }
 
     private void spawnAirEnemy(double hpMul) {
-        getBaseBuilder(new AirEnemyComponent((int)(15 * hpMul), 1, (int)(4 * ((hpMul-1)/4+1)), 75.0 + ((hpMul-1)/2+1)))
-                .buildAndAttach();
+        attach(getBaseBuilder(new AirEnemyComponent(world, (int)(15 * hpMul), 1, (int)(4 * ((hpMul-1)/4+1)), 75.0 + ((hpMul-1)/2+1))));
+    }
+
+    /**
+     * Spawns a swarm unit a little off the start point, so units of one swarm never start on
+     * top of each other. The offset follows from the spawn's time, which a restored match
+     * reproduces.
+     */
+    private void spawnSwarmEnemy(double hpMul, double spawnTime) {
+        SplittableRandom random = new SplittableRandom(Double.doubleToLongBits(spawnTime));
+        double angle = random.nextDouble(2 * Math.PI);
+        double distance = Math.sqrt(random.nextDouble()) * SwarmEnemyComponent.SEPARATION_RADIUS;
+        Point2D start = world.getMapManager().getGameMap().getStartPoint().point();
+        spawn(new SwarmEnemyComponent(world, (int) (3 * hpMul), 1, 1, 70 * ((hpMul - 1) / 2 + 1)),
+                start.add(Math.cos(angle) * distance, Math.sin(angle) * distance));
+    }
+
+    private void attach(EntityBuilder builder) {
+        Entity enemy = builder.build();
+        world.getGameWorld().addEntity(enemy);
     }
 
     private EntityBuilder getBaseBuilder() {
         return entityBuilder()
                 .type(EntityType.ENEMY)
-                .at(WorldManager.get().getMapManager().getGameMap().getStartPoint().point())
-                .collidable();
+                .at(world.getMapManager().getGameMap().getStartPoint().point());
     }
 
     private EntityBuilder getBaseBuilder(AbstractEnemyComponent enemy) {
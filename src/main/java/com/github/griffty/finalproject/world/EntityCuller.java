@@ -0,0 +1,158 @@
+package com.github.griffty.finalproject.world;
+
+import com.almasb.fxgl.app.scene.GameScene;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.components.interfaces.IVisual;
+import javafx.geometry.Rectangle2D;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Keeps the views of off-screen entities out of the scene graph.
+ *
+ * <p>An interactive world registers the culler as its entity world listener in place of the
+ * game scene. Every entity is still simulated, but its view is only handed to the scene while
+ * it lies within the viewport, widened by {@link #MARGIN} so views never pop in at the screen
+ * edge. {@link #update()} runs once per frame and moves entities across that boundary;
+ * components skip per-tick view updates while their view has no scene (see
+ * {@link com.github.griffty.finalproject.util.LevelOfDetail#showsRotation}) and get
+ * {@link IVisual#syncVisuals()} when it is attached again.</p>
+ *
+ * <p>Entities are kept in flat arrays with a slot index per entity, so the per-frame pass is
+ * a single loop without allocation and removal is a swap with the last slot. Only used on the
+ * JavaFX application thread.</p>
+ */
+final class EntityCuller implements EntityWorldListener {
+    /** Distance in world units beyond the viewport within which views stay attached. */
+    private static final double MARGIN = Constants.TILE_SIZE;
+
+    /**
+     * Number of attached and culled views per entity type at the last {@link #update()}.
+     *
+     * @param shown  views in the scene, indexed by {@link EntityType#ordinal()}
+     * @param culled views held back, indexed by {@link EntityType#ordinal()}
+     */
+    record Stats(int[] shown, int[] culled) {
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder();
+            int shownTotal = 0, culledTotal = 0;
+            for (EntityType type : EntityType.values()) {
+                int i = type.ordinal();
+                shownTotal += shown[i];
+                culledTotal += culled[i];
+                text.append(String.format(", %s %d/%d", type.name().toLowerCase(), shown[i], shown[i] + culled[i]));
+            }
+            return String.format("%d of %d entity views in the scene, %d culled", shownTotal, shownTotal + culledTotal, culledTotal)
+                    + text;
+        }
+    }
+
+    private final GameScene scene;
+
+    private Entity[] entities = new Entity[256];
+    private boolean[] shown = new boolean[256];
+    private int size;
+    private final Map<Entity, Integer> slots = new IdentityHashMap<>();
+
+    private final int[] shownCounts = new int[EntityType.values().length];
+    private final int[] culledCounts = new int[EntityType.values().length];
+
+    /**
+     * @param scene scene the attached views are handed to
+     */
+    EntityCuller(GameScene scene) {
+        this.scene = scene;
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        if (size == entities.length) {
+            entities = Arrays.copyOf(entities, size * 2);
+            shown = Arrays.copyOf(shown, size * 2);
+        }
+        entities[size] = entity;
+        shown[size] = false;
+        slots.put(entity, size);
+        size++;
+        if (isInView(entity, visibleArea())) {
+            show(size - 1);
+        }
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        Integer slot = slots.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        if (shown[slot]) {
+            scene.onEntityRemoved(entity);
+        }
+        size--;
+        if (slot != size) {
+            entities[slot] = entities[size];
+            shown[slot] = shown[size];
+            slots.put(entities[slot], slot);
+        }
+        entities[size] = null;
+    }
+
+    /**
+     * Attaches the views of entities that came into view, detaches the ones that left it and
+     * recounts both.
+     */
+    void update() {
+        Rectangle2D area = visibleArea();
+        Arrays.fill(shownCounts, 0);
+        Arrays.fill(culledCounts, 0);
+        for (int i = 0; i < size; i++) {
+            Entity entity = entities[i];
+            boolean inView = isInView(entity, area);
+            if (inView && !shown[i]) {
+                show(i);
+            } else if (!inView && shown[i]) {
+                scene.onEntityRemoved(entity);
+                shown[i] = false;
+            }
+            if (entity.getType() instanceof EntityType type) {
+                (inView ? shownCounts : culledCounts)[type.ordinal()]++;
+            }
+        }
+    }
+
+    /**
+     * @return view counts of the last {@link #update()}
+     */
+    Stats stats() {
+        return new Stats(shownCounts.clone(), culledCounts.clone());
+    }
+
+    private void show(int slot) {
+        Entity entity = entities[slot];
+        scene.onEntityAdded(entity);
+        shown[slot] = true;
+        for (Component component : entity.getComponents()) {
+            if (component instanceof IVisual visual) {
+                visual.syncVisuals();
+            }
+        }
+    }
+
+    private Rectangle2D visibleArea() {
+        return scene.getViewport().getVisibleArea();
+    }
+
+    private static boolean isInView(Entity entity, Rectangle2D area) {
+        double x = entity.getX();
+        double y = entity.getY();
+        return x >= area.getMinX() - MARGIN && x <= area.getMaxX() + MARGIN
+                && y >= area.getMinY() - MARGIN && y <= area.getMaxY() + MARGIN;
+    }
+}
@@ -8,8 +8,8 @@ import lombok.Getter;
  * Tracks and updates player-specific mutable variables such as money and health.
  *
  * <p>This class encapsulates simple operations for modifying the player's money and health,
- * updates the UI via {@link UIManager} after each change, and triggers game over via
- * {@link WorldManager#get()} when health reaches zero.</p>
+ * updates the UI via {@link UIManager} after each change (interactive worlds only), and
+ * triggers game over on its {@link WorldManager} when health reaches zero.</p>
  *
  * <p>Instances are lightweight and used by {@link WorldManager}. This class is not
  * synchronized — ensure access is confined to the JavaFX / game thread or otherwise
@@ -28,18 +28,26 @@ public class PlayerVariableHandler {
     /**
      * The player's current health (hit points).
      *
-     * <p>When this reaches zero {@link WorldManager#get()}.gameOver() is invoked.
+     * <p>When this reaches zero {@link WorldManager#gameOver()} is invoked.
      * External code can read this value via the generated getter.</p>
      */
     @Getter private int health;
 
+    /**
+     * World whose game over is triggered when health runs out.
+     */
+    private final WorldManager world;
+
     /**
      * Create a new handler initialized with default starting values.
      *
      * <p>Initial values are taken from {@link Constants#START_MONEY} and
      * {@link Constants#START_HEALTH}.</p>
+     *
+     * @param world world these variables belong to
      */
-    public PlayerVariableHandler() {
+    public PlayerVariableHandler(WorldManager world) {
+        this.world = world;
         this.money = Constants.START_MONEY;
         this.health = Constants.START_HEALTH;
     }
@@ -51,7 +59,7 @@ public class PlayerVariableHandler {
      */
     public void addMoney(int amount) {
         this.money += amount;
-        UIManager.get().getSideBar().getUserVariablesBox().setMoney(money);
+        refreshMoney();
     }
 
     /**
@@ -68,7 +76,7 @@ public class PlayerVariableHandler {
             return false;
         }
         this.money -= amount;
-        UIManager.get().getSideBar().getUserVariablesBox().setMoney(money);
+        refreshMoney();
         return true;
     }
 
@@ -76,7 +84,7 @@ public class PlayerVariableHandler {
      * Reduce the player's health by the given amount and update the UI.
      *
      * <p>If health falls to zero or below this method sets health to zero and triggers
-     * a game over via {@link WorldManager#get()}.gameOver().</p>
+     * a game over via {@link WorldManager#gameOver()}.</p>
      *
      * @param amount the amount of health to subtract
      */
@@ -84,8 +92,34 @@ public class PlayerVariableHandler {
         this.health -= amount;
         if (this.health <= 0) {
             this.health = 0;
-            WorldManager.get().gameOver();
+            world.gameOver();
+        }
+        if (!world.isHeadless()) {
+            UIManager.get().getSideBar().getUserVariablesBox().setHealth(health);
+        }
+    }
+
+    /**
+     * Overwrite money and health, e.g. when a saved match is loaded, and refresh the UI.
+     *
+     * @param money  restored money balance
+     * @param health restored health
+     */
+    public void restore(int money, int health) {
+        this.money = money;
+        this.health = health;
+        refreshMoney();
+        if (!world.isHeadless()) {
+            UIManager.get().getSideBar().getUserVariablesBox().setHealth(health);
+        }
+    }
+
+    /**
+     * Push the current money value to the side bar; headless worlds have no UI to update.
+     */
+    private void refreshMoney() {
+        if (!world.isHeadless()) {
+            UIManager.get().getSideBar().getUserVariablesBox().setMoney(money);
         }
-        UIManager.get().getSideBar().getUserVariablesBox().setHealth(health);
     }
 }
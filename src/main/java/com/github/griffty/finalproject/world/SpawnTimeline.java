@@ -0,0 +1,142 @@
+package com.github.griffty.finalproject.world;
+
+import com.github.griffty.finalproject.world.entities.components.enemies.EnemyType;
+
+import java.util.Arrays;
+
+/**
+ * Flat, time-ordered list of enemy spawns consumed by {@link EnemyManager} through a cursor.
+ *
+ * <p>Spawns are stored in parallel primitive arrays instead of one object per spawn, so
+ * reading the next due spawn is a bounds check and two array loads. Scripted waves are
+ * compiled into the timeline up front by {@link WaveScript#compile()}; endless waves are
+ * appended one wave at a time as they begin. Consumed entries are compacted away before the
+ * arrays are ever grown, so a long match keeps reusing the same storage.</p>
+ */
+public final class SpawnTimeline {
+    private double[] times;
+    /** Ordinal of each spawn's {@link EnemyType}. */
+    private byte[] types;
+    private double[] hpMultipliers;
+    private int size;
+    private int cursor;
+
+    /**
+     * @param capacity number of spawns the timeline can hold before it has to grow
+     */
+    public SpawnTimeline(int capacity) {
+        capacity = Math.max(capacity, 16);
+        times = new double[capacity];
+        types = new byte[capacity];
+        hpMultipliers = new double[capacity];
+    }
+
+    /**
+     * Inserts a spawn, keeping the timeline ordered by time.
+     *
+     * <p>Spawns with equal times keep their insertion order. Waves are added in order of
+     * their start, so a new spawn normally lands at the end and only spawns of overlapping
+     * waves have to be shifted.</p>
+     *
+     * @param time         simulation time of the spawn
+     * @param type         kind of enemy to spawn
+     * @param hpMultiplier health multiplier applied to the enemy
+     */
+    public void add(double time, EnemyType type, double hpMultiplier) {
+        ensureCapacity();
+        int i = size;
+        while (i > cursor && times[i - 1] > time) {
+            i--;
+        }
+        int tail = size - i;
+        if (tail > 0) {
+            System.arraycopy(times, i, times, i + 1, tail);
+            System.arraycopy(types, i, types, i + 1, tail);
+            System.arraycopy(hpMultipliers, i, hpMultipliers, i + 1, tail);
+        }
+        times[i] = time;
+        types[i] = (byte) type.ordinal();
+        hpMultipliers[i] = hpMultiplier;
+        size++;
+    }
+
+    /**
+     * @param now current simulation time
+     * @return true if the spawn under the cursor is due
+     */
+    public boolean hasDue(double now) {
+        return cursor < size && times[cursor] <= now;
+    }
+
+    /**
+     * Moves the cursor past the current spawn.
+     *
+     * @return index of the consumed spawn, valid for {@link #type(int)} and
+     *         {@link #hpMultiplier(int)} until the next {@link #add}
+     */
+    public int next() {
+        return cursor++;
+    }
+
+    public double time(int index) {
+        return times[index];
+    }
+
+    public EnemyType type(int index) {
+        return EnemyType.values()[types[index]];
+    }
+
+    public double hpMultiplier(int index) {
+        return hpMultipliers[index];
+    }
+
+    /**
+     * @return number of spawns not yet consumed
+     */
+    public int remaining() {
+        return size - cursor;
+    }
+
+    /**
+     * @return index of the first spawn not yet consumed
+     */
+    public int cursor() {
+        return cursor;
+    }
+
+    /**
+     * @return index past the last spawn
+     */
+    public int end() {
+        return size;
+    }
+
+    /**
+     * Drops every spawn, keeping the storage.
+     */
+    public void clear() {
+        size = 0;
+        cursor = 0;
+    }
+
+    private void ensureCapacity() {
+        if (size < times.length) {
+            return;
+        }
+        if (cursor > 0) {
+            int live = size - cursor;
+            System.arraycopy(times, cursor, times, 0, live);
+            System.arraycopy(types, cursor, types, 0, live);
+            System.arraycopy(hpMultipliers, cursor, hpMultipliers, 0, live);
+            size = live;
+            cursor = 0;
+            if (size < times.length) {
+                return;
+            }
+        }
+        int capacity = times.length * 2;
+        times = Arrays.copyOf(times, capacity);
+        types = Arrays.copyOf(types, capacity);
+        hpMultipliers = Arrays.copyOf(hpMultipliers, capacity);
+    }
+}
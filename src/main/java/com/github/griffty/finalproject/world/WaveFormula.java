@@ -0,0 +1,83 @@
+package com.github.griffty.finalproject.world;
+
+/**
+ * Tunable coefficients of the wave difficulty curve used by {@link EnemyManager}.
+ *
+ * <p>Kept as a value object so balance tooling can run matches with different curves side
+ * by side; regular matches use {@link #DEFAULT}.</p>
+ *
+ * @param baseCount       enemies in wave zero
+ * @param countPerWave    additional enemies per wave
+ * @param airPerWave      air share added per wave
+ * @param minAirRatio     lower bound of the air share
+ * @param maxAirRatio     upper bound of the air share
+ * @param hpPerWave       health multiplier added per wave
+ * @param baseInterval    seconds between spawns in wave zero
+ * @param intervalDecay   seconds the spawn interval shrinks per wave
+ * @param minInterval     lower bound of the spawn interval
+ * @param waveDuration    seconds between the starts of two waves
+ * @param swarmEvery      a swarm joins every wave whose index is a multiple of this, rounded;
+ *                        zero for no swarms
+ * @param swarmPerWave    swarm units per wave index, between {@link #MIN_SWARM} and {@link #MAX_SWARM}
+ */
+public record WaveFormula(double baseCount, double countPerWave,
+                          double airPerWave, double minAirRatio, double maxAirRatio,
+                          double hpPerWave,
+                          double baseInterval, double intervalDecay, double minInterval,
+                          double waveDuration,
+                          double swarmEvery, double swarmPerWave) {
+
+    /** Fewest units a swarm spawns with. */
+    public static final int MIN_SWARM = 50;
+    /** Most units a swarm spawns with. */
+    public static final int MAX_SWARM = 200;
+    /** Seconds between two units of a swarm. */
+    public static final double SWARM_SPACING = 0.02;
+
+    /** The hand-tuned curve the game ships with. */
+    public static final WaveFormula DEFAULT = new WaveFormula(4, 2, 0.1, 0.1, 0.6, 0.12, 1.8, 0.12, 0.3, 12.0, 5, 5);
+
+    /**
+     * @param wave current wave index
+     * @return enemy count
+     */
+    public int enemyCount(int wave) {
+        return (int) (baseCount + wave * countPerWave);
+    }
+
+    /**
+     * @param wave current wave index
+     * @return share of air enemies between {@link #minAirRatio} and {@link #maxAirRatio}
+     */
+    public double airRatio(int wave) {
+        return Math.clamp(airPerWave * wave, minAirRatio, maxAirRatio);
+    }
+
+    /**
+     * @param wave current wave index
+     * @return multiplier applied to base health
+     */
+    public double hpMultiplier(int wave) {
+        return 1.0 + hpPerWave * wave;
+    }
+
+    /**
+     * @param wave current wave index
+     * @return units of the swarm joining the wave, or zero if none does
+     */
+    public int swarmCount(int wave) {
+        long every = Math.round(swarmEvery);
+        if (every <= 0 || wave % every != 0) {
+            return 0;
+        }
+        return (int) Math.clamp(swarmPerWave * wave, MIN_SWARM, MAX_SWARM);
+    }
+
+    /**
+     * @param wave current wave index
+     * @return seconds between spawns, never below {@link #minInterval}
+     */
+    public double spawnInterval(int wave) {
+        return Math.max(minInterval, baseInterval - intervalDecay * wave);
+    }
+}
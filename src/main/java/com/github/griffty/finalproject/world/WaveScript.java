@@ -0,0 +1,271 @@
+package com.github.griffty.finalproject.world;
+
+import com.github.griffty.finalproject.world.entities.components.enemies.EnemyType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Designer-authored description of the waves of a map.
+ *
+ * <p>Scripts live next to the map they belong to, as
+ * {@code assets/text/maps/<mapId>.waves.txt}. Blank lines and text after {@code #} are
+ * ignored; every other line is one of:</p>
+ * <pre>
+ * wave &lt;seconds until next wave&gt; &lt;hp multiplier&gt;
+ * ground|air|swarm &lt;count&gt; &lt;seconds between spawns&gt; [&lt;seconds after wave start&gt;]
+ * endless
+ * hordes
+ * </pre>
+ * <p>A {@code wave} line opens a wave; the group lines that follow add enemies to it. Groups
+ * of one wave may overlap, and a wave may outlast its duration and overlap the next one.
+ * {@code endless} makes the waves after the last scripted one follow {@link WaveFormula#DEFAULT};
+ * without it spawning stops once the script is exhausted. {@code hordes} turns on the
+ * simulation level of detail for ground enemies: closely spaced identical ones walk as one
+ * {@link com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent}.</p>
+ *
+ * <p>A script is immutable and can be shared between worlds. {@link #compile()} turns it into
+ * a fresh {@link SpawnTimeline} holding every scripted spawn at its absolute time.</p>
+ */
+public final class WaveScript {
+    /**
+     * A run of identical enemies within a wave.
+     *
+     * @param type    kind of the enemies
+     * @param count   number of enemies; swarms are typically 50 to 200 units a few
+     *                hundredths of a second apart
+     * @param spacing seconds between two spawns of the group
+     * @param delay   seconds between the start of the wave and the first spawn
+     */
+    public record Group(EnemyType type, int count, double spacing, double delay) { }
+
+    /**
+     * One scripted wave.
+     *
+     * @param duration     seconds until the next wave starts
+     * @param hpMultiplier health multiplier of every enemy in the wave
+     * @param groups       enemy groups of the wave
+     */
+    public record Wave(double duration, double hpMultiplier, List<Group> groups) {
+        public int enemyCount() {
+            return groups.stream().mapToInt(Group::count).sum();
+        }
+
+        public int airCount() {
+            return count(EnemyType.Air);
+        }
+
+        public int swarmCount() {
+            return count(EnemyType.Swarm);
+        }
+
+        private int count(EnemyType type) {
+            return groups.stream().filter(g -> g.type() == type).mapToInt(Group::count).sum();
+        }
+    }
+
+    private final List<Wave> waves;
+    private final WaveFormula endless;
+    private final boolean hordes;
+
+    /**
+     * @param waves   scripted waves, in order
+     * @param endless curve for the waves after the script, or {@code null} to stop spawning
+     */
+    public WaveScript(List<Wave> waves, WaveFormula endless) {
+        this(waves, endless, false);
+    }
+
+    /**
+     * @param waves   scripted waves, in order
+     * @param endless curve for the waves after the script, or {@code null} to stop spawning
+     * @param hordes  whether closely spaced identical ground enemies are merged into hordes
+     */
+    public WaveScript(List<Wave> waves, WaveFormula endless, boolean hordes) {
+        this.waves = List.copyOf(waves);
+        this.endless = endless;
+        this.hordes = hordes;
+    }
+
+    /**
+     * A script without scripted waves: every wave comes from the formula.
+     *
+     * @param formula difficulty curve
+     * @return the script
+     */
+    public static WaveScript endless(WaveFormula formula) {
+        return new WaveScript(List.of(), formula);
+    }
+
+    /**
+     * Loads the wave script of a map from the classpath.
+     *
+     * <p>Maps without a script fall back to {@link WaveFormula#DEFAULT} for all waves.</p>
+     *
+     * @param mapId map resource name under {@code assets/text/maps/}
+     * @return the parsed script
+     * @throws IllegalArgumentException if the script is malformed
+     */
+    public static WaveScript load(String mapId) {
+        String resource = "/assets/text/maps/" + mapId + ".waves.txt";
+        try (InputStream in = WaveScript.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                return endless(WaveFormula.DEFAULT);
+            }
+            return parse(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)).lines().toList(), resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read wave script " + resource, e);
+        }
+    }
+
+    /**
+     * Parses the text form of a script.
+     *
+     * @param lines  script lines
+     * @param source name used in error messages
+     * @return the parsed script
+     * @throws IllegalArgumentException if a line is malformed
+     */
+    public static WaveScript parse(List<String> lines, String source) {
+        List<Wave> waves = new ArrayList<>();
+        List<Group> groups = null;
+        double duration = 0;
+        double hpMultiplier = 1;
+        WaveFormula endless = null;
+        boolean hordes = false;
+
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            int comment = line.indexOf('#');
+            String[] tokens = (comment >= 0 ? line.substring(0, comment) : line).trim().split("\\s+");
+            if (tokens[0].isEmpty()) {
+                continue;
+            }
+            String where = source + ":" + (n + 1);
+            try {
+                switch (tokens[0]) {
+                    case "wave" -> {
+                        expectTokens(tokens, 3, 3, where);
+                        if (groups != null) {
+                            waves.add(new Wave(duration, hpMultiplier, groups));
+                        }
+                        groups = new ArrayList<>();
+                        duration = positive(Double.parseDouble(tokens[1]), "wave duration", where);
+                        hpMultiplier = positive(Double.parseDouble(tokens[2]), "hp multiplier", where);
+                    }
+                    case "ground", "air", "swarm" -> {
+                        expectTokens(tokens, 3, 4, where);
+                        if (groups == null) {
+                            throw new IllegalArgumentException(where + ": enemy group before the first wave");
+                        }
+                        int count = Integer.parseInt(tokens[1]);
+                        double spacing = Double.parseDouble(tokens[2]);
+                        double delay = tokens.length == 4 ? Double.parseDouble(tokens[3]) : 0;
+                        if (count < 0 || spacing < 0 || delay < 0) {
+                            throw new IllegalArgumentException(where + ": negative count, spacing or delay");
+                        }
+                        EnemyType type = switch (tokens[0]) {
+                            case "air" -> EnemyType.Air;
+                            case "swarm" -> EnemyType.Swarm;
+                            default -> EnemyType.Ground;
+                        };
+                        groups.add(new Group(type, count, spacing, delay));
+                    }
+                    case "endless" -> {
+                        expectTokens(tokens, 1, 1, where);
+                        endless = WaveFormula.DEFAULT;
+                    }
+                    case "hordes" -> {
+                        expectTokens(tokens, 1, 1, where);
+                        hordes = true;
+                    }
+                    default -> throw new IllegalArgumentException(where + ": unknown directive '" + tokens[0] + "'");
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(where + ": " + e.getMessage(), e);
+            }
+        }
+        if (groups != null) {
+            waves.add(new Wave(duration, hpMultiplier, groups));
+        }
+        return new WaveScript(waves, endless, hordes);
+    }
+
+    private static void expectTokens(String[] tokens, int min, int max, String where) {
+        if (tokens.length < min || tokens.length > max) {
+            throw new IllegalArgumentException(where + ": '" + tokens[0] + "' expects "
+                    + (min == max ? min - 1 : (min - 1) + " to " + (max - 1)) + " arguments");
+        }
+    }
+
+    private static double positive(double value, String what, String where) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(where + ": " + what + " must be positive");
+        }
+        return value;
+    }
+
+    /**
+     * @return scripted waves, in order
+     */
+    public List<Wave> waves() {
+        return waves;
+    }
+
+    /**
+     * @return curve for the waves after the script, or {@code null} if spawning stops there
+     */
+    public WaveFormula endless() {
+        return endless;
+    }
+
+    /**
+     * @return true if closely spaced identical ground enemies walk as hordes
+     */
+    public boolean hordes() {
+        return hordes;
+    }
+
+    /**
+     * @param hordes whether closely spaced identical ground enemies walk as hordes
+     * @return this script with hordes turned on or off
+     */
+    public WaveScript withHordes(boolean hordes) {
+        return new WaveScript(waves, endless, hordes);
+    }
+
+    /**
+     * Flattens the scripted waves into a timeline, wave one starting at time zero.
+     *
+     * <p>The timeline is sized for every scripted spawn plus the largest endless wave the
+     * formula produces early on, so compiling is the only allocation spawning needs for a
+     * typical match.</p>
+     *
+     * @return a new timeline owned by the caller
+     */
+    public SpawnTimeline compile() {
+        int total = 0;
+        for (Wave wave : waves) {
+            total += wave.enemyCount();
+        }
+        int headroom = endless == null ? 0 : 2 * endless.enemyCount(waves.size() + 1) + WaveFormula.MAX_SWARM;
+        SpawnTimeline timeline = new SpawnTimeline(total + headroom);
+
+        double start = 0;
+        for (Wave wave : waves) {
+            for (Group group : wave.groups()) {
+                for (int i = 0; i < group.count(); i++) {
+                    timeline.add(start + group.delay() + group.spacing() * i, group.type(), wave.hpMultiplier());
+                }
+            }
+            start += wave.duration();
+        }
+        return timeline;
+    }
+}
@@ -1,46 +1,91 @@
 package com.github.griffty.finalproject.world;
 
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.ui.UIManager;
+import com.github.griffty.finalproject.ui.side.panels.StartPanel;
+import com.github.griffty.finalproject.util.input.InputManager;
+import com.github.griffty.finalproject.util.input.PublicUserAction;
+import com.github.griffty.finalproject.world.entities.DamageBuffer;
+import com.github.griffty.finalproject.world.entities.EnemyGrid;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.ProjectileEnemyBroadphase;
+import com.github.griffty.finalproject.world.entities.ProjectileEnemyCollisionHandler;
+import com.github.griffty.finalproject.world.entities.ProjectileStats;
+import com.github.griffty.finalproject.world.entities.StatusEffects;
+import com.github.griffty.finalproject.world.entities.components.GroundComponent;
+import com.github.griffty.finalproject.world.map.GameMap;
 import com.github.griffty.finalproject.world.map.MapManager;
+import com.github.griffty.finalproject.world.map.TileStates;
+import com.github.griffty.finalproject.world.replay.ReplayRecorder;
+import com.github.griffty.finalproject.world.save.WorldSaveFile;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.input.KeyCode;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
 import static com.almasb.fxgl.dsl.FXGLForKtKt.*;
 
 /**
- * Singleton manager that coordinates world-level systems for the game.
+ * Manager that coordinates world-level systems for the game.
  *
  * <p>Responsibilities:
  * - Hold references to sub-managers (map, enemies, player variables).
- * - Manage world lifecycle (start, game over).
+ * - Manage world lifecycle (start, game over, restart).
+ * - Own the simulated {@link GameWorld} and advance it in fixed-length ticks.
  * - Display a simple Game Over UI overlay and handle restart/exit actions.</p>
+ *
+ * <p>Each world is a self-contained context: its managers and entity components receive
+ * the world they belong to at construction instead of looking up a global, and only the
+ * interactive world is reachable through {@link #get()}.</p>
+ *
+ * <p>The simulation never runs on FXGL's global world. Entities live in a private
+ * {@link GameWorld} that is stepped by {@link #tick()} with a constant time step, so the
+ * same inputs always produce the same match. An interactive world forwards its entities to
+ * the game scene for rendering; a headless world (see {@link #createHeadless(String, int, WaveScript)})
+ * skips visuals, UI and input entirely and can be ticked as fast as the CPU allows.</p>
  */
 @Getter
 public class WorldManager {
     /**
-     * Singleton instance. Use {@link #get()} to obtain the instance.
+     * The interactive world shown on screen. Use {@link #get()} to obtain the instance.
      */
-    private static WorldManager instance;
+    private static volatile WorldManager instance;
 
     /**
-     * Return the singleton instance, creating it lazily if necessary.
+     * Return the interactive world, creating it lazily if necessary.
      *
-     * Note: This implementation is not thread-safe.
+     * <p>Only UI and input code should look the world up this way. Simulation code (managers,
+     * components, tooling) receives the world it belongs to explicitly, so any number of
+     * headless worlds can exist and tick on other threads at the same time.</p>
      *
-     * @return the global WorldManager instance
+     * @return the interactive WorldManager
      */
     public static WorldManager get() {
-        if (instance == null) {
-            instance = new WorldManager();
+        WorldManager world = instance;
+        if (world == null) {
+            synchronized (WorldManager.class) {
+                if (instance == null) {
+                    reset();
+                }
+                world = instance;
+            }
         }
-        return instance;
+        return world;
     }
 
     /**
@@ -64,12 +109,116 @@ public class WorldManager {
     private boolean started = false;
 
     /**
-     * Private constructor for singleton; initializes sub-managers.
+     * Set once the player's health has run out; the world is never ticked again afterwards.
+     */
+    private boolean over = false;
+
+    /**
+     * True when the world runs without rendering, UI or input (replays, batch tools).
+     */
+    private final boolean headless;
+
+    /**
+     * Number of simulation ticks per second this world was created with.
+     */
+    private final int tickRate;
+
+    /**
+     * Length of one simulation tick in seconds.
+     */
+    private final double tickDuration;
+
+    /**
+     * Number of ticks completed since {@link #start()}.
+     */
+    private long tick = 0;
+
+    /**
+     * Real frame time not yet consumed by whole ticks (interactive worlds only).
+     */
+    private double accumulator = 0;
+
+    /**
+     * Upper bound of ticks run per rendered frame so a long stall cannot snowball.
+     */
+    private static final int MAX_TICKS_PER_FRAME = 5;
+
+    /**
+     * Entity world holding map tiles, enemies, towers and projectiles of this match.
+     */
+    private final GameWorld gameWorld;
+
+    /**
+     * Hands the views of entities near the viewport to the game scene; {@code null} for headless worlds.
+     */
+    @Getter(AccessLevel.NONE)
+    private final EntityCuller culler;
+
+    /**
+     * Enemies bucketed by position once per tick, for targeting and area queries.
+     */
+    private final EnemyGrid enemyGrid;
+
+    /**
+     * Projectile–enemy collision detection for {@link #gameWorld}, run once per tick.
+     */
+    private final ProjectileEnemyBroadphase collisions;
+
+    /**
+     * Hits found by {@link #collisions} during a tick, resolved at the end of the tick.
+     */
+    private final DamageBuffer damage;
+
+    /**
+     * Slows, burns and shred of the enemies, advanced once per tick.
      */
-    private WorldManager() {
-        mapManager = new MapManager();
-        enemyManager = new EnemyManager();
-        playerVariableHandler = new PlayerVariableHandler();
+    private final StatusEffects statusEffects;
+
+    /**
+     * Counters of homing projectiles that lost their target, reset with the match.
+     */
+    private final ProjectileStats projectileStats = new ProjectileStats();
+
+    /**
+     * Records player commands and per-tick state hashes; {@code null} for headless worlds
+     * and for matches resumed from a save, which cannot be replayed from tick zero.
+     */
+    private ReplayRecorder replayRecorder;
+
+    /**
+     * Private constructor; initializes sub-managers, handing each of them this world.
+     */
+    private WorldManager(String mapId, GameMap map, int tickRate, boolean headless, WaveScript waves) {
+        this.headless = headless;
+        this.tickRate = tickRate;
+        this.tickDuration = 1.0 / tickRate;
+
+        gameWorld = new GameWorld();
+        if (!headless) {
+            /* The game scene turns entity views into scene-graph nodes, exactly as for FXGL's own
+             * world, but only for the entities the culler lets through. */
+            culler = new EntityCuller(getGameScene());
+            gameWorld.addWorldListener(culler);
+        } else {
+            culler = null;
+        }
+
+        mapManager = new MapManager(this, mapId, map);
+
+        enemyGrid = new EnemyGrid(this);
+        gameWorld.addWorldListener(enemyGrid);
+        damage = new DamageBuffer(this);
+        statusEffects = new StatusEffects(damage);
+        collisions = new ProjectileEnemyBroadphase(new ProjectileEnemyCollisionHandler(damage, statusEffects, enemyGrid)::onCollision);
+        gameWorld.addWorldListener(collisions);
+
+        enemyManager = new EnemyManager(this, waves);
+        playerVariableHandler = new PlayerVariableHandler(this);
+        replayRecorder = headless ? null : new ReplayRecorder(mapId, tickRate);
+        if (!headless) {
+            initSaveInput();
+            initCullingInput();
+        }
     }
 
     /**
@@ -78,13 +227,189 @@ public class WorldManager {
      * <p>This method is idempotent: if the world has already been started, calling it again does nothing.</p>
      */
     public void start(){
-        if(started){
+        if(started || over){
             return;
         }
         started = true;
         enemyManager.start();
     }
 
+    /**
+     * Feed real frame time into the fixed-step simulation.
+     *
+     * <p>Runs as many whole ticks as the accumulated time allows (capped at
+     * {@link #MAX_TICKS_PER_FRAME}) and keeps the remainder for the next frame. The visible
+     * map chunks and the culled entity views are refreshed every frame, also before the match
+     * starts.</p>
+     *
+     * @param tpf seconds elapsed since the previous frame
+     */
+    public void update(double tpf) {
+        mapManager.updateVisibleChunks();
+        if (started) {
+            accumulator += tpf;
+            int steps = 0;
+            while (accumulator >= tickDuration && started) {
+                tick();
+                accumulator -= tickDuration;
+                if (++steps == MAX_TICKS_PER_FRAME) {
+                    accumulator = 0;
+                    break;
+                }
+            }
+        }
+        if (culler != null) {
+            culler.update();
+        }
+    }
+
+    /**
+     * Advance the simulation by exactly one tick.
+     *
+     * <p>Order is fixed: wave spawning, status effects, enemy grid rebuild, entity updates,
+     * collisions, then damage resolution, which also applies the burn damage of the tick.
+     * Replays depend on this order staying the same between recording and playback.</p>
+     */
+    public void tick() {
+        if (!started) {
+            return;
+        }
+        enemyManager.onUpdate(tickDuration);
+        statusEffects.update(tickDuration);
+        enemyGrid.rebuild(tickDuration);
+        gameWorld.onUpdate(tickDuration);
+        collisions.update();
+        damage.resolve();
+        tick++;
+
+        if (replayRecorder != null) {
+            replayRecorder.recordTick(this);
+        }
+    }
+
+    /**
+     * Resume a match restored from a save at the given tick.
+     *
+     * <p>Marks the world as running again, clears a pending game over and stops replay
+     * recording, because the recording no longer starts from an empty map.</p>
+     *
+     * @param tick number of ticks the saved match had completed
+     */
+    public void resumeFrom(long tick) {
+        this.tick = tick;
+        this.accumulator = 0;
+        this.over = false;
+        this.started = true;
+        this.replayRecorder = null;
+        if (gameOverOverlay != null) {
+            getGameScene().removeUINode(gameOverOverlay);
+            gameOverOverlay = null;
+        }
+    }
+
+    /**
+     * Start the match over on this world, keeping everything that does not change between matches.
+     *
+     * <p>The parsed map, its tile geometry and rendered chunks, the decoded textures, the UI
+     * and the input bindings stay as they are, and the background music keeps playing. Only
+     * the mutable match state is reset: enemies, projectiles and towers are removed, money and
+     * health return to their starting values, waves begin again from the first one and a new
+     * replay recording starts. The side bar shows the {@link StartPanel} again, just as after
+     * a fresh launch. The time taken is printed so it can be compared with the startup report.</p>
+     */
+    public void restart() {
+        long begin = System.nanoTime();
+        clearDynamicEntities();
+        playerVariableHandler.restore(Constants.START_MONEY, Constants.START_HEALTH);
+        enemyManager.reset();
+        projectileStats.reset();
+        tick = 0;
+        accumulator = 0;
+        started = false;
+        over = false;
+        replayRecorder = headless ? null : new ReplayRecorder(mapManager.getMapId(), tickRate);
+        if (!headless) {
+            if (gameOverOverlay != null) {
+                getGameScene().removeUINode(gameOverOverlay);
+                gameOverOverlay = null;
+            }
+            UIManager.get().getSideBar().show(new StartPanel());
+            System.out.printf("Restarted in %.2f ms%n", (System.nanoTime() - begin) / 1e6);
+        }
+    }
+
+    /**
+     * Remove every enemy, projectile and tower, leaving only the map.
+     *
+     * <p>Tower tiles are released and redrawn as free ground.</p>
+     */
+    public void clearDynamicEntities() {
+        for (Entity entity : gameWorld.getEntitiesByType(EntityType.ENEMY, EntityType.PROJECTILE)) {
+            entity.removeFromWorld();
+        }
+        TileStates tiles = mapManager.getGameMap().getTileStates();
+        List<GroundComponent> cleared = new ArrayList<>();
+        tiles.forEachTower(tower -> {
+            cleared.add(tower.getComponent(GroundComponent.class));
+            tower.removeFromWorld();
+        });
+        tiles.clear();
+        for (GroundComponent tile : cleared) {
+            mapManager.tileChanged(tile.getTileX(), tile.getTileY());
+        }
+    }
+
+    /**
+     * Binds quick save (F5) and quick load (F9) to {@link WorldSaveFile#QUICK_SAVE}.
+     *
+     * <p>Timings are printed so save and load cost can be tracked on large worlds.</p>
+     */
+    private void initSaveInput() {
+        PublicUserAction quickSave = new PublicUserAction() {
+            @Override
+            public void onActionBegin() {
+                if (!started) {
+                    return;
+                }
+                try {
+                    WorldSaveFile.Stats stats = WorldSaveFile.save(WorldManager.this, WorldSaveFile.QUICK_SAVE);
+                    System.out.println("Saved " + stats);
+                } catch (IOException e) {
+                    System.err.println("Could not save: " + e.getMessage());
+                }
+            }
+        };
+        PublicUserAction quickLoad = new PublicUserAction() {
+            @Override
+            public void onActionBegin() {
+                try {
+                    WorldSaveFile.Stats stats = WorldSaveFile.load(WorldManager.this, WorldSaveFile.QUICK_SAVE);
+                    System.out.println("Loaded " + stats);
+                } catch (IOException e) {
+                    System.err.println("Could not load: " + e.getMessage());
+                }
+            }
+        };
+
+        InputManager.get().registerKeyboardInput(new InputManager.KeyboardInput(quickSave, KeyCode.F5));
+        InputManager.get().registerKeyboardInput(new InputManager.KeyboardInput(quickLoad, KeyCode.F9));
+    }
+
+    /**
+     * Binds F3 to print how many entity views are in the scene and how many are culled,
+     * together with the orphaned projectile counters.
+     */
+    private void initCullingInput() {
+        PublicUserAction report = new PublicUserAction() {
+            @Override
+            public void onActionBegin() {
+                System.out.println("Culling: " + culler.stats());
+                System.out.println("Projectiles: " + projectileStats);
+            }
+        };
+        InputManager.get().registerKeyboardInput(new InputManager.KeyboardInput(report, KeyCode.F3));
+    }
+
     /**
      * UI overlay shown when the game is over.
      *
@@ -99,16 +424,39 @@ public class WorldManager {
      */
     public void gameOver(){
         started = false;
+        over = true;
+        if (headless) {
+            return;
+        }
+        saveReplay();
         showGameOverScreen();
     }
 
+    /**
+     * Write the finished match to {@code replays/} in the working directory.
+     *
+     * <p>Failures are reported but never interrupt the game over flow.</p>
+     */
+    private void saveReplay() {
+        if (replayRecorder == null) {
+            return;
+        }
+        Path file = Path.of("replays", "match-" + System.currentTimeMillis() + ".replay");
+        try {
+            replayRecorder.toLog().write(file);
+            System.out.println("Replay saved to " + file.toAbsolutePath());
+        } catch (IOException e) {
+            System.err.println("Could not save replay: " + e.getMessage());
+        }
+    }
+
     /**
      * Build and display a modal-style Game Over overlay using JavaFX nodes.
      *
      * <p>Behavior:
      * - Prevents duplicate overlays by checking {@link #gameOverOverlay}.
      * - Shows a dimming background and a centered panel with title, message and two buttons:
-     *   "Play Again" (restarts the game) and "Exit" (exits the application).
+     *   "Play Again" (restarts the match through {@link #restart()}) and "Exit" (exits the application).
      * - Message displays the number of waves survived via {@link EnemyManager#getWave()}.</p>
      *
      * <p>Note: This method should be called on the JavaFX application thread.</p>
@@ -170,9 +518,7 @@ public class WorldManager {
 
         
         retryBtn.setOnAction(e -> {
-            getGameScene().removeUINode(gameOverOverlay);
-            gameOverOverlay = null;
-            getGameController().startNewGame();
+            restart();
         });
 
         
@@ -191,11 +537,54 @@ public class WorldManager {
     }
 
     /**
-     * Reset the singleton instance to a fresh WorldManager.
+     * Replace the interactive world with a fresh WorldManager.
      *
      * <p>Useful for restarting the game from scratch (e.g., tests or full reset).</p>
      */
     public static void reset() {
-        instance = new WorldManager();
+        reset(MapManager.load(Constants.MAIN_MAP_ID), WaveScript.load(Constants.MAIN_MAP_ID));
+    }
+
+    /**
+     * Replace the interactive world with a fresh WorldManager on an already loaded map.
+     *
+     * <p>Lets startup parse the map and wave script on background threads and only build the
+     * world on the application thread.</p>
+     *
+     * @param map   the main map, as returned by {@link MapManager#load(String)}
+     * @param waves the main map's wave script
+     */
+    public static void reset(GameMap map, WaveScript waves) {
+        instance = new WorldManager(Constants.MAIN_MAP_ID, map, Constants.TICKS_PER_SECOND, false, waves);
+    }
+
+    /**
+     * Create a headless world playing the map's own wave script.
+     *
+     * @param mapId    map resource name under {@code assets/text/maps/}
+     * @param tickRate simulation ticks per second
+     * @return the new world
+     * @see #createHeadless(String, int, WaveScript)
+     */
+    public static WorldManager createHeadless(String mapId, int tickRate) {
+        return createHeadless(mapId, tickRate, WaveScript.load(mapId));
+    }
+
+    /**
+     * Create a standalone headless world.
+     *
+     * <p>Headless worlds never touch the game scene, UI or input and are advanced only by
+     * explicit {@link #tick()} calls, which makes them suitable for replays and tooling
+     * running outside a started FXGL application. They are not registered anywhere: every
+     * manager and component of the world holds a reference to it, so several headless worlds
+     * can be simulated in parallel, each confined to one thread at a time.</p>
+     *
+     * @param mapId    map resource name under {@code assets/text/maps/}
+     * @param tickRate simulation ticks per second
+     * @param waves    waves of the match
+     * @return the new world
+     */
+    public static WorldManager createHeadless(String mapId, int tickRate, WaveScript waves) {
+        return new WorldManager(mapId, MapManager.load(mapId), tickRate, true, waves);
     }
 }
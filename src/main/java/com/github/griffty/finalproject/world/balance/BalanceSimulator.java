@@ -0,0 +1,291 @@
+package com.github.griffty.finalproject.world.balance;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WaveFormula;
+import com.github.griffty.finalproject.world.WaveScript;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import com.github.griffty.finalproject.world.map.TileGrid;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Batch tool that plays thousands of headless matches in parallel to tune the wave curve.
+ *
+ * <p>Usage: {@code BalanceSimulator [--runs N] [--threads T] [--max-wave W] [--seed S] [--jitter 0.25]}</p>
+ *
+ * <p>Every run gets its own {@link WaveFormula}, drawn by scaling each coefficient of
+ * {@link WaveFormula#DEFAULT} by a random factor within {@code ±jitter}, and its own random
+ * tower layout. Runs use the formula for every wave, skipping the map's scripted waves, so
+ * the results describe the curve alone. The simulated player builds random towers on random tiles near the road at
+ * the start and reinvests all money at the start of every wave. Runs end at game over or
+ * once {@code --max-wave} is reached.</p>
+ *
+ * <p>Each run owns a separate headless {@link WorldManager}, so runs share nothing but
+ * read-only registries and can use every core of one JVM. All random choices derive from
+ * the master seed, so a report can be reproduced exactly.</p>
+ *
+ * <p>The report leads with simulations per second, followed by the distribution of the wave
+ * reached and, per coefficient, the mean wave reached when the coefficient was below versus
+ * above its default value.</p>
+ */
+public class BalanceSimulator {
+    private static final String[] PARAMETERS = {
+            "baseCount", "countPerWave", "airPerWave", "minAirRatio", "maxAirRatio",
+            "hpPerWave", "baseInterval", "intervalDecay", "minInterval", "waveDuration",
+            "swarmEvery", "swarmPerWave"
+    };
+
+    /** Tiles farther than this (in tiles, Chebyshev distance) from the road are never built on. */
+    private static final int BUILD_RADIUS = 2;
+
+    /**
+     * Inputs of a single simulated match.
+     *
+     * @param seed    seed for layout choices
+     * @param formula wave curve of the match
+     * @param maxWave wave after which the run is stopped
+     */
+    public record RunConfig(long seed, WaveFormula formula, int maxWave) { }
+
+    /**
+     * Outcome of a single simulated match.
+     *
+     * @param config      inputs of the run
+     * @param wave        wave reached when the run ended
+     * @param capped      true when the run was stopped at the wave cap instead of a game over
+     * @param towersBuilt towers bought during the run
+     * @param ticks       simulated ticks
+     */
+    public record RunResult(RunConfig config, int wave, boolean capped, int towersBuilt, long ticks) { }
+
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        int runs = 1000;
+        int threads = Runtime.getRuntime().availableProcessors();
+        int maxWave = 60;
+        long seed = 1;
+        double jitter = 0.25;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--threads" -> threads = Integer.parseInt(args[++i]);
+                case "--max-wave" -> maxWave = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                case "--jitter" -> jitter = Double.parseDouble(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        SplittableRandom master = new SplittableRandom(seed);
+        List<RunConfig> configs = new ArrayList<>(runs);
+        for (int i = 0; i < runs; i++) {
+            configs.add(new RunConfig(master.nextLong(), jitter(WaveFormula.DEFAULT, master, jitter), maxWave));
+        }
+
+        long begin = System.nanoTime();
+        List<RunResult> results = new ArrayList<>(runs);
+        try (ExecutorService pool = Executors.newFixedThreadPool(threads)) {
+            List<Future<RunResult>> futures = new ArrayList<>(runs);
+            for (RunConfig config : configs) {
+                futures.add(pool.submit(() -> simulate(config)));
+            }
+            for (Future<RunResult> future : futures) {
+                results.add(future.get());
+            }
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        report(results, threads, seconds);
+    }
+
+    /**
+     * Plays one match headless on the calling thread.
+     *
+     * @param config inputs of the run
+     * @return outcome of the run
+     */
+    public static RunResult simulate(RunConfig config) {
+        WorldManager world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND, WaveScript.endless(config.formula()));
+        SplittableRandom random = new SplittableRandom(config.seed());
+        List<int[]> tiles = buildableTiles(world);
+        shuffle(tiles, random);
+        List<Class<? extends AbstractTowerComponent>> towerClasses = towerClasses();
+
+        int towersBuilt = 0;
+        int lastWave = -1;
+        world.start();
+        while (!world.isOver() && world.getEnemyManager().getWave() <= config.maxWave()) {
+            int wave = world.getEnemyManager().getWave();
+            if (wave != lastWave) {
+                towersBuilt += spendMoney(world, tiles, towerClasses, random);
+                lastWave = wave;
+            }
+            world.tick();
+        }
+
+        int wave = Math.min(world.getEnemyManager().getWave(), config.maxWave());
+        return new RunResult(config, wave, !world.isOver(), towersBuilt, world.getTick());
+    }
+
+    /**
+     * Buys random towers on the next free tiles until the player runs out of money or tiles.
+     *
+     * @return number of towers bought
+     */
+    private static int spendMoney(WorldManager world, List<int[]> tiles, List<Class<? extends AbstractTowerComponent>> towerClasses,
+                                  SplittableRandom random) {
+        int bought = 0;
+        while (!tiles.isEmpty()) {
+            Class<? extends AbstractTowerComponent> choice = towerClasses.get(random.nextInt(towerClasses.size()));
+            int[] tile = tiles.getLast();
+            if (TowerHelper.addTower(world, choice, tile[0], tile[1]).isEmpty()
+                    && TowerHelper.addTower(world, towerClasses.getFirst(), tile[0], tile[1]).isEmpty()) {
+                return bought;
+            }
+            tiles.removeLast();
+            bought++;
+        }
+        return bought;
+    }
+
+    /**
+     * Ground tiles within {@link #BUILD_RADIUS} of a road tile as {@code {x, y}}, in row-major order.
+     */
+    private static List<int[]> buildableTiles(WorldManager world) {
+        TileGrid grid = world.getMapManager().getGameMap().getTiles();
+        List<int[]> tiles = new ArrayList<>();
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.isGround(x, y) && nearRoad(grid, x, y)) {
+                    tiles.add(new int[]{x, y});
+                }
+            }
+        }
+        return tiles;
+    }
+
+    private static boolean nearRoad(TileGrid grid, int x, int y) {
+        for (int dy = -BUILD_RADIUS; dy <= BUILD_RADIUS; dy++) {
+            for (int dx = -BUILD_RADIUS; dx <= BUILD_RADIUS; dx++) {
+                if (grid.isRoad(x + dx, y + dy)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Registered tower classes, cheapest first, in a stable order so runs are reproducible.
+     */
+    private static List<Class<? extends AbstractTowerComponent>> towerClasses() {
+        List<Map.Entry<Class<? extends AbstractTowerComponent>, TowerHelper.TowerInfo>> entries =
+                new ArrayList<>(TowerHelper.getTowerInfoMap().entrySet());
+        entries.sort(Comparator.comparingInt(e -> e.getValue().price() * TowerType.values().length + e.getValue().type().ordinal()));
+
+        List<Class<? extends AbstractTowerComponent>> classes = new ArrayList<>();
+        for (Map.Entry<Class<? extends AbstractTowerComponent>, TowerHelper.TowerInfo> entry : entries) {
+            classes.add(entry.getKey());
+        }
+        return classes;
+    }
+
+    private static <T> void shuffle(List<T> list, SplittableRandom random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            T tmp = list.get(i);
+            list.set(i, list.get(j));
+            list.set(j, tmp);
+        }
+    }
+
+    /**
+     * Scales every coefficient of a formula by a random factor in {@code [1 - amount, 1 + amount]}.
+     */
+    private static WaveFormula jitter(WaveFormula base, SplittableRandom random, double amount) {
+        double[] v = values(base);
+        for (int i = 0; i < v.length; i++) {
+            v[i] *= 1 + random.nextDouble(-amount, amount);
+        }
+        /* Keep the air share bounds ordered. */
+        if (v[3] > v[4]) {
+            double tmp = v[3];
+            v[3] = v[4];
+            v[4] = tmp;
+        }
+        return new WaveFormula(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9], v[10], v[11]);
+    }
+
+    private static double[] values(WaveFormula f) {
+        return new double[]{
+                f.baseCount(), f.countPerWave(), f.airPerWave(), f.minAirRatio(), f.maxAirRatio(),
+                f.hpPerWave(), f.baseInterval(), f.intervalDecay(), f.minInterval(), f.waveDuration(),
+                f.swarmEvery(), f.swarmPerWave()
+        };
+    }
+
+    /**
+     * Prints throughput, the wave distribution and per-coefficient sensitivity.
+     */
+    private static void report(List<RunResult> results, int threads, double seconds) {
+        long ticks = results.stream().mapToLong(RunResult::ticks).sum();
+        System.out.printf("%d runs on %d threads in %.2f s: %.1f sims/s, %.0f ticks/s%n",
+                results.size(), threads, seconds, results.size() / seconds, ticks / seconds);
+
+        int[] waves = results.stream().mapToInt(RunResult::wave).sorted().toArray();
+        long capped = results.stream().filter(RunResult::capped).count();
+        System.out.printf("wave reached: mean %.2f, p10 %d, p50 %d, p90 %d, max %d (%d runs hit the cap)%n",
+                Arrays.stream(waves).average().orElse(0),
+                percentile(waves, 10), percentile(waves, 50), percentile(waves, 90),
+                waves.length == 0 ? 0 : waves[waves.length - 1], capped);
+
+        int maxWave = waves.length == 0 ? 0 : waves[waves.length - 1];
+        int[] histogram = new int[maxWave + 1];
+        for (int wave : waves) {
+            histogram[wave]++;
+        }
+        int peak = Arrays.stream(histogram).max().orElse(1);
+        for (int wave = 0; wave <= maxWave; wave++) {
+            if (histogram[wave] > 0) {
+                System.out.printf("%4d | %-50s %d%n", wave, "#".repeat(Math.max(1, histogram[wave] * 50 / peak)), histogram[wave]);
+            }
+        }
+
+        System.out.println("coefficient sensitivity (mean wave below / above default):");
+        double[] defaults = values(WaveFormula.DEFAULT);
+        for (int p = 0; p < PARAMETERS.length; p++) {
+            double belowSum = 0, aboveSum = 0;
+            int below = 0, above = 0;
+            for (RunResult result : results) {
+                if (values(result.config().formula())[p] < defaults[p]) {
+                    belowSum += result.wave();
+                    below++;
+                } else {
+                    aboveSum += result.wave();
+                    above++;
+                }
+            }
+            System.out.printf("  %-14s %6.2f / %6.2f%n", PARAMETERS[p],
+                    below == 0 ? 0 : belowSum / below, above == 0 ? 0 : aboveSum / above);
+        }
+    }
+
+    private static int percentile(int[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+}
@@ -0,0 +1,113 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+
+import java.util.Arrays;
+
+/**
+ * Collects the hits of one tick and resolves them in a single pass.
+ *
+ * <p>Collision detection only {@link #add records} hits. {@link #resolve()} then applies them
+ * in the order they were recorded: damage, increased by any shred the enemy carries (see
+ * {@link StatusEffects#amplify}), is subtracted from each enemy's health, and the hit
+ * that takes an enemy from positive health to zero or below is its killing blow, credited
+ * to the tower that fired it. Hits landing on an enemy already killed earlier in the same
+ * pass do nothing. Afterwards the dead enemies are {@link AbstractEnemyComponent#killed()
+ * taken out} of the world, and their rewards are paid with one
+ * {@link com.github.griffty.finalproject.world.PlayerVariableHandler#addMoney} call, so the side
+ * bar is refreshed at most once per tick however many enemies die.</p>
+ *
+ * <p>A horde loses its front member as soon as the front dies, so the hits after it land on
+ * the member behind, as they would on the next single enemy in line, and every member killed
+ * is credited and paid. What is left of the killing hit is dropped, as it is for a single
+ * enemy.</p>
+ *
+ * <p>Hits are kept in flat arrays that are reused between ticks. Owned by
+ * {@link WorldManager} and only used on the thread ticking that world.</p>
+ */
+public final class DamageBuffer {
+    private final WorldManager world;
+
+    private AbstractEnemyComponent[] enemies = new AbstractEnemyComponent[64];
+    private int[] amounts = new int[64];
+    private AbstractTowerComponent[] towers = new AbstractTowerComponent[64];
+    private int size;
+
+    /** Enemies killed by the current pass that leave the world, in order of death. */
+    private AbstractEnemyComponent[] killed = new AbstractEnemyComponent[64];
+
+    /**
+     * @param world world whose player is paid the rewards
+     */
+    public DamageBuffer(WorldManager world) {
+        this.world = world;
+    }
+
+    /**
+     * Records a hit to be applied by the next {@link #resolve()}.
+     *
+     * @param enemy  enemy that was hit
+     * @param amount damage dealt
+     * @param tower  tower that fired the hit, or {@code null} if it no longer exists
+     */
+    public void add(AbstractEnemyComponent enemy, int amount, AbstractTowerComponent tower) {
+        if (size == enemies.length) {
+            enemies = Arrays.copyOf(enemies, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+            towers = Arrays.copyOf(towers, size * 2);
+        }
+        enemies[size] = enemy;
+        amounts[size] = amount;
+        towers[size] = tower;
+        size++;
+    }
+
+    /**
+     * Applies every recorded hit, removes the enemies that died, credits their killers, pays
+     * their rewards and empties the buffer.
+     *
+     * @return number of enemies killed
+     */
+    public int resolve() {
+        int deaths = 0;
+        int removed = 0;
+        int reward = 0;
+        for (int i = 0; i < size; i++) {
+            AbstractEnemyComponent enemy = enemies[i];
+            if (enemy.getHealth() <= 0) {
+                continue;
+            }
+            enemy.setHealth(enemy.getHealth() - world.getStatusEffects().amplify(enemy, amounts[i]));
+            if (enemy.getHealth() <= 0) {
+                if (towers[i] != null) {
+                    towers[i].enemyKilled();
+                }
+                deaths++;
+                reward += enemy.getReward();
+                if (enemy instanceof HordeEnemyComponent horde && horde.getCount() > 1) {
+                    horde.killed();
+                    continue;
+                }
+                if (removed == killed.length) {
+                    killed = Arrays.copyOf(killed, removed * 2);
+                }
+                killed[removed++] = enemy;
+            }
+        }
+        Arrays.fill(enemies, 0, size, null);
+        Arrays.fill(towers, 0, size, null);
+        size = 0;
+
+        for (int i = 0; i < removed; i++) {
+            killed[i].killed();
+            killed[i] = null;
+        }
+        if (reward > 0) {
+            world.getPlayerVariableHandler().addMoney(reward);
+        }
+        return deaths;
+    }
+}
@@ -0,0 +1,64 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+
+import java.util.Arrays;
+
+/**
+ * Reusable list of enemies filled by {@link EnemyGrid} queries.
+ *
+ * <p>A caller keeps one buffer and passes it to every query, which clears it first, so
+ * repeated queries do not allocate once the buffer has grown to the largest result.</p>
+ */
+public final class EnemyBuffer {
+    private AbstractEnemyComponent[] enemies = new AbstractEnemyComponent[16];
+    private int size;
+
+    /**
+     * @return number of enemies in the buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index position below {@link #size()}
+     * @return enemy at that position
+     */
+    public AbstractEnemyComponent get(int index) {
+        return enemies[index];
+    }
+
+    /**
+     * @param enemy enemy to look for
+     * @return true if the buffer holds this enemy
+     */
+    public boolean contains(AbstractEnemyComponent enemy) {
+        for (int i = 0; i < size; i++) {
+            if (enemies[i] == enemy) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends an enemy.
+     *
+     * @param enemy enemy to add
+     */
+    public void add(AbstractEnemyComponent enemy) {
+        if (size == enemies.length) {
+            enemies = Arrays.copyOf(enemies, size * 2);
+        }
+        enemies[size++] = enemy;
+    }
+
+    /**
+     * Empties the buffer, dropping its references.
+     */
+    public void clear() {
+        Arrays.fill(enemies, 0, size, null);
+        size = 0;
+    }
+}
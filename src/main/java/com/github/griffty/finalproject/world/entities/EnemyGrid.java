@@ -0,0 +1,361 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.map.GameMap;
+import javafx.geometry.Point2D;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Uniform grid over the enemies of a world, answering radius, closest-enemy and
+ * neighbour-separation queries without scanning every enemy.
+ *
+ * <p>The grid is registered as an entity world listener to know the enemies, and
+ * {@link #rebuild(double)} buckets them into tile-sized cells once per tick, before the
+ * entities are updated, with a counting sort into flat arrays. Queries only visit the cells
+ * their circle can reach and test the enemies' current positions, so they stay exact while
+ * the enemies move during the tick: every query is widened by the farthest an enemy can move
+ * in one tick. Enemies outside the map are kept in the border cells.</p>
+ *
+ * <p>Enemies keep the order they were added in, which is the world's entity order, and the
+ * counting sort keeps that order within a cell. Results come back in cell order and then in
+ * that order, and {@link #closest} prefers the enemy added first among equally close ones, so
+ * queries only depend on positions and the world order. A loaded save adds its enemies back
+ * in world order (see {@link com.github.griffty.finalproject.world.save.WorldSaveFile}), so a
+ * resumed match queries the same as the uninterrupted one. Apart from the vector a separation
+ * query returns, neither rebuilding nor querying allocates once the arrays have grown to the
+ * enemy count. Owned by {@link WorldManager} and only used on the thread ticking that world.</p>
+ */
+public final class EnemyGrid implements EntityWorldListener {
+    /** Edge length of a cell in world units. */
+    public static final double CELL_SIZE = Constants.TILE_SIZE;
+
+    private final WorldManager world;
+
+    /**
+     * Enemies in the world in the order they were added. Removed enemies leave an empty slot
+     * until more than half the slots are empty.
+     */
+    private AbstractEnemyComponent[] enemies = new AbstractEnemyComponent[64];
+    /** Slots in use, empty ones included. */
+    private int slotCount;
+    private int size;
+    private final Map<Entity, Integer> slots = new IdentityHashMap<>();
+
+    /** Enemies of the last rebuild, ordered by cell. */
+    private AbstractEnemyComponent[] sorted = new AbstractEnemyComponent[64];
+    /** Slot each enemy of {@link #sorted} had at the rebuild, which orders them as they were added. */
+    private int[] sortedSlot = new int[64];
+    /** Cell of each enemy slot during a rebuild, -1 for empty slots. */
+    private int[] cellOf = new int[64];
+    private int count;
+    /** Index into {@link #sorted} where each cell starts; one entry more than there are cells. */
+    private int[] cellStart = new int[1];
+    private int[] cursor = new int[0];
+    private int cols = 1;
+    private int rows = 1;
+
+    /** Largest collision radius among the enemies of the last rebuild. */
+    private double maxRadius;
+    /** Farthest any enemy of the last rebuild can move in one tick. */
+    private double maxStep;
+
+    /**
+     * @param world world whose map bounds the grid
+     */
+    public EnemyGrid(WorldManager world) {
+        this.world = world;
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        if (entity.getType() != EntityType.ENEMY) {
+            return;
+        }
+        for (Component component : entity.getComponents()) {
+            if (component instanceof AbstractEnemyComponent enemy) {
+                if (slotCount == enemies.length) {
+                    enemies = Arrays.copyOf(enemies, slotCount * 2);
+                }
+                enemies[slotCount] = enemy;
+                slots.put(entity, slotCount++);
+                size++;
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        Integer slot = slots.remove(entity);
+        if (slot == null) {
+            return;
+        }
+        enemies[slot] = null;
+        size--;
+        if (size < slotCount / 2) {
+            compact();
+        }
+    }
+
+    /**
+     * Closes the empty slots, keeping the enemies in order.
+     */
+    private void compact() {
+        int kept = 0;
+        for (int i = 0; i < slotCount; i++) {
+            if (enemies[i] == null) {
+                continue;
+            }
+            if (i != kept) {
+                enemies[kept] = enemies[i];
+                slots.put(enemies[kept].getEntity(), kept);
+            }
+            kept++;
+        }
+        Arrays.fill(enemies, kept, slotCount, null);
+        slotCount = kept;
+    }
+
+    /**
+     * Buckets the current enemies into cells.
+     *
+     * @param tpf length of the tick the grid is used for, in seconds
+     */
+    public void rebuild(double tpf) {
+        GameMap map = world.getMapManager().getGameMap();
+        cols = Math.max(1, (int) Math.ceil(map.getWorldWidth() / CELL_SIZE));
+        rows = Math.max(1, (int) Math.ceil(map.getWorldHeight() / CELL_SIZE));
+        int cells = cols * rows;
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+            cursor = new int[cells];
+        }
+        if (sorted.length < size) {
+            int capacity = Math.max(size, sorted.length * 2);
+            sorted = Arrays.copyOf(sorted, capacity);
+            sortedSlot = new int[capacity];
+        }
+        if (cellOf.length < slotCount) {
+            cellOf = new int[Math.max(slotCount, cellOf.length * 2)];
+        }
+
+        Arrays.fill(cellStart, 0, cells + 1, 0);
+        maxRadius = 0;
+        maxStep = 0;
+        for (int i = 0; i < slotCount; i++) {
+            AbstractEnemyComponent enemy = enemies[i];
+            if (enemy == null) {
+                cellOf[i] = -1;
+                continue;
+            }
+            Entity entity = enemy.getEntity();
+            int cell = cellY(entity.getY()) * cols + cellX(entity.getX());
+            cellOf[i] = cell;
+            cellStart[cell + 1]++;
+            maxRadius = Math.max(maxRadius, enemy.getCollisionRadius());
+            maxStep = Math.max(maxStep, enemy.getSpeed() * tpf);
+        }
+        for (int c = 0; c < cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        System.arraycopy(cellStart, 0, cursor, 0, cells);
+
+        if (count > size) {
+            Arrays.fill(sorted, size, count, null);
+        }
+        for (int i = 0; i < slotCount; i++) {
+            if (cellOf[i] >= 0) {
+                int k = cursor[cellOf[i]]++;
+                sorted[k] = enemies[i];
+                sortedSlot[k] = i;
+            }
+        }
+        count = size;
+    }
+
+    /**
+     * Collects the enemies whose collision circle overlaps a circle.
+     *
+     * @param x      centre x in world units
+     * @param y      centre y in world units
+     * @param radius circle radius
+     * @param out    buffer to fill; cleared first
+     * @return number of enemies found
+     */
+    public int within(double x, double y, double radius, EnemyBuffer out) {
+        out.clear();
+        if (count == 0) {
+            return 0;
+        }
+        /* Cells hold clamped positions; clamping never increases distances, so a box around
+         * the clamped centre covers every enemy that can be in reach. */
+        double reach = radius + maxRadius + maxStep;
+        double qx = Math.clamp(x, 0, cols * CELL_SIZE);
+        double qy = Math.clamp(y, 0, rows * CELL_SIZE);
+        int x0 = cellX(qx - reach);
+        int x1 = cellX(qx + reach);
+        int y0 = cellY(qy - reach);
+        int y1 = cellY(qy + reach);
+        for (int gy = y0; gy <= y1; gy++) {
+            for (int gx = x0; gx <= x1; gx++) {
+                int cell = gy * cols + gx;
+                for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                    AbstractEnemyComponent enemy = sorted[k];
+                    Entity entity = enemy.getEntity();
+                    if (!entity.isActive()) {
+                        continue;
+                    }
+                    double dx = entity.getX() - x;
+                    double dy = entity.getY() - y;
+                    double r = radius + enemy.getCollisionRadius();
+                    if (dx * dx + dy * dy <= r * r) {
+                        out.add(enemy);
+                    }
+                }
+            }
+        }
+        return out.size();
+    }
+
+    /**
+     * Finds the enemy whose centre is closest to a point, closer than a range, that passes a filter.
+     *
+     * <p>Cells are visited in rings around the point's cell and the search stops once a ring
+     * cannot hold anything closer than the best match, so a long range costs little when an
+     * enemy is near. Of equally close enemies the one added to the world first wins. The
+     * filter is only evaluated for enemies that would beat the best match so far.</p>
+     *
+     * @param x      point x in world units
+     * @param y      point y in world units
+     * @param range  exclusive maximum distance between the point and an enemy's centre
+     * @param filter condition an enemy must satisfy to be returned
+     * @return the closest matching enemy, or {@code null} if there is none
+     */
+    public AbstractEnemyComponent closest(double x, double y, double range, Predicate<AbstractEnemyComponent> filter) {
+        if (count == 0) {
+            return null;
+        }
+        int cx = cellX(x);
+        int cy = cellY(y);
+        int rings = (int) Math.ceil((range + maxStep) / CELL_SIZE) + 1;
+        AbstractEnemyComponent best = null;
+        int bestSlot = 0;
+        double bestDistance = range;
+        for (int ring = 0; ring <= rings; ring++) {
+            /* An enemy in this ring was at least ring - 1 cells away at the rebuild. */
+            if ((ring - 1) * CELL_SIZE - maxStep > bestDistance) {
+                break;
+            }
+            int x0 = cx - ring;
+            int x1 = cx + ring;
+            int y0 = cy - ring;
+            int y1 = cy + ring;
+            if (x0 < 0 && y0 < 0 && x1 >= cols && y1 >= rows) {
+                break;
+            }
+            for (int gy = Math.max(y0, 0); gy <= Math.min(y1, rows - 1); gy++) {
+                /* Inside rows of the ring only have their two end cells. */
+                int step = gy == y0 || gy == y1 ? 1 : x1 - x0;
+                for (int gx = x0; gx <= x1; gx += step) {
+                    if (gx < 0 || gx >= cols) {
+                        continue;
+                    }
+                    int cell = gy * cols + gx;
+                    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                        AbstractEnemyComponent enemy = sorted[k];
+                        Entity entity = enemy.getEntity();
+                        if (!entity.isActive()) {
+                            continue;
+                        }
+                        double dx = entity.getX() - x;
+                        double dy = entity.getY() - y;
+                        double distance = Math.sqrt(dx * dx + dy * dy);
+                        boolean closer = distance < bestDistance
+                                || best != null && distance == bestDistance && sortedSlot[k] < bestSlot;
+                        if (closer && filter.test(enemy)) {
+                            bestDistance = distance;
+                            bestSlot = sortedSlot[k];
+                            best = enemy;
+                        }
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Sums the pushes an enemy gets from the enemies of its own type around it, for
+     * separation steering.
+     *
+     * <p>Every other enemy of the same type whose centre is closer than {@code radius} pushes
+     * away from itself with a strength falling linearly from one when touching to zero at
+     * {@code radius}. Enemies exactly on top of each other do not push.</p>
+     *
+     * @param enemy  enemy being steered
+     * @param radius distance between centres below which enemies push
+     * @return sum of the pushes, in units of the strongest single push
+     */
+    public Point2D separation(AbstractEnemyComponent enemy, double radius) {
+        Entity self = enemy.getEntity();
+        double x = self.getX();
+        double y = self.getY();
+        double pushX = 0;
+        double pushY = 0;
+        if (count > 0) {
+            double reach = radius + maxStep;
+            double qx = Math.clamp(x, 0, cols * CELL_SIZE);
+            double qy = Math.clamp(y, 0, rows * CELL_SIZE);
+            int x0 = cellX(qx - reach);
+            int x1 = cellX(qx + reach);
+            int y0 = cellY(qy - reach);
+            int y1 = cellY(qy + reach);
+            for (int gy = y0; gy <= y1; gy++) {
+                for (int gx = x0; gx <= x1; gx++) {
+                    int cell = gy * cols + gx;
+                    for (int k = cellStart[cell]; k < cellStart[cell + 1]; k++) {
+                        AbstractEnemyComponent other = sorted[k];
+                        Entity entity = other.getEntity();
+                        if (other == enemy || other.getEnemyType() != enemy.getEnemyType() || !entity.isActive()) {
+                            continue;
+                        }
+                        double dx = x - entity.getX();
+                        double dy = y - entity.getY();
+                        double distanceSquared = dx * dx + dy * dy;
+                        if (distanceSquared > 0 && distanceSquared < radius * radius) {
+                            double distance = Math.sqrt(distanceSquared);
+                            double strength = (radius - distance) / (radius * distance);
+                            pushX += dx * strength;
+                            pushY += dy * strength;
+                        }
+                    }
+                }
+            }
+        }
+        return new Point2D(pushX, pushY);
+    }
+
+    /**
+     * @return number of enemies in the world
+     */
+    public int size() {
+        return size;
+    }
+
+    private int cellX(double x) {
+        return Math.clamp((long) Math.floor(x / CELL_SIZE), 0, cols - 1);
+    }
+
+    private int cellY(double y) {
+        return Math.clamp((long) Math.floor(y / CELL_SIZE), 0, rows - 1);
+    }
+}
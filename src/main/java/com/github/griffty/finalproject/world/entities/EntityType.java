@@ -5,14 +5,14 @@ package com.github.griffty.finalproject.world.entities;
  *
  * <p>These types are used for collision handling, filtering, and runtime identification
  * of entities (for example in collision handlers and spawn logic). Extend this enum
- * when introducing new categories such as towers, obstacles, or pickups.</p>
+ * when introducing new categories such as obstacles or pickups.</p>
  */
 public enum EntityType {
     /**
-     * Ground / terrain tiles. Typically used for placement rules, pathfinding layers,
-     * or rendering; not usually treated as a dynamic actor in collisions.
+     * Towers standing on ground tiles. The terrain itself is not made of entities; a tower
+     * entity exists only while a tower occupies its tile.
      */
-    GROUND,
+    TOWER,
 
     /**
      * Enemy entities. Represents hostile units that traverse the map, take damage,
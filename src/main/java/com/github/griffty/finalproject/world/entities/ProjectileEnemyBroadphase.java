@@ -0,0 +1,379 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.world.entities.components.interfaces.ICollidable;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Finds projectiles hitting enemies with a sort-and-sweep over their collision circles.
+ *
+ * <p>Projectiles and enemies are the only pair of entity types that ever collide, so instead
+ * of FXGL's generic physics, which tests every pair of collidable entities, the broadphase is
+ * registered as an entity world listener and keeps the two types in separate flat arrays.
+ * Each {@link #update()} copies their circles (position and
+ * {@link ICollidable#getCollisionRadius() radius}) into primitive arrays, sorts both sets by
+ * the left edge of the area their circle swept this tick and sweeps along x with a list of
+ * enemies still reaching the current projectile. Only pairs that overlap on x are tested
+ * exactly, so the cost grows with the number of entities and near pairs rather than with
+ * projectiles times enemies.</p>
+ *
+ * <p>Detection is continuous: the position of every entity at the end of the previous update
+ * (or where it was added) is kept, and the exact test moves both circles linearly from there
+ * to where they are now. A fast projectile therefore cannot tunnel through a small enemy
+ * however long the tick is, and a projectile crossing several enemies in one tick hits the
+ * one it touches first.</p>
+ *
+ * <p>Hits are collected first and dispatched after the sweep, so the callback may remove
+ * entities. Each projectile hits at most one enemy per update: the one with the earliest time
+ * of impact among those still in the world, and of several touching at the same time the one
+ * added first. Entities keep their slots in the order they were added, which is the world's
+ * entity order, so sort keys and ties only depend on that order. A loaded save adds its
+ * entities back in world order (see {@link com.github.griffty.finalproject.world.save.WorldSaveFile}),
+ * so a resumed match dispatches the same hits as the uninterrupted one.</p>
+ */
+public final class ProjectileEnemyBroadphase implements EntityWorldListener {
+    /**
+     * Entities of one type with their collision shapes and previous positions, in the order they
+     * were added. Removed entities leave an empty slot until more than half the slots are empty.
+     */
+    private static final class Group {
+        private Entity[] entities = new Entity[64];
+        private ICollidable[] shapes = new ICollidable[64];
+        private double[] previousX = new double[64];
+        private double[] previousY = new double[64];
+        /** Slots in use, empty ones included. */
+        private int slotCount;
+        private int size;
+        private final Map<Entity, Integer> slots = new IdentityHashMap<>();
+
+        void add(Entity entity, ICollidable shape) {
+            if (slotCount == entities.length) {
+                entities = Arrays.copyOf(entities, slotCount * 2);
+                shapes = Arrays.copyOf(shapes, slotCount * 2);
+                previousX = Arrays.copyOf(previousX, slotCount * 2);
+                previousY = Arrays.copyOf(previousY, slotCount * 2);
+            }
+            entities[slotCount] = entity;
+            shapes[slotCount] = shape;
+            previousX[slotCount] = entity.getX();
+            previousY[slotCount] = entity.getY();
+            slots.put(entity, slotCount++);
+            size++;
+        }
+
+        void remove(Entity entity) {
+            Integer slot = slots.remove(entity);
+            if (slot == null) {
+                return;
+            }
+            entities[slot] = null;
+            shapes[slot] = null;
+            size--;
+            if (size < slotCount / 2) {
+                compact();
+            }
+        }
+
+        /**
+         * Closes the empty slots, keeping the entities in order.
+         */
+        private void compact() {
+            int kept = 0;
+            for (int i = 0; i < slotCount; i++) {
+                if (entities[i] == null) {
+                    continue;
+                }
+                if (i != kept) {
+                    entities[kept] = entities[i];
+                    shapes[kept] = shapes[i];
+                    previousX[kept] = previousX[i];
+                    previousY[kept] = previousY[i];
+                    slots.put(entities[kept], kept);
+                }
+                kept++;
+            }
+            Arrays.fill(entities, kept, slotCount, null);
+            Arrays.fill(shapes, kept, slotCount, null);
+            slotCount = kept;
+        }
+
+        /**
+         * Makes the current positions the start of the next update's movement.
+         */
+        void remember() {
+            for (int i = 0; i < slotCount; i++) {
+                if (entities[i] != null) {
+                    previousX[i] = entities[i].getX();
+                    previousY[i] = entities[i].getY();
+                }
+            }
+        }
+    }
+
+    /** Moving circles of one group, copied at the start of an update in slot order. */
+    private static final class Pass {
+        Entity[] entities = new Entity[0];
+        double[] x0 = new double[0];
+        double[] y0 = new double[0];
+        double[] x = new double[0];
+        double[] y = new double[0];
+        double[] radius = new double[0];
+        /** Sort key (left edge of the swept area) in the high 32 bits, index in the low 32 bits,
+         *  so equal edges keep the order the entities were added in. */
+        long[] order = new long[0];
+
+        void fill(Group group) {
+            int n = group.size;
+            if (entities.length < n) {
+                int capacity = Math.max(n, entities.length * 2);
+                entities = new Entity[capacity];
+                x0 = new double[capacity];
+                y0 = new double[capacity];
+                x = new double[capacity];
+                y = new double[capacity];
+                radius = new double[capacity];
+                order = new long[capacity];
+            }
+            int i = 0;
+            for (int slot = 0; slot < group.slotCount; slot++) {
+                Entity entity = group.entities[slot];
+                if (entity == null) {
+                    continue;
+                }
+                entities[i] = entity;
+                x0[i] = group.previousX[slot];
+                y0[i] = group.previousY[slot];
+                x[i] = entity.getX();
+                y[i] = entity.getY();
+                radius[i] = group.shapes[slot].getCollisionRadius();
+                order[i] = (long) sortKey((float) minX(i)) << 32 | i;
+                i++;
+            }
+            Arrays.sort(order, 0, n);
+        }
+
+        double minX(int i) {
+            return Math.min(x0[i], x[i]) - radius[i];
+        }
+
+        double maxX(int i) {
+            return Math.max(x0[i], x[i]) + radius[i];
+        }
+
+        void clear(int n) {
+            Arrays.fill(entities, 0, n, null);
+        }
+    }
+
+    private final Group projectiles = new Group();
+    private final Group enemies = new Group();
+    private final Pass projectilePass = new Pass();
+    private final Pass enemyPass = new Pass();
+    private final BiConsumer<Entity, Entity> onHit;
+
+    /** Enemies whose circle may still reach the current projectile, in sweep order. */
+    private int[] active = new int[64];
+    /** Hits found by the sweep as (projectile, enemy) index pairs. */
+    private int[] hits = new int[64];
+    /** Time of impact of each hit as a fraction of the update, 0 if already touching. */
+    private double[] impacts = new double[32];
+
+    /** Exact circle tests of the last update. */
+    @Getter private int lastPairTests;
+    /** Hits dispatched by the last update. */
+    @Getter private int lastHits;
+
+    /**
+     * @param onHit called with (projectile, enemy) for every hit, after the sweep has finished
+     */
+    public ProjectileEnemyBroadphase(BiConsumer<Entity, Entity> onHit) {
+        this.onHit = onHit;
+    }
+
+    @Override
+    public void onEntityAdded(Entity entity) {
+        Group group = groupOf(entity);
+        if (group == null) {
+            return;
+        }
+        for (Component component : entity.getComponents()) {
+            if (component instanceof ICollidable shape) {
+                group.add(entity, shape);
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void onEntityRemoved(Entity entity) {
+        Group group = groupOf(entity);
+        if (group != null) {
+            group.remove(entity);
+        }
+    }
+
+    /**
+     * @return number of projectiles taking part in collision detection
+     */
+    public int projectileCount() {
+        return projectiles.size;
+    }
+
+    /**
+     * @return number of enemies taking part in collision detection
+     */
+    public int enemyCount() {
+        return enemies.size;
+    }
+
+    /**
+     * Detects all projectile–enemy contacts along the movement since the previous update,
+     * dispatches the hits and remembers the current positions for the next update.
+     */
+    public void update() {
+        lastPairTests = 0;
+        lastHits = 0;
+        if (projectiles.size > 0 && enemies.size > 0) {
+            sweep();
+        }
+        projectiles.remember();
+        enemies.remember();
+    }
+
+    private void sweep() {
+        int projectileCount = projectiles.size;
+        int enemyCount = enemies.size;
+        projectilePass.fill(projectiles);
+        enemyPass.fill(enemies);
+        if (active.length < enemyCount) {
+            active = new int[Math.max(enemyCount, active.length * 2)];
+        }
+
+        int hitCount = 0;
+        int next = 0;
+        int activeCount = 0;
+        for (int k = 0; k < projectileCount; k++) {
+            int p = (int) projectilePass.order[k];
+            float maxX = (float) projectilePass.maxX(p);
+
+            /* Enemies are sorted by the float of their left edge; float rounding is monotonic,
+             * so once that exceeds the float of this right edge no later enemy can reach it. */
+            while (next < enemyCount && (int) (enemyPass.order[next] >> 32) <= sortKey(maxX)) {
+                active[activeCount++] = (int) enemyPass.order[next++];
+            }
+
+            /* Projectiles come in ascending left edge, so an enemy left behind stays behind. */
+            int kept = 0;
+            double minX = projectilePass.minX(p);
+            for (int a = 0; a < activeCount; a++) {
+                int e = active[a];
+                if (enemyPass.maxX(e) >= minX) {
+                    active[kept++] = e;
+                }
+            }
+            activeCount = kept;
+
+            for (int a = 0; a < activeCount; a++) {
+                int e = active[a];
+                lastPairTests++;
+                double impact = impact(p, e);
+                if (impact >= 0) {
+                    if (hitCount == impacts.length) {
+                        hits = Arrays.copyOf(hits, hitCount * 4);
+                        impacts = Arrays.copyOf(impacts, hitCount * 2);
+                    }
+                    hits[hitCount * 2] = p;
+                    hits[hitCount * 2 + 1] = e;
+                    impacts[hitCount] = impact;
+                    hitCount++;
+                }
+            }
+        }
+
+        /* Hits of one projectile are contiguous; dispatch the earliest one still possible. */
+        for (int first = 0, end; first < hitCount; first = end) {
+            int p = hits[first * 2];
+            end = first + 1;
+            while (end < hitCount && hits[end * 2] == p) {
+                end++;
+            }
+            Entity projectile = projectilePass.entities[p];
+            if (!projectile.isActive()) {
+                continue;
+            }
+            int enemy = -1;
+            double earliest = Double.MAX_VALUE;
+            for (int h = first; h < end; h++) {
+                int candidate = hits[h * 2 + 1];
+                boolean earlier = impacts[h] < earliest || impacts[h] == earliest && candidate < enemy;
+                if (earlier && enemyPass.entities[candidate].isActive()) {
+                    enemy = candidate;
+                    earliest = impacts[h];
+                }
+            }
+            if (enemy >= 0) {
+                lastHits++;
+                onHit.accept(projectile, enemyPass.entities[enemy]);
+            }
+        }
+        projectilePass.clear(projectileCount);
+        enemyPass.clear(enemyCount);
+    }
+
+    /**
+     * Moves projectile {@code p} and enemy {@code e} linearly from their previous to their
+     * current positions and finds when their circles first touch.
+     *
+     * @return fraction of the update at which they first touch, 0 if they touched from the
+     *         start, or -1 if they never do
+     */
+    private double impact(int p, int e) {
+        /* Offset of the projectile from the enemy at the start and its change over the update. */
+        double dx = projectilePass.x0[p] - enemyPass.x0[e];
+        double dy = projectilePass.y0[p] - enemyPass.y0[e];
+        double vx = (projectilePass.x[p] - enemyPass.x[e]) - dx;
+        double vy = (projectilePass.y[p] - enemyPass.y[e]) - dy;
+        double reach = projectilePass.radius[p] + enemyPass.radius[e];
+
+        double c = dx * dx + dy * dy - reach * reach;
+        if (c <= 0) {
+            return 0;
+        }
+        double a = vx * vx + vy * vy;
+        double b = dx * vx + dy * vy;
+        if (a == 0 || b >= 0) {
+            return -1;
+        }
+        double discriminant = b * b - a * c;
+        if (discriminant < 0) {
+            return -1;
+        }
+        double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : -1;
+    }
+
+    private Group groupOf(Entity entity) {
+        if (entity.getType() == EntityType.PROJECTILE) {
+            return projectiles;
+        }
+        if (entity.getType() == EntityType.ENEMY) {
+            return enemies;
+        }
+        return null;
+    }
+
+    /**
+     * Maps a float to an int with the same ordering, so keys can be compared as integers.
+     */
+    private static int sortKey(float value) {
+        int bits = Float.floatToIntBits(value);
+        return bits ^ ((bits >> 31) & 0x7fffffff);
+    }
+}
@@ -0,0 +1,100 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.entities.components.bulets.AbstractProjectileComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+
+import java.util.Optional;
+
+/**
+ * Collision handler between projectiles and enemies.
+ *
+ * <p>When a projectile hits an enemy, it attempts to retrieve the associated components from
+ * both entities, records the hit with the projectile's damage and tower in the world's
+ * {@link DamageBuffer}, applies the projectile's status effect if it carries one, and removes
+ * the projectile from the world. A projectile with a splash radius also hits every other
+ * enemy within that radius of where it is at the end of the tick, found with the world's
+ * {@link EnemyGrid}. Hordes caught in a splash are {@link HordeEnemyComponent#split split} first,
+ * and the members that come out within the radius are hit as well; a projectile with a status
+ * effect only hits a horde's front, which leaves the horde. Damage, kills and rewards
+ * are resolved together once collision detection for the tick is done. Called by the
+ * {@link ProjectileEnemyBroadphase} owned by {@link com.github.griffty.finalproject.world.WorldManager}.</p>
+ */
+public class ProjectileEnemyCollisionHandler {
+    private final DamageBuffer damage;
+    private final StatusEffects effects;
+    private final EnemyGrid grid;
+    /** Enemies caught in a splash, reused between hits. */
+    private final EnemyBuffer splashed = new EnemyBuffer();
+    /** Members split off hordes by the current splash, all within its radius. */
+    private final EnemyBuffer splitOff = new EnemyBuffer();
+
+    /**
+     * @param damage  buffer the hits are recorded in
+     * @param effects status effects the projectiles' effects are applied to
+     * @param grid    enemy grid splash radii are looked up in
+     */
+    public ProjectileEnemyCollisionHandler(DamageBuffer damage, StatusEffects effects, EnemyGrid grid) {
+        this.damage = damage;
+        this.effects = effects;
+        this.grid = grid;
+    }
+
+    /**
+     * Called when a projectile collides with an enemy.
+     *
+     * <p>Safely obtains optional components for the enemy and projectile, records the hit
+     * together with the tower that fired the projectile, and removes the projectile from the
+     * world regardless of component presence.</p>
+     *
+     * @param proj  the projectile entity involved in the collision
+     * @param enemy the enemy entity involved in the collision
+     */
+    public void onCollision(Entity proj, Entity enemy) {
+        Optional<AbstractEnemyComponent> enemyComp = EntityUtil.getOptionalComponent(enemy, AbstractEnemyComponent.class);
+        Optional<AbstractProjectileComponent> projComp = EntityUtil.getOptionalComponent(proj, AbstractProjectileComponent.class);
+
+        if (enemyComp.isPresent() && projComp.isPresent()) {
+            AbstractProjectileComponent projectile = projComp.get();
+            hit(enemyComp.get(), projectile);
+            if (projectile.getSplashRadius() > 0) {
+                double radius = projectile.getSplashRadius();
+                grid.within(proj.getX(), proj.getY(), radius, splashed);
+                if (!splashed.contains(enemyComp.get())) {
+                    splashed.add(enemyComp.get());
+                }
+                for (int i = 0; i < splashed.size(); i++) {
+                    AbstractEnemyComponent splashedEnemy = splashed.get(i);
+                    if (splashedEnemy instanceof HordeEnemyComponent horde && horde.getCount() > 1) {
+                        horde.split(proj.getX(), proj.getY(), radius, splitOff);
+                    }
+                    if (splashedEnemy != enemyComp.get()) {
+                        hit(splashedEnemy, projectile);
+                    }
+                }
+                /* Split members are not in the grid before its next rebuild. */
+                for (int i = 0; i < splitOff.size(); i++) {
+                    hit(splitOff.get(i), projectile);
+                }
+                splashed.clear();
+                splitOff.clear();
+            }
+        }
+
+        // Remove projectile entity from the world after collision
+        proj.removeFromWorld();
+    }
+
+    private void hit(AbstractEnemyComponent enemy, AbstractProjectileComponent projectile) {
+        if (projectile.getEffect() != null && enemy instanceof HordeEnemyComponent horde && horde.getCount() > 1) {
+            enemy = horde.detachFront();
+        }
+        // Queue the damage; the tower is credited only if this turns out to be the killing blow
+        damage.add(enemy, projectile.getDamage(), projectile.getTower());
+        if (projectile.getEffect() != null) {
+            effects.apply(enemy, projectile.getEffect(), projectile.getTower());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.griffty.finalproject.world.entities;
+
+import lombok.Getter;
+
+/**
+ * Counts what happened to homing projectiles whose target left the world before impact.
+ *
+ * <p>Such an orphan either picks a new target close by or is removed straight away instead of
+ * flying on to its old target's last position (see
+ * {@link com.github.griffty.finalproject.world.entities.components.bulets.FollowingProjectileComponent}).
+ * Owned by {@link com.github.griffty.finalproject.world.WorldManager} and reset with the match;
+ * only used on the thread ticking that world.</p>
+ */
+@Getter
+public final class ProjectileStats {
+    /** Orphans that found a new target. */
+    private long orphansRetargeted;
+    /** Orphans removed because no enemy was close enough. */
+    private long orphansExpired;
+
+    public void orphanRetargeted() {
+        orphansRetargeted++;
+    }
+
+    public void orphanExpired() {
+        orphansExpired++;
+    }
+
+    /**
+     * Zeroes both counters.
+     */
+    public void reset() {
+        orphansRetargeted = 0;
+        orphansExpired = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d orphaned homing projectiles retargeted, %d expired", orphansRetargeted, orphansExpired);
+    }
+}
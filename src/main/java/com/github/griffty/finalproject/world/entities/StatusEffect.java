@@ -0,0 +1,24 @@
+package com.github.griffty.finalproject.world.entities;
+
+/**
+ * A status effect a projectile applies to the enemy it hits.
+ *
+ * <p>Effects are immutable and shared: a tower keeps one instance and hands it to every
+ * projectile it fires. What an application does to an enemy that is already affected is
+ * decided by {@link StatusEffects}.</p>
+ *
+ * @param kind     what the effect does
+ * @param strength slow: speed multiplier in {@code (0, 1)}; burn: damage per second;
+ *                 shred: extra fraction of damage taken per stack
+ * @param duration seconds the effect lasts after it was applied
+ */
+public record StatusEffect(Kind kind, float strength, float duration) {
+    public enum Kind {
+        /** Multiplies movement speed by the strength. */
+        SLOW,
+        /** Deals the strength as damage per second. */
+        BURN,
+        /** Increases all damage taken by the strength per stack. */
+        SHRED,
+    }
+}
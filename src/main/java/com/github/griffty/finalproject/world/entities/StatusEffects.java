@@ -0,0 +1,343 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Status effects of all enemies of a world, kept in flat per-slot arrays and advanced in one pass per tick.
+ *
+ * <p>An enemy gets a slot the first time an effect is {@link #apply applied} to it and keeps
+ * it until all of its effects have expired or it leaves the world; its index is stored in
+ * {@link AbstractEnemyComponent#getEffectSlot()}. Slots are packed: removing one moves the
+ * last slot into the gap, so {@link #update(double)} only walks the enemies that are affected
+ * and never allocates.</p>
+ *
+ * <p>Each slot holds one slow, one burn and up to {@link #MAX_SHRED_STACKS} shred stacks:</p>
+ * <ul>
+ *     <li>slow: the strongest slow wins; an equally strong one extends the remaining time
+ *     and a weaker one is ignored until the stronger one has worn off,</li>
+ *     <li>burn: same rule by damage per second. Whole points of damage are added to the
+ *     {@link DamageBuffer} as they accumulate and the last tick rounds the remainder, so
+ *     a burn of 4 per second for 3 seconds deals exactly 12. The kill is credited to the
+ *     tower that applied the burn,</li>
+ *     <li>shred: every application adds a stack while below the cap and extends the remaining
+ *     time; all stacks expire together. Shred amplifies every hit, burn included, when the
+ *     damage buffer resolves it. The fraction of extra damage below one point is carried over
+ *     to the next hit, so shred works on 1-damage hits too.</li>
+ * </ul>
+ *
+ * <p>Owned by {@link WorldManager} and only used on the thread ticking that world.</p>
+ */
+public final class StatusEffects {
+    /** Most shred stacks an enemy can carry. */
+    public static final int MAX_SHRED_STACKS = 4;
+
+    /** Bytes {@link #writeSlot} writes and {@link #readSlot} reads. */
+    public static final int SLOT_BYTES = 4 * 8 + 1;
+
+    private final DamageBuffer damage;
+
+    private AbstractEnemyComponent[] enemies = new AbstractEnemyComponent[64];
+    private float[] slowFactor = new float[64];
+    private float[] slowTime = new float[64];
+    private float[] burnDps = new float[64];
+    private float[] burnTime = new float[64];
+    /** Burn damage accumulated but not yet dealt because it is less than one point. */
+    private float[] burnCarry = new float[64];
+    private AbstractTowerComponent[] burnSource = new AbstractTowerComponent[64];
+    private float[] shredBonus = new float[64];
+    private float[] shredTime = new float[64];
+    /** Extra shred damage accumulated but not yet dealt because it is less than one point. */
+    private float[] shredCarry = new float[64];
+    private byte[] shredStacks = new byte[64];
+    private int size;
+
+    /**
+     * @param damage buffer burn damage is added to
+     */
+    public StatusEffects(DamageBuffer damage) {
+        this.damage = damage;
+    }
+
+    /**
+     * Applies an effect to an enemy according to the stacking rules of its kind.
+     *
+     * @param enemy  enemy that was hit
+     * @param effect effect to apply
+     * @param tower  tower that fired it, or {@code null} if it no longer exists
+     */
+    public void apply(AbstractEnemyComponent enemy, StatusEffect effect, AbstractTowerComponent tower) {
+        int slot = enemy.getEffectSlot();
+        if (slot < 0) {
+            slot = allocate(enemy);
+        }
+        float strength = effect.strength();
+        float duration = effect.duration();
+        switch (effect.kind()) {
+            case SLOW -> {
+                if (strength < slowFactor[slot]) {
+                    slowFactor[slot] = strength;
+                    slowTime[slot] = duration;
+                } else if (strength == slowFactor[slot]) {
+                    slowTime[slot] = Math.max(slowTime[slot], duration);
+                }
+            }
+            case BURN -> {
+                if (strength > burnDps[slot]) {
+                    burnDps[slot] = strength;
+                    burnTime[slot] = duration;
+                    burnSource[slot] = tower;
+                } else if (strength == burnDps[slot]) {
+                    burnTime[slot] = Math.max(burnTime[slot], duration);
+                    burnSource[slot] = tower;
+                }
+            }
+            case SHRED -> {
+                if (shredStacks[slot] < MAX_SHRED_STACKS) {
+                    shredStacks[slot]++;
+                    shredBonus[slot] += strength;
+                }
+                shredTime[slot] = Math.max(shredTime[slot], duration);
+            }
+        }
+    }
+
+    /**
+     * Advances every effect by one tick, adds burn damage to the damage buffer and frees
+     * the slots of enemies whose effects have all expired.
+     *
+     * @param tpf tick length in seconds
+     */
+    public void update(double tpf) {
+        float dt = (float) tpf;
+        int i = 0;
+        while (i < size) {
+            boolean active = false;
+
+            if (slowTime[i] > 0) {
+                slowTime[i] -= dt;
+                if (slowTime[i] > 0) {
+                    active = true;
+                } else {
+                    slowFactor[i] = 1;
+                }
+            }
+
+            if (burnTime[i] > 0) {
+                burnCarry[i] += burnDps[i] * Math.min(dt, burnTime[i]);
+                burnTime[i] -= dt;
+                boolean burning = burnTime[i] > 0;
+                int whole = burning ? (int) burnCarry[i] : Math.round(burnCarry[i]);
+                if (whole > 0) {
+                    burnCarry[i] -= whole;
+                    damage.add(enemies[i], whole, burnSource[i]);
+                }
+                if (burning) {
+                    active = true;
+                } else {
+                    burnDps[i] = 0;
+                    burnCarry[i] = 0;
+                    burnSource[i] = null;
+                }
+            }
+
+            if (shredTime[i] > 0) {
+                shredTime[i] -= dt;
+                if (shredTime[i] > 0) {
+                    active = true;
+                } else {
+                    shredStacks[i] = 0;
+                    shredBonus[i] = 0;
+                    shredCarry[i] = 0;
+                }
+            }
+
+            if (active) {
+                i++;
+            } else {
+                removeSlot(i);
+            }
+        }
+    }
+
+    /**
+     * Frees the slot of an enemy leaving the world. Does nothing for unaffected enemies.
+     *
+     * @param enemy enemy being removed
+     */
+    public void remove(AbstractEnemyComponent enemy) {
+        if (enemy.getEffectSlot() >= 0) {
+            removeSlot(enemy.getEffectSlot());
+        }
+    }
+
+    /**
+     * @param enemy enemy to look up
+     * @return factor its movement speed is multiplied by, 1 when it is not slowed
+     */
+    public float speedFactor(AbstractEnemyComponent enemy) {
+        int slot = enemy.getEffectSlot();
+        return slot < 0 ? 1 : slowFactor[slot];
+    }
+
+    /**
+     * @param enemy enemy to look up
+     * @return burn damage per second it currently takes
+     */
+    public float burnDps(AbstractEnemyComponent enemy) {
+        int slot = enemy.getEffectSlot();
+        return slot < 0 ? 0 : burnDps[slot];
+    }
+
+    /**
+     * @param enemy enemy to look up
+     * @return number of shred stacks it carries
+     */
+    public int shredStacks(AbstractEnemyComponent enemy) {
+        int slot = enemy.getEffectSlot();
+        return slot < 0 ? 0 : shredStacks[slot];
+    }
+
+    /**
+     * Scales a hit by the shred stacks of the enemy it lands on, carrying the fraction of a
+     * point over to the enemy's next hit.
+     *
+     * @param enemy  enemy that was hit
+     * @param amount damage of the hit
+     * @return damage to subtract from the enemy's health
+     */
+    public int amplify(AbstractEnemyComponent enemy, int amount) {
+        int slot = enemy.getEffectSlot();
+        if (slot < 0 || shredStacks[slot] == 0) {
+            return amount;
+        }
+        float extra = amount * shredBonus[slot] + shredCarry[slot];
+        int whole = (int) extra;
+        shredCarry[slot] = extra - whole;
+        return amount + whole;
+    }
+
+    /**
+     * @return number of enemies with at least one active effect
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param slot slot index below {@link #size()}
+     * @return enemy occupying the slot
+     */
+    public AbstractEnemyComponent enemyAt(int slot) {
+        return enemies[slot];
+    }
+
+    /**
+     * @param slot slot index below {@link #size()}
+     * @return tower credited with a burn kill, or {@code null}
+     */
+    public AbstractTowerComponent burnSourceAt(int slot) {
+        return burnSource[slot];
+    }
+
+    /**
+     * Writes the effects of a slot; the enemy and the burn source are saved by the caller.
+     *
+     * @param slot slot index below {@link #size()}
+     * @param out  buffer with at least {@link #SLOT_BYTES} remaining
+     */
+    public void writeSlot(int slot, ByteBuffer out) {
+        out.putFloat(slowFactor[slot]);
+        out.putFloat(slowTime[slot]);
+        out.putFloat(burnDps[slot]);
+        out.putFloat(burnTime[slot]);
+        out.putFloat(burnCarry[slot]);
+        out.putFloat(shredBonus[slot]);
+        out.putFloat(shredTime[slot]);
+        out.putFloat(shredCarry[slot]);
+        out.put(shredStacks[slot]);
+    }
+
+    /**
+     * Restores effects written by {@link #writeSlot} onto an enemy without any.
+     *
+     * @param enemy      enemy the effects belong to
+     * @param burnSource tower credited with a burn kill, or {@code null}
+     * @param in         buffer positioned at the slot's record
+     */
+    public void readSlot(AbstractEnemyComponent enemy, AbstractTowerComponent burnSource, ByteBuffer in) {
+        int slot = enemy.getEffectSlot() >= 0 ? enemy.getEffectSlot() : allocate(enemy);
+        slowFactor[slot] = in.getFloat();
+        slowTime[slot] = in.getFloat();
+        burnDps[slot] = in.getFloat();
+        burnTime[slot] = in.getFloat();
+        burnCarry[slot] = in.getFloat();
+        shredBonus[slot] = in.getFloat();
+        shredTime[slot] = in.getFloat();
+        shredCarry[slot] = in.getFloat();
+        shredStacks[slot] = in.get();
+        this.burnSource[slot] = burnSource;
+    }
+
+    /**
+     * Appends an empty slot for an enemy.
+     */
+    private int allocate(AbstractEnemyComponent enemy) {
+        if (size == enemies.length) {
+            int capacity = size * 2;
+            enemies = Arrays.copyOf(enemies, capacity);
+            slowFactor = Arrays.copyOf(slowFactor, capacity);
+            slowTime = Arrays.copyOf(slowTime, capacity);
+            burnDps = Arrays.copyOf(burnDps, capacity);
+            burnTime = Arrays.copyOf(burnTime, capacity);
+            burnCarry = Arrays.copyOf(burnCarry, capacity);
+            burnSource = Arrays.copyOf(burnSource, capacity);
+            shredBonus = Arrays.copyOf(shredBonus, capacity);
+            shredTime = Arrays.copyOf(shredTime, capacity);
+            shredCarry = Arrays.copyOf(shredCarry, capacity);
+            shredStacks = Arrays.copyOf(shredStacks, capacity);
+        }
+        int slot = size++;
+        enemies[slot] = enemy;
+        slowFactor[slot] = 1;
+        slowTime[slot] = 0;
+        burnDps[slot] = 0;
+        burnTime[slot] = 0;
+        burnCarry[slot] = 0;
+        burnSource[slot] = null;
+        shredBonus[slot] = 0;
+        shredTime[slot] = 0;
+        shredCarry[slot] = 0;
+        shredStacks[slot] = 0;
+        enemy.setEffectSlot(slot);
+        return slot;
+    }
+
+    /**
+     * Frees a slot by moving the last slot into it.
+     */
+    private void removeSlot(int slot) {
+        enemies[slot].setEffectSlot(-1);
+        int last = --size;
+        if (slot != last) {
+            enemies[slot] = enemies[last];
+            slowFactor[slot] = slowFactor[last];
+            slowTime[slot] = slowTime[last];
+            burnDps[slot] = burnDps[last];
+            burnTime[slot] = burnTime[last];
+            burnCarry[slot] = burnCarry[last];
+            burnSource[slot] = burnSource[last];
+            shredBonus[slot] = shredBonus[last];
+            shredTime[slot] = shredTime[last];
+            shredCarry[slot] = shredCarry[last];
+            shredStacks[slot] = shredStacks[last];
+            enemies[slot].setEffectSlot(slot);
+        }
+        enemies[last] = null;
+        burnSource[last] = null;
+    }
+}
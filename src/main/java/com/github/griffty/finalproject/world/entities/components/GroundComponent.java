@@ -1,12 +1,22 @@
 package com.github.griffty.finalproject.world.entities.components;
 
 import com.almasb.fxgl.entity.component.Component;
-import com.github.griffty.finalproject.world.map.MapManager;
-import javafx.scene.shape.Rectangle;
-import javafx.scene.shape.Shape;
 import lombok.Getter;
 
+/**
+ * Marks the entity of a tower standing on a ground tile and remembers which tile that is.
+ *
+ * <p>Ground tiles themselves are not entities; their state lives in the map's
+ * {@link com.github.griffty.finalproject.world.map.TileStates}. An entity carrying this
+ * component is created when a tower is built and removed again when it is sold.</p>
+ */
 @Getter
 public class GroundComponent extends Component {
-    public GroundComponent() {}
+    private final int tileX;
+    private final int tileY;
+
+    public GroundComponent(int tileX, int tileY) {
+        this.tileX = tileX;
+        this.tileY = tileY;
+    }
 }
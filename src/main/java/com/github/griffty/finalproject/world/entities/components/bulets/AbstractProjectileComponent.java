@@ -1,6 +1,8 @@
 package com.github.griffty.finalproject.world.entities.components.bulets;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.StatusEffect;
 import com.github.griffty.finalproject.world.entities.components.interfaces.ICollidable;
 import com.github.griffty.finalproject.world.entities.components.interfaces.IVisual;
 import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
@@ -11,16 +13,28 @@ import lombok.Data;
  *
  * <p>Projectiles keep a reference to the originating tower for bookkeeping (kill counts
  * or selling refunds) and expose their damage amount to subclasses that implement the
- * actual movement logic.</p>
+ * actual movement logic. A projectile may also carry a {@link StatusEffect} that is applied
+ * to the enemy it hits, and a splash radius within which every enemy takes its damage and
+ * effect too.</p>
  */
 @Data
 public abstract class AbstractProjectileComponent extends Component implements IVisual, ICollidable {
+    /** World the projectile flies through. */
+    private final WorldManager world;
     /** Damage dealt when the projectile collides with an enemy. */
     private final int damage;
-    /** Tower that fired this projectile. Useful for incrementing stats on hit. */
+    /**
+     * Tower that fired this projectile. Useful for incrementing stats on hit.
+     * May be {@code null} for projectiles restored from a save after their tower was sold.
+     */
     private final AbstractTowerComponent tower;
+    /** Effect applied to the enemy on hit, or {@code null} for plain damage. */
+    private StatusEffect effect;
+    /** Radius around the point of impact in which all enemies are hit, 0 for a single target. */
+    private double splashRadius;
 
-    public AbstractProjectileComponent(int damage, AbstractTowerComponent tower) {
+    public AbstractProjectileComponent(WorldManager world, int damage, AbstractTowerComponent tower) {
+        this.world = world;
         this.damage = damage;
         this.tower = tower;
     }
@@ -28,7 +42,8 @@ public abstract class AbstractProjectileComponent extends Component implements I
     @Override
     public void onAdded() {
         super.onAdded();
-        entity.getViewComponent().addChild(this.registerVisuals());
-        entity.getBoundingBoxComponent().addHitBox(this.registerCollision());
+        if (!world.isHeadless()) {
+            entity.getViewComponent().addChild(this.registerVisuals());
+        }
     }
 }
\ No newline at end of file
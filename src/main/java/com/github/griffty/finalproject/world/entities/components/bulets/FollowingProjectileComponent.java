@@ -1,8 +1,10 @@
 package com.github.griffty.finalproject.world.entities.components.bulets;
 
 import com.almasb.fxgl.entity.Entity;
-import com.almasb.fxgl.physics.BoundingShape;
-import com.almasb.fxgl.physics.HitBox;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
 import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -14,16 +16,26 @@ import lombok.Getter;
  * Projectile that homes toward a target entity until it collides or exceeds its range.
  *
  * <p>The component recalculates its heading every frame while the entity remains active,
- * allowing it to track moving enemies but still expire based on distance traveled.</p>
+ * allowing it to track moving enemies but still expire based on distance traveled. While in
+ * the world it reserves its damage on the target's pending-damage ledger, so towers stop
+ * firing at an enemy the shots already in flight will kill.</p>
+ *
+ * <p>If the target leaves the world before impact, the projectile switches to the closest
+ * enemy within {@link #RETARGET_RADIUS} that is not already doomed, or removes itself at once
+ * if there is none, instead of flying on to the old target's last position. Both outcomes
+ * are counted in the world's {@link com.github.griffty.finalproject.world.entities.ProjectileStats}.</p>
  */
 @Getter
 public class FollowingProjectileComponent extends AbstractProjectileComponent {
+    /** Distance in world units within which an orphaned projectile looks for a new target. */
+    public static final double RETARGET_RADIUS = 2 * Constants.TILE_SIZE;
+
     private final double speed;
     private final double maxDistance;
     private final double size;
     private final int damage;
 
-    private final Entity target;
+    private Entity target;
 
     /**
      * Creates a tracking projectile aimed at a target.
@@ -32,6 +44,7 @@ public class FollowingProjectileComponent extends AbstractProjectileComponent {
      * state can be queried during flight. Speed and distance are used to limit runaway
      * projectiles in case the target is destroyed mid-flight.</p>
      *
+     * @param world       world the projectile flies through
      * @param tower       source tower component
      * @param target      entity to follow
      * @param speed       movement speed
@@ -39,8 +52,8 @@ public class FollowingProjectileComponent extends AbstractProjectileComponent {
      * @param size        radius used for visuals and collisions
      * @param damage      damage applied on hit
      */
-    public FollowingProjectileComponent(AbstractTowerComponent tower, Entity target, double speed, double maxDistance, double size, int damage) {
-        super(damage, tower);
+    public FollowingProjectileComponent(WorldManager world, AbstractTowerComponent tower, Entity target, double speed, double maxDistance, double size, int damage) {
+        super(world, damage, tower);
         this.speed = speed;
         this.maxDistance = maxDistance;
         this.size = size;
@@ -50,9 +63,12 @@ public class FollowingProjectileComponent extends AbstractProjectileComponent {
 
     private Point2D lastDirection;
     private double distanceTraveled = 0;
+    /** Enemy component of the target the damage is reserved on; {@code null} for detached targets. */
+    private AbstractEnemyComponent reservedOn;
 
     /**
-     * Initializes the initial heading toward the target when added to the world.
+     * Initializes the initial heading toward the target when added to the world and reserves
+     * the projectile's damage on the target.
      *
      * <p>Tracking begins here rather than during construction because the entity does not
      * have a world position until it is attached.</p>
@@ -61,40 +77,100 @@ public class FollowingProjectileComponent extends AbstractProjectileComponent {
     public void onAdded() {
         super.onAdded();
         lastDirection = target.getCenter().subtract(entity.getCenter()).normalize();
+        reserve();
+    }
+
+    /**
+     * Releases the reserved damage, whether the projectile hit something or expired.
+     */
+    @Override
+    public void onRemoved() {
+        super.onRemoved();
+        release();
+    }
+
+    private void reserve() {
+        reservedOn = EntityUtil.getOptionalComponent(target, AbstractEnemyComponent.class).orElse(null);
+        if (reservedOn != null) {
+            reservedOn.reserveDamage(damage);
+        }
+    }
+
+    private void release() {
+        if (reservedOn != null) {
+            reservedOn.releaseDamage(damage);
+            reservedOn = null;
+        }
+    }
+
+    /**
+     * Restores flight progress of a projectile loaded from a save.
+     *
+     * <p>Must be called after the entity was added, since {@link #onAdded()} resets the heading.</p>
+     *
+     * @param lastDirection    heading at the time of saving
+     * @param distanceTraveled distance covered so far
+     */
+    public void restoreFlight(Point2D lastDirection, double distanceTraveled) {
+        this.lastDirection = lastDirection;
+        this.distanceTraveled = distanceTraveled;
     }
 
     /**
      * Updates the projectile heading and movement, removing it when it exceeds range or reaches the target.
      *
      * <p>Distance is accumulated based on movement magnitude, ensuring consistent range
-     * regardless of frame rate. A small proximity check is used instead of collision in
-     * case the target despawns before impact.</p>
+     * regardless of frame rate. The last step stops exactly at the maximum distance and the
+     * projectile is removed on the following update, so collision detection still sees the
+     * final stretch of its flight. Reaching the target is left to collision detection, which
+     * tests the whole movement of the tick. A target that has left the world is replaced or
+     * the projectile expires, see {@link #retarget()}.</p>
      */
     @Override
     public void onUpdate(double tpf) {
         super.onUpdate(tpf);
-        if (entity.isActive()){
-            lastDirection = target.getCenter().subtract(entity.getCenter()).normalize();
-        }
-        Point2D movement = lastDirection.multiply(speed * tpf);
-        distanceTraveled += movement.magnitude();
-        entity.translate(movement);
         if (distanceTraveled >= maxDistance) {
             entity.removeFromWorld();
+            return;
         }
-        if (target.getCenter().distance(entity.getCenter()) <= 5) {
+        if (!target.isActive() && !retarget()) {
+            return;
+        }
+        lastDirection = target.getCenter().subtract(entity.getCenter()).normalize();
+        Point2D movement = lastDirection.multiply(Math.min(speed * tpf, maxDistance - distanceTraveled));
+        distanceTraveled += movement.magnitude();
+        entity.translate(movement);
+    }
+
+    /**
+     * Moves the reservation to the closest enemy within {@link #RETARGET_RADIUS} that is not
+     * doomed, or removes the projectile if there is none.
+     *
+     * @return true if the projectile has a new target, false if it was removed
+     */
+    private boolean retarget() {
+        release();
+        AbstractEnemyComponent next = getWorld().getEnemyGrid().closest(entity.getX(), entity.getY(), RETARGET_RADIUS,
+                e -> !e.isDoomed());
+        if (next == null) {
+            getWorld().getProjectileStats().orphanExpired();
             entity.removeFromWorld();
+            return false;
         }
+        target = next.getEntity();
+        reserve();
+        getWorld().getProjectileStats().orphanRetargeted();
+        return true;
     }
 
     /**
-     * Registers the collision hit box for the projectile.
+     * The collision circle matches the drawn circle.
      *
-     * @return configured hit box
+     * @return projectile radius
      */
     @Override
-    public HitBox registerCollision() {
-        return new HitBox(new Point2D(0,0), BoundingShape.circle(size));
+    public double getCollisionRadius() {
+        return size;
     }
 
     /**
@@ -1,7 +1,6 @@
 package com.github.griffty.finalproject.world.entities.components.bulets;
 
-import com.almasb.fxgl.physics.BoundingShape;
-import com.almasb.fxgl.physics.HitBox;
+import com.github.griffty.finalproject.world.WorldManager;
 import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
 import javafx.geometry.Point2D;
 import javafx.scene.Node;
@@ -30,6 +29,7 @@ public class StraightProjectileComponent extends AbstractProjectileComponent {
      * <p>The provided {@code direction} need not be normalized; the constructor keeps the
      * raw vector so any caller-provided bias is preserved before normalization in updates.</p>
      *
+     * @param world       world the projectile flies through
      * @param tower       source tower component
      * @param direction   normalized direction vector for travel
      * @param speed       movement speed
@@ -37,8 +37,8 @@ public class StraightProjectileComponent extends AbstractProjectileComponent {
      * @param size        radius of the projectile hit box and visual
      * @param damage      damage applied on hit
      */
-    public StraightProjectileComponent(AbstractTowerComponent tower, Point2D direction, double speed, double maxDistance, double size, int damage) {
-        super(damage, tower);
+    public StraightProjectileComponent(WorldManager world, AbstractTowerComponent tower, Point2D direction, double speed, double maxDistance, double size, int damage) {
+        super(world, damage, tower);
         this.speed = speed;
         this.maxDistance = maxDistance;
         this.size = size;
@@ -48,42 +48,67 @@ public class StraightProjectileComponent extends AbstractProjectileComponent {
 
     private Point2D startPoint;
 
+    /**
+     * Records the start point once the entity has a world position.
+     *
+     * <p>The spawn position is captured after the entity exists so removal logic can rely
+     * on world coordinates rather than precomputed values.</p>
+     */
+    @Override
+    public void onAdded() {
+        startPoint = entity.getCenter();
+        super.onAdded();
+    }
+
+    /**
+     * Restores the spawn point of a projectile loaded from a save.
+     *
+     * <p>Must be called after the entity was added, since {@link #onAdded()} records the
+     * current position as the start point.</p>
+     *
+     * @param startPoint original spawn center
+     */
+    public void restoreStartPoint(Point2D startPoint) {
+        this.startPoint = startPoint;
+    }
+
     /**
      * Moves the projectile forward and removes it once it exceeds maximum travel distance.
      *
      * <p>Travel distance is measured from the spawn center rather than the current
-     * bounding box, which keeps the behavior consistent for all visual sizes.</p>
+     * bounding box, which keeps the behavior consistent for all visual sizes. The last step
+     * stops exactly at the maximum distance and the projectile is removed on the following
+     * update, so collision detection still sees the final stretch of its flight however long
+     * the tick is.</p>
      */
     @Override
     public void onUpdate(double tpf) {
         super.onUpdate(tpf);
-        entity.translate(direction.normalize().multiply(speed * tpf));
-        if (entity.getCenter().distance(startPoint) >= maxDistance) {
+        double remaining = maxDistance - entity.getCenter().distance(startPoint);
+        if (remaining <= 0) {
             entity.removeFromWorld();
+            return;
         }
+        entity.translate(direction.normalize().multiply(Math.min(speed * tpf, remaining)));
     }
 
     /**
-     * Registers the collision hit box for the projectile.
+     * The collision circle matches the drawn circle.
      *
-     * @return configured hit box
+     * @return projectile radius
      */
     @Override
-    public HitBox registerCollision() {
-        return new HitBox(new Point2D(0,0), BoundingShape.circle(size));
+    public double getCollisionRadius() {
+        return size;
     }
 
     /**
-     * Creates the visual representation and records the start point.
-     *
-     * <p>The spawn position is captured after the entity exists so removal logic can rely
-     * on world coordinates rather than precomputed values.</p>
+     * Creates the visual representation for the projectile.
      *
      * @return node to render for the projectile
      */
     @Override
     public Node registerVisuals() {
-        startPoint = entity.getCenter();
         Circle circle = new Circle(size);
         circle.setFill(Color.YELLOW);
         return circle;
@@ -1,6 +1,8 @@
 package com.github.griffty.finalproject.world.entities.components.enemies;
 
 import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.LevelOfDetail;
 import com.github.griffty.finalproject.world.WorldManager;
 import com.github.griffty.finalproject.world.entities.components.interfaces.ICollidable;
 import com.github.griffty.finalproject.world.entities.components.interfaces.IVisual;
@@ -12,18 +14,33 @@ import lombok.Data;
 /**
  * Base enemy component handling navigation, health, and visuals.
  *
- * <p>Enemy instances track their own waypoint navigation, smooth rotation, and reward
- * payout. Concrete subclasses only need to provide sprites and collision hit boxes by
+ * <p>Enemy instances track their own waypoint navigation, smooth rotation, health and
+ * reward. Hits are applied and rewards paid by
+ * {@link com.github.griffty.finalproject.world.entities.DamageBuffer}; slows, burns and shred
+ * live in the world's {@link com.github.griffty.finalproject.world.entities.StatusEffects}.
+ * Concrete subclasses only need to provide sprites and collision hit boxes by
  * implementing {@link com.github.griffty.finalproject.world.entities.components.interfaces.IVisual}
  * and {@link com.github.griffty.finalproject.world.entities.components.interfaces.ICollidable}.</p>
  */
 @Data
 public abstract class AbstractEnemyComponent extends Component implements ICollidable, IVisual {
+    /** World this enemy walks through; source of the map and the player's variables. */
+    private final WorldManager world;
     private final EnemyType enemyType;
 
     private final int damage;
     private final int maxHealth;
     private int health;
+    /**
+     * Damage of homing projectiles still in flight towards this enemy. Maintained by the
+     * projectiles themselves and never saved; restored projectiles reserve it again.
+     */
+    private int pendingDamage;
+    /**
+     * Index of this enemy's slot in the world's status effects, or -1 while it has none.
+     * Maintained by {@link com.github.griffty.finalproject.world.entities.StatusEffects}.
+     */
+    private int effectSlot = -1;
 
     private final int reward;
 
@@ -36,21 +53,23 @@ public abstract class AbstractEnemyComponent extends Component implements IColli
     /**
      * Creates an enemy with navigation and combat properties.
      *
-     * <p>Ground enemies begin at checkpoint zero, while air enemies skip directly to the
+     * <p>Ground and swarm enemies begin at checkpoint zero, while air enemies skip directly to the
      * end point, mirroring the map's intended traversal. Initial health is stored as both
      * {@code maxHealth} and mutable {@code health} for future UI or scaling needs.</p>
      *
+     * @param world     world the enemy belongs to
      * @param enemyType type of enemy
      * @param health    starting and maximum health
      * @param damage    damage dealt to the player base
      * @param reward    currency reward for defeating
      * @param speed     movement speed
      */
-    public AbstractEnemyComponent(EnemyType enemyType, int health, int damage, int reward, double speed) {
+    public AbstractEnemyComponent(WorldManager world, EnemyType enemyType, int health, int damage, int reward, double speed) {
+        this.world = world;
         this.enemyType = enemyType;
-        this.nextCheckPoint = enemyType == EnemyType.Ground
-                ? WorldManager.get().getMapManager().getGameMap().getNextCheckPoint(0)
-                : WorldManager.get().getMapManager().getGameMap().getEndPoint();
+        this.nextCheckPoint = enemyType == EnemyType.Air
+                ? world.getMapManager().getGameMap().getEndPoint()
+                : world.getMapManager().getGameMap().getNextCheckPoint(0);
 
 
         this.maxHealth = health;
@@ -62,9 +81,25 @@ public abstract class AbstractEnemyComponent extends Component implements IColli
 
     @Override
     public void onAdded() {
-        visuals = registerVisuals();
-        entity.getViewComponent().addChild(visuals);
-        entity.getBoundingBoxComponent().addHitBox(registerCollision());
+        if (!world.isHeadless()) {
+            visuals = registerVisuals();
+            entity.getViewComponent().addChild(visuals);
+        }
+    }
+
+    /**
+     * Frees the enemy's status effect slot, whether it died or reached the base.
+     */
+    @Override
+    public void onRemoved() {
+        world.getStatusEffects().remove(this);
+    }
+
+    @Override
+    public void syncVisuals() {
+        if (visuals != null) {
+            visuals.setRotate(currentAngle);
+        }
     }
 
     @Override
@@ -75,36 +110,86 @@ public abstract class AbstractEnemyComponent extends Component implements IColli
         double angle = Math.toDegrees(Math.atan2(dir.getY(), dir.getX())) + 90;
 
         currentAngle = smoothRotate(currentAngle, angle, tpf, 180);
-        visuals.setRotate(currentAngle);
+        /* The angle is simulation state; only its view is skipped while culled or too small to see. */
+        if (LevelOfDetail.showsRotation(visuals, Constants.TILE_SIZE / 2.0)) {
+            visuals.setRotate(currentAngle);
+        }
 
         double distance = dir.magnitude();
-        if (distance < 5) {
-            if (nextCheckPoint.id() == 9){
-                entity.removeFromWorld();
-                WorldManager.get().getPlayerVariableHandler().reduceHealth(damage);
+        if (distance < arrivalRadius()) {
+            if (nextCheckPoint.equals(world.getMapManager().getGameMap().getEndPoint())) {
+                reachedBase();
                 return;
             }
-            nextCheckPoint = WorldManager.get().getMapManager().getGameMap().getNextCheckPoint(nextCheckPoint.id());
+            nextCheckPoint = world.getMapManager().getGameMap().getNextCheckPoint(nextCheckPoint.id());
             return;
         }
 
-        dir = dir.normalize();
+        dir = steer(dir.normalize());
+
+        entity.translate(dir.multiply(speed * world.getStatusEffects().speedFactor(this) * tpf));
+    }
+
+    /**
+     * Damages the player's base and takes the enemy out of the world.
+     */
+    protected void reachedBase() {
+        entity.removeFromWorld();
+        world.getPlayerVariableHandler().reduceHealth(damage);
+    }
+
+    /**
+     * Takes the enemy out of the world once its health has dropped to zero. Called by
+     * {@link com.github.griffty.finalproject.world.entities.DamageBuffer} after the killer
+     * was credited; the reward is paid separately.
+     */
+    public void killed() {
+        entity.removeFromWorld();
+    }
 
-        entity.translate(dir.multiply(speed * tpf));
+    /**
+     * @return distance to a checkpoint at which it counts as reached
+     */
+    protected double arrivalRadius() {
+        return 5;
+    }
+
+    /**
+     * Turns the direction towards the next checkpoint into the direction the enemy moves in
+     * this tick. Enemies go straight by default.
+     *
+     * @param pathDirection unit vector towards the next checkpoint
+     * @return direction of movement, at most one unit long so the enemy never exceeds its speed
+     */
+    protected Point2D steer(Point2D pathDirection) {
+        return pathDirection;
     }
 
 
     /**
-     * Applies incoming damage and removes the enemy when health reaches zero.
+     * Adds damage of a projectile that is now on its way to this enemy.
      *
-     * @param damage amount of damage taken
+     * @param damage damage the projectile will deal
      */
-    public void dealDamage(int damage) {
-        this.health -= damage;
-        if (health <= 0) {
-            WorldManager.get().getPlayerVariableHandler().addMoney(reward);
-            entity.removeFromWorld();
-        }
+    public void reserveDamage(int damage) {
+        pendingDamage += damage;
+    }
+
+    /**
+     * Removes damage reserved by {@link #reserveDamage(int)} once the projectile hit or expired.
+     *
+     * @param damage damage that was reserved
+     */
+    public void releaseDamage(int damage) {
+        pendingDamage -= damage;
+    }
+
+    /**
+     * @return true if the projectiles already in flight will kill this enemy, so towers
+     *         should not spend more shots on it
+     */
+    public boolean isDoomed() {
+        return health - pendingDamage <= 0;
     }
 
     /**
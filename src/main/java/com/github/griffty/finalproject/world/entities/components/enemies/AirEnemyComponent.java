@@ -1,30 +1,28 @@
 package com.github.griffty.finalproject.world.entities.components.enemies;
 
-import com.almasb.fxgl.physics.BoundingShape;
-import com.almasb.fxgl.physics.HitBox;
 import com.almasb.fxgl.texture.Texture;
 import com.github.griffty.finalproject.Constants;
-import javafx.geometry.Point2D;
+import com.github.griffty.finalproject.util.TextureCache;
+import com.github.griffty.finalproject.world.WorldManager;
 import javafx.scene.Node;
 
-import static com.almasb.fxgl.dsl.FXGLForKtKt.texture;
 
 /**
  * Flying enemy that travels straight to the final checkpoint, bypassing intermediate waypoints.
  */
 public class AirEnemyComponent extends AbstractEnemyComponent{
     private int size = 20;
-    public AirEnemyComponent(int health, int damage, int reward, double speed) {
-        super(EnemyType.Air, health, damage, reward, speed);
+    public AirEnemyComponent(WorldManager world, int health, int damage, int reward, double speed) {
+        super(world, EnemyType.Air, health, damage, reward, speed);
     }
     @Override
-    public HitBox registerCollision() {
-        return new HitBox(new Point2D(-size/2, -size/2), BoundingShape.circle(size));
+    public double getCollisionRadius() {
+        return size;
     }
 
     @Override
     public Node registerVisuals() {
-        Texture sprite = texture("enemies/airEnemy.png");
+        Texture sprite = TextureCache.texture("enemies/airEnemy.png");
 
         sprite.setFitWidth(Constants.TILE_SIZE/2);
         sprite.setFitHeight(Constants.TILE_SIZE/2);
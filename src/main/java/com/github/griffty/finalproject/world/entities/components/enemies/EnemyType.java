@@ -2,5 +2,6 @@ package com.github.griffty.finalproject.world.entities.components.enemies;
 
 public enum EnemyType {
     Ground,
-    Air
+    Air,
+    Swarm
 }
@@ -1,30 +1,28 @@
 package com.github.griffty.finalproject.world.entities.components.enemies;
 
-import com.almasb.fxgl.physics.BoundingShape;
-import com.almasb.fxgl.physics.HitBox;
 import com.almasb.fxgl.texture.Texture;
 import com.github.griffty.finalproject.Constants;
-import javafx.geometry.Point2D;
+import com.github.griffty.finalproject.util.TextureCache;
+import com.github.griffty.finalproject.world.WorldManager;
 import javafx.scene.Node;
 
-import static com.almasb.fxgl.dsl.FXGLForKtKt.texture;
 
 /**
  * Standard ground unit that follows map checkpoints across the road path.
  */
 public class GroundEnemyComponent extends AbstractEnemyComponent{
     private int size = 20;
-    public GroundEnemyComponent(int health, int damage, int reward, double speed) {
-        super(EnemyType.Ground, health, damage, reward, speed);
+    public GroundEnemyComponent(WorldManager world, int health, int damage, int reward, double speed) {
+        super(world, EnemyType.Ground, health, damage, reward, speed);
     }
     @Override
-    public HitBox registerCollision() {
-        return new HitBox(new Point2D(-size/2, -size/2), BoundingShape.circle(size));
+    public double getCollisionRadius() {
+        return size;
     }
 
     @Override
     public Node registerVisuals() {
-        Texture sprite = texture("enemies/groundEnemy.png");
+        Texture sprite = TextureCache.texture("enemies/groundEnemy.png");
 
         sprite.setFitWidth(Constants.TILE_SIZE/2);
         sprite.setFitHeight(Constants.TILE_SIZE/2);
@@ -0,0 +1,372 @@
+package com.github.griffty.finalproject.world.entities.components.enemies;
+
+import com.almasb.fxgl.texture.Texture;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.LevelOfDetail;
+import com.github.griffty.finalproject.util.TextureCache;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EnemyBuffer;
+import com.github.griffty.finalproject.world.map.GameMap;
+import javafx.geometry.Point2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import lombok.Getter;
+
+/**
+ * Identical ground enemies walking the road one behind the other, simulated as one entity.
+ *
+ * <p>When the wave script turns {@link com.github.griffty.finalproject.world.WaveScript#hordes()
+ * hordes} on, {@link com.github.griffty.finalproject.world.EnemyManager} lets a new ground
+ * enemy {@link #join join} the horde ahead of it instead of spawning, as long as the two are
+ * alike and the gap between them matches the horde's spacing. The entity is the front member;
+ * the other members trail it along the road, spread evenly over the horde's {@link #getLength()
+ * length}, and are never simulated on their own, so a horde costs what a single enemy costs
+ * however many it holds. Enemies spawned on the same tick stand on the same spot, so a horde
+ * fed several spawns per tick spreads them over a tick's walk.
+ * Their health is pooled: the front's own plus full health for every member behind it. When
+ * the front dies or reaches the base, the member behind takes its place with full health, so
+ * towers kill a horde member by member and every kill pays its reward.</p>
+ *
+ * <p>Area damage {@link #split splits} the members a blast covers off a horde as single
+ * enemies, so the blast hits each of them, and a hit carrying a status effect or a chain
+ * strike {@link #detachFront detaches} the front, so a slow or burn never acts on a whole
+ * horde. The pieces are hordes of one and
+ * {@link #merge merge} again once they walk in step with full health and no effects.
+ * Drawn up close (see {@link LevelOfDetail#isCloseUp()}) every member gets a sprite; further
+ * out the front's sprite shows the count. The camera only changes the drawing, never the
+ * simulation, so replays stay in sync.</p>
+ */
+public class HordeEnemyComponent extends GroundEnemyComponent {
+    /** Widest gap between two members. */
+    public static final double MAX_SPACING = Constants.TILE_SIZE / 2.0;
+    /** Longest stretch of road a horde covers from its front to its last member. */
+    public static final double MAX_LENGTH = Constants.TILE_SIZE * 2;
+    /** Gaps that differ from the spacing by up to this many ticks of walking still join. */
+    private static final double JOIN_TOLERANCE_TICKS = 1.5;
+    /** Most members drawn behind the front up close; a longer horde's tail is left out. */
+    private static final int MAX_DRAWN_MEMBERS = 64;
+
+    /** Members, the front included. */
+    @Getter private int count = 1;
+    /** Distance along the road from the front to the last member. */
+    @Getter private double length;
+
+    private Group members;
+    private Text badge;
+
+    public HordeEnemyComponent(WorldManager world, int health, int damage, int reward, double speed) {
+        super(world, health, damage, reward, speed);
+    }
+
+    /**
+     * Sets the members of a horde restored from a save.
+     *
+     * @param count  members, the front included
+     * @param length distance along the road from the front to the last member
+     */
+    public void restore(int count, double length) {
+        this.count = count;
+        this.length = length;
+    }
+
+    /**
+     * @return distance along the road between two members, zero for a single enemy
+     */
+    public double getSpacing() {
+        return count > 1 ? length / (count - 1) : 0;
+    }
+
+    /**
+     * @param other enemy to compare with
+     * @return true if both have the same stats and neither carries status effects, so one can
+     *         join the other
+     */
+    public boolean isLike(HordeEnemyComponent other) {
+        return getMaxHealth() == other.getMaxHealth() && getDamage() == other.getDamage()
+                && getReward() == other.getReward() && getSpeed() == other.getSpeed()
+                && getEffectSlot() < 0 && other.getEffectSlot() < 0;
+    }
+
+    /**
+     * @return distance along the road from the start point to the front
+     */
+    public double routeDistance() {
+        return getWorld().getMapManager().getGameMap().routeDistance(getNextCheckPoint(), getEntity().getPosition());
+    }
+
+    /**
+     * @return distance along the road from the start point to the last member
+     */
+    public double tailDistance() {
+        return routeDistance() - length;
+    }
+
+    /**
+     * @return where the last member walks
+     */
+    public GameMap.RoutePosition tail() {
+        return getWorld().getMapManager().getGameMap().routeBehind(getNextCheckPoint(), getEntity().getPosition(), length);
+    }
+
+    /**
+     * Adds a member at the back, standing for an enemy that has just spawned at the start point.
+     *
+     * @param tpf length of a tick in seconds
+     * @return true if the member joined; otherwise the enemy has to spawn on its own
+     * @see #absorb
+     */
+    public boolean join(double tpf) {
+        return absorb(0, 1, 0, tpf);
+    }
+
+    /**
+     * Takes in a horde walking right behind the last member, whose front has full health, and
+     * takes it out of the world.
+     *
+     * @param behind horde like this one, behind it on the road
+     * @param tpf    length of a tick in seconds
+     * @return true if the hordes merged
+     * @see #absorb
+     */
+    public boolean merge(HordeEnemyComponent behind, double tpf) {
+        if (behind == this || !isLike(behind) || behind.getHealth() < behind.getMaxHealth()
+                || !absorb(behind.routeDistance(), behind.count, behind.length, tpf)) {
+            return false;
+        }
+        behind.getEntity().removeFromWorld();
+        return true;
+    }
+
+    /**
+     * Adds members walking behind the last one.
+     *
+     * <p>They are accepted if the gap between them and the last member, and their own spacing,
+     * match this horde's spacing up to {@link #JOIN_TOLERANCE_TICKS} ticks of walking, since
+     * spawns land on whole ticks, and the horde would not grow longer than {@link #MAX_LENGTH}.
+     * A single enemy has no spacing yet and takes a gap of up to {@link #MAX_SPACING}. The
+     * horde then reaches back to the last new member and its members spread out evenly again,
+     * so the rounding of spawn times does not add up along the horde.</p>
+     *
+     * @param frontDistance distance along the road from the start point to the first new member
+     * @param members       number of new members
+     * @param membersLength distance along the road from the first to the last new member
+     * @param tpf           length of a tick in seconds
+     * @return true if the members joined
+     */
+    private boolean absorb(double frontDistance, int members, double membersLength, double tpf) {
+        double front = routeDistance();
+        double gap = front - length - frontDistance;
+        double newLength = front - frontDistance + membersLength;
+        if (gap < 0 || newLength > MAX_LENGTH) {
+            return false;
+        }
+        double tolerance = getSpeed() * tpf * JOIN_TOLERANCE_TICKS;
+        double spacing = count > 1 ? getSpacing() : members > 1 ? membersLength / (members - 1) : gap;
+        if (spacing > MAX_SPACING || Math.abs(gap - spacing) > tolerance
+                || members > 1 && Math.abs(membersLength / (members - 1) - spacing) > tolerance) {
+            return false;
+        }
+        count += members;
+        length = newLength;
+        return true;
+    }
+
+    /**
+     * @return health of all members together
+     */
+    public long pooledHealth() {
+        return getHealth() + (long) (count - 1) * getMaxHealth();
+    }
+
+    /**
+     * @return true if the projectiles in flight will kill every member
+     */
+    @Override
+    public boolean isDoomed() {
+        return pooledHealth() - getPendingDamage() <= 0;
+    }
+
+    @Override
+    public void killed() {
+        if (count == 1) {
+            super.killed();
+        } else {
+            advance();
+        }
+    }
+
+    @Override
+    protected void reachedBase() {
+        if (count == 1) {
+            super.reachedBase();
+        } else {
+            /* Members within the arrival radius arrive together, as single enemies would. */
+            GameMap.CheckPoint end = getNextCheckPoint();
+            int arrived = 0;
+            do {
+                arrived++;
+                advance();
+            } while (count > 1 && getNextCheckPoint() == end
+                    && getEntity().getPosition().distance(end.point()) < arrivalRadius());
+            getWorld().getPlayerVariableHandler().reduceHealth(arrived * getDamage());
+            /* The new front walks on this tick, as it would have on its own. */
+            Point2D dir = getNextCheckPoint().point().subtract(getEntity().getPosition());
+            getEntity().translate(dir.normalize().multiply(Math.min(dir.magnitude(), getSpeed() * getWorld().getTickDuration())));
+        }
+    }
+
+    /**
+     * Replaces the front with the member behind it.
+     */
+    private void advance() {
+        double spacing = getSpacing();
+        GameMap.RoutePosition next = getWorld().getMapManager().getGameMap()
+                .routeBehind(getNextCheckPoint(), getEntity().getPosition(), spacing);
+        count--;
+        length -= spacing;
+        setHealth(getMaxHealth());
+        setNextCheckPoint(next.next());
+        getEntity().setPosition(next.point());
+    }
+
+    /**
+     * Lets the front leave the horde as a horde of its own, with the health it has left, and
+     * moves the member behind it up.
+     *
+     * @return the former front
+     */
+    public HordeEnemyComponent detachFront() {
+        WorldManager world = getWorld();
+        HordeEnemyComponent front = new HordeEnemyComponent(world, getMaxHealth(), getDamage(), getReward(), getSpeed());
+        front.setHealth(getHealth());
+        front.setNextCheckPoint(getNextCheckPoint());
+        front.setCurrentAngle(getCurrentAngle());
+        world.getEnemyManager().spawn(front, getEntity().getPosition());
+        advance();
+        return front;
+    }
+
+    /**
+     * Breaks the horde up where a blast covers it: every member behind the front whose
+     * collision circle overlaps the blast becomes a horde of one at its place on the road, with
+     * full health and without status effects, and the members behind them walk on as a horde
+     * of their own. This component goes on as the front alone.
+     *
+     * <p>Members are taken from the front backwards until the first one out of reach, so a
+     * horde folded around a corner keeps the members that come back into reach further down.</p>
+     *
+     * @param x      blast centre x in world units
+     * @param y      blast centre y in world units
+     * @param radius blast radius
+     * @param out    receives the members in reach; not cleared
+     */
+    public void split(double x, double y, double radius, EnemyBuffer out) {
+        WorldManager world = getWorld();
+        GameMap map = world.getMapManager().getGameMap();
+        double spacing = getSpacing();
+        double reach = radius + getCollisionRadius();
+        GameMap.RoutePosition member = new GameMap.RoutePosition(getEntity().getPosition(), getNextCheckPoint());
+        int k = 1;
+        for (; k < count; k++) {
+            member = map.routeBehind(member.next(), member.point(), spacing);
+            if (member.point().distance(x, y) > reach) {
+                break;
+            }
+            out.add(spawnMember(member, 1, 0));
+        }
+        if (k < count) {
+            spawnMember(member, count - k, (count - 1 - k) * spacing);
+        }
+        count = 1;
+        length = 0;
+        syncMembers();
+    }
+
+    /**
+     * Spawns a horde like this one at full health.
+     */
+    private HordeEnemyComponent spawnMember(GameMap.RoutePosition at, int members, double membersLength) {
+        HordeEnemyComponent enemy = new HordeEnemyComponent(getWorld(), getMaxHealth(), getDamage(), getReward(), getSpeed());
+        enemy.restore(members, membersLength);
+        enemy.setNextCheckPoint(at.next());
+        enemy.setCurrentAngle(getCurrentAngle());
+        getWorld().getEnemyManager().spawn(enemy, at.point());
+        return enemy;
+    }
+
+    @Override
+    public void onAdded() {
+        super.onAdded();
+        if (getWorld().isHeadless()) {
+            return;
+        }
+        members = new Group();
+        badge = new Text();
+        badge.setFont(Font.font("System", FontWeight.BOLD, 18));
+        badge.setFill(Color.WHITE);
+        badge.setStroke(Color.BLACK);
+        badge.setStrokeWidth(1);
+        badge.setTranslateX(Constants.TILE_SIZE / 4.0);
+        badge.setTranslateY(-Constants.TILE_SIZE / 4.0);
+        /* Beside the front's sprite rather than inside it, so turning the front does not
+         * swing the members around. */
+        getEntity().getViewComponent().addChild(members);
+        getEntity().getViewComponent().addChild(badge);
+        syncMembers();
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        super.onUpdate(tpf);
+        if (members != null && members.getScene() != null) {
+            syncMembers();
+        }
+    }
+
+    @Override
+    public void syncVisuals() {
+        super.syncVisuals();
+        syncMembers();
+    }
+
+    /**
+     * Draws the members behind the front when up close, or the count on the front otherwise.
+     */
+    private void syncMembers() {
+        if (members == null) {
+            return;
+        }
+        boolean closeUp = LevelOfDetail.isCloseUp();
+        badge.setVisible(count > 1 && !closeUp);
+        badge.setText("x" + count);
+        int drawn = closeUp ? Math.min(count - 1, MAX_DRAWN_MEMBERS) : 0;
+        while (members.getChildren().size() < drawn) {
+            Texture sprite = TextureCache.texture("enemies/groundEnemy.png");
+            sprite.setFitWidth(Constants.TILE_SIZE / 2.0);
+            sprite.setFitHeight(Constants.TILE_SIZE / 2.0);
+            members.getChildren().add(sprite);
+        }
+        members.getChildren().remove(drawn, members.getChildren().size());
+        if (drawn == 0) {
+            return;
+        }
+
+        GameMap map = getWorld().getMapManager().getGameMap();
+        Point2D front = getEntity().getPosition();
+        double spacing = getSpacing();
+        GameMap.RoutePosition member = new GameMap.RoutePosition(front, getNextCheckPoint());
+        for (int k = 0; k < drawn; k++) {
+            member = map.routeBehind(member.next(), member.point(), spacing);
+            Point2D offset = member.point().subtract(front);
+            Point2D heading = member.next().point().subtract(member.point());
+            Node sprite = members.getChildren().get(k);
+            sprite.setTranslateX(offset.getX() - Constants.TILE_SIZE / 4.0);
+            sprite.setTranslateY(offset.getY() - Constants.TILE_SIZE / 4.0);
+            sprite.setRotate(Math.toDegrees(Math.atan2(heading.getY(), heading.getX())) + 90);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.griffty.finalproject.world.entities.components.enemies;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EnemyGrid;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+
+/**
+ * Tiny ground unit that arrives in groups of dozens to hundreds and spreads out around the
+ * road instead of stacking on one point.
+ *
+ * <p>Every tick a unit is pushed away from the other swarm units closer than
+ * {@link #SEPARATION_RADIUS}, found through the world's {@link EnemyGrid} rather than by
+ * checking every pair, and the push is blended with the direction along the path.
+ * Checkpoints count as reached from farther away than for other enemies, so units pushed
+ * aside do not circle them.</p>
+ */
+public class SwarmEnemyComponent extends AbstractEnemyComponent {
+    /** Distance between unit centres below which units push each other apart. */
+    public static final double SEPARATION_RADIUS = 28;
+    /** Weight of the push relative to the direction along the path. */
+    private static final double SEPARATION_WEIGHT = 1.2;
+    private static final double SIZE = 8;
+
+    public SwarmEnemyComponent(WorldManager world, int health, int damage, int reward, double speed) {
+        super(world, EnemyType.Swarm, health, damage, reward, speed);
+    }
+
+    @Override
+    public double getCollisionRadius() {
+        return SIZE;
+    }
+
+    @Override
+    protected double arrivalRadius() {
+        return Constants.TILE_SIZE * 0.35;
+    }
+
+    @Override
+    protected Point2D steer(Point2D pathDirection) {
+        Point2D push = getWorld().getEnemyGrid().separation(this, SEPARATION_RADIUS);
+        Point2D heading = pathDirection.add(push.multiply(SEPARATION_WEIGHT));
+        double length = heading.magnitude();
+        return length > 1 ? heading.multiply(1 / length) : heading;
+    }
+
+    @Override
+    public Node registerVisuals() {
+        Circle body = new Circle(SIZE, Color.DARKRED);
+        body.setStroke(Color.BLACK);
+        body.setStrokeWidth(2);
+        return body;
+    }
+}
@@ -1,28 +1,21 @@
 package com.github.griffty.finalproject.world.entities.components.interfaces;
 
-import com.almasb.fxgl.physics.HitBox;
-
 /**
- * Contract for entities that expose a collision shape to the physics system.
- *
- * <p>Implementations should return a configured {@link HitBox} that describes the
- * collision bounds for the entity. The returned HitBox will be used by FXGL's
- * physics and collision handlers to detect and resolve collisions involving the entity.</p>
+ * Contract for entities that take part in projectile–enemy collision detection.
  *
- * <p>Implementers are responsible for creating the HitBox with the appropriate
- * name, shape and local offset to match the entity's visual representation.
- * The HitBox may be recreated each call or cached and returned, depending on
- * the implementation's lifecycle and performance considerations.</p>
+ * <p>Every collidable entity is a circle centred at the entity position, which is also
+ * where its view is centred. The circles are read by
+ * {@link com.github.griffty.finalproject.world.entities.ProjectileEnemyBroadphase} once per
+ * tick; there is no per-entity hit box or physics state.</p>
  */
 public interface ICollidable {
     /**
-     * Register and return this entity's collision hit box.
+     * Radius of this entity's collision circle.
      *
-     * <p>The returned {@link HitBox} should represent the collision area in the
-     * entity's local coordinate space. Name the HitBox sensibly if multiple boxes
-     * are used (for example \"BODY\", \"HIT\").</p>
+     * <p>Read every tick, so implementations should return a stored value rather than
+     * compute it.</p>
      *
-     * @return a {@link HitBox} describing the entity's collision bounds
+     * @return collision radius in world units
      */
-    public HitBox registerCollision();
+    double getCollisionRadius();
 }
@@ -22,4 +22,13 @@ public interface IVisual {
      * @return a JavaFX {@link Node} representing the entity's visuals
      */
     public Node registerVisuals();
+
+    /**
+     * Bring the visual node up to date with the simulation state.
+     *
+     * <p>Views of entities outside the viewport are taken out of the scene and skip their
+     * per-tick updates; this is called when such a view is put back. Does nothing by default,
+     * for visuals that never change after creation.</p>
+     */
+    default void syncVisuals() { }
 }
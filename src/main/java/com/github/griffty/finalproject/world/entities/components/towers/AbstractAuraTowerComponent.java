@@ -0,0 +1,53 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import lombok.Getter;
+
+/**
+ * Base component for support towers that never shoot but raise the fire rate or range of the
+ * attacking towers on tiles at most {@link #REACH_TILES} away, diagonals included.
+ *
+ * <p>The bonus is handed out by {@link TowerAuras} when either tower is placed or sold, so an
+ * aura tower has nothing to do during a tick: {@link #onUpdate(double)} does no work. Bonuses
+ * of several aura towers add up; aura towers do not boost each other.</p>
+ */
+@Getter
+public abstract class AbstractAuraTowerComponent extends AbstractTowerComponent {
+    /** Largest distance in tiles, along either axis, of the towers an aura reaches. */
+    public static final int REACH_TILES = 2;
+
+    /** Fire rate increase in percent given to every tower in reach. */
+    private final int fireRateAura;
+    /** Range increase in percent given to every tower in reach. */
+    private final int rangeAura;
+    private final Color color;
+
+    /**
+     * @param world        world the tower stands in
+     * @param towerType    tower identity
+     * @param fireRateAura fire rate increase in percent given to towers in reach
+     * @param rangeAura    range increase in percent given to towers in reach
+     * @param color        body colour of the tower's disc
+     */
+    protected AbstractAuraTowerComponent(WorldManager world, TowerType towerType, int fireRateAura, int rangeAura, Color color) {
+        super(world, towerType, 0, 0);
+        this.fireRateAura = fireRateAura;
+        this.rangeAura = rangeAura;
+        this.color = color;
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+    }
+
+    @Override
+    public void shoot() {
+    }
+
+    @Override
+    public Node registerVisuals() {
+        return discVisuals(color);
+    }
+}
@@ -0,0 +1,69 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.StatusEffect;
+import com.github.griffty.finalproject.world.entities.components.bulets.FollowingProjectileComponent;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import lombok.Getter;
+
+import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
+
+/**
+ * Base for towers whose weak homing shots apply a {@link StatusEffect} to the enemy they hit.
+ *
+ * <p>The effect instance is shared by every shot of the tower; how repeated hits combine is
+ * up to {@link com.github.griffty.finalproject.world.entities.StatusEffects}. The tower is
+ * drawn with {@link #discVisuals(Color)}, so new variants need no sprite.</p>
+ */
+@Getter
+public abstract class AbstractEffectTowerComponent extends AbstractTowerComponent {
+    private static final double PROJECTILE_SPEED = 400;
+    private static final double PROJECTILE_SIZE = 8;
+
+    private final StatusEffect effect;
+    private final int damage;
+    private final Color color;
+
+    /**
+     * @param world     world the tower stands in
+     * @param towerType tower identity
+     * @param cooldown  milliseconds between shots
+     * @param range     targeting radius in world units
+     * @param damage    direct damage of a shot
+     * @param effect    effect applied by every shot
+     * @param color     colour of the tower and its shots
+     */
+    protected AbstractEffectTowerComponent(WorldManager world, TowerType towerType, int cooldown, int range,
+                                           int damage, StatusEffect effect, Color color) {
+        super(world, towerType, cooldown, range);
+        this.damage = damage;
+        this.effect = effect;
+        this.color = color;
+    }
+
+    @Override
+    public void shoot() {
+        if (getTarget() == null) return;
+
+        FollowingProjectileComponent projectile = new FollowingProjectileComponent(
+                getWorld(),
+                this,
+                getTarget(),
+                PROJECTILE_SPEED,
+                getEffectiveRange() * 2,
+                PROJECTILE_SIZE,
+                damage);
+        projectile.setEffect(effect);
+        spawnProjectile(entityBuilder()
+                .type(EntityType.PROJECTILE)
+                .at(entity.getPosition())
+                .with(projectile));
+    }
+
+    @Override
+    public Node registerVisuals() {
+        return discVisuals(color);
+    }
+}
@@ -1,78 +1,134 @@
 package com.github.griffty.finalproject.world.entities.components.towers;
 
+import com.almasb.fxgl.dsl.EntityBuilder;
 import com.almasb.fxgl.entity.Entity;
 import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.Constants;
 import com.github.griffty.finalproject.util.EntityUtil;
-import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.util.LevelOfDetail;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
 import com.github.griffty.finalproject.world.entities.components.interfaces.IVisual;
 import javafx.geometry.Point2D;
+import javafx.scene.Group;
 import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.shape.Rectangle;
+import lombok.AccessLevel;
 import lombok.Data;
-
-import java.util.Optional;
+import lombok.Setter;
 
 /**
  * Base component for all towers: handles targeting, firing cadence, and visuals lifecycle.
  *
  * <p>Concrete towers only implement {@link #shoot()} and {@link #registerVisuals()} to define
  * custom ammo behavior and artwork. The base class takes care of acquiring the closest target
- * within range, rotating the sprite to face it, and enforcing the configured cooldown between
- * shots.</p>
+ * within range through the world's
+ * {@link com.github.griffty.finalproject.world.entities.EnemyGrid}, rotating the sprite to
+ * face it, and enforcing the configured cooldown between shots. Enemies that homing
+ * projectiles already in flight will kill (see {@link AbstractEnemyComponent#isDoomed()}) are
+ * neither fired at nor picked as targets, so no shots are wasted on overkill.</p>
+ *
+ * <p>Support towers nearby raise the fire rate and range. Their bonuses are added up when a
+ * tower is placed or sold (see {@link TowerAuras}) and turned into an effective cooldown and
+ * range right away, so a tick only reads those two values.</p>
  */
 @Data
 public abstract class AbstractTowerComponent extends Component implements IVisual {
+    /** World the tower stands in; targets and projectiles live there. */
+    private final WorldManager world;
     /** Tower identity for UI/stat tracking. */
     private final TowerType towerType;
     /** Cooldown in milliseconds between shots. */
     private final int cooldown;
     /** Attack radius in world units. */
     private final int range;
+    /** Fire rate increase in percent granted by support towers in reach. */
+    @Setter(AccessLevel.NONE)
+    private int fireRateBonus;
+    /** Range increase in percent granted by support towers in reach. */
+    @Setter(AccessLevel.NONE)
+    private int rangeBonus;
+    /** Milliseconds between shots after {@link #fireRateBonus}. */
+    @Setter(AccessLevel.NONE)
+    private double effectiveCooldown;
+    /** Attack radius in world units after {@link #rangeBonus}. */
+    @Setter(AccessLevel.NONE)
+    private double effectiveRange;
     /** Visual node representing this tower; added/removed with the component. */
     private Node visuals;
 
     private int shotsFired = 0;
     private int enemiesKilled = 0;
-    public AbstractTowerComponent(TowerType towerType, int cooldown, int range) {
+    public AbstractTowerComponent(WorldManager world, TowerType towerType, int cooldown, int range) {
+        this.world = world;
         this.towerType = towerType;
         this.cooldown = cooldown;
         this.range = range;
+        this.effectiveCooldown = cooldown;
+        this.effectiveRange = range;
     }
 
     @Override
     public void onAdded() {
         super.onAdded();
-        visuals = registerVisuals();
-        entity.getViewComponent().addChild(visuals);
+        if (!world.isHeadless()) {
+            visuals = registerVisuals();
+            entity.getViewComponent().addChild(visuals);
+        }
     }
 
     @Override
     public void onRemoved() {
         super.onRemoved();
-        entity.getViewComponent().removeChild(visuals);
+        if (visuals != null) {
+            entity.getViewComponent().removeChild(visuals);
+        }
     }
 
     private Entity target;
 
-    private long lastShotTime = System.currentTimeMillis();
+    /** Simulation seconds since the last shot (or since placement). Driven by tick time only. */
+    private double timeSinceLastShot = 0;
 
     @Override
     public void onUpdate(double tpf) {
         super.onUpdate(tpf);
+        timeSinceLastShot += tpf;
 
         boolean validTarget = isValidTarget(target);
         if (validTarget){
-            Point2D dir = target.getCenter().subtract(entity.getCenter());
-            double angle = Math.toDegrees(Math.atan2(dir.getY(), dir.getX())) + 90;
-            visuals.setRotate(angle);
-            if (System.currentTimeMillis() - lastShotTime > cooldown) {
+            if (LevelOfDetail.showsRotation(visuals, Constants.TILE_SIZE)) {
+                aimVisuals();
+            }
+            if (timeSinceLastShot * 1000 > effectiveCooldown) {
                 shoot();
                 shotsFired++;
-                lastShotTime = System.currentTimeMillis();
+                timeSinceLastShot = 0;
             }
         }
 
-        Optional<Entity> enemy = EntityUtil.getClosestEntityToPoint(EntityType.ENEMY, entity.getCenter(), range);
-        enemy.ifPresent(value -> target = value);
+        AbstractEnemyComponent enemy = world.getEnemyGrid().closest(entity.getX(), entity.getY(), effectiveRange, e -> !e.isDoomed());
+        if (enemy != null) {
+            target = enemy.getEntity();
+        }
+    }
+
+    @Override
+    public void syncVisuals() {
+        if (visuals != null && isValidTarget(target)) {
+            aimVisuals();
+        }
+    }
+
+    /**
+     * Turns the tower's view towards the current target.
+     */
+    private void aimVisuals() {
+        Point2D dir = target.getCenter().subtract(entity.getCenter());
+        double angle = Math.toDegrees(Math.atan2(dir.getY(), dir.getX())) + 90;
+        visuals.setRotate(angle);
     }
 
     /**
@@ -88,7 +144,56 @@ public abstract class AbstractTowerComponent extends Component implements IVisua
     private boolean isValidTarget(Entity e) {
         if (e == null) return false;
         if (!e.isActive()) return false;
-        return e.getCenter().distance(entity.getCenter()) <= range;
+        if (isDoomed(e)) return false;
+        return e.getCenter().distance(entity.getCenter()) <= effectiveRange;
+    }
+
+    /**
+     * Checks whether the projectiles already flying at an enemy will kill it.
+     */
+    private static boolean isDoomed(Entity e) {
+        return EntityUtil.getOptionalComponent(e, AbstractEnemyComponent.class)
+                .map(AbstractEnemyComponent::isDoomed)
+                .orElse(false);
+    }
+
+    /**
+     * Draws a tower without a sprite as a coloured disc with a barrel pointing up.
+     *
+     * @param color body colour; the outline and barrel are darker shades of it
+     * @return node centred on the tower's position
+     */
+    protected static Node discVisuals(Color color) {
+        double radius = Constants.TILE_SIZE * 0.35;
+        Circle body = new Circle(radius, color);
+        body.setStroke(color.darker());
+        body.setStrokeWidth(4);
+        Rectangle barrel = new Rectangle(-6, -radius, 12, radius);
+        barrel.setFill(color.darker().darker());
+        return new Group(body, barrel);
+    }
+
+    /**
+     * Adds a freshly built projectile to the tower's world.
+     *
+     * @param builder configured projectile builder
+     */
+    protected void spawnProjectile(EntityBuilder builder) {
+        world.getGameWorld().addEntity(builder.build());
+    }
+
+    /**
+     * Adds the bonuses of a support tower that came into reach, or removes them with negative
+     * values, and recomputes the effective cooldown and range.
+     *
+     * @param fireRate fire rate change in percent
+     * @param range    range change in percent
+     */
+    void addAuraBonus(int fireRate, int range) {
+        fireRateBonus += fireRate;
+        rangeBonus += range;
+        effectiveCooldown = cooldown * 100.0 / (100 + fireRateBonus);
+        effectiveRange = this.range * (100 + rangeBonus) / 100.0;
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.StatusEffect;
+import javafx.scene.paint.Color;
+
+/**
+ * Tower whose shots corrode armour: each hit makes the enemy take 15% more damage from every
+ * source for four seconds, stacking up to
+ * {@link com.github.griffty.finalproject.world.entities.StatusEffects#MAX_SHRED_STACKS} times.
+ */
+public class AcidTowerComponent extends AbstractEffectTowerComponent {
+    /** Targeting radius in world units. */
+    public static final int RANGE = 500;
+    /** Applied by every shot. */
+    public static final StatusEffect EFFECT = new StatusEffect(StatusEffect.Kind.SHRED, 0.15f, 4f);
+
+    public AcidTowerComponent(WorldManager world) {
+        super(world, TowerType.Acid, 700, RANGE, 2, EFFECT, Color.YELLOWGREEN);
+    }
+}
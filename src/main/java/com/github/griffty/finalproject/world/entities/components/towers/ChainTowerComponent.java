@@ -0,0 +1,144 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EnemyBuffer;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Polyline;
+
+import java.util.function.Predicate;
+
+/**
+ * Tower striking its target with lightning that jumps on to up to {@link #JUMPS} more enemies.
+ *
+ * <p>Each jump goes to the closest enemy within {@link #JUMP_RADIUS} of the previous one that
+ * the bolt has not struck yet, found with the world's
+ * {@link com.github.griffty.finalproject.world.entities.EnemyGrid}, and deals
+ * {@link #FALLOFF} of the previous strike's damage. The strikes are added to the world's
+ * damage buffer at once, without a projectile. Striking a horde
+ * {@link HordeEnemyComponent#detachFront detaches} its front, and the bolt may jump on to the
+ * member that moved up. The bolt is drawn for a moment as a line through the enemies it struck.</p>
+ */
+public class ChainTowerComponent extends AbstractTowerComponent {
+    /** Targeting radius in world units. */
+    public static final int RANGE = 450;
+    /** Enemies struck after the target, at most. */
+    public static final int JUMPS = 4;
+    /** Farthest a bolt jumps from one enemy to the next, in world units. */
+    public static final double JUMP_RADIUS = Constants.TILE_SIZE * 1.25;
+    /** Damage of the first strike. */
+    public static final int DAMAGE = 6;
+    /** Share of the previous strike's damage dealt by the next one. */
+    public static final double FALLOFF = 0.75;
+    /** Seconds a bolt stays visible. */
+    private static final double BOLT_SECONDS = 0.15;
+
+    /** Enemies struck by the current bolt, reused between shots. */
+    private final EnemyBuffer struck = new EnemyBuffer();
+    private final Predicate<AbstractEnemyComponent> notStruck = e -> !struck.contains(e);
+    /** Hordes struck by the current bolt, whose new fronts the enemy grid may not find. */
+    private final EnemyBuffer struckHordes = new EnemyBuffer();
+
+    private Polyline bolt;
+    private double boltTime;
+
+    public ChainTowerComponent(WorldManager world) {
+        super(world, TowerType.Chain, 800, RANGE);
+    }
+
+    @Override
+    public void onAdded() {
+        super.onAdded();
+        if (!getWorld().isHeadless()) {
+            bolt = new Polyline();
+            bolt.setStroke(Color.LIGHTCYAN);
+            bolt.setStrokeWidth(3);
+            bolt.setVisible(false);
+            entity.getViewComponent().addChild(bolt);
+        }
+    }
+
+    @Override
+    public void onRemoved() {
+        super.onRemoved();
+        if (bolt != null) {
+            entity.getViewComponent().removeChild(bolt);
+        }
+    }
+
+    @Override
+    public void onUpdate(double tpf) {
+        super.onUpdate(tpf);
+        if (boltTime > 0) {
+            boltTime -= tpf;
+            if (boltTime <= 0) {
+                bolt.setVisible(false);
+            }
+        }
+    }
+
+    @Override
+    public void shoot() {
+        if (getTarget() == null) return;
+
+        AbstractEnemyComponent enemy = EntityUtil.getOptionalComponent(getTarget(), AbstractEnemyComponent.class).orElse(null);
+        double damage = DAMAGE;
+        for (int strike = 0; enemy != null && strike <= JUMPS; strike++) {
+            if (enemy instanceof HordeEnemyComponent horde && horde.getCount() > 1) {
+                struckHordes.add(horde);
+                enemy = horde.detachFront();
+            }
+            struck.add(enemy);
+            getWorld().getDamage().add(enemy, (int) Math.max(1, Math.round(damage)), this);
+            damage *= FALLOFF;
+            enemy = nextJump(enemy);
+        }
+        if (bolt != null) {
+            drawBolt();
+        }
+        struck.clear();
+        struckHordes.clear();
+    }
+
+    /**
+     * @return the closest enemy within {@link #JUMP_RADIUS} of {@code from} not struck yet,
+     *         struck hordes' new fronts included, or {@code null} if there is none
+     */
+    private AbstractEnemyComponent nextJump(AbstractEnemyComponent from) {
+        double x = from.getEntity().getX();
+        double y = from.getEntity().getY();
+        AbstractEnemyComponent next = getWorld().getEnemyGrid().closest(x, y, JUMP_RADIUS, notStruck);
+        double closest = next == null ? JUMP_RADIUS : next.getEntity().getPosition().distance(x, y);
+        for (int i = 0; i < struckHordes.size(); i++) {
+            AbstractEnemyComponent horde = struckHordes.get(i);
+            double distance = horde.getEntity().getPosition().distance(x, y);
+            if (distance < closest && !struck.contains(horde)) {
+                closest = distance;
+                next = horde;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Shows the bolt from the tower through every struck enemy.
+     */
+    private void drawBolt() {
+        bolt.getPoints().setAll(0.0, 0.0);
+        for (int i = 0; i < struck.size(); i++) {
+            bolt.getPoints().addAll(struck.get(i).getEntity().getX() - entity.getX(),
+                    struck.get(i).getEntity().getY() - entity.getY());
+        }
+        bolt.setVisible(true);
+        boltTime = BOLT_SECONDS;
+    }
+
+    @Override
+    public Node registerVisuals() {
+        return discVisuals(Color.MEDIUMPURPLE);
+    }
+}
@@ -4,6 +4,8 @@ import com.almasb.fxgl.physics.PhysicsComponent;
 import com.almasb.fxgl.physics.box2d.dynamics.BodyType;
 import com.almasb.fxgl.texture.Texture;
 import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.TextureCache;
+import com.github.griffty.finalproject.world.WorldManager;
 import com.github.griffty.finalproject.world.entities.EntityType;
 import com.github.griffty.finalproject.world.entities.components.bulets.StraightProjectileComponent;
 import javafx.scene.Node;
@@ -12,36 +14,36 @@ import javafx.scene.shape.Circle;
 import javafx.scene.shape.Shape;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
-import static com.almasb.fxgl.dsl.FXGLForKtKt.texture;
 
 /**
  * Rapid-fire tower with moderate range that shoots straight-moving projectiles.
  */
 public class FastTowerComponent extends AbstractTowerComponent {
-    public FastTowerComponent() {
-        super(TowerType.Fast, 200, 400);
+    /** Targeting radius in world units. */
+    public static final int RANGE = 400;
+
+    public FastTowerComponent(WorldManager world) {
+        super(world, TowerType.Fast, 200, RANGE);
     }
 
     @Override
     public void shoot() {
         if (getTarget() == null) return;
 
-        entityBuilder()
+        spawnProjectile(entityBuilder()
                 .type(EntityType.PROJECTILE)
                 .at(entity.getPosition())
-                .with(new StraightProjectileComponent(this,
+                .with(new StraightProjectileComponent(getWorld(), this,
                         getTarget().getPosition().subtract(entity.getPosition()),
                         600,
                         350,
                         7,
-                        3))
-                .collidable()
-                .buildAndAttach();
+                        3)));
     }
 
     @Override
     public Node registerVisuals() {
-        Texture sprite = texture("towers/fastTower.png");
+        Texture sprite = TextureCache.texture("towers/fastTower.png");
 
         sprite.setFitWidth(Constants.TILE_SIZE);
         sprite.setFitHeight(Constants.TILE_SIZE);
@@ -0,0 +1,20 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.StatusEffect;
+import javafx.scene.paint.Color;
+
+/**
+ * Short-range tower whose shots set enemies on fire, dealing 5 damage per second for three
+ * seconds.
+ */
+public class FlameTowerComponent extends AbstractEffectTowerComponent {
+    /** Targeting radius in world units. */
+    public static final int RANGE = 350;
+    /** Applied by every shot. */
+    public static final StatusEffect EFFECT = new StatusEffect(StatusEffect.Kind.BURN, 5f, 3f);
+
+    public FlameTowerComponent(WorldManager world) {
+        super(world, TowerType.Flame, 400, RANGE, 1, EFFECT, Color.ORANGERED);
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.StatusEffect;
+import javafx.scene.paint.Color;
+
+/**
+ * Support tower whose shots halve the speed of the enemy they hit for two seconds.
+ */
+public class FrostTowerComponent extends AbstractEffectTowerComponent {
+    /** Targeting radius in world units. */
+    public static final int RANGE = 450;
+    /** Applied by every shot. */
+    public static final StatusEffect EFFECT = new StatusEffect(StatusEffect.Kind.SLOW, 0.5f, 2f);
+
+    public FrostTowerComponent(WorldManager world) {
+        super(world, TowerType.Frost, 500, RANGE, 1, EFFECT, Color.LIGHTSKYBLUE);
+    }
+}
@@ -0,0 +1,16 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import javafx.scene.paint.Color;
+
+/**
+ * Support tower that makes the towers around it fire a quarter more often.
+ */
+public class HasteTowerComponent extends AbstractAuraTowerComponent {
+    /** Fire rate increase in percent given to towers in reach. */
+    public static final int FIRE_RATE_AURA = 25;
+
+    public HasteTowerComponent(WorldManager world) {
+        super(world, TowerType.Haste, FIRE_RATE_AURA, 0, Color.GOLD);
+    }
+}
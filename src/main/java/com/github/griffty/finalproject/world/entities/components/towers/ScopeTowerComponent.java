@@ -0,0 +1,16 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import javafx.scene.paint.Color;
+
+/**
+ * Support tower that extends the range of the towers around it by a fifth.
+ */
+public class ScopeTowerComponent extends AbstractAuraTowerComponent {
+    /** Range increase in percent given to towers in reach. */
+    public static final int RANGE_AURA = 20;
+
+    public ScopeTowerComponent(WorldManager world) {
+        super(world, TowerType.Scope, 0, RANGE_AURA, Color.TEAL);
+    }
+}
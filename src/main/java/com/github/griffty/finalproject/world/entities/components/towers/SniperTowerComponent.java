@@ -2,6 +2,8 @@ package com.github.griffty.finalproject.world.entities.components.towers;
 
 import com.almasb.fxgl.texture.Texture;
 import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.TextureCache;
+import com.github.griffty.finalproject.world.WorldManager;
 import com.github.griffty.finalproject.world.entities.EntityType;
 import com.github.griffty.finalproject.world.entities.components.bulets.FollowingProjectileComponent;
 import com.github.griffty.finalproject.world.entities.components.bulets.StraightProjectileComponent;
@@ -11,37 +13,38 @@ import javafx.scene.shape.Circle;
 import javafx.scene.shape.Shape;
 
 import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
-import static com.almasb.fxgl.dsl.FXGLForKtKt.texture;
 
 /**
  * Slow but powerful tower that fires homing projectiles over very long distances.
  */
 public class SniperTowerComponent extends AbstractTowerComponent {
-    public SniperTowerComponent() {
-        super(TowerType.Sniper, 1000, 1800);
+    /** Targeting radius in world units. */
+    public static final int RANGE = 1800;
+
+    public SniperTowerComponent(WorldManager world) {
+        super(world, TowerType.Sniper, 1000, RANGE);
     }
 
     @Override
     public void shoot() {
         if (getTarget() == null) return;
 
-        entityBuilder()
+        spawnProjectile(entityBuilder()
                 .type(EntityType.PROJECTILE)
                 .at(entity.getPosition())
                 .with(new FollowingProjectileComponent(
+                        getWorld(),
                         this,
                         getTarget(),
                         250,
                         2500,
                         10,
-                        15))
-                .collidable()
-                .buildAndAttach();
+                        15)));
     }
 
     @Override
     public Node registerVisuals() {
-        Texture sprite = texture("towers/sniperTower.png");
+        Texture sprite = TextureCache.texture("towers/sniperTower.png");
 
         sprite.setFitWidth(Constants.TILE_SIZE);
         sprite.setFitHeight(Constants.TILE_SIZE);
@@ -0,0 +1,49 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.components.bulets.FollowingProjectileComponent;
+import javafx.scene.Node;
+import javafx.scene.paint.Color;
+
+import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
+
+/**
+ * Slow tower lobbing homing shells that damage every enemy within {@link #SPLASH_RADIUS} of
+ * the point of impact.
+ */
+public class SplashTowerComponent extends AbstractTowerComponent {
+    /** Targeting radius in world units. */
+    public static final int RANGE = 500;
+    /** Radius of the blast around the point of impact in world units. */
+    public static final double SPLASH_RADIUS = Constants.TILE_SIZE * 0.75;
+
+    public SplashTowerComponent(WorldManager world) {
+        super(world, TowerType.Splash, 1200, RANGE);
+    }
+
+    @Override
+    public void shoot() {
+        if (getTarget() == null) return;
+
+        FollowingProjectileComponent shell = new FollowingProjectileComponent(
+                getWorld(),
+                this,
+                getTarget(),
+                300,
+                1000,
+                12,
+                8);
+        shell.setSplashRadius(SPLASH_RADIUS);
+        spawnProjectile(entityBuilder()
+                .type(EntityType.PROJECTILE)
+                .at(entity.getPosition())
+                .with(shell));
+    }
+
+    @Override
+    public Node registerVisuals() {
+        return discVisuals(Color.SIENNA);
+    }
+}
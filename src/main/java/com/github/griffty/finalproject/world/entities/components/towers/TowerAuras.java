@@ -0,0 +1,71 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+/**
+ * Keeps the aura bonuses of towers up to date as towers are placed and sold.
+ *
+ * <p>Each change only visits the tiles within {@link AbstractAuraTowerComponent#REACH_TILES}
+ * of the tower placed or sold and adjusts the towers standing there, so it costs the same
+ * however many towers the map holds, and ticks never look for auras at all. Called by
+ * {@link TowerHelper} while the tower is on its tile.</p>
+ */
+final class TowerAuras {
+    private TowerAuras() {
+    }
+
+    /**
+     * Hands the bonuses of a new aura tower to its neighbours, or those of neighbouring aura
+     * towers to a new attacking tower.
+     *
+     * @param tower tower that was just placed
+     * @param tileX its tile column
+     * @param tileY its tile row
+     */
+    static void placed(AbstractTowerComponent tower, int tileX, int tileY) {
+        int reach = AbstractAuraTowerComponent.REACH_TILES;
+        for (int y = tileY - reach; y <= tileY + reach; y++) {
+            for (int x = tileX - reach; x <= tileX + reach; x++) {
+                if (x == tileX && y == tileY) {
+                    continue;
+                }
+                TowerHelper.getTower(tower.getWorld(), x, y).ifPresent(other -> {
+                    if (tower instanceof AbstractAuraTowerComponent aura) {
+                        give(aura, other, 1);
+                    } else if (other instanceof AbstractAuraTowerComponent aura) {
+                        give(aura, tower, 1);
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Takes the bonuses of an aura tower about to be sold back from its neighbours. Attacking
+     * towers keep their own bonuses, which leave with them.
+     *
+     * @param tower tower about to be removed
+     * @param tileX its tile column
+     * @param tileY its tile row
+     */
+    static void removed(AbstractTowerComponent tower, int tileX, int tileY) {
+        if (!(tower instanceof AbstractAuraTowerComponent aura)) {
+            return;
+        }
+        int reach = AbstractAuraTowerComponent.REACH_TILES;
+        for (int y = tileY - reach; y <= tileY + reach; y++) {
+            for (int x = tileX - reach; x <= tileX + reach; x++) {
+                if (x != tileX || y != tileY) {
+                    TowerHelper.getTower(tower.getWorld(), x, y).ifPresent(other -> give(aura, other, -1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds ({@code sign} 1) or removes ({@code sign} -1) an aura's bonuses on an attacking tower.
+     */
+    private static void give(AbstractAuraTowerComponent aura, AbstractTowerComponent tower, int sign) {
+        if (!(tower instanceof AbstractAuraTowerComponent)) {
+            tower.addAuraBonus(sign * aura.getFireRateAura(), sign * aura.getRangeAura());
+        }
+    }
+}
@@ -1,68 +1,186 @@
 package com.github.griffty.finalproject.world.entities.components.towers;
 
 import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.Constants;
 import com.github.griffty.finalproject.ui.side.panels.towers.AbstractTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.AcidTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.ChainTowerPanel;
 import com.github.griffty.finalproject.ui.side.panels.towers.FastTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.FlameTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.FrostTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.HasteTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.ScopeTowerPanel;
 import com.github.griffty.finalproject.ui.side.panels.towers.SniperTowerPanel;
+import com.github.griffty.finalproject.ui.side.panels.towers.SplashTowerPanel;
 import com.github.griffty.finalproject.util.EntityUtil;
 import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.components.GroundComponent;
+import com.github.griffty.finalproject.world.map.TileStates;
+import com.github.griffty.finalproject.world.replay.ReplayCommand;
+import com.github.griffty.finalproject.world.replay.ReplayRecorder;
 import lombok.Getter;
 
 import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.function.Supplier;
+
+import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
 
 /**
  * Central registry for tower blueprints: price, component factory, and UI panel factory.
  *
  * <p>The helper abstracts away tower creation/removal so UI buttons can focus solely on user
- * flow. Towers are registered once in the static block and then reused for pricing, refund
- * calculation, and panel lookups.</p>
+ * flow. Towers are addressed by tile coordinates; the entity hosting a tower is created with
+ * it and removed when it is sold, while the map's {@link TileStates} records the occupancy.
+ * Towers are registered once in the static block and then reused for pricing, refund
+ * calculation, and panel lookups. Every successful purchase or sale is also passed to the
+ * world's {@link ReplayRecorder} so matches can be replayed.</p>
+ *
+ * <p>Placing or selling a tower also updates the aura bonuses of the towers around its tile
+ * (see {@link TowerAuras}).</p>
  */
 public class TowerHelper {
-    /** Blueprint data for a tower type. */
-    public record TowerInfo(int price, Supplier<? extends AbstractTowerComponent> getComponent, Function<AbstractTowerComponent, AbstractTowerPanel> getUI) {}
+    /** Blueprint data for a tower type; {@code range} is the targeting radius in world units. */
+    public record TowerInfo(TowerType type, int price, int range, Function<WorldManager, ? extends AbstractTowerComponent> getComponent, Function<AbstractTowerComponent, AbstractTowerPanel> getUI) {}
+    /** Range listed for aura towers: the distance to the farthest tile centre they reach along an axis. */
+    private static final int AURA_RANGE = AbstractAuraTowerComponent.REACH_TILES * Constants.TILE_SIZE;
     @Getter private static final HashMap<Class<? extends AbstractTowerComponent>, TowerInfo> towerInfoMap = new HashMap<>();
 
     static {
-        towerInfoMap.put(FastTowerComponent.class, new TowerHelper.TowerInfo(50, FastTowerComponent::new, FastTowerPanel::create));
-        towerInfoMap.put(SniperTowerComponent.class, new TowerHelper.TowerInfo(150, SniperTowerComponent::new, SniperTowerPanel::create));
+        towerInfoMap.put(FastTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Fast, 50, FastTowerComponent.RANGE, FastTowerComponent::new, FastTowerPanel::create));
+        towerInfoMap.put(SniperTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Sniper, 150, SniperTowerComponent.RANGE, SniperTowerComponent::new, SniperTowerPanel::create));
+        towerInfoMap.put(FrostTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Frost, 75, FrostTowerComponent.RANGE, FrostTowerComponent::new, FrostTowerPanel::create));
+        towerInfoMap.put(FlameTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Flame, 100, FlameTowerComponent.RANGE, FlameTowerComponent::new, FlameTowerPanel::create));
+        towerInfoMap.put(AcidTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Acid, 100, AcidTowerComponent.RANGE, AcidTowerComponent::new, AcidTowerPanel::create));
+        towerInfoMap.put(SplashTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Splash, 125, SplashTowerComponent.RANGE, SplashTowerComponent::new, SplashTowerPanel::create));
+        towerInfoMap.put(ChainTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Chain, 150, ChainTowerComponent.RANGE, ChainTowerComponent::new, ChainTowerPanel::create));
+        towerInfoMap.put(HasteTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Haste, 120, AURA_RANGE, HasteTowerComponent::new, HasteTowerPanel::create));
+        towerInfoMap.put(ScopeTowerComponent.class, new TowerHelper.TowerInfo(TowerType.Scope, 120, AURA_RANGE, ScopeTowerComponent::new, ScopeTowerPanel::create));
 
     }
 
     /**
-     * Spawns a tower on a ground tile if the player can afford it.
+     * Spawns a tower on a free ground tile if the player can afford it.
      *
-     * @param towerClass  tower component class looked up in {@link #towerInfoMap}
-     * @param groundEntity entity that will host the tower component
-     * @return optional containing the newly added component when purchase succeeds
+     * @param world      world the tile belongs to
+     * @param towerClass tower component class looked up in {@link #towerInfoMap}
+     * @param tileX      tile column
+     * @param tileY      tile row
+     * @return optional containing the newly added component when purchase succeeds; empty
+     *         when the tile is not buildable or the player cannot afford the tower
      */
-    public static Optional<AbstractTowerComponent> addTower(Class<? extends AbstractTowerComponent> towerClass, Entity groundEntity) {
+    public static Optional<AbstractTowerComponent> addTower(WorldManager world, Class<? extends AbstractTowerComponent> towerClass, int tileX, int tileY) {
         TowerInfo info = towerInfoMap.get(towerClass);
-        if (!WorldManager.get().getPlayerVariableHandler().spendMoney(info.price)){
+        if (!tileStates(world).isBuildable(tileX, tileY)) {
+            return Optional.empty();
+        }
+        if (!world.getPlayerVariableHandler().spendMoney(info.price)){
             return Optional.empty();
         }
 
-        AbstractTowerComponent tower = info.getComponent.get();
-        groundEntity.addComponent(tower);
+        AbstractTowerComponent tower = placeTower(world, towerClass, tileX, tileY);
+        recordCommand(world, ReplayCommand.Kind.ADD_TOWER, info.type, tileX, tileY);
         return Optional.of(tower);
     }
 
     /**
-     * Removes a tower from the ground tile and refunds half the purchase price.
+     * Puts a tower on a free ground tile without charging the player or recording a command.
+     *
+     * <p>Creates the tile's entity, which exists only as long as the tower stands. Used when a
+     * saved match is restored.</p>
+     *
+     * @param world      world the tile belongs to
+     * @param towerClass tower component class looked up in {@link #towerInfoMap}
+     * @param tileX      tile column
+     * @param tileY      tile row
+     * @return the newly added component
+     * @throws IllegalArgumentException if the tile is not a free ground tile
+     */
+    public static AbstractTowerComponent placeTower(WorldManager world, Class<? extends AbstractTowerComponent> towerClass, int tileX, int tileY) {
+        TileStates tiles = tileStates(world);
+        if (!tiles.isBuildable(tileX, tileY)) {
+            throw new IllegalArgumentException("Tile " + tileX + ":" + tileY + " is not a free ground tile");
+        }
+        AbstractTowerComponent tower = towerInfoMap.get(towerClass).getComponent.apply(world);
+        Entity entity = entityBuilder()
+                .type(EntityType.TOWER)
+                .at(tileX * Constants.TILE_SIZE + Constants.TILE_SIZE / 2.0, tileY * Constants.TILE_SIZE + Constants.TILE_SIZE / 2.0)
+                .with(new GroundComponent(tileX, tileY))
+                .with(tower)
+                .build();
+        world.getGameWorld().addEntity(entity);
+        tiles.occupy(tileX, tileY, entity);
+        TowerAuras.placed(tower, tileX, tileY);
+        world.getMapManager().tileChanged(tileX, tileY);
+        return tower;
+    }
+
+    /**
+     * Removes the tower from a ground tile, together with its entity, and refunds half the
+     * purchase price.
      *
-     * @param groundEntity entity that currently owns a tower
+     * @param world world the tile belongs to
+     * @param tileX tile column
+     * @param tileY tile row
      * @return true once removal bookkeeping is done; false when no tower was present
      */
-    public static boolean removeTower(Entity groundEntity) {
-        Optional<AbstractTowerComponent> tower = EntityUtil.getOptionalComponent(groundEntity, AbstractTowerComponent.class);
+    public static boolean removeTower(WorldManager world, int tileX, int tileY) {
+        Optional<AbstractTowerComponent> tower = getTower(world, tileX, tileY);
         if (tower.isEmpty()) {
             return false;
         }
 
-        groundEntity.removeComponent(tower.get().getClass());
-        WorldManager.get().getPlayerVariableHandler().addMoney(towerInfoMap.get(tower.get().getClass()).price / 2);
+        TowerInfo info = towerInfoMap.get(tower.get().getClass());
+        TowerAuras.removed(tower.get(), tileX, tileY);
+        tileStates(world).release(tileX, tileY).ifPresent(Entity::removeFromWorld);
+        world.getMapManager().tileChanged(tileX, tileY);
+        world.getPlayerVariableHandler().addMoney(info.price / 2);
+        recordCommand(world, ReplayCommand.Kind.REMOVE_TOWER, info.type, tileX, tileY);
         return true;
     }
+
+    /**
+     * Looks up the tower standing on a tile.
+     *
+     * @param world world the tile belongs to
+     * @param tileX tile column
+     * @param tileY tile row
+     * @return the tower component, or empty for free tiles, road and out-of-bounds coordinates
+     */
+    public static Optional<AbstractTowerComponent> getTower(WorldManager world, int tileX, int tileY) {
+        return tileStates(world).getTower(tileX, tileY)
+                .flatMap(entity -> EntityUtil.getOptionalComponent(entity, AbstractTowerComponent.class));
+    }
+
+    /**
+     * Looks up the component class registered for a tower type.
+     *
+     * @param type tower archetype
+     * @return the registered component class
+     * @throws IllegalArgumentException if no tower of that type is registered
+     */
+    public static Class<? extends AbstractTowerComponent> getTowerClass(TowerType type) {
+        return towerInfoMap.entrySet().stream()
+                .filter(e -> e.getValue().type == type)
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No tower registered for " + type));
+    }
+
+    /**
+     * Passes a successful player command to the replay recorder, if the world records one.
+     */
+    private static void recordCommand(WorldManager world, ReplayCommand.Kind kind, TowerType type, int tileX, int tileY) {
+        ReplayRecorder recorder = world.getReplayRecorder();
+        if (recorder == null) {
+            return;
+        }
+        recorder.record(world.getTick(), kind, type, tileX, tileY);
+    }
+
+    private static TileStates tileStates(WorldManager world) {
+        return world.getMapManager().getGameMap().getTileStates();
+    }
 }
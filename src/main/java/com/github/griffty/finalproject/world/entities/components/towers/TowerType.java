@@ -6,6 +6,9 @@ package com.github.griffty.finalproject.world.entities.components.towers;
  * <p>Each enum constant corresponds to a distinct tower behavior / role:
  * - Fast: rapid-fire, lower damage per shot
  * - Sniper: long-range, high damage, slower fire rate
+ * - Frost, Flame, Acid: weak shots that slow, burn or shred the enemy hit
+ * - Splash, Chain: hit several enemies at once
+ * - Haste, Scope: never shoot, but boost the towers around them
  *
  * <p>This enum is used when creating towers, configuring UI, or selecting
  * tower-specific logic elsewhere in the codebase.</p>
@@ -22,4 +25,39 @@ public enum TowerType {
      * Effective against single, high-health targets.
      */
     Sniper,
+
+    /**
+     * Frost tower: slows the enemies it hits.
+     */
+    Frost,
+
+    /**
+     * Flame tower: sets the enemies it hits on fire.
+     */
+    Flame,
+
+    /**
+     * Acid tower: makes the enemies it hits take more damage.
+     */
+    Acid,
+
+    /**
+     * Splash tower: shells damage every enemy close to the point of impact.
+     */
+    Splash,
+
+    /**
+     * Chain tower: lightning jumps from the target to nearby enemies.
+     */
+    Chain,
+
+    /**
+     * Haste tower: nearby towers fire more often.
+     */
+    Haste,
+
+    /**
+     * Scope tower: nearby towers reach farther.
+     */
+    Scope,
 }
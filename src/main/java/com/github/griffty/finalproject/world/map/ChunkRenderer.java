@@ -0,0 +1,314 @@
+package com.github.griffty.finalproject.world.map;
+
+import com.almasb.fxgl.app.scene.GameView;
+import com.almasb.fxgl.app.scene.Viewport;
+import com.github.griffty.finalproject.util.LevelOfDetail;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.almasb.fxgl.dsl.FXGL.getGameScene;
+
+/**
+ * Draws the static map as fixed-size chunks and keeps only the visible ones in the scene.
+ *
+ * <p>The map is drawn in one of two levels of detail, picked by {@link LevelOfDetail} from
+ * the camera zoom. In full detail a chunk covers {@link #CHUNK_TILES} x {@link #CHUNK_TILES}
+ * tiles; the first time it becomes visible its tiles are stamped from {@link TileGeometry}
+ * onto a canvas, which is rasterized into a single image and shown by one {@link ImageView}.
+ * Zoomed out, the rounded corners cannot be seen anyway, so a simplified chunk covers
+ * {@link #SIMPLIFIED_CHUNK_TILES} tiles edge to edge with one flat-coloured pixel per tile,
+ * scaled up to the tile size without smoothing. That keeps the number of nodes and the texture
+ * memory small however much of a large map is in view. {@link #update()} attaches the chunks
+ * of the current level that intersect the viewport and detaches the rest.</p>
+ *
+ * <p>Rasterized chunks of each level are kept in a small LRU cache so panning and zooming
+ * back and forth does not redraw them; chunks evicted from it are rebuilt on demand. When the
+ * map is edited, {@link #redraw} patches the affected tiles into the cached chunk images of
+ * both levels in place. Only used by interactive worlds, on the JavaFX application thread.</p>
+ */
+final class ChunkRenderer {
+    /** Tiles per chunk edge in full detail. */
+    static final int CHUNK_TILES = 8;
+    /** Tiles per chunk edge in the simplified level; one image pixel per tile. */
+    static final int SIMPLIFIED_CHUNK_TILES = 128;
+    /** Rasterized chunks kept around per level, attached or not; at 1024 px per chunk about 4 MB each. */
+    private static final int MAX_CACHED_CHUNKS = 24;
+    /** Below every entity view and the placement heatmap, so both draw on top of the map. */
+    private static final int MAP_Z_INDEX = -2;
+
+    private TileGrid tiles;
+    private final int gridX;
+    private final int gridY;
+    private final double tileSize;
+
+    private final Layer detailed;
+    private final Layer simplified;
+    /** Level whose chunks are currently in the scene. */
+    private Layer active;
+
+    /**
+     * @param tiles    static terrain of the map
+     * @param tileSize tile edge length in pixels
+     */
+    ChunkRenderer(TileGrid tiles, double tileSize) {
+        this.tiles = tiles;
+        this.gridY = tiles.height();
+        this.gridX = tiles.width();
+        this.tileSize = tileSize;
+        this.detailed = new Layer(CHUNK_TILES, false);
+        this.simplified = new Layer(SIMPLIFIED_CHUNK_TILES, true);
+        this.active = detailed;
+    }
+
+    /**
+     * Switches the level of detail if the zoom asks for it, then attaches the chunks
+     * intersecting the viewport and detaches the ones that left it.
+     *
+     * <p>Cheap when neither the level nor the visible chunk range changed, so it can run
+     * every frame.</p>
+     */
+    void update() {
+        Layer wanted = LevelOfDetail.isSimplified() ? simplified : detailed;
+        if (wanted != active) {
+            active.detachAll();
+            active = wanted;
+        }
+        active.update(getGameScene().getViewport());
+    }
+
+    /**
+     * Switches to an edited grid of the same size and repaints the given tiles in every cached
+     * chunk of both levels; chunks not in the cache are drawn from the new grid when they next
+     * become visible.
+     *
+     * @param next   the edited grid
+     * @param redraw row-major indices of the tiles whose visuals changed
+     * @return number of cached chunks that were patched
+     */
+    int redraw(TileGrid next, int[] redraw) {
+        if (next.width() != gridX || next.height() != gridY) {
+            throw new IllegalArgumentException("Chunks cover a " + gridX + "x" + gridY + " map");
+        }
+        tiles = next;
+        BitSet patchedDetailed = new BitSet();
+        BitSet patchedSimplified = new BitSet();
+        for (int index : redraw) {
+            int x = index % gridX;
+            int y = index / gridX;
+            detailed.patch(x, y, patchedDetailed);
+            simplified.patch(x, y, patchedSimplified);
+        }
+        return patchedDetailed.cardinality() + patchedSimplified.cardinality();
+    }
+
+    /**
+     * Removes every attached chunk from the scene and forgets the caches.
+     */
+    void dispose() {
+        detailed.dispose();
+        simplified.dispose();
+    }
+
+    /**
+     * @return number of chunks currently in the scene graph
+     */
+    int attachedCount() {
+        return active.visibleCount;
+    }
+
+    /**
+     * Draws all tiles of one full-detail chunk into a single image positioned at the chunk origin.
+     */
+    private ImageView rasterize(int x0, int y0, int width, int height) {
+        Canvas canvas = new Canvas(width * tileSize, height * tileSize);
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                g.drawImage(variant(x0 + x, y0 + y), x * tileSize, y * tileSize);
+            }
+        }
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        ImageView view = new ImageView(canvas.snapshot(parameters, null));
+        view.setTranslateX(x0 * tileSize);
+        view.setTranslateY(y0 * tileSize);
+        return view;
+    }
+
+    /**
+     * Draws one simplified chunk: a pixel per tile in the flat tile colour, scaled to the tile size.
+     */
+    private ImageView rasterizeSimplified(int x0, int y0, int width, int height) {
+        WritableImage image = new WritableImage(width, height);
+        PixelWriter writer = image.getPixelWriter();
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                writer.setArgb(x, y, flatColor(x0 + x, y0 + y));
+            }
+        }
+        ImageView view = new ImageView(image);
+        view.setSmooth(false);
+        view.setFitWidth(width * tileSize);
+        view.setFitHeight(height * tileSize);
+        view.setTranslateX(x0 * tileSize);
+        view.setTranslateY(y0 * tileSize);
+        return view;
+    }
+
+    private Image variant(int x, int y) {
+        int mask = roadMask(x, y);
+        return tiles.isRoad(x, y) ? TileGeometry.road(mask, tileSize) : TileGeometry.ground(mask, tileSize);
+    }
+
+    private int flatColor(int x, int y) {
+        return tiles.isRoad(x, y) ? TileGeometry.ROAD_ARGB : TileGeometry.GROUND_ARGB;
+    }
+
+    /**
+     * Bits of {@link TileGeometry} for the four neighbours of (x, y) that are road.
+     */
+    private int roadMask(int x, int y) {
+        return (tiles.isRoad(x,     y - 1) ? TileGeometry.ROAD_UP    : 0)
+             | (tiles.isRoad(x + 1, y    ) ? TileGeometry.ROAD_RIGHT : 0)
+             | (tiles.isRoad(x,     y + 1) ? TileGeometry.ROAD_DOWN  : 0)
+             | (tiles.isRoad(x - 1, y    ) ? TileGeometry.ROAD_LEFT  : 0);
+    }
+
+    /**
+     * Chunks of one level of detail: their cache and the range attached to the scene.
+     */
+    private final class Layer {
+        private final int chunkTiles;
+        private final boolean flat;
+        private final int chunksX;
+        private final int chunksY;
+        private final boolean[] attached;
+
+        /** Rasterized chunks by index, least recently visible first. */
+        private final LinkedHashMap<Integer, GameView> cache = new LinkedHashMap<>(32, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, GameView> eldest) {
+                return size() > Math.max(MAX_CACHED_CHUNKS, visibleCount * 2) && !attached[eldest.getKey()];
+            }
+        };
+
+        /* Chunk range attached by the last update, inclusive; empty while minX > maxX. */
+        private int minX = 0, minY = 0, maxX = -1, maxY = -1;
+        private int visibleCount;
+
+        Layer(int chunkTiles, boolean flat) {
+            this.chunkTiles = chunkTiles;
+            this.flat = flat;
+            this.chunksX = Math.ceilDiv(gridX, chunkTiles);
+            this.chunksY = Math.ceilDiv(gridY, chunkTiles);
+            this.attached = new boolean[chunksX * chunksY];
+        }
+
+        void update(Viewport viewport) {
+            double span = chunkTiles * tileSize;
+            double zoom = viewport.getZoom();
+            int newMinX = Math.max(0, (int) Math.floor(viewport.getX() / span));
+            int newMinY = Math.max(0, (int) Math.floor(viewport.getY() / span));
+            int newMaxX = Math.min(chunksX - 1, (int) Math.floor((viewport.getX() + viewport.getWidth() / zoom) / span));
+            int newMaxY = Math.min(chunksY - 1, (int) Math.floor((viewport.getY() + viewport.getHeight() / zoom) / span));
+            if (newMinX == minX && newMinY == minY && newMaxX == maxX && newMaxY == maxY) {
+                return;
+            }
+
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cx = minX; cx <= maxX; cx++) {
+                    boolean stillVisible = cx >= newMinX && cx <= newMaxX && cy >= newMinY && cy <= newMaxY;
+                    int index = cy * chunksX + cx;
+                    if (!stillVisible && attached[index]) {
+                        getGameScene().removeGameView(cache.get(index));
+                        attached[index] = false;
+                    }
+                }
+            }
+
+            minX = newMinX;
+            minY = newMinY;
+            maxX = newMaxX;
+            maxY = newMaxY;
+            visibleCount = Math.max(0, maxX - minX + 1) * Math.max(0, maxY - minY + 1);
+
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cx = minX; cx <= maxX; cx++) {
+                    int index = cy * chunksX + cx;
+                    GameView view = cache.get(index);
+                    if (view == null) {
+                        view = new GameView(rasterize(cx, cy), MAP_Z_INDEX);
+                        cache.put(index, view);
+                    }
+                    if (!attached[index]) {
+                        getGameScene().addGameView(view);
+                        attached[index] = true;
+                    }
+                }
+            }
+        }
+
+        /**
+         * Takes all chunks of this level out of the scene; they stay cached.
+         */
+        void detachAll() {
+            for (int cy = minY; cy <= maxY; cy++) {
+                for (int cx = minX; cx <= maxX; cx++) {
+                    int index = cy * chunksX + cx;
+                    if (attached[index]) {
+                        getGameScene().removeGameView(cache.get(index));
+                        attached[index] = false;
+                    }
+                }
+            }
+            minX = minY = 0;
+            maxX = maxY = -1;
+            visibleCount = 0;
+        }
+
+        /**
+         * Repaints one tile in its cached chunk, if that chunk is cached, and marks the chunk.
+         */
+        void patch(int x, int y, BitSet patched) {
+            int chunk = (y / chunkTiles) * chunksX + x / chunkTiles;
+            GameView view = cache.get(chunk);
+            if (view == null) {
+                return;
+            }
+            patched.set(chunk);
+            /* Chunk images are WritableImages, either snapshots or drawn directly. */
+            WritableImage image = (WritableImage) ((ImageView) view.getNode()).getImage();
+            if (flat) {
+                image.getPixelWriter().setArgb(x % chunkTiles, y % chunkTiles, flatColor(x, y));
+                return;
+            }
+            int size = (int) tileSize;
+            image.getPixelWriter().setPixels((x % chunkTiles) * size, (y % chunkTiles) * size, size, size,
+                    variant(x, y).getPixelReader(), 0, 0);
+        }
+
+        void dispose() {
+            detachAll();
+            cache.clear();
+        }
+
+        private ImageView rasterize(int cx, int cy) {
+            int x0 = cx * chunkTiles;
+            int y0 = cy * chunkTiles;
+            int width = Math.min(chunkTiles, gridX - x0);
+            int height = Math.min(chunkTiles, gridY - y0);
+            return flat ? rasterizeSimplified(x0, y0, width, height) : ChunkRenderer.this.rasterize(x0, y0, width, height);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.griffty.finalproject.world.map;
 
+import com.github.griffty.finalproject.Constants;
 import com.github.griffty.finalproject.ui.side.panels.EmptyPanel;
 import javafx.geometry.Point2D;
 import lombok.Builder;
@@ -10,7 +11,10 @@ import lombok.Singular;
 import java.util.List;
 
 /**
- * Immutable description of the loaded map grid, checkpoints, and start/end points.
+ * Description of the loaded map grid, checkpoints, and start/end points.
+ *
+ * <p>Everything but {@link #getTileStates() tile states} is immutable; those track which
+ * ground tiles hold towers during a match.</p>
  */
 @Data
 @Builder
@@ -25,10 +29,123 @@ public class GameMap {
         return checkPoints.get(i);
     }
 
+    /**
+     * Looks up a checkpoint by its id, including the start and end points.
+     *
+     * @param id checkpoint id as written in the map file
+     * @return the matching checkpoint
+     * @throws IllegalArgumentException if the map has no checkpoint with that id
+     */
+    public CheckPoint getCheckPointById(int id) {
+        if (startPoint.id() == id) {
+            return startPoint;
+        }
+        if (endPoint.id() == id) {
+            return endPoint;
+        }
+        for (CheckPoint checkPoint : checkPoints) {
+            if (checkPoint.id() == id) {
+                return checkPoint;
+            }
+        }
+        throw new IllegalArgumentException("No checkpoint with id " + id);
+    }
+
+    /**
+     * Distance covered along the road by something walking it: the lengths of the stretches
+     * between checkpoints it has passed plus its straight distance from the last one.
+     *
+     * @param next     checkpoint it walks to
+     * @param position its position
+     * @return distance from the start point along the road
+     */
+    public double routeDistance(CheckPoint next, Point2D position) {
+        int index = routeIndex(next);
+        double distance = 0;
+        for (int i = 1; i < index; i++) {
+            distance += routePoint(i - 1).point().distance(routePoint(i).point());
+        }
+        return distance + routePoint(index - 1).point().distance(position);
+    }
+
+    /**
+     * Finds the point a given distance back along the road from a position, turning around
+     * checkpoints on the way. Behind the start point the line of the first stretch is extended.
+     *
+     * @param next     checkpoint walked to from the position
+     * @param position position to go back from
+     * @param distance distance to go back
+     * @return the point and the checkpoint walked to from there
+     */
+    public RoutePosition routeBehind(CheckPoint next, Point2D position, double distance) {
+        int index = routeIndex(next);
+        Point2D at = position;
+        double remaining = distance;
+        while (index > 1) {
+            Point2D last = routePoint(index - 1).point();
+            double stretch = at.distance(last);
+            if (stretch >= remaining) {
+                break;
+            }
+            remaining -= stretch;
+            at = last;
+            index--;
+        }
+        Point2D back = routePoint(index - 1).point().subtract(at);
+        if (index == 1 && back.magnitude() == 0) {
+            back = routePoint(0).point().subtract(routePoint(1).point());
+        }
+        return new RoutePosition(at.add(back.normalize().multiply(remaining)), routePoint(index));
+    }
+
+    /**
+     * @return position of a checkpoint walked to on the route: 1 for the first checkpoint
+     *         after the start point, up to the end point
+     */
+    private int routeIndex(CheckPoint next) {
+        if (next.equals(endPoint)) {
+            return checkPoints.size() + 1;
+        }
+        return Math.max(1, checkPoints.indexOf(next) + 1);
+    }
+
+    private CheckPoint routePoint(int index) {
+        if (index == 0) {
+            return startPoint;
+        }
+        return index > checkPoints.size() ? endPoint : checkPoints.get(index - 1);
+    }
+
+    /**
+     * @return map width in world units
+     */
+    public double getWorldWidth() {
+        return gridX * (double) Constants.TILE_SIZE;
+    }
+
+    /**
+     * @return map height in world units
+     */
+    public double getWorldHeight() {
+        return gridY * (double) Constants.TILE_SIZE;
+    }
+
     /** Ordered path node for enemy navigation. */
     public record CheckPoint(int id, Point2D point) {}
+
+    /**
+     * A point on the road together with the checkpoint walked to from there.
+     *
+     * @param point position in world units
+     * @param next  checkpoint ahead of the position
+     */
+    public record RoutePosition(Point2D point, CheckPoint next) {}
     @NonNull private final Integer gridX;
     @NonNull private final Integer gridY;
+    /** Static terrain, one byte per tile. */
+    @NonNull private final TileGrid tiles;
+    /** Per-match occupancy of the tiles; towers are the only tile entities. */
+    @NonNull private final TileStates tileStates;
     @Singular("checkPoint")
     @NonNull private final List<CheckPoint> checkPoints;
 
@@ -0,0 +1,99 @@
+package com.github.griffty.finalproject.world.map;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Tiles that differ between two versions of a map, and the tiles whose visuals they affect.
+ *
+ * <p>A tile is drawn from its own kind and the road mask of its four neighbours, so changing
+ * one tile can change the look of up to five. The diff finds changed tiles with
+ * {@link ByteBuffer#mismatch}, which skips equal runs of the grids in bulk, then keeps only
+ * the candidates whose kind or neighbour mask actually differs. Maps of different sizes are
+ * not diffed; {@link #resized()} tells the caller to rebuild everything.</p>
+ *
+ * @param resized whether the grid dimensions differ
+ * @param changed number of tiles whose kind changed
+ * @param redraw  row-major indices of tiles whose visuals changed, ascending
+ * @param minX    bounds of the changed tiles, inclusive; {@code maxX < minX} if none changed
+ * @param minY    see {@code minX}
+ * @param maxX    see {@code minX}
+ * @param maxY    see {@code minX}
+ */
+record MapDiff(boolean resized, int changed, int[] redraw, int minX, int minY, int maxX, int maxY) {
+
+    /**
+     * Compares two tile grids.
+     *
+     * @param before grid currently shown
+     * @param after  grid replacing it
+     * @return the difference
+     */
+    static MapDiff of(TileGrid before, TileGrid after) {
+        int width = before.width();
+        if (width != after.width() || before.height() != after.height()) {
+            return new MapDiff(true, after.width() * after.height(), new int[0], 0, 0, after.width() - 1, after.height() - 1);
+        }
+
+        ByteBuffer a = before.cells();
+        ByteBuffer b = after.cells();
+        int[] candidates = new int[16];
+        int count = 0;
+        int changed = 0;
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, maxX = -1, maxY = -1;
+        int offset = 0;
+        while (offset < a.capacity()) {
+            int mismatch = a.position(offset).mismatch(b.position(offset));
+            if (mismatch < 0) {
+                break;
+            }
+            int index = offset + mismatch;
+            int x = index % width;
+            int y = index / width;
+            changed++;
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+            if (count + 5 > candidates.length) {
+                candidates = Arrays.copyOf(candidates, candidates.length * 2);
+            }
+            candidates[count++] = index;
+            if (y > 0) candidates[count++] = index - width;
+            if (x + 1 < width) candidates[count++] = index + 1;
+            if (y + 1 < before.height()) candidates[count++] = index + width;
+            if (x > 0) candidates[count++] = index - 1;
+            offset = index + 1;
+        }
+
+        Arrays.sort(candidates, 0, count);
+        int[] redraw = new int[count];
+        int redrawn = 0;
+        for (int i = 0; i < count; i++) {
+            int index = candidates[i];
+            if (i > 0 && candidates[i - 1] == index) {
+                continue;
+            }
+            int x = index % width;
+            int y = index / width;
+            if (visual(before, x, y) != visual(after, x, y)) {
+                redraw[redrawn++] = index;
+            }
+        }
+        if (changed == 0) {
+            minX = minY = 0;
+        }
+        return new MapDiff(false, changed, Arrays.copyOf(redraw, redrawn), minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Kind and neighbour road mask of a tile, which together select its pre-rendered variant.
+     */
+    private static int visual(TileGrid tiles, int x, int y) {
+        return tiles.kind(x, y) << 4
+                | (tiles.isRoad(x,     y - 1) ? TileGeometry.ROAD_UP    : 0)
+                | (tiles.isRoad(x + 1, y    ) ? TileGeometry.ROAD_RIGHT : 0)
+                | (tiles.isRoad(x,     y + 1) ? TileGeometry.ROAD_DOWN  : 0)
+                | (tiles.isRoad(x - 1, y    ) ? TileGeometry.ROAD_LEFT  : 0);
+    }
+}
@@ -0,0 +1,290 @@
+package com.github.griffty.finalproject.world.map;
+
+import com.github.griffty.finalproject.Constants;
+import javafx.geometry.Point2D;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Reads and writes maps in their text and binary forms.
+ *
+ * <p>Text maps start with a {@code gridX:gridY} line followed by one row per line:
+ * {@code #} is ground, {@code $} is road and a digit is a road tile holding the checkpoint
+ * with that id. They are parsed in a single streaming pass straight into a byte-per-tile
+ * {@link TileGrid}; no line strings or character grids are kept.</p>
+ *
+ * <p>Binary maps ({@code .map}) hold the same information in a fixed layout and are
+ * memory-mapped, so the tile grid is used in place without being read or copied:</p>
+ * <pre>
+ * "TDMP"  magic
+ * short   version
+ * int     gridX, gridY
+ * int     checkpoint count, then per checkpoint: int id, int tileX, int tileY
+ * byte[]  gridX * gridY tile kinds, row-major
+ * </pre>
+ *
+ * <p>Both readers validate dimensions and checkpoints while parsing: every row must have
+ * exactly {@code gridX} tiles, checkpoints must lie on road, and their ids must run from 0
+ * without gaps, since enemies walk them in id order. Malformed maps raise an
+ * {@link IllegalArgumentException} naming the offending position.</p>
+ */
+public final class MapFile {
+    private static final byte[] MAGIC = {'T', 'D', 'M', 'P'};
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 2 + 4 + 4 + 4;
+
+    private MapFile() { }
+
+    /**
+     * Parses a text map in one pass.
+     *
+     * @param in     map text; not closed
+     * @param source name used in error messages
+     * @return the parsed map
+     * @throws IOException              if the stream cannot be read
+     * @throws IllegalArgumentException if the map is malformed
+     */
+    public static GameMap parseText(InputStream in, String source) throws IOException {
+        byte[] buffer = new byte[1 << 16];
+        int length = in.readNBytes(buffer, 0, buffer.length);
+        int pos = 0;
+
+        /* First line: "gridX:gridY". This establishes the grid dimensions for all parsing. */
+        StringBuilder header = new StringBuilder();
+        while (pos < length && buffer[pos] != '\n') {
+            if (buffer[pos] != '\r') {
+                header.append((char) buffer[pos]);
+            }
+            pos++;
+        }
+        pos++;
+        String[] size = header.toString().trim().split(":");
+        if (size.length != 2) {
+            throw new IllegalArgumentException(source + ":1: expected 'gridX:gridY', got '" + header + "'");
+        }
+        int gridX;
+        int gridY;
+        try {
+            gridX = Integer.parseInt(size[0].trim());
+            gridY = Integer.parseInt(size[1].trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(source + ":1: " + e.getMessage(), e);
+        }
+        checkSize(gridX, gridY, source);
+        byte[] cells = new byte[gridX * gridY];
+
+        List<int[]> checkPoints = new ArrayList<>();
+        int x = 0;
+        int y = 0;
+        while (true) {
+            if (pos >= length) {
+                length = in.read(buffer);
+                pos = 0;
+                if (length < 0) {
+                    break;
+                }
+                continue;
+            }
+            byte b = buffer[pos++];
+            if (b == '\r') {
+                continue;
+            }
+            if (b == '\n') {
+                if (y < gridY) {
+                    if (x != gridX) {
+                        throw new IllegalArgumentException(source + ":" + (y + 2) + ": row has " + x + " tiles, expected " + gridX);
+                    }
+                    y++;
+                }
+                x = 0;
+                continue;
+            }
+            if (y >= gridY) {
+                if (!Character.isWhitespace(b)) {
+                    throw new IllegalArgumentException(source + ":" + (y + 2) + ": more than " + gridY + " rows");
+                }
+                continue;
+            }
+            if (x >= gridX) {
+                throw new IllegalArgumentException(source + ":" + (y + 2) + ": row longer than " + gridX + " tiles");
+            }
+
+            byte kind;
+            if (b == '#') {
+                kind = TileGrid.GROUND;
+            } else if (b == '$') {
+                kind = TileGrid.ROAD;
+            } else if (b >= '0' && b <= '9') {
+                kind = TileGrid.ROAD;
+                checkPoints.add(new int[]{b - '0', x, y});
+            } else {
+                throw new IllegalArgumentException(source + ":" + (y + 2) + ":" + (x + 1) + ": unexpected character '" + (char) b + "'");
+            }
+            cells[y * gridX + x] = kind;
+            x++;
+        }
+        /* Last row without a trailing line break. */
+        if (y < gridY && x == gridX) {
+            y++;
+        }
+        if (y != gridY) {
+            throw new IllegalArgumentException(source + ": has " + y + " complete rows, expected " + gridY);
+        }
+
+        return build(new TileGrid(gridX, gridY, ByteBuffer.wrap(cells)), checkPoints, source);
+    }
+
+    /**
+     * Memory-maps a binary map.
+     *
+     * <p>The returned map's tile grid is backed by the mapping, which stays valid after this
+     * method returns.</p>
+     *
+     * @param file binary map file
+     * @return the map
+     * @throws IOException              if the file cannot be read or is not a binary map
+     * @throws IllegalArgumentException if the map content is invalid
+     */
+    public static GameMap readBinary(Path file) throws IOException {
+        MappedByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        String source = file.toString();
+        if (in.remaining() < HEADER_BYTES) {
+            throw new IOException("Not a map file: " + file);
+        }
+        byte[] magic = new byte[MAGIC.length];
+        in.get(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IOException("Not a map file: " + file);
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported map version " + version + " in " + file);
+        }
+        int gridX = in.getInt();
+        int gridY = in.getInt();
+        checkSize(gridX, gridY, source);
+        int count = in.getInt();
+        if (count < 0 || in.remaining() < (long) count * 12 + (long) gridX * gridY) {
+            throw new IllegalArgumentException(source + ": truncated");
+        }
+        List<int[]> checkPoints = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            checkPoints.add(new int[]{in.getInt(), in.getInt(), in.getInt()});
+        }
+        if (in.remaining() != (long) gridX * gridY) {
+            throw new IllegalArgumentException(source + ": expected " + (long) gridX * gridY + " tiles, found " + in.remaining());
+        }
+        ByteBuffer cells = in.slice();
+        for (int i = 0; i < cells.capacity(); i++) {
+            byte kind = cells.get(i);
+            if (kind != TileGrid.GROUND && kind != TileGrid.ROAD) {
+                throw new IllegalArgumentException(source + ": unknown tile kind " + kind + " at tile " + i);
+            }
+        }
+        return build(new TileGrid(gridX, gridY, cells), checkPoints, source);
+    }
+
+    /**
+     * Writes a map in the binary format, replacing the file atomically.
+     *
+     * @param map  map to write
+     * @param file target file; parent directories are created as needed
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeBinary(GameMap map, Path file) throws IOException {
+        List<GameMap.CheckPoint> checkPoints = new ArrayList<>();
+        checkPoints.add(map.getStartPoint());
+        checkPoints.addAll(map.getCheckPoints());
+        checkPoints.add(map.getEndPoint());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES + checkPoints.size() * 12);
+        header.put(MAGIC);
+        header.putShort(VERSION);
+        header.putInt(map.getGridX());
+        header.putInt(map.getGridY());
+        header.putInt(checkPoints.size());
+        for (GameMap.CheckPoint checkPoint : checkPoints) {
+            header.putInt(checkPoint.id());
+            header.putInt((int) Math.floor(checkPoint.point().getX() / Constants.TILE_SIZE));
+            header.putInt((int) Math.floor(checkPoint.point().getY() / Constants.TILE_SIZE));
+        }
+        header.flip();
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            ByteBuffer cells = map.getTiles().cells();
+            while (cells.hasRemaining()) {
+                channel.write(cells);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void checkSize(int gridX, int gridY, String source) {
+        if (gridX <= 0 || gridY <= 0 || (long) gridX * gridY > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException(source + ": invalid map size " + gridX + ":" + gridY);
+        }
+    }
+
+    /**
+     * Validates the checkpoints and assembles the {@link GameMap}.
+     *
+     * <p>Ids of the start and intermediate checkpoints must run from 0 without gaps, since
+     * enemies find their next checkpoint by position. The end point only needs the highest id;
+     * the bundled maps use 9.</p>
+     *
+     * @param checkPoints {@code {id, tileX, tileY}} in any order
+     */
+    private static GameMap build(TileGrid tiles, List<int[]> checkPoints, String source) {
+        if (checkPoints.size() < 2) {
+            throw new IllegalArgumentException(source + ": needs at least a start and an end checkpoint, found " + checkPoints.size());
+        }
+        /* Sort checkpoints and set start / end to guarantee path order for all waves. */
+        checkPoints.sort(Comparator.comparingInt(c -> c[0]));
+        List<GameMap.CheckPoint> points = new ArrayList<>(checkPoints.size());
+        for (int i = 0; i < checkPoints.size(); i++) {
+            int[] c = checkPoints.get(i);
+            boolean end = i == checkPoints.size() - 1;
+            if (end ? c[0] < i : c[0] != i) {
+                throw new IllegalArgumentException(source + ": checkpoint ids must run 0.." + (checkPoints.size() - 2)
+                        + " without gaps or duplicates, followed by a higher end id, found " + c[0] + " at position " + i);
+            }
+            if (!tiles.isRoad(c[1], c[2])) {
+                throw new IllegalArgumentException(source + ": checkpoint " + c[0] + " at " + c[1] + ":" + c[2] + " is not on road");
+            }
+            points.add(new GameMap.CheckPoint(c[0], new Point2D(
+                    c[1] * Constants.TILE_SIZE + Constants.TILE_SIZE / 2.0,
+                    c[2] * Constants.TILE_SIZE + Constants.TILE_SIZE / 2.0)));
+        }
+
+        return GameMap.builder()
+                .gridX(tiles.width())
+                .gridY(tiles.height())
+                .tiles(tiles)
+                .tileStates(new TileStates(tiles))
+                .startPoint(points.removeFirst())
+                .endPoint(points.removeLast())
+                .checkPoints(points)
+                .build();
+    }
+}
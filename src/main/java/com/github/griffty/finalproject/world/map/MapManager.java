@@ -1,29 +1,31 @@
 package com.github.griffty.finalproject.world.map;
 
-import com.almasb.fxgl.app.scene.GameView;
-import com.almasb.fxgl.dsl.EntityBuilder;
 import com.almasb.fxgl.entity.Entity;
 import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.EntityUtil;
 import com.github.griffty.finalproject.util.input.InputManager;
 import com.github.griffty.finalproject.util.input.PublicUserAction;
 import com.github.griffty.finalproject.ui.UIManager;
 import com.github.griffty.finalproject.ui.side.panels.GroundTilePanel;
-import com.github.griffty.finalproject.util.EntityUtil;
 import com.github.griffty.finalproject.world.WorldManager;
 import com.github.griffty.finalproject.world.entities.EntityType;
 import com.github.griffty.finalproject.world.entities.components.GroundComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import javafx.application.Platform;
 import javafx.geometry.Point2D;
-import javafx.scene.Group;
-import javafx.scene.Node;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.MouseButton;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.*;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 
 import static com.almasb.fxgl.dsl.FXGL.*;
 
@@ -31,480 +33,293 @@ import static com.almasb.fxgl.dsl.FXGL.*;
  * Manages map loading, rendering, and tile interaction for the game world.
  *
  * <p>The manager loads a text-based tile grid, converts each character into either a road
- * or ground visual, and records checkpoints for pathfinding. It also exposes helper input
- * wiring so ground tiles can open contextual UI when clicked once gameplay has started.</p>
+ * or ground visual, and records checkpoints for pathfinding. Tiles are not entities: their
+ * state lives in the map's {@link TileStates}, and an entity is only created for a tile when
+ * a tower is built on it. Headless worlds get the same map without any visuals. It also
+ * exposes helper input wiring so ground tiles can open contextual UI when clicked once
+ * gameplay has started.</p>
  */
 public class MapManager {
     private final int tileSize;
-    @Getter private final GameMap gameMap;
-
-    public MapManager() {
-        this.tileSize = Constants.TILE_SIZE;
-        initTileInput();
-        gameMap = initWorld();
-    }
-
-    private static final Color ROAD_COLOR   = new Color(32 / 255f, 33 / 255f, 37 / 255f, 1);
-    private static final Color GROUND_COLOR = Color.BLACK;
-
-    private static final Color GROUND_CORNER_DUMMY = ROAD_COLOR;
-    private static final Color ROAD_CORNER_DUMMY   = GROUND_COLOR;
+    private final WorldManager world;
+    private final boolean headless;
+    /** Resource name of the loaded map, e.g. {@code MainMap}. */
+    @Getter private final String mapId;
+    /** Current map; replaced when a hot-reloaded edit is applied. */
+    @Getter private GameMap gameMap;
+    /** Cost of the last map build; scene nodes are always zero for headless worlds. */
+    @Getter private BuildStats buildStats;
+    /** Chunked map visuals; {@code null} for headless worlds. */
+    private ChunkRenderer renderer;
+    /** Tower placement overlay; created the first time it is shown. */
+    private PlacementHeatmap heatmap;
 
     /**
-     * Lightweight representation of the parsed map definition before entities are created.
+     * Size and timing of a map build.
      *
-     * @param gridX number of tiles on the X axis
-     * @param gridY number of tiles on the Y axis
-     * @param rows  raw rows of characters describing road / ground / checkpoints
+     * @param tiles      number of tiles
+     * @param sceneNodes scene-graph nodes attached for the map after the build; zero when the
+     *                   build ran off the application thread and the first frame attaches them
+     * @param millis     wall-clock build time in milliseconds
      */
-    private record MapDefinition(int gridX, int gridY, List<String> rows) { }
+    public record BuildStats(int tiles, int sceneNodes, double millis) { }
 
     /**
-     * Reads the map file, constructs tile visuals, and returns the completed {@link GameMap}.
+     * Sets up a loaded map in the given world.
+     *
+     * <p>Headless worlds get no visuals or input bindings.</p>
      *
-     * <p>Because FXGL allows attaching arbitrary nodes, the method builds vector paths for
-     * smooth edges instead of relying on bitmap sprites. Checkpoints are collected during
-     * parsing so enemy movement knows where to travel.</p>
+     * @param world world the map belongs to
+     * @param mapId map resource name under {@code assets/text/maps/}
+     * @param map   the map, as returned by {@link #load(String)}; owned by this manager from now on
      */
-    private GameMap initWorld() {
-        List<String> lines = getAssetLoader().loadText("maps/MainMap.txt");
-        MapDefinition definition = parseMapDefinition(lines);
-        char[][] grid = buildGrid(definition);
-
-        return buildGameMap(definition, grid);
+    public MapManager(WorldManager world, String mapId, GameMap map) {
+        this.tileSize = Constants.TILE_SIZE;
+        this.world = world;
+        this.mapId = mapId;
+        this.headless = world.isHeadless();
+        if (!headless) {
+            initTileInput();
+            initHeatmapInput();
+        }
+        gameMap = initWorld(map);
+        if (!headless && Constants.MAP_HOT_RELOAD) {
+            watchMap();
+        }
     }
 
     /**
-     * Parses the raw text map into a definition that separates dimensions from rows.
+     * Converts a world-space position into tile coordinates.
      *
-     * @param lines lines read from the map text file
-     * @return a {@link MapDefinition} containing grid sizes and row data
+     * @param position point in world units
+     * @return {@code {x, y}} tile indices
      */
-    private MapDefinition parseMapDefinition(List<String> lines) {
-        List<String> mutableLines = new ArrayList<>(lines);
-
-        /* First line: "gridX:gridY". This establishes the grid dimensions for all parsing. */
-        String[] size = mutableLines.removeFirst().split(":");
-        int gridX = Integer.parseInt(size[0]);
-        int gridY = Integer.parseInt(size[1]);
-
-        return new MapDefinition(gridX, gridY, mutableLines);
+    public static int[] toTile(Point2D position) {
+        return new int[]{
+                (int) Math.floor(position.getX() / Constants.TILE_SIZE),
+                (int) Math.floor(position.getY() / Constants.TILE_SIZE)
+        };
     }
 
     /**
-     * Builds a 2D grid to make neighbor lookup easy for rendering rounded corners.
+     * Sets up the map visuals.
      *
-     * @param definition parsed map definition containing size and row data
-     * @return 2D character grid matching {@link MapDefinition#gridX()} and {@link MapDefinition#gridY()}
+     * <p>Tile visuals are not created per tile: a {@link ChunkRenderer} bakes the grid into
+     * chunks on demand and only the chunks in view are attached. Checkpoints were already
+     * validated while the map was parsed.</p>
      */
-    private char[][] buildGrid(MapDefinition definition) {
-        char[][] grid = new char[definition.gridY()][definition.gridX()];
-        for (int y = 0; y < definition.gridY(); y++) {
-            String row = definition.rows().get(y);
-            for (int x = 0; x < definition.gridX(); x++) {
-                grid[y][x] = row.charAt(x);
+    private GameMap initWorld(GameMap map) {
+        long begin = System.nanoTime();
+        TileGrid tiles = map.getTiles();
+
+        int sceneNodes = 0;
+        if (!headless) {
+            UIManager.get().getCameraController().setWorldSize(map.getWorldWidth(), map.getWorldHeight());
+            renderer = new ChunkRenderer(tiles, tileSize);
+            /* Rasterizing needs the application thread; FXGL builds the game on its loading
+             * thread, in which case the first frame attaches the visible chunks. */
+            if (Platform.isFxApplicationThread()) {
+                renderer.update();
             }
+            sceneNodes = renderer.attachedCount();
         }
-        return grid;
+        buildStats = new BuildStats(tiles.width() * tiles.height(), sceneNodes, (System.nanoTime() - begin) / 1e6);
+        if (!headless) {
+            System.out.printf("Map %s built in %.1f ms: %d tiles, %d scene nodes, %d cached tile variants%n",
+                    mapId, buildStats.millis(), buildStats.tiles(), buildStats.sceneNodes(), TileGeometry.cachedVariants());
+        }
+        return map;
     }
 
     /**
-     * Converts the parsed grid into rendered tiles, in-world entities, and checkpoint metadata.
+     * Loads the map, preferring maps on disk over the bundled text map.
+     *
+     * <p>A binary map at {@code maps/<mapId>.map} (relative to the working directory) is
+     * memory-mapped; generated stress-test maps are used this way. Next comes a text map at
+     * {@code maps/<mapId>.txt}, the copy designers edit with hot reload. Otherwise the text
+     * map is streamed straight from the classpath, because FXGL's asset loader is only
+     * available inside a running application while headless worlds have to load the same
+     * file without it.</p>
      *
-     * @param definition parsed map definition containing sizes and row data
-     * @param grid       normalized character grid for neighbor checks
-     * @return fully constructed {@link GameMap}
+     * <p>Touches neither the scene nor FXGL, so it can run on any thread.</p>
+     *
+     * @param mapId map resource name under {@code assets/text/maps/}
+     * @return the parsed map
+     * @throws UncheckedIOException if the map cannot be read
      */
-    private GameMap buildGameMap(MapDefinition definition, char[][] grid) {
-        GameMap.GameMapBuilder builder = GameMap.builder();
-        builder.gridX(definition.gridX());
-        builder.gridY(definition.gridY());
-
-        List<GameMap.CheckPoint> checkPoints = new ArrayList<>();
-
-        for (int y = 0; y < definition.gridY(); y++) {
-            String row = definition.rows().get(y);
-
-            for (int x = 0; x < definition.gridX(); x++) {
-                char c = row.charAt(x);
-
-                if (c == '#') {
-                    buildGroundTile(grid, y, x);
+    public static GameMap load(String mapId) {
+        Path binary = Path.of("maps", mapId + ".map");
+        Path text = Path.of("maps", mapId + ".txt");
+        try {
+            if (Files.isRegularFile(binary)) {
+                return MapFile.readBinary(binary);
+            }
+            if (Files.isRegularFile(text)) {
+                try (InputStream in = Files.newInputStream(text)) {
+                    return MapFile.parseText(in, text.toString());
                 }
-
-                if (c == '$' || (c >= '0' && c <= '9')) {
-                    addRoadTile(checkPoints, y, x, c, grid);
+            }
+            String resource = "/assets/text/maps/" + mapId + ".txt";
+            try (InputStream in = MapManager.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new IllegalArgumentException("Map not found: " + resource);
                 }
+                return MapFile.parseText(in, resource);
             }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read map " + mapId, e);
         }
-
-        /* Sort checkpoints and set start / end to guarantee path order for all waves. */
-        checkPoints.sort(Comparator.comparing(GameMap.CheckPoint::id));
-        builder.startPoint(checkPoints.removeFirst());
-        builder.endPoint(checkPoints.removeLast());
-        builder.checkPoints(checkPoints);
-
-        return builder.build();
     }
 
     /**
-     * Creates the entity and visuals for a single ground tile.
-     */
-    private void buildGroundTile(char[][] grid, int y, int x) {
-        Node node = createGroundTileShape(x, y, tileSize, grid);
-
-        EntityBuilder tileEntityBuilder = entityBuilder()
-                .at(x * tileSize + tileSize / 2.0, y * tileSize + tileSize / 2.0)
-                .view(node);
-
-        /* Center the local [0..tileSize] shape on entity. */
-        node.setTranslateX(-tileSize / 2.0);
-        node.setTranslateY(-tileSize / 2.0);
-
-        tileEntityBuilder.type(EntityType.GROUND);
-        tileEntityBuilder.with(new GroundComponent());
-        tileEntityBuilder.buildAndAttach();
-    }
-
-    /**
-     * Adds a road tile to the scene graph and records checkpoints when present.
+     * Attaches the map chunks that scrolled into view and detaches those that left it.
+     *
+     * <p>Called once per frame for the interactive world; a no-op for headless worlds.</p>
      */
-    private void addRoadTile(List<GameMap.CheckPoint> checkPoints, int y, int x, char c, char[][] grid) {
-        if (c != '$') {
-            int id = c - '0';
-            checkPoints.add(new GameMap.CheckPoint(
-                    id,
-                    new Point2D(x * tileSize + tileSize / 2.0,
-                            y * tileSize + tileSize / 2.0)
-            ));
+    public void updateVisibleChunks() {
+        if (renderer != null) {
+            renderer.update();
         }
-
-        Node roadNode = createRoadTileShape(x, y, tileSize, grid);
-
-        roadNode.setTranslateX(x * tileSize);
-        roadNode.setTranslateY(y * tileSize);
-
-        getGameScene().addGameView(new GameView(roadNode, 0));
     }
 
     /**
-     * Returns true if the cell at (x, y) is a road tile ('$' or digit),
-     * safely handling out-of-bounds as "not road".
+     * Starts watching {@code maps/<mapId>.txt}, creating it from the bundled map if missing.
      */
-    private boolean isRoad(int x, int y, int gridX, int gridY, char[][] grid) {
-        if (x < 0 || y < 0 || x >= gridX || y >= gridY) {
-            return false;
+    private void watchMap() {
+        Path text = Path.of("maps", mapId + ".txt");
+        try {
+            if (!Files.isRegularFile(text)) {
+                Files.createDirectories(text.toAbsolutePath().getParent());
+                try (InputStream in = MapManager.class.getResourceAsStream("/assets/text/maps/" + mapId + ".txt")) {
+                    if (in != null) {
+                        Files.copy(in, text);
+                    }
+                }
+            }
+            MapWatcher.watch(text, (map, parseMillis, savedAt) ->
+                    Platform.runLater(() -> applyEdit(map, parseMillis, savedAt)));
+            System.out.println("Watching " + text.toAbsolutePath() + " for map edits");
+        } catch (IOException e) {
+            System.err.println("Map hot reload unavailable: " + e.getMessage());
         }
-        char c = grid[y][x];
-        return c == '$' || (c >= '0' && c <= '9');
     }
 
     /**
-     * Ground tile with rounded cut-out corners near roads,
-     * plus wedge-shaped dummy markers at those corners (greyish).
+     * Replaces the current map with an edited version while the match keeps running.
      *
-     * <p>The rounded-corner logic helps visually communicate where roads carve into the
-     * ground. Dummy wedges fill the opposite color to avoid tiny gaps or aliasing artifacts
-     * at the joints between adjacent tiles.</p>
+     * <p>Only tiles whose look changed are redrawn, in the chunks that are cached; the rest are
+     * drawn from the new grid when they come into view. Checkpoints come with the new map, and
+     * enemies walk on to the checkpoint with the same id on it, or to its end point if the id is
+     * gone. Towers on tiles that are still ground stay where they are, keeping their state; towers
+     * on tiles that became road are sold. A change of map size rebuilds all visuals.</p>
      */
-    private Node createGroundTileShape(int x, int y, double tileSize, char[][] grid) {
-        int gridY = grid.length;
-        int gridX = grid[0].length;
-
-        double s = tileSize;
-        /* Radius of rounded corner. */
-        double r = 30;
-        double dummyR = r;
-
-        /* Look at neighboring road tiles. */
-        boolean roadUp    = isRoad(x,     y - 1, gridX, gridY, grid);
-        boolean roadDown  = isRoad(x,     y + 1, gridX, gridY, grid);
-        boolean roadLeft  = isRoad(x - 1, y,     gridX, gridY, grid);
-        boolean roadRight = isRoad(x + 1, y,     gridX, gridY, grid);
-
-        /* Only round "outer" corners adjacent to roads in both directions. */
-        boolean roundTL = roadUp && roadLeft;
-        boolean roundTR = roadUp && roadRight;
-        boolean roundBR = roadDown && roadRight;
-        boolean roundBL = roadDown && roadLeft;
-
-        Path p = new Path();
-
-        /* Start near top-left. */
-        p.getElements().add(new MoveTo(roundTL ? r : 0, 0));
-
-        /* Top edge to near TR. */
-        p.getElements().add(new LineTo(s - (roundTR ? r : 0), 0));
-
-        /* Top-right corner. */
-        if (roundTR) {
-            p.getElements().add(new QuadCurveTo(
-                    s, 0,
-                    s, r
-            ));
-        } else {
-            p.getElements().add(new LineTo(s, 0));
-            p.getElements().add(new LineTo(s, r));
-        }
-
-        /* Right edge down to near BR. */
-        p.getElements().add(new LineTo(s, s - (roundBR ? r : 0)));
-
-        /* Bottom-right corner. */
-        if (roundBR) {
-            p.getElements().add(new QuadCurveTo(
-                    s, s,
-                    s - r, s
-            ));
-        } else {
-            p.getElements().add(new LineTo(s, s));
-            p.getElements().add(new LineTo(s - r, s));
-        }
-
-        /* Bottom edge to near BL. */
-        p.getElements().add(new LineTo(roundBL ? r : 0, s));
-
-        /* Bottom-left corner. */
-        if (roundBL) {
-            p.getElements().add(new QuadCurveTo(
-                    0, s,
-                    0, s - r
-            ));
-        } else {
-            p.getElements().add(new LineTo(0, s));
-            p.getElements().add(new LineTo(0, s - r));
+    private void applyEdit(GameMap next, double parseMillis, long savedAt) {
+        long begin = System.nanoTime();
+        MapDiff diff = MapDiff.of(gameMap.getTiles(), next.getTiles());
+
+        List<GroundComponent> towers = new ArrayList<>();
+        gameMap.getTileStates().forEachTower(tower -> towers.add(tower.getComponent(GroundComponent.class)));
+        int sold = 0;
+        for (GroundComponent tile : towers) {
+            if (!next.getTiles().isGround(tile.getTileX(), tile.getTileY())) {
+                TowerHelper.removeTower(world, tile.getTileX(), tile.getTileY());
+                sold++;
+            }
         }
-
-        /* Left edge up to near TL. */
-        p.getElements().add(new LineTo(0, (roundTL ? r : 0)));
-
-        /* Top-left corner. */
-        if (roundTL) {
-            p.getElements().add(new QuadCurveTo(
-                    0, 0,
-                    r, 0
-            ));
+        gameMap.getTileStates().forEachTower(tower -> {
+            GroundComponent tile = tower.getComponent(GroundComponent.class);
+            next.getTileStates().occupy(tile.getTileX(), tile.getTileY(), tower);
+        });
+        reroute(next);
+        gameMap = next;
+
+        int patched;
+        if (diff.resized()) {
+            renderer.dispose();
+            UIManager.get().getCameraController().setWorldSize(next.getWorldWidth(), next.getWorldHeight());
+            renderer = new ChunkRenderer(next.getTiles(), tileSize);
+            if (heatmap != null) {
+                heatmap.dispose();
+                heatmap = null;
+            }
+            patched = -1;
         } else {
-            p.getElements().add(new LineTo(0, 0));
-            p.getElements().add(new LineTo(r, 0));
-        }
-
-        p.setFill(GROUND_COLOR);
-        p.setStrokeType(StrokeType.INSIDE);
-        p.setStroke(new Color(47 / 255f, 48 / 255f, 52 / 255f, 1.0));
-        p.setStrokeWidth(0.25);
-
-        Group root = new Group(p);
-
-        /* Dummy wedge markers on rounded corners (greyish) to smooth the seam to roads. */
-        if (roundTL) {
-            root.getChildren().add(createCornerDummyTL(dummyR, GROUND_CORNER_DUMMY));
-        }
-        if (roundTR) {
-            root.getChildren().add(createCornerDummyTR(s, dummyR, GROUND_CORNER_DUMMY));
-        }
-        if (roundBR) {
-            root.getChildren().add(createCornerDummyBR(s, dummyR, GROUND_CORNER_DUMMY));
-        }
-        if (roundBL) {
-            root.getChildren().add(createCornerDummyBL(dummyR, s, GROUND_CORNER_DUMMY));
+            patched = renderer.redraw(next.getTiles(), diff.redraw());
+            if (heatmap != null) {
+                heatmap.update(next, diff.minX(), diff.minY(), diff.maxX(), diff.maxY());
+            }
         }
-
-        return root;
+        renderer.update();
+
+        double applyMillis = (System.nanoTime() - begin) / 1e6;
+        System.out.printf("Map %s reloaded: %s, %d towers kept, %d sold; parse %.1f ms, apply %.1f ms, visible %d ms after save%n",
+                mapId,
+                diff.resized() ? "resized, all visuals rebuilt"
+                        : String.format("%d tiles changed, %d redrawn in %d cached chunks", diff.changed(), diff.redraw().length, patched),
+                towers.size() - sold, sold, parseMillis, applyMillis, System.currentTimeMillis() - savedAt);
     }
 
     /**
-     * Road tile with rounded corners where it meets ground,
-     * plus wedge-shaped dummy markers at those corners (black).
-     *
-     * <p>This mirrors the ground rendering logic but flips the colors, so junctions between
-     * ground and road remain flush. Stroke is disabled to prevent thin outlines that could
-     * appear when the camera is zoomed.</p>
+     * Points every enemy at the checkpoint of the new map with the id it was walking to,
+     * since checkpoints of the old map are neither its route nor its end any more.
      */
-    private Node createRoadTileShape(int x, int y, double tileSize, char[][] grid) {
-        int gridY = grid.length;
-        int gridX = grid[0].length;
-
-        double s = tileSize;
-        /* Same radius as ground corners. */
-        double r = 30;
-        double dummyR = r;
-
-        /* Neighboring ground tiles. */
-        boolean groundUp    = !isRoad(x,     y - 1, gridX, gridY, grid);
-        boolean groundDown  = !isRoad(x,     y + 1, gridX, gridY, grid);
-        boolean groundLeft  = !isRoad(x - 1, y,     gridX, gridY, grid);
-        boolean groundRight = !isRoad(x + 1, y,     gridX, gridY, grid);
-
-        /* Round corners on the road where it meets ground in both directions. */
-        boolean roundTL = groundUp && groundLeft;
-        boolean roundTR = groundUp && groundRight;
-        boolean roundBR = groundDown && groundRight;
-        boolean roundBL = groundDown && groundLeft;
-
-        Path p = new Path();
-
-        /* Start near top-left. */
-        p.getElements().add(new MoveTo(roundTL ? r : 0, 0));
-
-        /* Top edge to near TR. */
-        p.getElements().add(new LineTo(s - (roundTR ? r : 0), 0));
-
-        /* Top-right corner. */
-        if (roundTR) {
-            p.getElements().add(new QuadCurveTo(
-                    s, 0,
-                    s, r
-            ));
-        } else {
-            p.getElements().add(new LineTo(s, 0));
-            p.getElements().add(new LineTo(s, r));
-        }
-
-        /* Right edge down to near BR. */
-        p.getElements().add(new LineTo(s, s - (roundBR ? r : 0)));
-
-        /* Bottom-right corner. */
-        if (roundBR) {
-            p.getElements().add(new QuadCurveTo(
-                    s, s,
-                    s - r, s
-            ));
-        } else {
-            p.getElements().add(new LineTo(s, s));
-            p.getElements().add(new LineTo(s - r, s));
-        }
-
-        /* Bottom edge to near BL. */
-        p.getElements().add(new LineTo(roundBL ? r : 0, s));
-
-        /* Bottom-left corner. */
-        if (roundBL) {
-            p.getElements().add(new QuadCurveTo(
-                    0, s,
-                    0, s - r
-            ));
-        } else {
-            p.getElements().add(new LineTo(0, s));
-            p.getElements().add(new LineTo(0, s - r));
-        }
-
-        /* Left edge up to near TL. */
-        p.getElements().add(new LineTo(0, (roundTL ? r : 0)));
-
-        /* Top-left corner. */
-        if (roundTL) {
-            p.getElements().add(new QuadCurveTo(
-                    0, 0,
-                    r, 0
-            ));
-        } else {
-            p.getElements().add(new LineTo(0, 0));
-            p.getElements().add(new LineTo(r, 0));
-        }
-
-        p.setFill(ROAD_COLOR);
-        p.setStrokeType(StrokeType.INSIDE);
-        /* No visible outline gap. */
-        p.setStroke(ROAD_COLOR);
-        p.setStrokeWidth(0.0);
-
-        Group root = new Group(p);
-
-        /* Dummy wedge markers on rounded corners (black) matching the road surface. */
-        if (roundTL) {
-            root.getChildren().add(createCornerDummyTL(dummyR, ROAD_CORNER_DUMMY));
-        }
-        if (roundTR) {
-            root.getChildren().add(createCornerDummyTR(s, dummyR, ROAD_CORNER_DUMMY));
-        }
-        if (roundBR) {
-            root.getChildren().add(createCornerDummyBR(s, dummyR, ROAD_CORNER_DUMMY));
+    private void reroute(GameMap next) {
+        for (Entity entity : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+            EntityUtil.getOptionalComponent(entity, AbstractEnemyComponent.class).ifPresent(enemy -> {
+                int id = enemy.getNextCheckPoint().id();
+                boolean known = next.getStartPoint().id() == id || next.getEndPoint().id() == id
+                        || next.getCheckPoints().stream().anyMatch(checkPoint -> checkPoint.id() == id);
+                enemy.setNextCheckPoint(known ? next.getCheckPointById(id) : next.getEndPoint());
+            });
         }
-        if (roundBL) {
-            root.getChildren().add(createCornerDummyBL(dummyR, s, ROAD_CORNER_DUMMY));
-        }
-
-        return root;
-    }
-
-    /* ---------- Dummy wedge helpers ---------- */
-
-    /**
-     * Top-left dummy: 2 straight edges along top & left, curved hypotenuse.
-     * Local coordinates; corner at (0,0).
-     *
-     * <p>All dummy helpers use local coordinates so callers can translate them into place
-     * relative to the tile size without rewriting the geometry math.</p>
-     */
-    private Path createCornerDummyTL(double r, Color color) {
-        Path path = new Path();
-        path.getElements().add(new MoveTo(0, 0));
-        path.getElements().add(new javafx.scene.shape.LineTo(r, 0));
-        path.getElements().add(new QuadCurveTo(0, 0, 0, r));
-        path.getElements().add(new ClosePath());
-        path.setFill(color);
-        return path;
     }
 
     /**
-     * Top-right dummy: corner at (s,0).
+     * Refreshes the visuals of a tile whose occupancy changed.
      *
-     * <p>The slight 0.5 pixel offsets counter sub-pixel rendering artifacts that appear at
-     * certain scale factors when FXGL hands geometry to JavaFX.</p>
+     * @param x tile column
+     * @param y tile row
      */
-    private Path createCornerDummyTR(double s, double r, Color color) {
-        Path path = new Path();
-        path.getElements().add(new MoveTo(s+0.5, 0.5));
-        path.getElements().add(new javafx.scene.shape.LineTo(s - r+0.5, 0.5));
-        path.getElements().add(new QuadCurveTo(s, 0, s, r));
-        path.getElements().add(new ClosePath());
-        path.setFill(color);
-        return path;
+    public void tileChanged(int x, int y) {
+        if (heatmap != null) {
+            heatmap.tileChanged(x, y);
+        }
     }
 
     /**
-     * Bottom-right dummy: corner at (s,s).
+     * Binds {@code H} to cycle the placement heatmap through the tower types and off again.
+     * The heatmap is only computed once it is first asked for.
      */
-    private Path createCornerDummyBR(double s, double r, Color color) {
-        Path path = new Path();
-        path.getElements().add(new MoveTo(s, s));
-        path.getElements().add(new javafx.scene.shape.LineTo(s, s - r));
-        path.getElements().add(new QuadCurveTo(s, s, s - r, s));
-        path.getElements().add(new ClosePath());
-        path.setFill(color);
-        return path;
-    }
+    private void initHeatmapInput() {
+        PublicUserAction toggleHeatmap = new PublicUserAction() {
+            @Override
+            public void onActionBegin() {
+                if (heatmap == null) {
+                    heatmap = new PlacementHeatmap(gameMap);
+                }
+                TowerType type = heatmap.cycle();
+                System.out.println(type == null ? "Placement heatmap hidden" : "Placement heatmap: " + type + " tower");
+            }
+        };
 
-    /**
-     * Bottom-left dummy: corner at (0,s).
-     */
-    private Path createCornerDummyBL(double r, double s, Color color) {
-        Path path = new Path();
-        path.getElements().add(new MoveTo(0, s));
-        path.getElements().add(new javafx.scene.shape.LineTo(r, s));
-        path.getElements().add(new QuadCurveTo(0, s, 0, s - r));
-        path.getElements().add(new ClosePath());
-        path.setFill(color);
-        return path;
+        InputManager.get().registerKeyboardInput(new InputManager.KeyboardInput(toggleHeatmap, KeyCode.H));
     }
 
     /**
      * Registers click input so ground tiles reveal their configuration panel once the game
-     * has started. The lookup uses proximity to the mouse to avoid precision issues with
-     * complex vector shapes.
+     * has started. The clicked tile is found by converting the mouse position to tile
+     * coordinates, so no per-tile entity or shape is needed.
      */
     private void initTileInput() {
         PublicUserAction clickTile = new PublicUserAction() {
             @Override
             public void onActionBegin() {
-                if (!WorldManager.get().isStarted()){
+                if (!world.isStarted()){
                     return;
                 }
-                Optional<Entity> entity = EntityUtil.getClosestEntityToMousePoint(EntityType.GROUND, Constants.TILE_SIZE, Constants.TILE_SIZE);
-                if (entity.isPresent() ) {
-                    GroundComponent component = entity.get().getComponent(GroundComponent.class);
-                    UIManager.get().getSideBar().show(GroundTilePanel.create(component));
+                int[] tile = toTile(getInput().getMousePositionWorld());
+                if (gameMap.getTiles().isGround(tile[0], tile[1])) {
+                    UIManager.get().getSideBar().show(GroundTilePanel.create(world, tile[0], tile[1]));
                 }
             }
         };
@@ -0,0 +1,108 @@
+package com.github.griffty.finalproject.world.map;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+
+/**
+ * Development helper that re-parses a text map whenever it is saved.
+ *
+ * <p>The file's directory is watched with a {@link WatchService} on a daemon thread. Editors
+ * often write a file in several steps, so after the first event the watcher waits
+ * {@link #SETTLE_MILLIS} and drains further events before reading. The new map is parsed on
+ * the watcher thread and handed to the listener there; malformed edits are reported and
+ * skipped, so the game keeps running on the last good map.</p>
+ *
+ * <p>Only one file is watched at a time: starting a new watch (for instance when a match is
+ * restarted) stops the previous one.</p>
+ */
+final class MapWatcher {
+    private static final long SETTLE_MILLIS = 100;
+
+    private static WatchService current;
+
+    /** Receives a freshly parsed map on the watcher thread. */
+    interface Listener {
+        /**
+         * @param map         the parsed map
+         * @param parseMillis time spent parsing it
+         * @param savedAt     modification time of the file, in epoch milliseconds
+         */
+        void mapChanged(GameMap map, double parseMillis, long savedAt);
+    }
+
+    private MapWatcher() { }
+
+    /**
+     * Watches a text map, replacing any previous watch.
+     *
+     * @param file     map file; its directory must exist
+     * @param listener called with every successfully parsed version
+     * @throws IOException if the directory cannot be watched
+     */
+    static synchronized void watch(Path file, Listener listener) throws IOException {
+        if (current != null) {
+            current.close();
+        }
+        Path dir = file.toAbsolutePath().getParent();
+        Path name = file.getFileName();
+        WatchService service = FileSystems.getDefault().newWatchService();
+        dir.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        current = service;
+
+        Thread thread = new Thread(() -> run(service, dir.resolve(name), name, listener), "map-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void run(WatchService service, Path file, Path name, Listener listener) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean touched = pollTouched(key, name);
+                key.reset();
+                if (!touched) {
+                    continue;
+                }
+                Thread.sleep(SETTLE_MILLIS);
+                WatchKey more;
+                while ((more = service.poll()) != null) {
+                    pollTouched(more, name);
+                    more.reset();
+                }
+                reload(file, listener);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            /* Watch replaced or application shutting down. */
+        }
+    }
+
+    private static boolean pollTouched(WatchKey key, Path name) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            touched |= name.equals(event.context());
+        }
+        return touched;
+    }
+
+    private static void reload(Path file, Listener listener) {
+        try {
+            long savedAt = Files.getLastModifiedTime(file).toMillis();
+            long begin = System.nanoTime();
+            GameMap map;
+            try (InputStream in = Files.newInputStream(file)) {
+                map = MapFile.parseText(in, file.toString());
+            }
+            listener.mapChanged(map, (System.nanoTime() - begin) / 1e6, savedAt);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Map reload skipped: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package com.github.griffty.finalproject.world.map;
+
+import com.almasb.fxgl.app.scene.GameView;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.entities.components.GroundComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import javafx.application.Platform;
+import javafx.scene.image.ImageView;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.almasb.fxgl.dsl.FXGL.getGameScene;
+
+/**
+ * Overlay showing, for every free ground tile, how much of the enemy routes a tower built
+ * there would cover.
+ *
+ * <p>For each registered tower type the heatmap measures the length of the ground route
+ * (start, checkpoints, end) and of the air route (start straight to end) within the tower's
+ * range around the tile centre. Ground coverage is drawn in red, air coverage in blue, both
+ * relative to the best tile on the map; road and occupied tiles stay clear.</p>
+ *
+ * <p>Coverage is computed on a background thread from an immutable snapshot of the map
+ * geometry, and the per-type colours are cached. After the first full pass, {@link #update}
+ * recomputes only the tiles within range of route segments that changed, plus the tiles the
+ * caller reports as changed, and tower placement repaints a single pixel. Everything is drawn
+ * into one {@link WritableImage} with a pixel per tile, scaled up by a single
+ * {@link ImageView}, so the overlay is one scene node however big the map is. All methods
+ * must be called on the JavaFX application thread.</p>
+ */
+final class PlacementHeatmap {
+    /** Above the map chunks, below every entity view. */
+    private static final int Z_INDEX = -1;
+    private static final int MIN_ALPHA = 0x30;
+    private static final int MAX_ALPHA = 0xc0;
+
+    /** Shared by all heatmaps so restarting a match does not leak threads. */
+    private static final ExecutorService WORKER = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "placement-heatmap");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int gridX;
+    private final int gridY;
+    private final TowerType[] types;
+    private final double[] ranges;
+
+    /* Application thread state. */
+    private TileStates states;
+    /** Per type, ARGB of every tile as if it were free. */
+    private final int[][] colours;
+    private final WritableImage image;
+    private final GameView view;
+    /** Index into {@link #types} of the layer on screen, -1 while hidden. */
+    private int shown = -1;
+
+    /* Worker thread state. */
+    private Geometry geometry;
+    private final double[] maxGround;
+    private final double[] maxAir;
+    /** Per type, row-major index of a tile with the best ground and air coverage. */
+    private final int[] maxGroundTile;
+    private final int[] maxAirTile;
+
+    /**
+     * Immutable inputs of a computation.
+     *
+     * @param tiles      static terrain
+     * @param groundPath ground route as {@code x0, y0, x1, y1, ...} in world units
+     * @param airPath    air route in the same layout
+     */
+    private record Geometry(TileGrid tiles, double[] groundPath, double[] airPath) {
+        static Geometry of(GameMap map) {
+            List<GameMap.CheckPoint> route = new ArrayList<>();
+            route.add(map.getStartPoint());
+            route.addAll(map.getCheckPoints());
+            route.add(map.getEndPoint());
+            double[] ground = new double[route.size() * 2];
+            for (int i = 0; i < route.size(); i++) {
+                ground[2 * i] = route.get(i).point().getX();
+                ground[2 * i + 1] = route.get(i).point().getY();
+            }
+            double[] air = {
+                    map.getStartPoint().point().getX(), map.getStartPoint().point().getY(),
+                    map.getEndPoint().point().getX(), map.getEndPoint().point().getY()
+            };
+            return new Geometry(map.getTiles(), ground, air);
+        }
+    }
+
+    /**
+     * Creates the (hidden) overlay and starts computing it in the background.
+     *
+     * @param map map to cover
+     */
+    PlacementHeatmap(GameMap map) {
+        this.gridX = map.getTiles().width();
+        this.gridY = map.getTiles().height();
+        this.states = map.getTileStates();
+        this.types = TowerType.values();
+        this.ranges = new double[types.length];
+        for (TowerHelper.TowerInfo info : TowerHelper.getTowerInfoMap().values()) {
+            ranges[info.type().ordinal()] = info.range();
+        }
+        this.colours = new int[types.length][gridX * gridY];
+        this.maxGround = new double[types.length];
+        this.maxAir = new double[types.length];
+        this.maxGroundTile = new int[types.length];
+        this.maxAirTile = new int[types.length];
+
+        image = new WritableImage(gridX, gridY);
+        ImageView imageView = new ImageView(image);
+        imageView.setSmooth(false);
+        imageView.setFitWidth(gridX * (double) Constants.TILE_SIZE);
+        imageView.setFitHeight(gridY * (double) Constants.TILE_SIZE);
+        view = new GameView(imageView, Z_INDEX);
+
+        Geometry initial = Geometry.of(map);
+        WORKER.execute(() -> {
+            geometry = initial;
+            compute(0, 0, gridX - 1, gridY - 1);
+        });
+    }
+
+    /**
+     * Shows the next tower type's layer, or hides the overlay after the last one.
+     *
+     * @return tower type now shown, or {@code null} when hidden
+     */
+    TowerType cycle() {
+        if (shown >= 0) {
+            getGameScene().removeGameView(view);
+        }
+        shown = shown + 1 < types.length ? shown + 1 : -1;
+        if (shown < 0) {
+            return null;
+        }
+        blit(0, 0, gridX, gridY);
+        getGameScene().addGameView(view);
+        return types[shown];
+    }
+
+    /**
+     * Removes the overlay from the scene for good; results still in flight only reach the
+     * detached image.
+     */
+    void dispose() {
+        if (shown >= 0) {
+            getGameScene().removeGameView(view);
+            shown = -1;
+        }
+    }
+
+    /**
+     * Repaints one tile after a tower was built on it or sold.
+     */
+    void tileChanged(int x, int y) {
+        if (shown >= 0) {
+            image.getPixelWriter().setArgb(x, y, states.isOccupied(x, y) ? 0 : colours[shown][y * gridX + x]);
+        }
+    }
+
+    /**
+     * Brings the heatmap up to date with a changed map of the same size.
+     *
+     * <p>Recomputes, in the background, the tiles in the given rectangle (tiles whose kind
+     * changed) together with every tile in range of a route segment that was added or
+     * removed.</p>
+     *
+     * @param map  the map as it is now
+     * @param minX first changed column, or {@code maxX < minX} if no tile changed
+     * @param minY first changed row
+     * @param maxX last changed column, inclusive
+     * @param maxY last changed row, inclusive
+     */
+    void update(GameMap map, int minX, int minY, int maxX, int maxY) {
+        if (map.getTiles().width() != gridX || map.getTiles().height() != gridY) {
+            throw new IllegalArgumentException("Heatmap covers a " + gridX + "x" + gridY + " map");
+        }
+        states = map.getTileStates();
+        Geometry next = Geometry.of(map);
+        WORKER.execute(() -> {
+            int[] dirty = {minX, minY, maxX, maxY};
+            double reach = 0;
+            for (double range : ranges) {
+                reach = Math.max(reach, range);
+            }
+            include(dirty, changedSegments(geometry.groundPath(), next.groundPath()), reach);
+            include(dirty, changedSegments(geometry.airPath(), next.airPath()), reach);
+            geometry = next;
+            if (dirty[0] <= dirty[2] && dirty[1] <= dirty[3]) {
+                compute(Math.max(0, dirty[0]), Math.max(0, dirty[1]),
+                        Math.min(gridX - 1, dirty[2]), Math.min(gridY - 1, dirty[3]));
+            }
+        });
+    }
+
+    /**
+     * Worker thread: computes the colours of a tile rectangle for every tower type and hands
+     * them to the application thread. Falls back to the whole map when the rectangle raises a
+     * type's best coverage or lowers the tile that held it, since every other tile's colour is
+     * relative to it.
+     */
+    private void compute(int x0, int y0, int x1, int y1) {
+        long begin = System.nanoTime();
+        int width = x1 - x0 + 1;
+        int height = y1 - y0 + 1;
+        boolean full = width == gridX && height == gridY;
+        double half = Constants.TILE_SIZE / 2.0;
+
+        float[] ground = new float[width * height];
+        float[] air = new float[width * height];
+        int[][] result = new int[types.length][];
+        for (int t = 0; t < types.length; t++) {
+            double range = ranges[t];
+            double bestGround = 0;
+            double bestAir = 0;
+            int bestGroundTile = 0;
+            int bestAirTile = 0;
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    int i = (y - y0) * width + (x - x0);
+                    if (!geometry.tiles().isGround(x, y)) {
+                        ground[i] = air[i] = 0;
+                        continue;
+                    }
+                    double cx = x * Constants.TILE_SIZE + half;
+                    double cy = y * Constants.TILE_SIZE + half;
+                    ground[i] = (float) coveredLength(cx, cy, range, geometry.groundPath());
+                    air[i] = (float) coveredLength(cx, cy, range, geometry.airPath());
+                    if (ground[i] > bestGround) {
+                        bestGround = ground[i];
+                        bestGroundTile = y * gridX + x;
+                    }
+                    if (air[i] > bestAir) {
+                        bestAir = air[i];
+                        bestAirTile = y * gridX + x;
+                    }
+                }
+            }
+            if (full) {
+                maxGround[t] = bestGround;
+                maxAir[t] = bestAir;
+                maxGroundTile[t] = bestGroundTile;
+                maxAirTile[t] = bestAirTile;
+            } else if (bestGround > maxGround[t] || bestAir > maxAir[t]
+                    || lowered(maxGroundTile[t], maxGround[t], ground, x0, y0, x1, y1)
+                    || lowered(maxAirTile[t], maxAir[t], air, x0, y0, x1, y1)) {
+                compute(0, 0, gridX - 1, gridY - 1);
+                return;
+            }
+
+            int[] argb = new int[width * height];
+            for (int y = y0; y <= y1; y++) {
+                for (int x = x0; x <= x1; x++) {
+                    int i = (y - y0) * width + (x - x0);
+                    argb[i] = geometry.tiles().isGround(x, y) ? colour(ground[i] / maxGround[t], air[i] / maxAir[t]) : 0;
+                }
+            }
+            result[t] = argb;
+        }
+
+        System.out.printf("Placement heatmap: %d tiles x %d tower types in %.1f ms%n",
+                width * height, types.length, (System.nanoTime() - begin) / 1e6);
+        Platform.runLater(() -> apply(x0, y0, width, height, result));
+    }
+
+    /**
+     * @return whether {@code tile} lies in the recomputed rectangle and now covers less than
+     *         the maximum it held
+     */
+    private boolean lowered(int tile, double max, float[] values, int x0, int y0, int x1, int y1) {
+        int x = tile % gridX;
+        int y = tile / gridX;
+        return x >= x0 && x <= x1 && y >= y0 && y <= y1 && values[(y - y0) * (x1 - x0 + 1) + (x - x0)] < max;
+    }
+
+    /**
+     * Application thread: stores computed colours and repaints them if their layer is shown.
+     */
+    private void apply(int x0, int y0, int width, int height, int[][] result) {
+        for (int t = 0; t < types.length; t++) {
+            for (int row = 0; row < height; row++) {
+                System.arraycopy(result[t], row * width, colours[t], (y0 + row) * gridX + x0, width);
+            }
+        }
+        if (shown >= 0) {
+            blit(x0, y0, width, height);
+        }
+    }
+
+    /**
+     * Copies a rectangle of the shown layer into the image and clears tiles holding a tower.
+     */
+    private void blit(int x0, int y0, int width, int height) {
+        image.getPixelWriter().setPixels(x0, y0, width, height, PixelFormat.getIntArgbInstance(),
+                colours[shown], y0 * gridX + x0, gridX);
+        states.forEachTower(tower -> {
+            GroundComponent tile = tower.getComponent(GroundComponent.class);
+            if (tile.getTileX() >= x0 && tile.getTileX() < x0 + width
+                    && tile.getTileY() >= y0 && tile.getTileY() < y0 + height) {
+                image.getPixelWriter().setArgb(tile.getTileX(), tile.getTileY(), 0);
+            }
+        });
+    }
+
+    /**
+     * Length of a polyline inside a circle.
+     *
+     * @param path polyline as {@code x0, y0, x1, y1, ...}
+     */
+    static double coveredLength(double cx, double cy, double radius, double[] path) {
+        double total = 0;
+        for (int i = 0; i + 3 < path.length; i += 2) {
+            double ax = path[i] - cx;
+            double ay = path[i + 1] - cy;
+            double dx = path[i + 2] - path[i];
+            double dy = path[i + 3] - path[i + 1];
+            double a = dx * dx + dy * dy;
+            if (a == 0) {
+                continue;
+            }
+            /* Solve |A + tD| = r for t and clamp the chord to the segment. */
+            double b = ax * dx + ay * dy;
+            double c = ax * ax + ay * ay - radius * radius;
+            double discriminant = b * b - a * c;
+            if (discriminant <= 0) {
+                continue;
+            }
+            double root = Math.sqrt(discriminant);
+            double t0 = Math.max(0, (-b - root) / a);
+            double t1 = Math.min(1, (-b + root) / a);
+            if (t1 > t0) {
+                total += (t1 - t0) * Math.sqrt(a);
+            }
+        }
+        return total;
+    }
+
+    private static int colour(double ground, double air) {
+        ground = Double.isFinite(ground) ? ground : 0;
+        air = Double.isFinite(air) ? air : 0;
+        int alpha = (int) (MIN_ALPHA + (MAX_ALPHA - MIN_ALPHA) * Math.max(ground, air));
+        return alpha << 24 | (int) (255 * ground) << 16 | 0x20 << 8 | (int) (255 * air);
+    }
+
+    /**
+     * Segments present in exactly one of two polylines, as {@code x0, y0, x1, y1} each.
+     */
+    private static List<double[]> changedSegments(double[] before, double[] after) {
+        Set<List<Double>> old = segments(before);
+        Set<List<Double>> now = segments(after);
+        List<double[]> changed = new ArrayList<>();
+        addMissing(old, now, changed);
+        addMissing(now, old, changed);
+        return changed;
+    }
+
+    private static void addMissing(Set<List<Double>> from, Set<List<Double>> in, List<double[]> out) {
+        for (List<Double> segment : from) {
+            if (!in.contains(segment)) {
+                out.add(new double[]{segment.get(0), segment.get(1), segment.get(2), segment.get(3)});
+            }
+        }
+    }
+
+    private static Set<List<Double>> segments(double[] path) {
+        Set<List<Double>> segments = new HashSet<>();
+        for (int i = 0; i + 3 < path.length; i += 2) {
+            segments.add(List.of(path[i], path[i + 1], path[i + 2], path[i + 3]));
+        }
+        return segments;
+    }
+
+    /**
+     * Grows a tile rectangle {@code {minX, minY, maxX, maxY}} to cover every tile within
+     * {@code reach} world units of the given segments.
+     */
+    private static void include(int[] rect, List<double[]> segments, double reach) {
+        for (double[] s : segments) {
+            int minX = (int) Math.floor((Math.min(s[0], s[2]) - reach) / Constants.TILE_SIZE);
+            int minY = (int) Math.floor((Math.min(s[1], s[3]) - reach) / Constants.TILE_SIZE);
+            int maxX = (int) Math.floor((Math.max(s[0], s[2]) + reach) / Constants.TILE_SIZE);
+            int maxY = (int) Math.floor((Math.max(s[1], s[3]) + reach) / Constants.TILE_SIZE);
+            boolean empty = rect[2] < rect[0] || rect[3] < rect[1];
+            rect[0] = empty ? minX : Math.min(rect[0], minX);
+            rect[1] = empty ? minY : Math.min(rect[1], minY);
+            rect[2] = empty ? maxX : Math.max(rect[2], maxX);
+            rect[3] = empty ? maxY : Math.max(rect[3], maxY);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.github.griffty.finalproject.world.map;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.ClosePath;
+import javafx.scene.shape.LineTo;
+import javafx.scene.shape.MoveTo;
+import javafx.scene.shape.Path;
+import javafx.scene.shape.QuadCurveTo;
+import javafx.scene.shape.StrokeType;
+
+import java.util.Arrays;
+
+/**
+ * Shared, pre-rendered tile visuals keyed by the tile's 4-neighbour road mask.
+ *
+ * <p>The look of a tile depends only on its kind and on which of its four neighbours are
+ * road, so there are just 16 variants per kind. Each variant is built once as vector
+ * geometry, rasterized into an {@link Image} and reused by every tile of every map for the
+ * lifetime of the application. {@link ChunkRenderer} stamps these images into its chunks.</p>
+ *
+ * <p>Images are created lazily on first use and must be requested from the JavaFX
+ * application thread.</p>
+ */
+final class TileGeometry {
+    static final int ROAD_UP    = 1;
+    static final int ROAD_RIGHT = 2;
+    static final int ROAD_DOWN  = 4;
+    static final int ROAD_LEFT  = 8;
+
+    /* Corner bits: which corners touch a neighbour of the other kind on both sides. */
+    private static final int TL = 1, TR = 2, BR = 4, BL = 8;
+
+    private static final Color ROAD_COLOR   = new Color(32 / 255f, 33 / 255f, 37 / 255f, 1);
+    private static final Color GROUND_COLOR = Color.BLACK;
+
+    /** Flat colours of the two kinds as ARGB, for the simplified map drawn when zoomed out. */
+    static final int ROAD_ARGB   = argb(ROAD_COLOR);
+    static final int GROUND_ARGB = argb(GROUND_COLOR);
+
+    private static final Color GROUND_CORNER_DUMMY = ROAD_COLOR;
+    private static final Color ROAD_CORNER_DUMMY   = GROUND_COLOR;
+
+    /** Radius of rounded corners, shared by ground and road so their edges stay flush. */
+    private static final double CORNER_RADIUS = 30;
+
+    private static final Image[] GROUND = new Image[16];
+    private static final Image[] ROAD = new Image[16];
+    private static double cachedTileSize;
+
+    private TileGeometry() { }
+
+    private static int argb(Color color) {
+        return (int) Math.round(color.getOpacity() * 255) << 24
+                | (int) Math.round(color.getRed() * 255) << 16
+                | (int) Math.round(color.getGreen() * 255) << 8
+                | (int) Math.round(color.getBlue() * 255);
+    }
+
+    /**
+     * @param roadMask bits of the neighbours that are road
+     * @param tileSize tile edge length in pixels
+     * @return the shared image of the ground variant, {@code tileSize} pixels square
+     */
+    static Image ground(int roadMask, double tileSize) {
+        return image(GROUND, roadMask, tileSize, false);
+    }
+
+    /**
+     * @param roadMask bits of the neighbours that are road
+     * @param tileSize tile edge length in pixels
+     * @return the shared image of the road variant, {@code tileSize} pixels square
+     */
+    static Image road(int roadMask, double tileSize) {
+        return image(ROAD, roadMask, tileSize, true);
+    }
+
+    /**
+     * @return number of variants rasterized so far, across both kinds
+     */
+    static int cachedVariants() {
+        int count = 0;
+        for (int i = 0; i < 16; i++) {
+            count += (GROUND[i] != null ? 1 : 0) + (ROAD[i] != null ? 1 : 0);
+        }
+        return count;
+    }
+
+    private static Image image(Image[] cache, int roadMask, double tileSize, boolean road) {
+        if (tileSize != cachedTileSize) {
+            Arrays.fill(GROUND, null);
+            Arrays.fill(ROAD, null);
+            cachedTileSize = tileSize;
+        }
+        Image image = cache[roadMask];
+        if (image == null) {
+            image = rasterize(road ? createRoadShape(roadMask, tileSize) : createGroundShape(roadMask, tileSize), tileSize);
+            cache[roadMask] = image;
+        }
+        return image;
+    }
+
+    private static Image rasterize(Node shape, double tileSize) {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setViewport(new Rectangle2D(0, 0, tileSize, tileSize));
+        return shape.snapshot(parameters, null);
+    }
+
+    /**
+     * Ground tile with rounded cut-out corners near roads,
+     * plus wedge-shaped dummy markers at those corners (greyish).
+     *
+     * <p>The rounded-corner logic helps visually communicate where roads carve into the
+     * ground. Dummy wedges fill the opposite color to avoid tiny gaps or aliasing artifacts
+     * at the joints between adjacent tiles.</p>
+     */
+    private static Node createGroundShape(int roadMask, double s) {
+        /* Only round "outer" corners adjacent to roads in both directions. */
+        Path p = createOutline(s, cornerMask(roadMask));
+        p.setFill(GROUND_COLOR);
+        p.setStrokeType(StrokeType.INSIDE);
+        p.setStroke(new Color(47 / 255f, 48 / 255f, 52 / 255f, 1.0));
+        p.setStrokeWidth(0.25);
+
+        return withCornerDummies(p, s, cornerMask(roadMask), GROUND_CORNER_DUMMY);
+    }
+
+    /**
+     * Road tile with rounded corners where it meets ground,
+     * plus wedge-shaped dummy markers at those corners (black).
+     *
+     * <p>This mirrors the ground rendering logic but flips the colors, so junctions between
+     * ground and road remain flush. Stroke is disabled to prevent thin outlines that could
+     * appear when the camera is zoomed.</p>
+     */
+    private static Node createRoadShape(int roadMask, double s) {
+        /* Round corners on the road where it meets ground in both directions. */
+        int groundMask = ~roadMask & 15;
+        Path p = createOutline(s, cornerMask(groundMask));
+        p.setFill(ROAD_COLOR);
+        p.setStrokeType(StrokeType.INSIDE);
+        /* No visible outline gap. */
+        p.setStroke(ROAD_COLOR);
+        p.setStrokeWidth(0.0);
+
+        return withCornerDummies(p, s, cornerMask(groundMask), ROAD_CORNER_DUMMY);
+    }
+
+    private static int cornerMask(int neighbours) {
+        boolean up = (neighbours & ROAD_UP) != 0;
+        boolean right = (neighbours & ROAD_RIGHT) != 0;
+        boolean down = (neighbours & ROAD_DOWN) != 0;
+        boolean left = (neighbours & ROAD_LEFT) != 0;
+        return (up && left ? TL : 0) | (up && right ? TR : 0) | (down && right ? BR : 0) | (down && left ? BL : 0);
+    }
+
+    /**
+     * Square outline with quadratic rounding on the corners in {@code corners}.
+     */
+    private static Path createOutline(double s, int corners) {
+        double r = CORNER_RADIUS;
+        boolean roundTL = (corners & TL) != 0;
+        boolean roundTR = (corners & TR) != 0;
+        boolean roundBR = (corners & BR) != 0;
+        boolean roundBL = (corners & BL) != 0;
+
+        Path p = new Path();
+
+        /* Start near top-left. */
+        p.getElements().add(new MoveTo(roundTL ? r : 0, 0));
+
+        /* Top edge to near TR. */
+        p.getElements().add(new LineTo(s - (roundTR ? r : 0), 0));
+
+        /* Top-right corner. */
+        if (roundTR) {
+            p.getElements().add(new QuadCurveTo(s, 0, s, r));
+        } else {
+            p.getElements().add(new LineTo(s, 0));
+            p.getElements().add(new LineTo(s, r));
+        }
+
+        /* Right edge down to near BR. */
+        p.getElements().add(new LineTo(s, s - (roundBR ? r : 0)));
+
+        /* Bottom-right corner. */
+        if (roundBR) {
+            p.getElements().add(new QuadCurveTo(s, s, s - r, s));
+        } else {
+            p.getElements().add(new LineTo(s, s));
+            p.getElements().add(new LineTo(s - r, s));
+        }
+
+        /* Bottom edge to near BL. */
+        p.getElements().add(new LineTo(roundBL ? r : 0, s));
+
+        /* Bottom-left corner. */
+        if (roundBL) {
+            p.getElements().add(new QuadCurveTo(0, s, 0, s - r));
+        } else {
+            p.getElements().add(new LineTo(0, s));
+            p.getElements().add(new LineTo(0, s - r));
+        }
+
+        /* Left edge up to near TL. */
+        p.getElements().add(new LineTo(0, (roundTL ? r : 0)));
+
+        /* Top-left corner. */
+        if (roundTL) {
+            p.getElements().add(new QuadCurveTo(0, 0, r, 0));
+        } else {
+            p.getElements().add(new LineTo(0, 0));
+            p.getElements().add(new LineTo(r, 0));
+        }
+        return p;
+    }
+
+    private static Group withCornerDummies(Path outline, double s, int corners, Color color) {
+        double r = CORNER_RADIUS;
+        Group root = new Group(outline);
+        if ((corners & TL) != 0) {
+            root.getChildren().add(createCornerDummyTL(r, color));
+        }
+        if ((corners & TR) != 0) {
+            root.getChildren().add(createCornerDummyTR(s, r, color));
+        }
+        if ((corners & BR) != 0) {
+            root.getChildren().add(createCornerDummyBR(s, r, color));
+        }
+        if ((corners & BL) != 0) {
+            root.getChildren().add(createCornerDummyBL(r, s, color));
+        }
+        return root;
+    }
+
+    /* ---------- Dummy wedge helpers ---------- */
+
+    /**
+     * Top-left dummy: 2 straight edges along top & left, curved hypotenuse.
+     * Local coordinates; corner at (0,0).
+     *
+     * <p>All dummy helpers use local coordinates so callers can translate them into place
+     * relative to the tile size without rewriting the geometry math.</p>
+     */
+    private static Path createCornerDummyTL(double r, Color color) {
+        Path path = new Path();
+        path.getElements().add(new MoveTo(0, 0));
+        path.getElements().add(new LineTo(r, 0));
+        path.getElements().add(new QuadCurveTo(0, 0, 0, r));
+        path.getElements().add(new ClosePath());
+        path.setFill(color);
+        return path;
+    }
+
+    /**
+     * Top-right dummy: corner at (s,0).
+     *
+     * <p>The slight 0.5 pixel offsets counter sub-pixel rendering artifacts that appear at
+     * certain scale factors when FXGL hands geometry to JavaFX.</p>
+     */
+    private static Path createCornerDummyTR(double s, double r, Color color) {
+        Path path = new Path();
+        path.getElements().add(new MoveTo(s+0.5, 0.5));
+        path.getElements().add(new LineTo(s - r+0.5, 0.5));
+        path.getElements().add(new QuadCurveTo(s, 0, s, r));
+        path.getElements().add(new ClosePath());
+        path.setFill(color);
+        return path;
+    }
+
+    /**
+     * Bottom-right dummy: corner at (s,s).
+     */
+    private static Path createCornerDummyBR(double s, double r, Color color) {
+        Path path = new Path();
+        path.getElements().add(new MoveTo(s, s));
+        path.getElements().add(new LineTo(s, s - r));
+        path.getElements().add(new QuadCurveTo(s, s, s - r, s));
+        path.getElements().add(new ClosePath());
+        path.setFill(color);
+        return path;
+    }
+
+    /**
+     * Bottom-left dummy: corner at (0,s).
+     */
+    private static Path createCornerDummyBL(double r, double s, Color color) {
+        Path path = new Path();
+        path.getElements().add(new MoveTo(0, s));
+        path.getElements().add(new LineTo(r, s));
+        path.getElements().add(new QuadCurveTo(0, s, 0, s - r));
+        path.getElements().add(new ClosePath());
+        path.setFill(color);
+        return path;
+    }
+}
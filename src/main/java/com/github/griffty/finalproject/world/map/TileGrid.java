@@ -0,0 +1,75 @@
+package com.github.griffty.finalproject.world.map;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Static terrain of a map, one byte per tile in row-major order.
+ *
+ * <p>The bytes live in a {@link ByteBuffer} so a grid can be backed either by a heap array
+ * (maps parsed from text) or directly by a memory-mapped file (binary maps), without a copy.
+ * The grid is read-only once built.</p>
+ */
+public final class TileGrid {
+    /** Buildable terrain. */
+    public static final byte GROUND = 0;
+    /** Path enemies walk along; checkpoints are road tiles as well. */
+    public static final byte ROAD = 1;
+
+    private final int width;
+    private final int height;
+    private final ByteBuffer cells;
+
+    /**
+     * @param width  tiles on the X axis
+     * @param height tiles on the Y axis
+     * @param cells  {@code width * height} tile kinds, row-major, starting at index 0
+     */
+    public TileGrid(int width, int height, ByteBuffer cells) {
+        if (cells.capacity() != (long) width * height) {
+            throw new IllegalArgumentException("Expected " + (long) width * height + " tiles, got " + cells.capacity());
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = cells;
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int height() {
+        return height;
+    }
+
+    /**
+     * @return tile kind at (x, y); the coordinates must be inside the grid
+     */
+    public byte kind(int x, int y) {
+        return cells.get(y * width + x);
+    }
+
+    /**
+     * Returns true if the cell at (x, y) is road, safely handling out-of-bounds as "not road".
+     */
+    public boolean isRoad(int x, int y) {
+        return contains(x, y) && kind(x, y) == ROAD;
+    }
+
+    /**
+     * Returns true if the cell at (x, y) is ground, safely handling out-of-bounds as "not ground".
+     */
+    public boolean isGround(int x, int y) {
+        return contains(x, y) && kind(x, y) == GROUND;
+    }
+
+    public boolean contains(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * @return a read-only view of all tiles, positioned at the first one
+     */
+    public ByteBuffer cells() {
+        return cells.asReadOnlyBuffer().clear();
+    }
+}
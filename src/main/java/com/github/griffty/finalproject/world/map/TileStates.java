@@ -0,0 +1,139 @@
+package com.github.griffty.finalproject.world.map;
+
+import com.almasb.fxgl.entity.Entity;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Mutable per-match state of every tile: its kind, whether a tower stands on it and which.
+ *
+ * <p>Tiles are not entities. The kind comes from the static {@link TileGrid}; occupancy is a
+ * primitive {@code int} per tile holding {@code 0} for a free tile or {@code 1 +} the slot of
+ * the tower entity in a compact table. An entity only exists while a tower stands on a tile,
+ * so a map costs one {@code int} per tile instead of one entity per ground tile. The
+ * occupancy grid is allocated with the first tower, so loading a map alone stays cheap.</p>
+ *
+ * <p>Freed slots are reused lowest first, so the table stays compact and iteration order
+ * depends only on the sequence of placements and sales.</p>
+ */
+public final class TileStates {
+    private final TileGrid tiles;
+    /** Per tile, row-major: 0 when free, otherwise 1 + index into {@link #towers}; {@code null} until the first tower. */
+    private int[] slots;
+    private Entity[] towers = new Entity[16];
+    private int towerCount;
+
+    /**
+     * @param tiles static terrain the state belongs to
+     */
+    public TileStates(TileGrid tiles) {
+        this.tiles = tiles;
+    }
+
+    /**
+     * @return tile kind at (x, y), see {@link TileGrid}; the coordinates must be inside the grid
+     */
+    public byte kind(int x, int y) {
+        return tiles.kind(x, y);
+    }
+
+    /**
+     * Returns true if a tower stands at (x, y), safely handling out-of-bounds as "not occupied".
+     */
+    public boolean isOccupied(int x, int y) {
+        return tiles.contains(x, y) && slot(x, y) != 0;
+    }
+
+    /**
+     * Returns true if (x, y) is a ground tile without a tower.
+     */
+    public boolean isBuildable(int x, int y) {
+        return tiles.isGround(x, y) && slot(x, y) == 0;
+    }
+
+    /**
+     * @return the tower entity standing at (x, y), or empty for free tiles and out-of-bounds coordinates
+     */
+    public Optional<Entity> getTower(int x, int y) {
+        if (!tiles.contains(x, y)) {
+            return Optional.empty();
+        }
+        int slot = slot(x, y);
+        return slot == 0 ? Optional.empty() : Optional.of(towers[slot - 1]);
+    }
+
+    /**
+     * Records a tower entity on a free ground tile.
+     *
+     * @throws IllegalArgumentException if the tile is not buildable
+     */
+    public void occupy(int x, int y, Entity tower) {
+        if (!isBuildable(x, y)) {
+            throw new IllegalArgumentException("Tile " + x + ":" + y + " is not a free ground tile");
+        }
+        if (slots == null) {
+            slots = new int[tiles.width() * tiles.height()];
+        }
+        int slot = 0;
+        while (slot < towers.length && towers[slot] != null) {
+            slot++;
+        }
+        if (slot == towers.length) {
+            towers = Arrays.copyOf(towers, towers.length * 2);
+        }
+        towers[slot] = tower;
+        slots[y * tiles.width() + x] = slot + 1;
+        towerCount++;
+    }
+
+    /**
+     * Frees a tile.
+     *
+     * @return the tower entity that stood on it, or empty if the tile was free
+     */
+    public Optional<Entity> release(int x, int y) {
+        Optional<Entity> tower = getTower(x, y);
+        if (tower.isPresent()) {
+            int index = y * tiles.width() + x;
+            towers[slots[index] - 1] = null;
+            slots[index] = 0;
+            towerCount--;
+        }
+        return tower;
+    }
+
+    /**
+     * Frees every tile; the tower entities themselves are left to the caller.
+     */
+    public void clear() {
+        if (slots != null) {
+            Arrays.fill(slots, 0);
+        }
+        Arrays.fill(towers, null);
+        towerCount = 0;
+    }
+
+    /**
+     * @return number of towers on the map
+     */
+    public int towerCount() {
+        return towerCount;
+    }
+
+    private int slot(int x, int y) {
+        return slots == null ? 0 : slots[y * tiles.width() + x];
+    }
+
+    /**
+     * Visits every tower entity in slot order.
+     */
+    public void forEachTower(Consumer<Entity> action) {
+        for (Entity tower : towers) {
+            if (tower != null) {
+                action.accept(tower);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.github.griffty.finalproject.world.replay;
+
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+
+/**
+ * A single player command captured during a match.
+ *
+ * <p>The tick is the number of simulation ticks completed when the command was issued; a
+ * replay applies it right before running tick number {@code tick}.</p>
+ *
+ * @param tick      completed ticks at the time of the command
+ * @param kind      what the player did
+ * @param towerType tower archetype that was built or sold
+ * @param tileX     tile column of the affected ground tile
+ * @param tileY     tile row of the affected ground tile
+ */
+public record ReplayCommand(long tick, Kind kind, TowerType towerType, int tileX, int tileY) {
+    /** Player actions that change the simulation. */
+    public enum Kind {
+        ADD_TOWER,
+        REMOVE_TOWER,
+    }
+}
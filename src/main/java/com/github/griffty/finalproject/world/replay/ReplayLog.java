@@ -0,0 +1,107 @@
+package com.github.griffty.finalproject.world.replay;
+
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything needed to re-run a match: the map, the tick rate, the player's commands and a
+ * state hash for every tick.
+ *
+ * <p>Binary layout (big endian): magic {@code "TDRP"}, format version, map id, tick rate,
+ * command count followed by the commands, tick count followed by one 32-bit hash per tick.</p>
+ *
+ * @param mapId    map resource name the match was played on
+ * @param tickRate simulation ticks per second
+ * @param commands player commands in issue order
+ * @param hashes   state hash after each tick, indexed by tick
+ */
+public record ReplayLog(String mapId, int tickRate, List<ReplayCommand> commands, int[] hashes) {
+    private static final int MAGIC = 0x54445250;
+    private static final short VERSION = 1;
+
+    /**
+     * @return number of ticks recorded in this log
+     */
+    public int tickCount() {
+        return hashes.length;
+    }
+
+    /**
+     * Writes the log to a file, creating parent directories as needed.
+     *
+     * @param file target file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeUTF(mapId);
+            out.writeInt(tickRate);
+
+            out.writeInt(commands.size());
+            for (ReplayCommand command : commands) {
+                out.writeInt((int) command.tick());
+                out.writeByte(command.kind().ordinal());
+                out.writeByte(command.towerType().ordinal());
+                out.writeInt(command.tileX());
+                out.writeInt(command.tileY());
+            }
+
+            out.writeInt(hashes.length);
+            for (int hash : hashes) {
+                out.writeInt(hash);
+            }
+        }
+    }
+
+    /**
+     * Reads a log previously written by {@link #write(Path)}.
+     *
+     * @param file replay file
+     * @return the parsed log
+     * @throws IOException if the file cannot be read or is not a supported replay
+     */
+    public static ReplayLog read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a replay file: " + file);
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported replay version " + version + " in " + file);
+            }
+            String mapId = in.readUTF();
+            int tickRate = in.readInt();
+
+            int commandCount = in.readInt();
+            List<ReplayCommand> commands = new ArrayList<>(commandCount);
+            for (int i = 0; i < commandCount; i++) {
+                long tick = in.readInt();
+                ReplayCommand.Kind kind = ReplayCommand.Kind.values()[in.readByte()];
+                TowerType towerType = TowerType.values()[in.readByte()];
+                int tileX = in.readInt();
+                int tileY = in.readInt();
+                commands.add(new ReplayCommand(tick, kind, towerType, tileX, tileY));
+            }
+
+            int[] hashes = new int[in.readInt()];
+            for (int i = 0; i < hashes.length; i++) {
+                hashes[i] = in.readInt();
+            }
+            return new ReplayLog(mapId, tickRate, commands, hashes);
+        }
+    }
+}
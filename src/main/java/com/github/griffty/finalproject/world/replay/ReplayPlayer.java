@@ -0,0 +1,79 @@
+package com.github.griffty.finalproject.world.replay;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Re-runs a recorded match in a headless world at unlimited speed.
+ *
+ * <p>Commands are applied at the tick they were recorded on, each tick is timed, and the
+ * world's state hash is compared against the log after every tick. Playback stops at the
+ * first mismatch, so {@link ReplayResult#divergedAtTick()} names the exact tick where the
+ * simulation started to behave differently from the recording.</p>
+ */
+public class ReplayPlayer {
+
+    /**
+     * Play a replay log to its end or to the first divergence.
+     *
+     * <p>Runs in a fresh headless {@link WorldManager}; the interactive world is not touched.</p>
+     *
+     * @param log replay to play
+     * @return outcome and per-tick timings
+     */
+    public static ReplayResult play(ReplayLog log) {
+        return play(WorldManager.createHeadless(log.mapId(), log.tickRate()), log);
+    }
+
+    private static ReplayResult play(WorldManager world, ReplayLog log) {
+        world.start();
+
+        List<ReplayCommand> commands = log.commands();
+        int[] hashes = log.hashes();
+        long[] tickNanos = new long[hashes.length];
+        int nextCommand = 0;
+        int tick = 0;
+        long divergedAt = -1;
+
+        while (tick < hashes.length) {
+            long begin = System.nanoTime();
+            while (nextCommand < commands.size() && commands.get(nextCommand).tick() <= tick) {
+                if (!apply(world, commands.get(nextCommand++))) {
+                    divergedAt = tick;
+                    break;
+                }
+            }
+            if (divergedAt >= 0) {
+                break;
+            }
+            world.tick();
+            tickNanos[tick] = System.nanoTime() - begin;
+
+            if (StateHasher.hash(world) != hashes[tick]) {
+                divergedAt = tick;
+                tick++;
+                break;
+            }
+            tick++;
+        }
+
+        return new ReplayResult(tick, divergedAt, world.getEnemyManager().getWave(), world.isOver(),
+                Arrays.copyOf(tickNanos, tick));
+    }
+
+    /**
+     * Applies one recorded command to the world.
+     *
+     * @return false when the command could not be carried out the way it was recorded
+     */
+    private static boolean apply(WorldManager world, ReplayCommand command) {
+        return switch (command.kind()) {
+            case ADD_TOWER -> TowerHelper.addTower(world, TowerHelper.getTowerClass(command.towerType()),
+                    command.tileX(), command.tileY()).isPresent();
+            case REMOVE_TOWER -> TowerHelper.removeTower(world, command.tileX(), command.tileY());
+        };
+    }
+}
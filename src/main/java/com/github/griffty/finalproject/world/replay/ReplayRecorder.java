@@ -0,0 +1,59 @@
+package com.github.griffty.finalproject.world.replay;
+
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Collects player commands and per-tick state hashes while a match is played.
+ *
+ * <p>Owned by interactive worlds; {@link #toLog()} produces the {@link ReplayLog} that is
+ * written when the match ends.</p>
+ */
+public class ReplayRecorder {
+    private final String mapId;
+    private final int tickRate;
+    private final List<ReplayCommand> commands = new ArrayList<>();
+    private int[] hashes = new int[4096];
+    private int tickCount = 0;
+
+    public ReplayRecorder(String mapId, int tickRate) {
+        this.mapId = mapId;
+        this.tickRate = tickRate;
+    }
+
+    /**
+     * Records a command issued by the player between two ticks.
+     *
+     * @param tick      ticks completed when the command was issued
+     * @param kind      what the player did
+     * @param towerType tower archetype involved
+     * @param tileX     tile column
+     * @param tileY     tile row
+     */
+    public void record(long tick, ReplayCommand.Kind kind, TowerType towerType, int tileX, int tileY) {
+        commands.add(new ReplayCommand(tick, kind, towerType, tileX, tileY));
+    }
+
+    /**
+     * Stores the state hash of a tick that has just completed.
+     *
+     * @param world world that was ticked
+     */
+    public void recordTick(WorldManager world) {
+        if (tickCount == hashes.length) {
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+        }
+        hashes[tickCount++] = StateHasher.hash(world);
+    }
+
+    /**
+     * @return an immutable snapshot of everything recorded so far
+     */
+    public ReplayLog toLog() {
+        return new ReplayLog(mapId, tickRate, List.copyOf(commands), Arrays.copyOf(hashes, tickCount));
+    }
+}
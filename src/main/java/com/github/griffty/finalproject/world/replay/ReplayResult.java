@@ -0,0 +1,55 @@
+package com.github.griffty.finalproject.world.replay;
+
+import java.util.Arrays;
+
+/**
+ * Outcome and timing of a headless replay run.
+ *
+ * @param ticksPlayed    number of ticks that were simulated
+ * @param divergedAtTick first tick whose state hash did not match the log, or {@code -1}
+ * @param finalWave      wave reached when the run stopped
+ * @param gameOver       whether the run ended in a game over
+ * @param tickNanos      wall-clock nanoseconds spent in each simulated tick
+ */
+public record ReplayResult(long ticksPlayed, long divergedAtTick, int finalWave, boolean gameOver, long[] tickNanos) {
+    /**
+     * @return true when every tick matched the recorded state hash
+     */
+    public boolean matched() {
+        return divergedAtTick < 0;
+    }
+
+    /**
+     * @return total simulation time in nanoseconds
+     */
+    public long totalNanos() {
+        long total = 0;
+        for (long nanos : tickNanos) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    /**
+     * @return mean tick time in nanoseconds
+     */
+    public double meanTickNanos() {
+        return tickNanos.length == 0 ? 0 : (double) totalNanos() / tickNanos.length;
+    }
+
+    /**
+     * Nearest-rank percentile of the tick times.
+     *
+     * @param percentile value in {@code [0, 100]}
+     * @return tick time in nanoseconds at that percentile
+     */
+    public long percentileTickNanos(double percentile) {
+        if (tickNanos.length == 0) {
+            return 0;
+        }
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.clamp(index, 0, sorted.length - 1)];
+    }
+}
@@ -0,0 +1,102 @@
+package com.github.griffty.finalproject.world.replay;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Command line entry point that replays recorded matches as performance fixtures.
+ *
+ * <p>Usage: {@code ReplayRunner <file.replay> [--runs N] [--baseline report.properties]
+ * [--save-baseline report.properties] [--tolerance 0.10]}</p>
+ *
+ * <p>Every run replays the whole match headless and verifies it against the recorded state
+ * hashes. The fastest run is reported (earlier runs double as JIT warm-up). With
+ * {@code --baseline} the mean and p99 tick times are compared against a previously saved
+ * report and the process exits with status 1 when either got slower than the tolerance, or
+ * with status 2 when the replay diverged.</p>
+ */
+public class ReplayRunner {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: ReplayRunner <file.replay> [--runs N] [--baseline file] [--save-baseline file] [--tolerance 0.10]");
+            System.exit(64);
+        }
+
+        Path replayFile = Path.of(args[0]);
+        int runs = 3;
+        Path baseline = null;
+        Path saveBaseline = null;
+        double tolerance = 0.10;
+        for (int i = 1; i < args.length; i++) {
+            switch (args[i]) {
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--baseline" -> baseline = Path.of(args[++i]);
+                case "--save-baseline" -> saveBaseline = Path.of(args[++i]);
+                case "--tolerance" -> tolerance = Double.parseDouble(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        ReplayLog log = ReplayLog.read(replayFile);
+        ReplayResult best = null;
+        for (int run = 0; run < runs; run++) {
+            ReplayResult result = ReplayPlayer.play(log);
+            if (!result.matched()) {
+                System.out.println("Replay diverged at tick " + result.divergedAtTick() + " of " + log.tickCount());
+                System.exit(2);
+            }
+            if (best == null || result.totalNanos() < best.totalNanos()) {
+                best = result;
+            }
+        }
+
+        double meanMicros = best.meanTickNanos() / 1000.0;
+        double p99Micros = best.percentileTickNanos(99) / 1000.0;
+        System.out.printf("%s: %d ticks, wave %d, %s%n", replayFile.getFileName(), best.ticksPlayed(),
+                best.finalWave(), best.gameOver() ? "game over" : "still running");
+        System.out.printf("total %.1f ms (%.0f ticks/s), mean %.1f us, p50 %.1f us, p99 %.1f us, max %.1f us%n",
+                best.totalNanos() / 1e6,
+                best.ticksPlayed() / (best.totalNanos() / 1e9),
+                meanMicros,
+                best.percentileTickNanos(50) / 1000.0,
+                p99Micros,
+                best.percentileTickNanos(100) / 1000.0);
+
+        if (saveBaseline != null) {
+            Properties report = new Properties();
+            report.setProperty("meanMicros", Double.toString(meanMicros));
+            report.setProperty("p99Micros", Double.toString(p99Micros));
+            try (OutputStream out = Files.newOutputStream(saveBaseline)) {
+                report.store(out, "Replay timing baseline for " + replayFile.getFileName());
+            }
+        }
+
+        if (baseline != null) {
+            Properties report = new Properties();
+            try (InputStream in = Files.newInputStream(baseline)) {
+                report.load(in);
+            }
+            boolean regressed = compare("mean", meanMicros, Double.parseDouble(report.getProperty("meanMicros")), tolerance)
+                    | compare("p99", p99Micros, Double.parseDouble(report.getProperty("p99Micros")), tolerance);
+            if (regressed) {
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Prints the change against the baseline.
+     *
+     * @return true when {@code current} is slower than {@code base} by more than {@code tolerance}
+     */
+    private static boolean compare(String name, double current, double base, double tolerance) {
+        double change = base == 0 ? 0 : (current - base) / base;
+        System.out.printf("%s tick: %.1f us vs baseline %.1f us (%+.1f%%)%n", name, current, base, change * 100);
+        return change > tolerance;
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.griffty.finalproject.world.replay;
+
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+
+/**
+ * Folds the gameplay-relevant state of a world into a 32-bit hash.
+ *
+ * <p>Covers the tick counter, wave, player money and health, every enemy's position, health
+ * and horde members, every projectile's position and every tower's shot count. Entities are
+ * visited in world order, which is deterministic for a deterministic simulation, so two worlds
+ * fed the same commands produce the same sequence of hashes and the first mismatch pinpoints
+ * the tick where a replay diverged.</p>
+ */
+public class StateHasher {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Hash the current state of a world.
+     *
+     * @param world world to hash
+     * @return 32-bit state hash
+     */
+    public static int hash(WorldManager world) {
+        long h = FNV_OFFSET;
+        h = mix(h, world.getTick());
+        h = mix(h, world.getEnemyManager().getWave());
+        h = mix(h, world.getPlayerVariableHandler().getMoney());
+        h = mix(h, world.getPlayerVariableHandler().getHealth());
+
+        for (Entity enemy : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+            h = mix(h, Double.doubleToLongBits(enemy.getX()));
+            h = mix(h, Double.doubleToLongBits(enemy.getY()));
+            AbstractEnemyComponent component = EntityUtil.getOptionalComponent(enemy, AbstractEnemyComponent.class).orElse(null);
+            h = mix(h, component == null ? 0 : component.getHealth());
+            h = mix(h, component instanceof HordeEnemyComponent horde ? horde.getCount() : 1);
+        }
+
+        for (Entity projectile : world.getGameWorld().getEntitiesByType(EntityType.PROJECTILE)) {
+            h = mix(h, Double.doubleToLongBits(projectile.getX()));
+            h = mix(h, Double.doubleToLongBits(projectile.getY()));
+        }
+
+        for (Entity entity : world.getGameWorld().getEntitiesByType(EntityType.TOWER)) {
+            var tower = EntityUtil.getOptionalComponent(entity, AbstractTowerComponent.class);
+            if (tower.isPresent()) {
+                h = mix(h, tower.get().getTowerType().ordinal());
+                h = mix(h, tower.get().getShotsFired());
+            }
+        }
+
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static long mix(long h, long value) {
+        for (int i = 0; i < 8; i++) {
+            h ^= (value >>> (i * 8)) & 0xff;
+            h *= FNV_PRIME;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,643 @@
+package com.github.griffty.finalproject.world.save;
+
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.StatusEffect;
+import com.github.griffty.finalproject.world.entities.StatusEffects;
+import com.github.griffty.finalproject.world.entities.components.bulets.AbstractProjectileComponent;
+import com.github.griffty.finalproject.world.entities.components.bulets.FollowingProjectileComponent;
+import com.github.griffty.finalproject.world.entities.components.bulets.StraightProjectileComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.AirEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.EnemyType;
+import com.github.griffty.finalproject.world.entities.components.enemies.GroundEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.SwarmEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import com.github.griffty.finalproject.world.map.GameMap;
+import com.github.griffty.finalproject.world.map.MapManager;
+import com.github.griffty.finalproject.world.map.TileGrid;
+import javafx.geometry.Point2D;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.almasb.fxgl.dsl.FXGLForKtKt.entityBuilder;
+
+/**
+ * Versioned binary save format for a running match.
+ *
+ * <p>A save holds the complete mutable state of a {@link WorldManager}: tick counter, player
+ * money and health, wave counter with all {@link com.github.griffty.finalproject.world.EnemyManager}
+ * timers and queued spawns, every enemy with health, path position and horde members, every
+ * tower with its cooldown state and stats, the status effects of affected enemies, and every projectile in
+ * flight together with the effect and splash radius it carries. The map itself is referenced by id
+ * and rebuilt from its resource.</p>
+ *
+ * <p>Records have fixed sizes, so the exact file size is known before writing. The whole save
+ * is encoded into one reusable direct buffer and written with a single {@link FileChannel}
+ * call into a temporary file that then replaces the target, which keeps saves well inside a
+ * frame even with thousands of entities and never leaves a half-written file behind. Loading
+ * reads the file into the same buffer and checks every section before it touches the world.
+ * Entity references (tower targets, homing targets) are stored as indices into the enemy
+ * section; towers are addressed by tile coordinates.</p>
+ *
+ * <p>Enemies, towers and projectiles are each written in world order, and a last section
+ * records how the three kinds interleave in the world. Loading adds the entities back in
+ * exactly that order, since the world updates entities in the order they were added and the
+ * collision broadphase and enemy grid break ties on it, so a resumed match plays on exactly
+ * like the uninterrupted one.</p>
+ */
+public class WorldSaveFile {
+    /** Default location used by quick save / quick load. */
+    public static final Path QUICK_SAVE = Path.of("saves", "quicksave.sav");
+
+    private static final int MAGIC = 0x54445356;
+    private static final short VERSION = 6;
+
+    private static final int ENEMY_BYTES = 1 + 8 + 8 + 4 + 4 + 4 + 4 + 8 + 4 + 8 + 4 + 8;
+    private static final int TOWER_BYTES = 4 + 4 + 1 + 8 + 4 + 4 + 4;
+    private static final int EFFECT_SLOT_BYTES = 4 + 4 + 4 + StatusEffects.SLOT_BYTES;
+    private static final int PROJECTILE_BYTES = 1 + 8 + 8 + 8 + 8 + 8 + 4 + 4 + 4 + 1 + 4 + 4 + 8;
+    private static final int STRAIGHT_EXTRA_BYTES = 8 + 8 + 8 + 8;
+    private static final int FOLLOWING_EXTRA_BYTES = 4 + 8 + 8 + 8 + 8 + 8;
+
+    private static final byte STRAIGHT = 0;
+    private static final byte FOLLOWING = 1;
+
+    /** Kinds of entities in the world order section. */
+    private static final byte ORDER_ENEMY = 0;
+    private static final byte ORDER_TOWER = 1;
+    private static final byte ORDER_PROJECTILE = 2;
+
+    /** Effect kind written for projectiles without a status effect. */
+    private static final byte NO_EFFECT = -1;
+
+    /** Buffer kept between saves and loads so repeated quick saves do not allocate; guarded by the class lock. */
+    private static ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+
+    /**
+     * Size and timing of a save or load.
+     *
+     * @param bytes       file size in bytes
+     * @param enemies     number of enemies written or restored
+     * @param towers      number of towers written or restored
+     * @param projectiles number of projectiles written or restored
+     * @param nanos       wall-clock duration of the operation
+     */
+    public record Stats(int bytes, int enemies, int towers, int projectiles, long nanos) {
+        @Override
+        public String toString() {
+            return String.format("%d enemies, %d towers, %d projectiles (%.1f KB) in %.2f ms",
+                    enemies, towers, projectiles, bytes / 1024.0, nanos / 1e6);
+        }
+    }
+
+    /**
+     * Writes the state of a world to a file.
+     *
+     * @param world world to save
+     * @param file  target file; parent directories are created as needed
+     * @return size and timing of the save
+     * @throws IOException if the file cannot be written
+     */
+    public static synchronized Stats save(WorldManager world, Path file) throws IOException {
+        long begin = System.nanoTime();
+
+        List<Entity> enemies = world.getGameWorld().getEntitiesByType(EntityType.ENEMY);
+        List<Entity> projectiles = world.getGameWorld().getEntitiesByType(EntityType.PROJECTILE);
+        List<AbstractTowerComponent> towers = new ArrayList<>();
+        for (Entity entity : world.getGameWorld().getEntitiesByType(EntityType.TOWER)) {
+            EntityUtil.getOptionalComponent(entity, AbstractTowerComponent.class).ifPresent(towers::add);
+        }
+        List<Entity> dynamic = world.getGameWorld().getEntitiesByType(EntityType.ENEMY, EntityType.TOWER, EntityType.PROJECTILE);
+        StatusEffects effects = world.getStatusEffects();
+
+        Map<Entity, Integer> enemyIndex = new IdentityHashMap<>();
+        for (int i = 0; i < enemies.size(); i++) {
+            enemyIndex.put(enemies.get(i), i);
+        }
+
+        byte[] mapId = world.getMapManager().getMapId().getBytes(StandardCharsets.UTF_8);
+        int size = 4 + 2 + 2 + mapId.length + 4 + 8 + 4 + 4
+                + world.getEnemyManager().stateSize()
+                + 4 + enemies.size() * ENEMY_BYTES
+                + 4 + towers.size() * TOWER_BYTES
+                + 4 + effects.size() * EFFECT_SLOT_BYTES
+                + 4
+                + 4 + dynamic.size();
+        for (Entity projectile : projectiles) {
+            size += PROJECTILE_BYTES + (projectile.hasComponent(FollowingProjectileComponent.class)
+                    ? FOLLOWING_EXTRA_BYTES : STRAIGHT_EXTRA_BYTES);
+        }
+
+        ByteBuffer out = buffer(size);
+        out.putInt(MAGIC);
+        out.putShort(VERSION);
+        out.putShort((short) mapId.length);
+        out.put(mapId);
+        out.putInt(world.getTickRate());
+        out.putLong(world.getTick());
+        out.putInt(world.getPlayerVariableHandler().getMoney());
+        out.putInt(world.getPlayerVariableHandler().getHealth());
+        world.getEnemyManager().writeState(out);
+
+        out.putInt(enemies.size());
+        for (Entity enemy : enemies) {
+            AbstractEnemyComponent component = EntityUtil.getOptionalComponent(enemy, AbstractEnemyComponent.class).orElseThrow();
+            out.put((byte) component.getEnemyType().ordinal());
+            out.putDouble(enemy.getX());
+            out.putDouble(enemy.getY());
+            out.putInt(component.getHealth());
+            out.putInt(component.getMaxHealth());
+            out.putInt(component.getDamage());
+            out.putInt(component.getReward());
+            out.putDouble(component.getSpeed());
+            out.putInt(component.getNextCheckPoint().id());
+            out.putDouble(component.getCurrentAngle());
+            /* Zero members for enemies that are not hordes. */
+            HordeEnemyComponent horde = component instanceof HordeEnemyComponent h ? h : null;
+            out.putInt(horde == null ? 0 : horde.getCount());
+            out.putDouble(horde == null ? 0 : horde.getLength());
+        }
+
+        out.putInt(towers.size());
+        for (AbstractTowerComponent tower : towers) {
+            int[] tile = MapManager.toTile(tower.getEntity().getPosition());
+            out.putInt(tile[0]);
+            out.putInt(tile[1]);
+            out.put((byte) tower.getTowerType().ordinal());
+            out.putDouble(tower.getTimeSinceLastShot());
+            out.putInt(tower.getShotsFired());
+            out.putInt(tower.getEnemiesKilled());
+            out.putInt(indexOf(enemyIndex, tower.getTarget()));
+        }
+
+        out.putInt(effects.size());
+        for (int slot = 0; slot < effects.size(); slot++) {
+            int[] sourceTile = towerTile(world, effects.burnSourceAt(slot));
+            out.putInt(indexOf(enemyIndex, effects.enemyAt(slot).getEntity()));
+            out.putInt(sourceTile[0]);
+            out.putInt(sourceTile[1]);
+            effects.writeSlot(slot, out);
+        }
+
+        out.putInt(projectiles.size());
+        for (Entity projectile : projectiles) {
+            AbstractProjectileComponent component = EntityUtil.getOptionalComponent(projectile, AbstractProjectileComponent.class).orElseThrow();
+            int[] towerTile = towerTile(world, component.getTower());
+            if (component instanceof FollowingProjectileComponent following) {
+                out.put(FOLLOWING);
+                writeProjectileHeader(out, projectile, following.getSpeed(), following.getMaxDistance(),
+                        following.getSize(), following.getDamage(), towerTile, following.getEffect(), following.getSplashRadius());
+                Entity target = following.getTarget();
+                out.putInt(indexOf(enemyIndex, target));
+                out.putDouble(target.getX());
+                out.putDouble(target.getY());
+                out.putDouble(following.getLastDirection().getX());
+                out.putDouble(following.getLastDirection().getY());
+                out.putDouble(following.getDistanceTraveled());
+            } else {
+                StraightProjectileComponent straight = (StraightProjectileComponent) component;
+                out.put(STRAIGHT);
+                writeProjectileHeader(out, projectile, straight.getSpeed(), straight.getMaxDistance(),
+                        straight.getSize(), straight.getDamage(), towerTile, straight.getEffect(), straight.getSplashRadius());
+                out.putDouble(straight.getDirection().getX());
+                out.putDouble(straight.getDirection().getY());
+                out.putDouble(straight.getStartPoint().getX());
+                out.putDouble(straight.getStartPoint().getY());
+            }
+        }
+
+        out.putInt(dynamic.size());
+        for (Entity entity : dynamic) {
+            out.put(entity.getType() == EntityType.ENEMY ? ORDER_ENEMY
+                    : entity.getType() == EntityType.TOWER ? ORDER_TOWER : ORDER_PROJECTILE);
+        }
+        out.flip();
+
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return new Stats(size, enemies.size(), towers.size(), projectiles.size(), System.nanoTime() - begin);
+    }
+
+    /**
+     * Replaces the dynamic state of a world with the contents of a save.
+     *
+     * <p>The whole save is checked first; only then are all enemies, projectiles and towers of
+     * the world removed, so a corrupt or truncated file leaves the world as it was. The save
+     * must have been taken on the same map and tick rate as the world it is loaded into.</p>
+     *
+     * @param world world to restore into
+     * @param file  save file
+     * @return size and timing of the load
+     * @throws IOException if the file cannot be read, is not a save, is corrupt, or belongs to
+     *                     another map
+     */
+    public static synchronized Stats load(WorldManager world, Path file) throws IOException {
+        try {
+            return read(world, file);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Truncated save file " + file, e);
+        }
+    }
+
+    private static Stats read(WorldManager world, Path file) throws IOException {
+        long begin = System.nanoTime();
+
+        ByteBuffer in;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Not a save file: " + file);
+            }
+            in = buffer((int) channel.size());
+            while (in.hasRemaining() && channel.read(in) >= 0) {
+                /* Read until the buffer is full or the file ends. */
+            }
+            in.flip();
+        }
+        int bytes = in.remaining();
+
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a save file: " + file);
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported save version " + version + " in " + file);
+        }
+        byte[] mapIdBytes = new byte[in.getShort()];
+        in.get(mapIdBytes);
+        String mapId = new String(mapIdBytes, StandardCharsets.UTF_8);
+        if (!mapId.equals(world.getMapManager().getMapId())) {
+            throw new IOException("Save belongs to map " + mapId + ", not " + world.getMapManager().getMapId());
+        }
+        int tickRate = in.getInt();
+        if (tickRate != world.getTickRate()) {
+            throw new IOException("Save was taken at " + tickRate + " ticks/s, world runs at " + world.getTickRate());
+        }
+
+        int body = in.position();
+        validate(world, in, file);
+        in.position(body);
+        world.clearDynamicEntities();
+
+        long tick = in.getLong();
+        int money = in.getInt();
+        int health = in.getInt();
+        world.getEnemyManager().readState(in);
+
+        GameMap map = world.getMapManager().getGameMap();
+        Entity[] enemies = new Entity[in.getInt()];
+        AbstractEnemyComponent[] enemyComponents = new AbstractEnemyComponent[enemies.length];
+        for (int i = 0; i < enemies.length; i++) {
+            EnemyType type = EnemyType.values()[in.get()];
+            Point2D position = new Point2D(in.getDouble(), in.getDouble());
+            int enemyHealth = in.getInt();
+            int maxHealth = in.getInt();
+            int damage = in.getInt();
+            int reward = in.getInt();
+            double speed = in.getDouble();
+            int nextCheckPoint = in.getInt();
+            double angle = in.getDouble();
+            int members = in.getInt();
+            double hordeLength = in.getDouble();
+
+            AbstractEnemyComponent enemy = switch (type) {
+                case Ground -> {
+                    if (members == 0) {
+                        yield new GroundEnemyComponent(world, maxHealth, damage, reward, speed);
+                    }
+                    HordeEnemyComponent horde = new HordeEnemyComponent(world, maxHealth, damage, reward, speed);
+                    horde.restore(members, hordeLength);
+                    yield horde;
+                }
+                case Air -> new AirEnemyComponent(world, maxHealth, damage, reward, speed);
+                case Swarm -> new SwarmEnemyComponent(world, maxHealth, damage, reward, speed);
+            };
+            enemy.setHealth(enemyHealth);
+            enemy.setNextCheckPoint(map.getCheckPointById(nextCheckPoint));
+            enemy.setCurrentAngle(angle);
+            enemies[i] = world.getEnemyManager().create(enemy, position);
+            enemyComponents[i] = enemy;
+        }
+
+        /* Towers and projectiles are read when their turn in the world order comes; towers
+         * first have to be placed for projectiles and effects to find the tower they name. */
+        int towerCount = in.getInt();
+        int towerStart = in.position();
+        in.position(towerStart + towerCount * TOWER_BYTES);
+
+        int effectCount = in.getInt();
+        int effectStart = in.position();
+        in.position(effectStart + effectCount * EFFECT_SLOT_BYTES);
+
+        int[] projectileStart = new int[in.getInt()];
+        for (int i = 0; i < projectileStart.length; i++) {
+            projectileStart[i] = in.position();
+            byte kind = in.get();
+            in.position(in.position() + PROJECTILE_BYTES - 1 + (kind == FOLLOWING ? FOLLOWING_EXTRA_BYTES : STRAIGHT_EXTRA_BYTES));
+        }
+
+        int orderCount = in.getInt();
+        if (orderCount != enemies.length + towerCount + projectileStart.length) {
+            throw new IOException("World order lists " + orderCount + " entities instead of "
+                    + (enemies.length + towerCount + projectileStart.length) + " in " + file);
+        }
+        int orderStart = in.position();
+        int enemy = 0;
+        int tower = 0;
+        int projectile = 0;
+        for (int i = 0; i < orderCount; i++) {
+            byte kind = in.get(orderStart + i);
+            if (kind == ORDER_ENEMY && enemy < enemies.length) {
+                world.getGameWorld().addEntity(enemies[enemy++]);
+            } else if (kind == ORDER_TOWER && tower < towerCount) {
+                in.position(towerStart + tower++ * TOWER_BYTES);
+                readTower(in, world, enemies);
+            } else if (kind == ORDER_PROJECTILE && projectile < projectileStart.length) {
+                in.position(projectileStart[projectile++]);
+                readProjectile(in, world, enemies);
+            } else {
+                throw new IOException("Corrupt world order in " + file);
+            }
+        }
+
+        in.position(effectStart);
+        for (int i = 0; i < effectCount; i++) {
+            AbstractEnemyComponent affected = enemyComponents[in.getInt()];
+            AbstractTowerComponent burnSource = towerAt(world, in.getInt(), in.getInt());
+            world.getStatusEffects().readSlot(affected, burnSource, in);
+        }
+
+        world.getPlayerVariableHandler().restore(money, health);
+        world.resumeFrom(tick);
+
+        return new Stats(bytes, enemies.length, towerCount, projectileStart.length, System.nanoTime() - begin);
+    }
+
+    /**
+     * Walks every section after the header and checks counts, lengths, enum ordinals, entity
+     * references, checkpoint ids and tower tiles, so that restoring cannot fail halfway.
+     *
+     * @throws IOException if anything does not fit the world the save is loaded into
+     */
+    private static void validate(WorldManager world, ByteBuffer in, Path file) throws IOException {
+        GameMap map = world.getMapManager().getGameMap();
+        skip(in, 8 + 4 + 4, file);
+
+        skip(in, 1 + 4 + 8 + 8, file);
+        int spawns = count(in, 8 + 1 + 8, file);
+        for (int i = 0; i < spawns; i++) {
+            int at = in.position();
+            check(in.get(at + 8) >= 0 && in.get(at + 8) < EnemyType.values().length, "spawn type", file);
+            skip(in, 8 + 1 + 8, file);
+        }
+
+        int enemies = count(in, ENEMY_BYTES, file);
+        for (int i = 0; i < enemies; i++) {
+            int at = in.position();
+            check(in.get(at) >= 0 && in.get(at) < EnemyType.values().length, "enemy type", file);
+            try {
+                map.getCheckPointById(in.getInt(at + 1 + 8 + 8 + 4 + 4 + 4 + 4 + 8));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt enemy checkpoint in " + file, e);
+            }
+            check(in.getInt(at + ENEMY_BYTES - 4 - 8) >= 0, "horde members", file);
+            skip(in, ENEMY_BYTES, file);
+        }
+
+        TileGrid grid = map.getTiles();
+        boolean[] built = new boolean[grid.width() * grid.height()];
+        int towers = count(in, TOWER_BYTES, file);
+        for (int i = 0; i < towers; i++) {
+            int tileX = in.getInt();
+            int tileY = in.getInt();
+            byte type = in.get();
+            skip(in, 8 + 4 + 4, file);
+            int target = in.getInt();
+            if (!grid.isGround(tileX, tileY) || built[tileY * grid.width() + tileX]) {
+                throw new IOException("No free ground tile at " + tileX + ":" + tileY);
+            }
+            built[tileY * grid.width() + tileX] = true;
+            check(type >= 0 && type < TowerType.values().length, "tower type", file);
+            check(target >= -1 && target < enemies, "tower target", file);
+        }
+
+        int effects = count(in, EFFECT_SLOT_BYTES, file);
+        for (int i = 0; i < effects; i++) {
+            int enemy = in.getInt();
+            check(enemy >= 0 && enemy < enemies, "status effect enemy", file);
+            skip(in, EFFECT_SLOT_BYTES - 4, file);
+        }
+
+        int projectiles = count(in, PROJECTILE_BYTES + STRAIGHT_EXTRA_BYTES, file);
+        for (int i = 0; i < projectiles; i++) {
+            int at = in.position();
+            byte kind = in.get(at);
+            check(kind == STRAIGHT || kind == FOLLOWING, "projectile kind", file);
+            skip(in, PROJECTILE_BYTES + (kind == FOLLOWING ? FOLLOWING_EXTRA_BYTES : STRAIGHT_EXTRA_BYTES), file);
+            byte effect = in.get(at + PROJECTILE_BYTES - 8 - 4 - 4 - 1);
+            check(effect == NO_EFFECT || effect >= 0 && effect < StatusEffect.Kind.values().length, "projectile effect", file);
+            if (kind == FOLLOWING) {
+                int target = in.getInt(at + PROJECTILE_BYTES);
+                check(target >= -1 && target < enemies, "projectile target", file);
+            }
+        }
+
+        int order = count(in, 1, file);
+        int[] kinds = new int[3];
+        for (int i = 0; i < order; i++) {
+            byte kind = in.get();
+            check(kind >= ORDER_ENEMY && kind <= ORDER_PROJECTILE, "world order", file);
+            kinds[kind]++;
+        }
+        if (kinds[ORDER_ENEMY] != enemies || kinds[ORDER_TOWER] != towers || kinds[ORDER_PROJECTILE] != projectiles) {
+            throw new IOException("Corrupt world order in " + file);
+        }
+        check(!in.hasRemaining(), "file length", file);
+    }
+
+    /**
+     * Reads the record count of a section and checks that that many records of at least
+     * {@code recordBytes} each fit into the rest of the file.
+     */
+    private static int count(ByteBuffer in, int recordBytes, Path file) throws IOException {
+        int count = in.getInt();
+        if (count < 0 || (long) count * recordBytes > in.remaining()) {
+            throw new IOException("Truncated save file " + file);
+        }
+        return count;
+    }
+
+    private static void skip(ByteBuffer in, int bytes, Path file) throws IOException {
+        if (bytes > in.remaining()) {
+            throw new IOException("Truncated save file " + file);
+        }
+        in.position(in.position() + bytes);
+    }
+
+    private static void check(boolean valid, String what, Path file) throws IOException {
+        if (!valid) {
+            throw new IOException("Corrupt " + what + " in " + file);
+        }
+    }
+
+    /**
+     * Places a tower from its record and restores its shooting state.
+     */
+    private static void readTower(ByteBuffer in, WorldManager world, Entity[] enemies) throws IOException {
+        int tileX = in.getInt();
+        int tileY = in.getInt();
+        TowerType type = TowerType.values()[in.get()];
+        double sinceLastShot = in.getDouble();
+        int shotsFired = in.getInt();
+        int enemiesKilled = in.getInt();
+        int target = in.getInt();
+
+        if (!world.getMapManager().getGameMap().getTileStates().isBuildable(tileX, tileY)) {
+            throw new IOException("No free ground tile at " + tileX + ":" + tileY);
+        }
+        AbstractTowerComponent tower = TowerHelper.placeTower(world, TowerHelper.getTowerClass(type), tileX, tileY);
+        tower.setTimeSinceLastShot(sinceLastShot);
+        tower.setShotsFired(shotsFired);
+        tower.setEnemiesKilled(enemiesKilled);
+        tower.setTarget(target >= 0 ? enemies[target] : null);
+    }
+
+    /**
+     * Adds a projectile from its record, with its flight progress.
+     */
+    private static void readProjectile(ByteBuffer in, WorldManager world, Entity[] enemies) {
+        byte kind = in.get();
+        Point2D position = new Point2D(in.getDouble(), in.getDouble());
+        double speed = in.getDouble();
+        double maxDistance = in.getDouble();
+        double size = in.getDouble();
+        int damage = in.getInt();
+        AbstractTowerComponent tower = towerAt(world, in.getInt(), in.getInt());
+        StatusEffect effect = readEffect(in);
+        double splashRadius = in.getDouble();
+
+        if (kind == FOLLOWING) {
+            int targetIndex = in.getInt();
+            Point2D targetPosition = new Point2D(in.getDouble(), in.getDouble());
+            Point2D lastDirection = new Point2D(in.getDouble(), in.getDouble());
+            double traveled = in.getDouble();
+
+            /* A target that already left the world is kept as a detached entity at its last position;
+             * the projectile retargets or expires on its next update. */
+            Entity target = targetIndex >= 0 ? enemies[targetIndex] : entityBuilder().at(targetPosition).build();
+            FollowingProjectileComponent following =
+                    new FollowingProjectileComponent(world, tower, target, speed, maxDistance, size, damage);
+            following.setEffect(effect);
+            following.setSplashRadius(splashRadius);
+            addProjectile(world, position, following);
+            following.restoreFlight(lastDirection, traveled);
+        } else {
+            Point2D direction = new Point2D(in.getDouble(), in.getDouble());
+            Point2D startPoint = new Point2D(in.getDouble(), in.getDouble());
+
+            StraightProjectileComponent straight =
+                    new StraightProjectileComponent(world, tower, direction, speed, maxDistance, size, damage);
+            straight.setEffect(effect);
+            straight.setSplashRadius(splashRadius);
+            addProjectile(world, position, straight);
+            straight.restoreStartPoint(startPoint);
+        }
+    }
+
+    /**
+     * Returns the shared encoding buffer, growing it when a save needs more room.
+     */
+    private static ByteBuffer buffer(int size) {
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(Math.max(size, buffer.capacity() * 2));
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    private static void writeProjectileHeader(ByteBuffer out, Entity projectile, double speed, double maxDistance,
+                                              double size, int damage, int[] towerTile, StatusEffect effect,
+                                              double splashRadius) {
+        out.putDouble(projectile.getX());
+        out.putDouble(projectile.getY());
+        out.putDouble(speed);
+        out.putDouble(maxDistance);
+        out.putDouble(size);
+        out.putInt(damage);
+        out.putInt(towerTile[0]);
+        out.putInt(towerTile[1]);
+        out.put(effect == null ? NO_EFFECT : (byte) effect.kind().ordinal());
+        out.putFloat(effect == null ? 0 : effect.strength());
+        out.putFloat(effect == null ? 0 : effect.duration());
+        out.putDouble(splashRadius);
+    }
+
+    private static StatusEffect readEffect(ByteBuffer in) {
+        byte kind = in.get();
+        float strength = in.getFloat();
+        float duration = in.getFloat();
+        return kind == NO_EFFECT ? null : new StatusEffect(StatusEffect.Kind.values()[kind], strength, duration);
+    }
+
+    private static int indexOf(Map<Entity, Integer> enemyIndex, Entity enemy) {
+        if (enemy == null) {
+            return -1;
+        }
+        return enemyIndex.getOrDefault(enemy, -1);
+    }
+
+    /**
+     * Tile of the tower that fired a projectile, or {@code {-1, -1}} if that tower has since been sold.
+     */
+    private static int[] towerTile(WorldManager world, AbstractTowerComponent tower) {
+        if (tower == null || tower.getEntity() == null) {
+            return new int[]{-1, -1};
+        }
+        int[] tile = MapManager.toTile(tower.getEntity().getPosition());
+        Optional<AbstractTowerComponent> placed = TowerHelper.getTower(world, tile[0], tile[1]);
+        if (placed.isEmpty() || placed.get() != tower) {
+            return new int[]{-1, -1};
+        }
+        return tile;
+    }
+
+    private static AbstractTowerComponent towerAt(WorldManager world, int tileX, int tileY) {
+        return TowerHelper.getTower(world, tileX, tileY).orElse(null);
+    }
+
+    private static void addProjectile(WorldManager world, Point2D position, AbstractProjectileComponent projectile) {
+        world.getGameWorld().addEntity(entityBuilder()
+                .type(EntityType.PROJECTILE)
+                .at(position)
+                .with(projectile)
+                .build());
+    }
+}
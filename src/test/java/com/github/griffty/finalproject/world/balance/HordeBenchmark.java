@@ -0,0 +1,112 @@
+package com.github.griffty.finalproject.world.balance;
+
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WaveFormula;
+import com.github.griffty.finalproject.world.WaveScript;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import com.github.griffty.finalproject.world.map.GameMap;
+
+import java.util.List;
+
+/**
+ * Measures ticks of endless-style ground waves with and without hordes, for growing spawn rates.
+ *
+ * <p>Usage: {@code HordeBenchmark [--towers T] [--type NAME] [--seconds S]}</p>
+ *
+ * <p>For every spawn rate a headless main map plays a formula that sends nothing but identical
+ * ground enemies, one interval apart without pause, against {@code --towers} towers (12 by
+ * default) laid out like in {@link WaveBenchmark}, of every type or only {@code --type}, once as single enemies and once with the
+ * script's {@code hordes} option. The player cannot lose. The match first runs until the
+ * first enemies could have walked the whole road, so the road is full, and then
+ * {@code --seconds} more seconds (10 by default) are timed. Single enemies are skipped at
+ * rates where the run would take minutes.</p>
+ *
+ * <p>The report shows the mean number of enemies on the road, counting every member of a horde,
+ * the mean number of enemy entities the world actually simulates, the mean tick time, and the
+ * enemies killed by the towers and leaked into the base over the whole run, which should be
+ * close between the two modes.</p>
+ */
+public class HordeBenchmark {
+    private static final double[] SPAWNS_PER_SECOND = {1.5, 3, 10, 60, 300, 1000, 3000};
+    /** Above this rate only hordes are measured. */
+    private static final int SINGLE_LIMIT = 300;
+    /** Speed of a ground enemy of the first waves. */
+    private static final double GROUND_SPEED = 50;
+    private static final double WAVE_SECONDS = 10;
+    private static final int PLAYER_HEALTH = 1_000_000_000;
+
+    public static void main(String[] args) {
+        int towers = 12;
+        TowerType only = null;
+        double seconds = 10;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--towers" -> towers = Integer.parseInt(args[++i]);
+                case "--type" -> only = TowerType.valueOf(args[++i]);
+                case "--seconds" -> seconds = Double.parseDouble(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        System.out.printf("%d towers, %.0f seconds timed after the road has filled%n", towers, seconds);
+        System.out.printf("%7s %7s %9s %9s %9s %8s %8s%n",
+                "spawn/s", "mode", "enemies", "entities", "tick us", "killed", "leaked");
+        for (double rate : SPAWNS_PER_SECOND) {
+            for (boolean hordes : new boolean[]{false, true}) {
+                if (!hordes && rate > SINGLE_LIMIT) {
+                    continue;
+                }
+                run(rate, hordes, towers, only, seconds);
+            }
+        }
+    }
+
+    private static void run(double rate, boolean hordes, int towerCount, TowerType only, double seconds) {
+        double interval = 1.0 / rate;
+        WaveFormula steady = new WaveFormula(rate * WAVE_SECONDS, 0, 0, 0, 0, 0,
+                interval, 0, interval, WAVE_SECONDS, 0, 0);
+        WorldManager world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND,
+                WaveScript.endless(steady).withHordes(hordes));
+        List<AbstractTowerComponent> towers = WaveBenchmark.placeTowers(world, towerCount, only);
+        world.getPlayerVariableHandler().restore(0, PLAYER_HEALTH);
+
+        int fillTicks = (int) Math.ceil(routeLength(world.getMapManager().getGameMap()) / GROUND_SPEED * world.getTickRate());
+        int timedTicks = (int) Math.ceil(seconds * world.getTickRate());
+        world.start();
+        for (int t = 0; t < fillTicks; t++) {
+            world.tick();
+        }
+
+        long nominal = 0;
+        long entities = 0;
+        long nanos = 0;
+        for (int t = 0; t < timedTicks; t++) {
+            long begin = System.nanoTime();
+            world.tick();
+            nanos += System.nanoTime() - begin;
+            for (Entity enemy : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+                entities++;
+                nominal += enemy.hasComponent(HordeEnemyComponent.class)
+                        ? enemy.getComponent(HordeEnemyComponent.class).getCount() : 1;
+            }
+        }
+
+        int killed = towers.stream().mapToInt(AbstractTowerComponent::getEnemiesKilled).sum();
+        System.out.printf("%7.1f %7s %9d %9d %9.1f %8d %8d%n", rate, hordes ? "hordes" : "single",
+                nominal / timedTicks, entities / timedTicks, nanos / 1e3 / timedTicks,
+                killed, PLAYER_HEALTH - world.getPlayerVariableHandler().getHealth());
+    }
+
+    /**
+     * @return length of the road from the start point through every checkpoint to the end
+     */
+    private static double routeLength(GameMap map) {
+        GameMap.CheckPoint end = map.getEndPoint();
+        return map.routeDistance(end, end.point());
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.griffty.finalproject.world.balance;
+
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.EntityWorldListener;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EntityType;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import com.github.griffty.finalproject.world.map.TileGrid;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Plays the main map's scripted waves against a fixed tower layout and reports how many
+ * projectiles the towers spend per kill.
+ *
+ * <p>Usage: {@code WaveBenchmark [--waves W] [--towers T] [--type NAME]}</p>
+ *
+ * <p>{@code --towers} towers (12 by default) are placed free of charge on ground tiles next
+ * to the road, spread evenly along it in row-major order, cycling through all tower types or
+ * using only {@code --type}. The match is then ticked headless until wave {@code --waves}
+ * (10 by default) is over or the player loses. Everything is deterministic, so two builds can
+ * be compared run against run.</p>
+ *
+ * <p>The report shows, per tower type and in total, shots fired, kills and shots per kill,
+ * followed by the mean and peak number of projectiles alive at the end of a tick and what
+ * became of homing projectiles whose target died before impact.</p>
+ */
+public class WaveBenchmark {
+    public static void main(String[] args) {
+        int waves = 10;
+        int towerCount = 12;
+        TowerType only = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--waves" -> waves = Integer.parseInt(args[++i]);
+                case "--towers" -> towerCount = Integer.parseInt(args[++i]);
+                case "--type" -> only = TowerType.valueOf(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        WorldManager world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND);
+        List<AbstractTowerComponent> towers = placeTowers(world, towerCount, only);
+
+        int[] live = {0};
+        world.getGameWorld().addWorldListener(new EntityWorldListener() {
+            @Override
+            public void onEntityAdded(Entity entity) {
+                if (entity.getType() == EntityType.PROJECTILE) {
+                    live[0]++;
+                }
+            }
+
+            @Override
+            public void onEntityRemoved(Entity entity) {
+                if (entity.getType() == EntityType.PROJECTILE) {
+                    live[0]--;
+                }
+            }
+        });
+
+        long liveSum = 0;
+        int livePeak = 0;
+        long begin = System.nanoTime();
+        world.start();
+        while (!world.isOver() && world.getEnemyManager().getWave() <= waves) {
+            world.tick();
+            liveSum += live[0];
+            livePeak = Math.max(livePeak, live[0]);
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        System.out.printf("%d towers, %d ticks in %.2f s, reached wave %d%s%n", towers.size(), world.getTick(), seconds,
+                Math.min(world.getEnemyManager().getWave(), waves), world.isOver() ? " (game over)" : "");
+        Map<TowerType, int[]> byType = new EnumMap<>(TowerType.class);
+        for (AbstractTowerComponent tower : towers) {
+            int[] counts = byType.computeIfAbsent(tower.getTowerType(), _ -> new int[2]);
+            counts[0] += tower.getShotsFired();
+            counts[1] += tower.getEnemiesKilled();
+        }
+        int shots = 0, kills = 0;
+        for (Map.Entry<TowerType, int[]> entry : byType.entrySet()) {
+            report(entry.getKey().name(), entry.getValue()[0], entry.getValue()[1]);
+            shots += entry.getValue()[0];
+            kills += entry.getValue()[1];
+        }
+        report("total", shots, kills);
+        System.out.printf("live projectiles: mean %.1f, peak %d%n", (double) liveSum / Math.max(1, world.getTick()), livePeak);
+        System.out.println(world.getProjectileStats());
+    }
+
+    private static void report(String name, int shots, int kills) {
+        System.out.printf("  %-8s shots %6d, kills %5d, shots per kill %s%n", name, shots, kills,
+                kills > 0 ? String.format("%.2f", (double) shots / kills) : "-");
+    }
+
+    /**
+     * Places towers on every n-th ground tile bordering the road so they cover the whole route.
+     */
+    static List<AbstractTowerComponent> placeTowers(WorldManager world, int count, TowerType only) {
+        TileGrid grid = world.getMapManager().getGameMap().getTiles();
+        List<int[]> candidates = new ArrayList<>();
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.isGround(x, y) && (grid.isRoad(x + 1, y) || grid.isRoad(x - 1, y)
+                        || grid.isRoad(x, y + 1) || grid.isRoad(x, y - 1))) {
+                    candidates.add(new int[]{x, y});
+                }
+            }
+        }
+
+        TowerType[] types = only != null ? new TowerType[]{only} : TowerType.values();
+        List<AbstractTowerComponent> towers = new ArrayList<>();
+        int step = Math.max(1, candidates.size() / Math.max(1, count));
+        for (int i = 0; i < candidates.size() && towers.size() < count; i += step) {
+            int[] tile = candidates.get(i);
+            Class<? extends AbstractTowerComponent> type = TowerHelper.getTowerClass(types[towers.size() % types.length]);
+            towers.add(TowerHelper.placeTower(world, type, tile[0], tile[1]));
+        }
+        return towers;
+    }
+}
@@ -0,0 +1,153 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.almasb.fxgl.dsl.EntityBuilder;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.component.Component;
+import com.almasb.fxgl.physics.BoundingShape;
+import com.almasb.fxgl.physics.CollisionHandler;
+import com.almasb.fxgl.physics.HitBox;
+import com.almasb.fxgl.physics.PhysicsWorld;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.entities.components.interfaces.ICollidable;
+import javafx.geometry.Point2D;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Measures the cost of projectile–enemy collision detection against the number of projectiles
+ * and enemies.
+ *
+ * <p>Usage: {@code CollisionBenchmark [--area tiles] [--runs R] [--seed S]}</p>
+ *
+ * <p>For every combination of projectile and enemy count, circles of the game's sizes
+ * (enemy radius 20, projectile radius 7) are scattered at random over a square of
+ * {@code --area} tiles (12 by default), and one collision pass is timed with:</p>
+ * <ul>
+ *     <li>{@code fxgl}: the previous approach, FXGL's {@link PhysicsWorld} with a collidable
+ *     component and a circular hit box per entity and a collision handler for the pair,</li>
+ *     <li>{@code sweep}: {@link ProjectileEnemyBroadphase}.</li>
+ * </ul>
+ * <p>Entities do not move and hits remove nothing, so every pass does the same work. The
+ * report shows the mean time per pass of both, the exact circle tests the sweep needed and
+ * the number of projectiles touching an enemy according to each. FXGL tests hit boxes as their
+ * bounding squares, so it reports somewhat more hits than the circle test of the sweep.</p>
+ */
+public class CollisionBenchmark {
+    private static final int[] PROJECTILES = {10, 100, 1000};
+    private static final int[] ENEMIES = {10, 100, 1000, 5000};
+    private static final double ENEMY_RADIUS = 20;
+    private static final double PROJECTILE_RADIUS = 7;
+    /** Each measurement runs for at least this long, however many passes that takes. */
+    private static final long MIN_NANOS = 200_000_000L;
+
+    /** Collision circle without any game behaviour. */
+    private static final class Circle extends Component implements ICollidable {
+        private final double radius;
+
+        Circle(double radius) {
+            this.radius = radius;
+        }
+
+        @Override
+        public double getCollisionRadius() {
+            return radius;
+        }
+    }
+
+    public static void main(String[] args) {
+        int area = 12;
+        int runs = 20;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--area" -> area = Integer.parseInt(args[++i]);
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        double size = area * Constants.TILE_SIZE;
+        System.out.printf("%d x %d tile area, %d runs minimum%n", area, area, runs);
+        System.out.printf("%11s %7s %12s %12s %9s %12s %10s %10s%n",
+                "projectiles", "enemies", "fxgl us", "sweep us", "speedup", "sweep tests", "fxgl hits", "sweep hits");
+        for (int projectiles : PROJECTILES) {
+            for (int enemies : ENEMIES) {
+                Random random = new Random(seed);
+                Point2D[] enemyAt = scatter(random, enemies, size);
+                Point2D[] projectileAt = scatter(random, projectiles, size);
+
+                /* FXGL's physics world reports each touching pair once; collect the projectiles. */
+                Set<Entity> fxglHits = new HashSet<>();
+                GameWorld fxglWorld = new GameWorld();
+                PhysicsWorld physics = new PhysicsWorld((int) size, 50);
+                physics.addCollisionHandler(new CollisionHandler(EntityType.PROJECTILE, EntityType.ENEMY) {
+                    @Override
+                    protected void onCollisionBegin(Entity projectile, Entity enemy) {
+                        fxglHits.add(projectile);
+                    }
+                });
+                fxglWorld.addWorldListener(physics);
+                populate(fxglWorld, enemyAt, projectileAt, true);
+                double fxglMicros = measure(runs, () -> physics.onUpdate(1.0 / Constants.TICKS_PER_SECOND));
+
+                GameWorld sweepWorld = new GameWorld();
+                ProjectileEnemyBroadphase sweep = new ProjectileEnemyBroadphase((projectile, enemy) -> { });
+                sweepWorld.addWorldListener(sweep);
+                populate(sweepWorld, enemyAt, projectileAt, false);
+                double sweepMicros = measure(runs, sweep::update);
+
+                System.out.printf("%11d %7d %12.1f %12.1f %8.1fx %12d %10d %10d%n", projectiles, enemies,
+                        fxglMicros, sweepMicros, fxglMicros / sweepMicros, sweep.getLastPairTests(),
+                        fxglHits.size(), sweep.getLastHits());
+            }
+        }
+    }
+
+    private static Point2D[] scatter(Random random, int count, double size) {
+        Point2D[] points = new Point2D[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = new Point2D(random.nextDouble() * size, random.nextDouble() * size);
+        }
+        return points;
+    }
+
+    /**
+     * Adds the circles to a world, with an FXGL hit box centred on the position if asked.
+     */
+    private static void populate(GameWorld world, Point2D[] enemies, Point2D[] projectiles, boolean fxgl) {
+        for (Point2D at : enemies) {
+            world.addEntity(circle(EntityType.ENEMY, at, ENEMY_RADIUS, fxgl));
+        }
+        for (Point2D at : projectiles) {
+            world.addEntity(circle(EntityType.PROJECTILE, at, PROJECTILE_RADIUS, fxgl));
+        }
+    }
+
+    private static Entity circle(EntityType type, Point2D at, double radius, boolean fxgl) {
+        EntityBuilder builder = new EntityBuilder().type(type).at(at).with(new Circle(radius));
+        if (fxgl) {
+            builder.bbox(new HitBox(new Point2D(-radius, -radius), BoundingShape.circle(radius))).collidable();
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return mean microseconds per pass, after one warm-up pass
+     */
+    private static double measure(int runs, Runnable pass) {
+        pass.run();
+        int count = 0;
+        long begin = System.nanoTime();
+        long elapsed;
+        do {
+            pass.run();
+            count++;
+            elapsed = System.nanoTime() - begin;
+        } while (count < runs || elapsed < MIN_NANOS);
+        return elapsed / 1e3 / count;
+    }
+}
@@ -0,0 +1,110 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WaveScript;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.GroundEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.HordeEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AbstractTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FastTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.map.GameMap;
+import com.github.griffty.finalproject.world.map.TileGrid;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class DamageBufferTest {
+    private static final int MEMBERS = 5;
+    private static final int HEALTH = 100;
+    private static final int REWARD = 7;
+
+    @Test
+    void hordeLosesAMemberForEveryKillingHitInATick() {
+        /* Two hits kill, and the second overkills, so the hits only line up if overkill is dropped. */
+        assertKillsLikeSingles(HEALTH / 2 + 10, 2 * MEMBERS);
+    }
+
+    @Test
+    void hitsAfterTheLastMemberDiedAreDropped() {
+        assertKillsLikeSingles(HEALTH, 3 * MEMBERS);
+    }
+
+    @Test
+    void hordeKeepsTheHealthLeftAfterItsLastKill() {
+        assertKillsLikeSingles(HEALTH / 3, 2 * MEMBERS);
+    }
+
+    /**
+     * Lands the same hits in one tick on a horde and on as many single enemies, the singles
+     * taking them one after the other as the members would, and compares kills and rewards.
+     */
+    private static void assertKillsLikeSingles(int damage, int hits) {
+        WorldManager hordeWorld = world();
+        AbstractTowerComponent hordeTower = tower(hordeWorld);
+        HordeEnemyComponent horde = new HordeEnemyComponent(hordeWorld, HEALTH, 1, REWARD, 50);
+        horde.restore(MEMBERS, HordeEnemyComponent.MAX_SPACING * (MEMBERS - 1));
+        spawn(hordeWorld, horde);
+        for (int i = 0; i < hits; i++) {
+            hordeWorld.getDamage().add(horde, damage, hordeTower);
+        }
+        int hordeKills = hordeWorld.getDamage().resolve();
+
+        WorldManager singleWorld = world();
+        AbstractTowerComponent singleTower = tower(singleWorld);
+        AbstractEnemyComponent[] singles = new AbstractEnemyComponent[MEMBERS];
+        for (int i = 0; i < MEMBERS; i++) {
+            singles[i] = new GroundEnemyComponent(singleWorld, HEALTH, 1, REWARD, 50);
+            spawn(singleWorld, singles[i]);
+        }
+        int next = 0;
+        int health = HEALTH;
+        for (int i = 0; i < hits; i++) {
+            singleWorld.getDamage().add(singles[next], damage, singleTower);
+            health -= damage;
+            /* Once a single is dead, the next hit lands on the one behind it, as on a horde. */
+            if (health <= 0 && next < MEMBERS - 1) {
+                next++;
+                health = HEALTH;
+            }
+        }
+        int singleKills = singleWorld.getDamage().resolve();
+
+        assertEquals(singleKills, hordeKills, "kills");
+        assertEquals(singleTower.getEnemiesKilled(), hordeTower.getEnemiesKilled(), "kills credited");
+        assertEquals(singleWorld.getPlayerVariableHandler().getMoney(), hordeWorld.getPlayerVariableHandler().getMoney(), "money");
+        int survivors = MEMBERS - singleKills;
+        if (survivors > 0) {
+            assertEquals(survivors, horde.getCount(), "members left");
+            assertEquals(singles[MEMBERS - survivors].getHealth(), horde.getHealth(), "health of the front");
+        } else {
+            assertFalse(horde.getEntity().isActive(), "horde left the world");
+        }
+    }
+
+    private static WorldManager world() {
+        WorldManager world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND, WaveScript.load(Constants.MAIN_MAP_ID));
+        world.getPlayerVariableHandler().restore(0, 100);
+        return world;
+    }
+
+    private static void spawn(WorldManager world, AbstractEnemyComponent enemy) {
+        GameMap map = world.getMapManager().getGameMap();
+        enemy.setNextCheckPoint(map.getNextCheckPoint(2));
+        world.getEnemyManager().spawn(enemy, map.getNextCheckPoint(1).point());
+    }
+
+    private static AbstractTowerComponent tower(WorldManager world) {
+        TileGrid grid = world.getMapManager().getGameMap().getTiles();
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (grid.isGround(x, y)) {
+                    return TowerHelper.placeTower(world, FastTowerComponent.class, x, y);
+                }
+            }
+        }
+        throw new IllegalStateException("no ground tile");
+    }
+}
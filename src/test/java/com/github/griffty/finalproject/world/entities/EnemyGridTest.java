@@ -0,0 +1,161 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.util.EntityUtil;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.GroundEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.ChainTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.SplashTowerComponent;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EnemyGridTest {
+    private static final double SPEED = 50;
+
+    private WorldManager world;
+    private EnemyGrid grid;
+    private Random random;
+    private double width;
+    private double height;
+
+    @BeforeEach
+    void createWorld() {
+        world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND);
+        grid = world.getEnemyGrid();
+        random = new Random(1);
+        width = world.getMapManager().getGameMap().getWorldWidth();
+        height = world.getMapManager().getGameMap().getWorldHeight();
+    }
+
+    @Test
+    void withinFindsWhatAScanFinds() {
+        long found = 0;
+        for (int round = 0; round < 10; round++) {
+            churn(round == 0 ? 2000 : 200);
+            EnemyBuffer expected = new EnemyBuffer();
+            EnemyBuffer actual = new EnemyBuffer();
+            for (int q = 0; q < 200; q++) {
+                double x = random.nextDouble() * width;
+                double y = random.nextDouble() * height;
+                scanWithin(x, y, SplashTowerComponent.SPLASH_RADIUS, expected);
+                grid.within(x, y, SplashTowerComponent.SPLASH_RADIUS, actual);
+                assertEquals(expected.size(), actual.size(), "enemies in reach of " + x + ":" + y);
+                for (int k = 0; k < expected.size(); k++) {
+                    assertTrue(actual.contains(expected.get(k)), "enemy missed near " + x + ":" + y);
+                }
+                found += actual.size();
+            }
+        }
+        assertTrue(found > 1000, "too few enemies found to compare: " + found);
+    }
+
+    @Test
+    void closestFindsWhatAScanFinds() {
+        Predicate<AbstractEnemyComponent> odd = enemy -> enemy.getHealth() % 2 == 1;
+        for (int round = 0; round < 10; round++) {
+            churn(round == 0 ? 2000 : 200);
+            for (int q = 0; q < 200; q++) {
+                double x = random.nextDouble() * width;
+                double y = random.nextDouble() * height;
+                assertSame(scanClosest(x, y, ChainTowerComponent.RANGE, e -> true),
+                        grid.closest(x, y, ChainTowerComponent.RANGE, e -> true), "closest to " + x + ":" + y);
+                assertSame(scanClosest(x, y, ChainTowerComponent.RANGE, odd),
+                        grid.closest(x, y, ChainTowerComponent.RANGE, odd), "closest odd one to " + x + ":" + y);
+            }
+        }
+    }
+
+    @Test
+    void closestPrefersTheEnemyAddedFirstAmongEquallyCloseOnes() {
+        /* Enemies stacked in pairs on whole tile centres, so most queries have ties. */
+        for (int i = 0; i < 400; i++) {
+            Point2D at = new Point2D((random.nextInt((int) (width / Constants.TILE_SIZE)) + 0.5) * Constants.TILE_SIZE,
+                    (random.nextInt((int) (height / Constants.TILE_SIZE)) + 0.5) * Constants.TILE_SIZE);
+            spawn(at);
+            spawn(at);
+        }
+        /* Removing enemies from the front leaves empty slots and compacts them. */
+        List<Entity> enemies = world.getGameWorld().getEntitiesByType(EntityType.ENEMY);
+        for (int i = 0; i < 300; i += 2) {
+            world.getGameWorld().removeEntity(enemies.get(i + random.nextInt(2)));
+        }
+        grid.rebuild(world.getTickDuration());
+        for (int ty = 0; ty < height / Constants.TILE_SIZE; ty++) {
+            for (int tx = 0; tx < width / Constants.TILE_SIZE; tx++) {
+                double x = tx * Constants.TILE_SIZE;
+                double y = ty * Constants.TILE_SIZE;
+                assertSame(scanClosest(x, y, ChainTowerComponent.RANGE, e -> true),
+                        grid.closest(x, y, ChainTowerComponent.RANGE, e -> true), "closest to " + x + ":" + y);
+            }
+        }
+    }
+
+    /**
+     * Removes some enemies, adds new ones, rebuilds the grid and then moves every enemy as far
+     * as it could walk in the tick, since queries must stay exact while enemies move.
+     */
+    private void churn(int added) {
+        List<Entity> enemies = world.getGameWorld().getEntitiesByType(EntityType.ENEMY);
+        for (Entity enemy : enemies) {
+            if (random.nextInt(4) == 0) {
+                world.getGameWorld().removeEntity(enemy);
+            }
+        }
+        for (int i = 0; i < added; i++) {
+            spawn(new Point2D(random.nextDouble() * width, random.nextDouble() * height));
+        }
+        grid.rebuild(world.getTickDuration());
+        double step = SPEED * world.getTickDuration();
+        for (Entity enemy : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            enemy.translate(Math.cos(angle) * step, Math.sin(angle) * step);
+        }
+    }
+
+    private void spawn(Point2D at) {
+        world.getEnemyManager().spawn(new GroundEnemyComponent(world, 1 + random.nextInt(2), 1, 0, SPEED), at);
+    }
+
+    private void scanWithin(double x, double y, double radius, EnemyBuffer out) {
+        out.clear();
+        for (Entity entity : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+            AbstractEnemyComponent enemy = EntityUtil.getOptionalComponent(entity, AbstractEnemyComponent.class).orElseThrow();
+            double r = radius + enemy.getCollisionRadius();
+            double dx = entity.getX() - x;
+            double dy = entity.getY() - y;
+            if (dx * dx + dy * dy <= r * r) {
+                out.add(enemy);
+            }
+        }
+    }
+
+    /**
+     * @return the closest enemy in world order, so the first added wins ties
+     */
+    private AbstractEnemyComponent scanClosest(double x, double y, double range, Predicate<AbstractEnemyComponent> filter) {
+        AbstractEnemyComponent best = null;
+        double bestDistance = range;
+        for (Entity entity : world.getGameWorld().getEntitiesByType(EntityType.ENEMY)) {
+            AbstractEnemyComponent enemy = EntityUtil.getOptionalComponent(entity, AbstractEnemyComponent.class).orElseThrow();
+            double dx = entity.getX() - x;
+            double dy = entity.getY() - y;
+            double distance = Math.sqrt(dx * dx + dy * dy);
+            if (distance < bestDistance && filter.test(enemy)) {
+                best = enemy;
+                bestDistance = distance;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,170 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.almasb.fxgl.dsl.EntityBuilder;
+import com.almasb.fxgl.entity.Entity;
+import com.almasb.fxgl.entity.GameWorld;
+import com.almasb.fxgl.entity.component.Component;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.entities.components.interfaces.ICollidable;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectileEnemyBroadphaseTest {
+    private static final double ENEMY_RADIUS = 20;
+    private static final double PROJECTILE_RADIUS = 7;
+    private static final double AREA = 12 * Constants.TILE_SIZE;
+
+    /** Collision circle without any game behaviour. */
+    private static final class Circle extends Component implements ICollidable {
+        private final double radius;
+
+        Circle(double radius) {
+            this.radius = radius;
+        }
+
+        @Override
+        public double getCollisionRadius() {
+            return radius;
+        }
+    }
+
+    private final Map<Entity, Entity> hits = new IdentityHashMap<>();
+    private final ProjectileEnemyBroadphase broadphase = new ProjectileEnemyBroadphase(hits::put);
+    private final GameWorld world = new GameWorld();
+    private final List<Entity> enemies = new ArrayList<>();
+    private final List<Entity> projectiles = new ArrayList<>();
+    private final Map<Entity, Point2D> previous = new IdentityHashMap<>();
+
+    @Test
+    void standingCirclesHitTheFirstEnemyAddedTheyTouch() {
+        world.addWorldListener(broadphase);
+        Random random = new Random(1);
+        populate(random, 1000, 300);
+
+        broadphase.update();
+
+        Map<Entity, Entity> expected = pairwise();
+        assertTrue(expected.size() > 50, "too few hits to compare: " + expected.size());
+        assertEquals(expected, hits);
+    }
+
+    @Test
+    void movingCirclesHitTheEnemyTheyTouchFirst() {
+        world.addWorldListener(broadphase);
+        Random random = new Random(2);
+        populate(random, 500, 500);
+        broadphase.update();
+        remember();
+
+        int compared = 0;
+        for (int tick = 0; tick < 20; tick++) {
+            /* Removing enemies leaves empty slots and compacts them, which must not change ties. */
+            for (int i = enemies.size() - 1; i >= 0; i -= 3 + random.nextInt(5)) {
+                world.removeEntity(enemies.remove(i));
+            }
+            populate(random, 30, 30);
+            for (Entity projectile : projectiles) {
+                projectile.translate(random.nextDouble() * 120 - 60, random.nextDouble() * 120 - 60);
+            }
+            for (Entity enemy : enemies) {
+                enemy.translate(random.nextDouble() * 10 - 5, random.nextDouble() * 10 - 5);
+            }
+            hits.clear();
+
+            broadphase.update();
+
+            Map<Entity, Entity> expected = pairwise();
+            assertEquals(expected, hits, "hits of tick " + tick);
+            compared += expected.size();
+            remember();
+        }
+        assertTrue(compared > 100, "too few hits to compare: " + compared);
+        assertEquals(enemies.size(), broadphase.enemyCount());
+        assertEquals(projectiles.size(), broadphase.projectileCount());
+    }
+
+    /**
+     * Adds enemies and projectiles at random places; each starts where it was added.
+     */
+    private void populate(Random random, int enemyCount, int projectileCount) {
+        for (int i = 0; i < enemyCount; i++) {
+            enemies.add(add(EntityType.ENEMY, random, ENEMY_RADIUS));
+        }
+        for (int i = 0; i < projectileCount; i++) {
+            projectiles.add(add(EntityType.PROJECTILE, random, PROJECTILE_RADIUS));
+        }
+    }
+
+    private Entity add(EntityType type, Random random, double radius) {
+        Point2D at = new Point2D(random.nextDouble() * AREA, random.nextDouble() * AREA);
+        Entity entity = new EntityBuilder().type(type).at(at).with(new Circle(radius)).build();
+        world.addEntity(entity);
+        previous.put(entity, at);
+        return entity;
+    }
+
+    private void remember() {
+        for (Entity entity : world.getEntitiesByType(EntityType.ENEMY, EntityType.PROJECTILE)) {
+            previous.put(entity, entity.getPosition());
+        }
+    }
+
+    /**
+     * Tests every projectile against every enemy: each hits the enemy it touches earliest,
+     * and of several at the same time the one added first.
+     */
+    private Map<Entity, Entity> pairwise() {
+        Map<Entity, Entity> expected = new IdentityHashMap<>();
+        for (Entity projectile : projectiles) {
+            Entity first = null;
+            double earliest = Double.MAX_VALUE;
+            for (Entity enemy : world.getEntitiesByType(EntityType.ENEMY)) {
+                double impact = impact(projectile, enemy);
+                if (impact >= 0 && impact < earliest) {
+                    first = enemy;
+                    earliest = impact;
+                }
+            }
+            if (first != null) {
+                expected.put(projectile, first);
+            }
+        }
+        return expected;
+    }
+
+    /**
+     * @return fraction of the tick at which both circles, moving linearly, first touch, 0 if
+     *         they touched from the start, or -1 if they never do
+     */
+    private double impact(Entity projectile, Entity enemy) {
+        Point2D p0 = previous.get(projectile);
+        Point2D e0 = previous.get(enemy);
+        double dx = p0.getX() - e0.getX();
+        double dy = p0.getY() - e0.getY();
+        double vx = (projectile.getX() - enemy.getX()) - dx;
+        double vy = (projectile.getY() - enemy.getY()) - dy;
+        double reach = PROJECTILE_RADIUS + ENEMY_RADIUS;
+
+        double c = dx * dx + dy * dy - reach * reach;
+        if (c <= 0) {
+            return 0;
+        }
+        double a = vx * vx + vy * vy;
+        double b = dx * vx + dy * vy;
+        double discriminant = b * b - a * c;
+        if (a == 0 || b >= 0 || discriminant < 0) {
+            return -1;
+        }
+        double t = (-b - Math.sqrt(discriminant)) / a;
+        return t <= 1 ? t : -1;
+    }
+}
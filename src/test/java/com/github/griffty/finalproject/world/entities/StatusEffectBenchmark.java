@@ -0,0 +1,122 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.GroundEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AcidTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FlameTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FrostTowerComponent;
+import javafx.geometry.Point2D;
+
+import java.util.Random;
+
+/**
+ * Measures the tick cost of status effects with every enemy slowed, burning and shredded.
+ *
+ * <p>Usage: {@code StatusEffectBenchmark [--ticks T] [--seed S]}</p>
+ *
+ * <p>For growing enemy counts, enemies with effectively unlimited health are scattered over
+ * the first stretch of the main map's road in a headless world and advanced for
+ * {@code --ticks} ticks (600 by default) twice: once without effects and once with the frost,
+ * flame and acid towers' effects applied to every enemy each half second, so all of them stay
+ * under all three. A tick here is the enemies' movement, the effect pass and damage
+ * resolution. The report shows the mean tick time of both runs, the share of the effect pass
+ * and of re-applying the effects, and the damage burn dealt per tick. Afterwards the effects
+ * are left to expire and every slot must have been freed. The stacking and expiry rules
+ * themselves are checked by {@link StatusEffectsTest}.</p>
+ */
+public class StatusEffectBenchmark {
+    private static final int[] ENEMIES = {1000, 2000, 5000, 10000};
+    private static final int HEALTH = 1_000_000_000;
+    /** Ticks between re-applications, shorter than every effect's duration. */
+    private static final int REAPPLY_TICKS = Constants.TICKS_PER_SECOND / 2;
+
+    public static void main(String[] args) {
+        int ticks = 600;
+        long seed = 1;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--ticks" -> ticks = Integer.parseInt(args[++i]);
+                case "--seed" -> seed = Long.parseLong(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        System.out.printf("%d ticks per run, effects re-applied every %d ticks%n", ticks, REAPPLY_TICKS);
+        System.out.printf("%7s %12s %12s %12s %12s %12s%n",
+                "enemies", "plain us", "effects us", "pass us", "apply us", "burn/tick");
+        for (int enemies : ENEMIES) {
+            WorldManager world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND);
+            AbstractEnemyComponent[] spawned = spawn(world, enemies, new Random(seed));
+
+            double plainMicros = run(world, spawned, ticks, false, null);
+            long[] split = new long[2];
+            long healthBefore = totalHealth(spawned);
+            double effectMicros = run(world, spawned, ticks, true, split);
+            double burnPerTick = (double) (healthBefore - totalHealth(spawned)) / ticks;
+
+            run(world, spawned, Constants.TICKS_PER_SECOND * 5, false, null);
+            if (world.getStatusEffects().size() != 0) {
+                throw new IllegalStateException(world.getStatusEffects().size() + " slots left after all effects expired");
+            }
+
+            System.out.printf("%7d %12.1f %12.1f %12.1f %12.1f %12.0f%n", enemies, plainMicros, effectMicros,
+                    split[0] / 1e3 / ticks, split[1] / 1e3 / ticks, burnPerTick);
+        }
+    }
+
+    /**
+     * Places ground enemies at random points of the first stretch of road.
+     */
+    private static AbstractEnemyComponent[] spawn(WorldManager world, int count, Random random) {
+        Point2D start = world.getMapManager().getGameMap().getStartPoint().point();
+        Point2D next = world.getMapManager().getGameMap().getNextCheckPoint(0).point();
+        AbstractEnemyComponent[] enemies = new AbstractEnemyComponent[count];
+        for (int i = 0; i < count; i++) {
+            enemies[i] = new GroundEnemyComponent(world, HEALTH, 1, 0, 50);
+            world.getEnemyManager().spawn(enemies[i], start.interpolate(next, random.nextDouble() * 0.5));
+        }
+        return enemies;
+    }
+
+    /**
+     * Advances the world's enemies, effects and damage resolution.
+     *
+     * @param split if not {@code null}, receives the nanoseconds spent in the effect pass and
+     *              in re-applying effects
+     * @return mean microseconds per tick
+     */
+    private static double run(WorldManager world, AbstractEnemyComponent[] enemies, int ticks, boolean apply, long[] split) {
+        StatusEffects effects = world.getStatusEffects();
+        double dt = world.getTickDuration();
+        long begin = System.nanoTime();
+        for (int t = 0; t < ticks; t++) {
+            if (apply && t % REAPPLY_TICKS == 0) {
+                long applyBegin = System.nanoTime();
+                for (AbstractEnemyComponent enemy : enemies) {
+                    effects.apply(enemy, FrostTowerComponent.EFFECT, null);
+                    effects.apply(enemy, FlameTowerComponent.EFFECT, null);
+                    effects.apply(enemy, AcidTowerComponent.EFFECT, null);
+                }
+                split[1] += System.nanoTime() - applyBegin;
+            }
+            world.getGameWorld().onUpdate(dt);
+            long passBegin = System.nanoTime();
+            effects.update(dt);
+            world.getDamage().resolve();
+            if (split != null) {
+                split[0] += System.nanoTime() - passBegin;
+            }
+        }
+        return (System.nanoTime() - begin) / 1e3 / ticks;
+    }
+
+    private static long totalHealth(AbstractEnemyComponent[] enemies) {
+        long total = 0;
+        for (AbstractEnemyComponent enemy : enemies) {
+            total += enemy.getHealth();
+        }
+        return total;
+    }
+}
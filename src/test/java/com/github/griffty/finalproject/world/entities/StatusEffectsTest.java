@@ -0,0 +1,219 @@
+package com.github.griffty.finalproject.world.entities;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.enemies.AbstractEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.enemies.GroundEnemyComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.AcidTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FlameTowerComponent;
+import com.github.griffty.finalproject.world.entities.components.towers.FrostTowerComponent;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusEffectsTest {
+    private static final int HEALTH = 1_000_000_000;
+    private static final StatusEffect[] EFFECTS = {
+            FrostTowerComponent.EFFECT,
+            FlameTowerComponent.EFFECT,
+            AcidTowerComponent.EFFECT,
+            new StatusEffect(StatusEffect.Kind.SLOW, 0.8f, 4),
+            new StatusEffect(StatusEffect.Kind.SLOW, 0.5f, 1),
+            new StatusEffect(StatusEffect.Kind.BURN, 2.5f, 5),
+            new StatusEffect(StatusEffect.Kind.BURN, 9, 0.5f),
+            new StatusEffect(StatusEffect.Kind.SHRED, 0.4f, 1.5f),
+    };
+
+    private WorldManager world;
+    private StatusEffects effects;
+
+    @BeforeEach
+    void createWorld() {
+        world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND);
+        effects = world.getStatusEffects();
+    }
+
+    @Test
+    void weakerSlowDoesNotReplaceAStrongerOne() {
+        AbstractEnemyComponent enemy = spawn();
+        effects.apply(enemy, FrostTowerComponent.EFFECT, null);
+        effects.apply(enemy, new StatusEffect(StatusEffect.Kind.SLOW, 0.8f, 10), null);
+        assertEquals(FrostTowerComponent.EFFECT.strength(), effects.speedFactor(enemy));
+    }
+
+    @Test
+    void shredStopsStackingAtTheCap() {
+        AbstractEnemyComponent enemy = spawn();
+        for (int i = 0; i < StatusEffects.MAX_SHRED_STACKS + 2; i++) {
+            effects.apply(enemy, AcidTowerComponent.EFFECT, null);
+        }
+        assertEquals(StatusEffects.MAX_SHRED_STACKS, effects.shredStacks(enemy));
+    }
+
+    @Test
+    void burnDealsItsWholeDamageAmplifiedByShredAndExpires() {
+        AbstractEnemyComponent enemy = spawn();
+        for (int i = 0; i < StatusEffects.MAX_SHRED_STACKS; i++) {
+            effects.apply(enemy, AcidTowerComponent.EFFECT, null);
+        }
+        effects.apply(enemy, FlameTowerComponent.EFFECT, null);
+        /* Float time steps may leave a sliver of the duration for one more tick. */
+        int burnTicks = Math.round(FlameTowerComponent.EFFECT.duration() * Constants.TICKS_PER_SECOND) + 1;
+        for (int i = 0; i < burnTicks; i++) {
+            tick();
+        }
+        float burn = FlameTowerComponent.EFFECT.strength() * FlameTowerComponent.EFFECT.duration();
+        float shredded = burn * (1 + StatusEffects.MAX_SHRED_STACKS * AcidTowerComponent.EFFECT.strength());
+        assertEquals(shredded, HEALTH - enemy.getHealth(), 1);
+        assertEquals(0, effects.burnDps(enemy));
+
+        for (int i = 0; i < Constants.TICKS_PER_SECOND * 5; i++) {
+            tick();
+        }
+        assertEquals(0, effects.size());
+        assertEquals(1, effects.speedFactor(enemy));
+        assertEquals(0, effects.shredStacks(enemy));
+    }
+
+    @Test
+    void slotPassMatchesEffectsTrackedPerEnemy() {
+        Random random = new Random(1);
+        AbstractEnemyComponent[] enemies = new AbstractEnemyComponent[300];
+        Tracked[] tracked = new Tracked[enemies.length];
+        for (int i = 0; i < enemies.length; i++) {
+            enemies[i] = spawn();
+            tracked[i] = new Tracked();
+        }
+
+        int applied = 0;
+        for (int t = 0; t < Constants.TICKS_PER_SECOND * 20; t++) {
+            for (int i = 0; i < enemies.length; i++) {
+                if (random.nextInt(40) == 0) {
+                    StatusEffect effect = EFFECTS[random.nextInt(EFFECTS.length)];
+                    effects.apply(enemies[i], effect, null);
+                    tracked[i].apply(effect);
+                    applied++;
+                } else if (random.nextInt(2000) == 0) {
+                    /* Leaving the world frees the slot, which moves the last slot into the gap. */
+                    effects.remove(enemies[i]);
+                    enemies[i] = spawn();
+                    tracked[i] = new Tracked();
+                }
+            }
+            tick();
+
+            int active = 0;
+            for (int i = 0; i < enemies.length; i++) {
+                tracked[i].tick((float) world.getTickDuration());
+                String tick = "enemy " + i + " at tick " + t;
+                assertEquals(tracked[i].slowFactor, effects.speedFactor(enemies[i]), tick);
+                assertEquals(tracked[i].burnDps, effects.burnDps(enemies[i]), tick);
+                assertEquals(tracked[i].shredStacks, effects.shredStacks(enemies[i]), tick);
+                assertEquals(tracked[i].health, enemies[i].getHealth(), tick);
+                if (tracked[i].isActive()) {
+                    active++;
+                }
+            }
+            assertEquals(active, effects.size(), "slots at tick " + t);
+        }
+        assertTrue(applied > 1000, "too few effects applied: " + applied);
+    }
+
+    /**
+     * The effects of one enemy following the rules of {@link StatusEffects}, one enemy at a time.
+     */
+    private static final class Tracked {
+        float slowFactor = 1;
+        float slowTime;
+        float burnDps;
+        float burnTime;
+        float burnCarry;
+        float shredBonus;
+        float shredTime;
+        float shredCarry;
+        int shredStacks;
+        int health = HEALTH;
+
+        void apply(StatusEffect effect) {
+            switch (effect.kind()) {
+                case SLOW -> {
+                    if (effect.strength() < slowFactor) {
+                        slowFactor = effect.strength();
+                        slowTime = effect.duration();
+                    } else if (effect.strength() == slowFactor) {
+                        slowTime = Math.max(slowTime, effect.duration());
+                    }
+                }
+                case BURN -> {
+                    if (effect.strength() > burnDps) {
+                        burnDps = effect.strength();
+                        burnTime = effect.duration();
+                    } else if (effect.strength() == burnDps) {
+                        burnTime = Math.max(burnTime, effect.duration());
+                    }
+                }
+                case SHRED -> {
+                    if (shredStacks < StatusEffects.MAX_SHRED_STACKS) {
+                        shredStacks++;
+                        shredBonus += effect.strength();
+                    }
+                    shredTime = Math.max(shredTime, effect.duration());
+                }
+            }
+        }
+
+        void tick(float dt) {
+            if (slowTime > 0) {
+                slowTime -= dt;
+                if (slowTime <= 0) {
+                    slowFactor = 1;
+                }
+            }
+            int burn = 0;
+            if (burnTime > 0) {
+                burnCarry += burnDps * Math.min(dt, burnTime);
+                burnTime -= dt;
+                burn = burnTime > 0 ? (int) burnCarry : Math.round(burnCarry);
+                burnCarry -= burn;
+                if (burnTime <= 0) {
+                    burnDps = 0;
+                    burnCarry = 0;
+                }
+            }
+            if (shredTime > 0) {
+                shredTime -= dt;
+                if (shredTime <= 0) {
+                    shredStacks = 0;
+                    shredBonus = 0;
+                    shredCarry = 0;
+                }
+            }
+            if (burn > 0 && shredStacks > 0) {
+                float extra = burn * shredBonus + shredCarry;
+                shredCarry = extra - (int) extra;
+                burn += (int) extra;
+            }
+            health -= burn;
+        }
+
+        boolean isActive() {
+            return slowTime > 0 || burnTime > 0 || shredTime > 0;
+        }
+    }
+
+    private void tick() {
+        effects.update(world.getTickDuration());
+        world.getDamage().resolve();
+    }
+
+    private AbstractEnemyComponent spawn() {
+        AbstractEnemyComponent enemy = new GroundEnemyComponent(world, HEALTH, 1, 0, 50);
+        world.getEnemyManager().spawn(enemy, new Point2D(0, 0));
+        return enemy;
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.griffty.finalproject.world.entities.components.enemies;
+
+import com.almasb.fxgl.entity.Entity;
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.EnemyGrid;
+import com.github.griffty.finalproject.world.map.GameMap;
+import javafx.geometry.Point2D;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SwarmEnemyComponentTest {
+    private static final int HEALTH = 1_000_000_000;
+    private static final double RADIUS = SwarmEnemyComponent.SEPARATION_RADIUS;
+    private static final double SPEED = 70;
+
+    private WorldManager world;
+    private final List<AbstractEnemyComponent> enemies = new ArrayList<>();
+
+    @BeforeEach
+    void createWorld() {
+        world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND);
+    }
+
+    @Test
+    void separationFromTheGridMatchesCheckingEveryPair() {
+        Random random = new Random(1);
+        GameMap map = world.getMapManager().getGameMap();
+        Point2D start = map.getStartPoint().point();
+        Point2D next = map.getNextCheckPoint(0).point();
+        /* Ground enemies among the units must not push them. */
+        for (int i = 0; i < 600; i++) {
+            AbstractEnemyComponent enemy = i % 4 == 0
+                    ? new GroundEnemyComponent(world, HEALTH, 1, 0, 50)
+                    : new SwarmEnemyComponent(world, HEALTH, 1, 0, SPEED);
+            enemies.add(enemy);
+            world.getEnemyManager().spawn(enemy, start.interpolate(next, random.nextDouble())
+                    .add(random.nextDouble(-8, 8), random.nextDouble(-8, 8)));
+        }
+
+        EnemyGrid grid = world.getEnemyGrid();
+        int compared = 0;
+        for (int t = 0; t < Constants.TICKS_PER_SECOND * 10; t++) {
+            grid.rebuild(world.getTickDuration());
+            if (t % 20 == 0) {
+                for (AbstractEnemyComponent enemy : enemies) {
+                    if (!enemy.getEntity().isActive()) {
+                        continue;
+                    }
+                    Point2D expected = pairwiseSeparation(enemy);
+                    Point2D actual = grid.separation(enemy, RADIUS);
+                    assertEquals(0, expected.distance(actual), 1e-9, "separation at tick " + t);
+                    if (expected.magnitude() > 0) {
+                        compared++;
+                    }
+                }
+            }
+            world.getGameWorld().onUpdate(world.getTickDuration());
+        }
+        assertTrue(compared > 1000, "too few pushes to compare: " + compared);
+    }
+
+    @Test
+    void swarmSpreadsOutWhileFollowingTheRoad() {
+        GameMap map = world.getMapManager().getGameMap();
+        Point2D start = map.getStartPoint().point();
+        Random random = new Random(2);
+        for (int i = 0; i < 100; i++) {
+            SwarmEnemyComponent unit = new SwarmEnemyComponent(world, HEALTH, 1, 0, SPEED);
+            enemies.add(unit);
+            world.getEnemyManager().spawn(unit, start.add(random.nextDouble(-2, 2), random.nextDouble(-2, 2)));
+        }
+        EnemyGrid grid = world.getEnemyGrid();
+        grid.rebuild(world.getTickDuration());
+        double before = meanNearest(grid);
+        for (int t = 0; t < Constants.TICKS_PER_SECOND * 2; t++) {
+            grid.rebuild(world.getTickDuration());
+            world.getGameWorld().onUpdate(world.getTickDuration());
+        }
+        grid.rebuild(world.getTickDuration());
+        double after = meanNearest(grid);
+        assertTrue(after > before * 2, "units stayed bunched: " + before + " then " + after);
+        double walked = 0;
+        for (AbstractEnemyComponent unit : enemies) {
+            walked += unit.getEntity().getPosition().distance(start) / enemies.size();
+        }
+        /* Pushing costs some headway, but the swarm still covers more than half its walk. */
+        assertTrue(walked > SPEED, "swarm did not move on: " + walked);
+    }
+
+    /**
+     * Separation by checking the enemy against every other enemy of its type.
+     */
+    private Point2D pairwiseSeparation(AbstractEnemyComponent enemy) {
+        Entity self = enemy.getEntity();
+        double pushX = 0;
+        double pushY = 0;
+        for (AbstractEnemyComponent other : enemies) {
+            if (other == enemy || other.getEnemyType() != enemy.getEnemyType() || !other.getEntity().isActive()) {
+                continue;
+            }
+            double dx = self.getX() - other.getEntity().getX();
+            double dy = self.getY() - other.getEntity().getY();
+            double distanceSquared = dx * dx + dy * dy;
+            if (distanceSquared > 0 && distanceSquared < RADIUS * RADIUS) {
+                double distance = Math.sqrt(distanceSquared);
+                double strength = (RADIUS - distance) / (RADIUS * distance);
+                pushX += dx * strength;
+                pushY += dy * strength;
+            }
+        }
+        return new Point2D(pushX, pushY);
+    }
+
+    /**
+     * @return mean distance from a unit to its closest other unit
+     */
+    private double meanNearest(EnemyGrid grid) {
+        double total = 0;
+        for (AbstractEnemyComponent unit : enemies) {
+            Entity self = unit.getEntity();
+            AbstractEnemyComponent nearest = grid.closest(self.getX(), self.getY(), Constants.TILE_SIZE * 4, e -> e != unit);
+            total += nearest.getEntity().getPosition().distance(self.getPosition());
+        }
+        return total / enemies.size();
+    }
+}
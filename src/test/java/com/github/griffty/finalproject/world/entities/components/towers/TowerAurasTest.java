@@ -0,0 +1,150 @@
+package com.github.griffty.finalproject.world.entities.components.towers;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.map.TileStates;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TowerAurasTest {
+    private static final List<Class<? extends AbstractTowerComponent>> ATTACKERS = List.of(
+            FastTowerComponent.class, SniperTowerComponent.class, FrostTowerComponent.class,
+            FlameTowerComponent.class, AcidTowerComponent.class, SplashTowerComponent.class);
+    private static final List<Class<? extends AbstractTowerComponent>> AURAS = List.of(
+            HasteTowerComponent.class, ScopeTowerComponent.class);
+
+    private WorldManager world;
+    private TileStates tiles;
+    private List<int[]> buildable;
+
+    @BeforeEach
+    void createWorld() {
+        world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND);
+        tiles = world.getMapManager().getGameMap().getTileStates();
+        buildable = new ArrayList<>();
+        for (int y = 0; y < world.getMapManager().getGameMap().getTiles().height(); y++) {
+            for (int x = 0; x < world.getMapManager().getGameMap().getTiles().width(); x++) {
+                if (tiles.isBuildable(x, y)) {
+                    buildable.add(new int[]{x, y});
+                }
+            }
+        }
+    }
+
+    @Test
+    void bonusesMatchARecomputationAfterEveryPlacementAndSale() {
+        Random random = new Random(1);
+        for (int[] tile : buildable) {
+            if (random.nextInt(2) == 0) {
+                TowerHelper.placeTower(world, randomClass(random), tile[0], tile[1]);
+            }
+        }
+        assertBonusesRecomputed();
+
+        for (int i = 0; i < 2000; i++) {
+            int[] sold = randomTile(random, true);
+            int[] free = randomTile(random, false);
+            TowerHelper.removeTower(world, sold[0], sold[1]);
+            assertBonusesRecomputed();
+            TowerHelper.placeTower(world, randomClass(random), free[0], free[1]);
+            assertBonusesRecomputed();
+        }
+
+        for (int[] tile : buildable) {
+            if (tiles.isOccupied(tile[0], tile[1])
+                    && TowerHelper.getTower(world, tile[0], tile[1]).orElseThrow() instanceof AbstractAuraTowerComponent) {
+                TowerHelper.removeTower(world, tile[0], tile[1]);
+            }
+        }
+        assertBonusesRecomputed();
+        for (int[] tile : buildable) {
+            TowerHelper.getTower(world, tile[0], tile[1]).ifPresent(tower -> {
+                assertEquals(0, tower.getFireRateBonus());
+                assertEquals(0, tower.getRangeBonus());
+            });
+        }
+    }
+
+    @Test
+    void auraReachesTheTilesAroundItDiagonalsIncluded() {
+        int[] centre = null;
+        int reach = AbstractAuraTowerComponent.REACH_TILES;
+        for (int[] tile : buildable) {
+            if (tiles.isBuildable(tile[0] - reach, tile[1] - reach) && tiles.isBuildable(tile[0] + reach + 1, tile[1])) {
+                centre = tile;
+                break;
+            }
+        }
+        assertTrue(centre != null, "no room for the towers");
+        AbstractTowerComponent near = TowerHelper.placeTower(world, FastTowerComponent.class, centre[0] - reach, centre[1] - reach);
+        AbstractTowerComponent far = TowerHelper.placeTower(world, FastTowerComponent.class, centre[0] + reach + 1, centre[1]);
+        AbstractAuraTowerComponent haste = (AbstractAuraTowerComponent)
+                TowerHelper.placeTower(world, HasteTowerComponent.class, centre[0], centre[1]);
+
+        assertEquals(haste.getFireRateAura(), near.getFireRateBonus());
+        assertEquals(near.getCooldown() * 100.0 / (100 + haste.getFireRateAura()), near.getEffectiveCooldown());
+        assertEquals(0, far.getFireRateBonus());
+
+        TowerHelper.removeTower(world, centre[0], centre[1]);
+        assertEquals(0, near.getFireRateBonus());
+        assertEquals(near.getCooldown(), near.getEffectiveCooldown());
+    }
+
+    /**
+     * Recomputes every tower's bonuses by scanning its neighbourhood and checks them, and the
+     * effective stats derived from them, against the incrementally kept ones.
+     */
+    private void assertBonusesRecomputed() {
+        int reach = AbstractAuraTowerComponent.REACH_TILES;
+        for (int[] tile : buildable) {
+            AbstractTowerComponent tower = TowerHelper.getTower(world, tile[0], tile[1]).orElse(null);
+            if (tower == null) {
+                continue;
+            }
+            int fireRate = 0;
+            int range = 0;
+            if (!(tower instanceof AbstractAuraTowerComponent)) {
+                for (int y = tile[1] - reach; y <= tile[1] + reach; y++) {
+                    for (int x = tile[0] - reach; x <= tile[0] + reach; x++) {
+                        if (TowerHelper.getTower(world, x, y).orElse(null) instanceof AbstractAuraTowerComponent aura) {
+                            fireRate += aura.getFireRateAura();
+                            range += aura.getRangeAura();
+                        }
+                    }
+                }
+            }
+            String at = "tower at " + tile[0] + ":" + tile[1];
+            assertEquals(fireRate, tower.getFireRateBonus(), at);
+            assertEquals(range, tower.getRangeBonus(), at);
+            assertEquals(tower.getCooldown() * 100.0 / (100 + fireRate), tower.getEffectiveCooldown(), at);
+            assertEquals(tower.getRange() * (100 + range) / 100.0, tower.getEffectiveRange(), at);
+        }
+    }
+
+    private static Class<? extends AbstractTowerComponent> randomClass(Random random) {
+        return random.nextInt(4) == 0
+                ? AURAS.get(random.nextInt(AURAS.size()))
+                : ATTACKERS.get(random.nextInt(ATTACKERS.size()));
+    }
+
+    /**
+     * @return a random buildable tile with or without a tower
+     */
+    private int[] randomTile(Random random, boolean occupied) {
+        int start = random.nextInt(buildable.size());
+        for (int i = 0; i < buildable.size(); i++) {
+            int[] tile = buildable.get((start + i) % buildable.size());
+            if (tiles.isOccupied(tile[0], tile[1]) == occupied) {
+                return tile;
+            }
+        }
+        throw new IllegalStateException("no " + (occupied ? "tower" : "free tile") + " left");
+    }
+}
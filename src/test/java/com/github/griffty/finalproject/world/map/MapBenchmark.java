@@ -0,0 +1,229 @@
+package com.github.griffty.finalproject.world.map;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Generates a large procedural map and measures how fast and how lean each load path is.
+ *
+ * <p>Usage: {@code MapBenchmark [--size N] [--runs R] [--out dir]}</p>
+ *
+ * <p>A square map of {@code --size} tiles (2000 by default) with a serpentine road through
+ * ten checkpoints is written as text and as a binary map. Each is then loaded
+ * {@code --runs} times through:</p>
+ * <ul>
+ *     <li>{@code lines}: the previous approach, reading all lines into strings and copying
+ *     them into a {@code char[][]} grid,</li>
+ *     <li>{@code text}: {@link MapFile#parseText} streaming into a byte-per-tile grid,</li>
+ *     <li>{@code binary}: {@link MapFile#readBinary} memory-mapping the file.</li>
+ * </ul>
+ * <p>For every path the report shows mean and best load time, peak heap growth during the
+ * load and heap still retained by the loaded map. A last line measures what hot reload pays
+ * for a one-tile edit: the {@link MapDiff} against the loaded grid and the number of tiles and
+ * chunks it leaves to redraw, instead of rebuilding the whole map. With {@code --out} the generated files
+ * are kept; copying the {@code .map} file to {@code maps/} makes the game load it in place
+ * of the bundled map of the same id.</p>
+ */
+public class MapBenchmark {
+
+    /** Kept reachable so retained heap can be measured after a load. */
+    private static Object loaded;
+
+    public static void main(String[] args) throws IOException {
+        int size = 2000;
+        int runs = 5;
+        Path out = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--size" -> size = Integer.parseInt(args[++i]);
+                case "--runs" -> runs = Integer.parseInt(args[++i]);
+                case "--out" -> out = Path.of(args[++i]);
+                default -> throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        Path dir = out != null ? Files.createDirectories(out) : Files.createTempDirectory("map-benchmark");
+        Path text = dir.resolve("Stress" + size + ".txt");
+        Path binary = dir.resolve("Stress" + size + ".map");
+        try {
+            long begin = System.nanoTime();
+            generate(size, size, text);
+            GameMap map;
+            try (InputStream in = Files.newInputStream(text)) {
+                map = MapFile.parseText(in, text.toString());
+            }
+            MapFile.writeBinary(map, binary);
+            System.out.printf("generated %dx%d map in %.0f ms: text %.1f MB, binary %.1f MB%n", size, size,
+                    (System.nanoTime() - begin) / 1e6, Files.size(text) / 1e6, Files.size(binary) / 1e6);
+
+            measure("lines", runs, () -> legacyLoad(text));
+            measure("text", runs, () -> {
+                try (InputStream in = Files.newInputStream(text)) {
+                    return MapFile.parseText(in, text.toString());
+                }
+            });
+            measure("binary", runs, () -> MapFile.readBinary(binary));
+            measureEdit(map.getTiles(), runs);
+        } finally {
+            if (out == null) {
+                Files.deleteIfExists(text);
+                Files.deleteIfExists(binary);
+                Files.deleteIfExists(dir);
+            }
+        }
+    }
+
+    private interface Load {
+        Object run() throws IOException;
+    }
+
+    private static void measure(String name, int runs, Load load) throws IOException {
+        /* Warm-up so the first measured run is not dominated by class loading. */
+        loaded = load.run();
+        loaded = null;
+
+        double[] millis = new double[runs];
+        long peak = 0;
+        long retained = 0;
+        for (int i = 0; i < runs; i++) {
+            System.gc();
+            long base = heapUsed();
+            resetPeaks();
+            long begin = System.nanoTime();
+            loaded = load.run();
+            millis[i] = (System.nanoTime() - begin) / 1e6;
+            peak = Math.max(peak, heapPeak() - base);
+            System.gc();
+            retained = heapUsed() - base;
+            loaded = null;
+        }
+        System.out.printf("%-7s load mean %8.1f ms, best %8.1f ms, peak heap +%7.1f MB, retained %7.1f MB%n",
+                name, Arrays.stream(millis).average().orElse(0), Arrays.stream(millis).min().orElse(0),
+                peak / 1e6, retained / 1e6);
+    }
+
+    /**
+     * Diffs the grid against a copy with one ground tile in the middle turned into road.
+     */
+    private static void measureEdit(TileGrid tiles, int runs) {
+        byte[] cells = new byte[tiles.width() * tiles.height()];
+        tiles.cells().get(cells);
+        int index = cells.length / 2;
+        while (cells[index] != TileGrid.GROUND) {
+            index++;
+        }
+        cells[index] = TileGrid.ROAD;
+        TileGrid edited = new TileGrid(tiles.width(), tiles.height(), ByteBuffer.wrap(cells));
+
+        MapDiff diff = MapDiff.of(tiles, edited);
+        double[] millis = new double[runs];
+        for (int i = 0; i < runs; i++) {
+            long begin = System.nanoTime();
+            diff = MapDiff.of(tiles, edited);
+            millis[i] = (System.nanoTime() - begin) / 1e6;
+        }
+        long chunks = Arrays.stream(diff.redraw())
+                .map(t -> (t / tiles.width()) / ChunkRenderer.CHUNK_TILES * tiles.width() + (t % tiles.width()) / ChunkRenderer.CHUNK_TILES)
+                .distinct().count();
+        System.out.printf("edit    diff mean %8.1f ms, best %8.1f ms: %d tile changed, %d tiles in %d chunks to redraw instead of %d tiles%n",
+                Arrays.stream(millis).average().orElse(0), Arrays.stream(millis).min().orElse(0),
+                diff.changed(), diff.redraw().length, chunks, (long) tiles.width() * tiles.height());
+    }
+
+    /**
+     * The load path before streaming: all lines as strings, then a character grid.
+     */
+    private static char[][] legacyLoad(Path file) throws IOException {
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        String[] size = lines.getFirst().split(":");
+        int gridX = Integer.parseInt(size[0]);
+        int gridY = Integer.parseInt(size[1]);
+        char[][] grid = new char[gridY][gridX];
+        for (int y = 0; y < gridY; y++) {
+            String row = lines.get(y + 1);
+            for (int x = 0; x < gridX; x++) {
+                grid[y][x] = row.charAt(x);
+            }
+        }
+        return grid;
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    private static long heapUsed() {
+        return heapPools().stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+    }
+
+    private static long heapPeak() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+    }
+
+    private static void resetPeaks() {
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    /**
+     * Writes a text map with a serpentine road through checkpoints 0 to 9.
+     *
+     * <p>The road sweeps across the map on five evenly spaced rows, turning at the left and
+     * right edges; every corner is a checkpoint, so enemies can follow it.</p>
+     *
+     * @param width  tiles on the X axis, at least 4
+     * @param height tiles on the Y axis, at least 8
+     * @param file   target text file
+     * @throws IOException if the file cannot be written
+     */
+    public static void generate(int width, int height, Path file) throws IOException {
+        if (width < 4 || height < 8) {
+            throw new IllegalArgumentException("Map must be at least 4x8 tiles");
+        }
+        byte[] rows = new byte[width * height];
+        Arrays.fill(rows, (byte) '#');
+
+        int[][] points = new int[10][];
+        for (int k = 0; k < 5; k++) {
+            int row = 1 + k * (height - 3) / 4;
+            boolean rightward = k % 2 == 0;
+            int from = rightward ? 1 : width - 2;
+            int to = rightward ? width - 2 : 1;
+            points[2 * k] = new int[]{k == 0 ? 0 : from, row};
+            points[2 * k + 1] = new int[]{k == 4 ? (rightward ? width - 1 : 0) : to, row};
+        }
+        for (int i = 0; i + 1 < points.length; i++) {
+            int[] a = points[i];
+            int[] b = points[i + 1];
+            for (int x = Math.min(a[0], b[0]); x <= Math.max(a[0], b[0]); x++) {
+                for (int y = Math.min(a[1], b[1]); y <= Math.max(a[1], b[1]); y++) {
+                    rows[y * width + x] = '$';
+                }
+            }
+        }
+        for (int i = 0; i < points.length; i++) {
+            rows[points[i][1] * width + points[i][0]] = (byte) ('0' + i);
+        }
+
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            output.write((width + ":" + height + "\n").getBytes(StandardCharsets.US_ASCII));
+            for (int y = 0; y < height; y++) {
+                output.write(rows, y * width, width);
+                output.write('\n');
+            }
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.github.griffty.finalproject.world.save;
+
+import com.github.griffty.finalproject.Constants;
+import com.github.griffty.finalproject.world.WaveFormula;
+import com.github.griffty.finalproject.world.WaveScript;
+import com.github.griffty.finalproject.world.WorldManager;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerHelper;
+import com.github.griffty.finalproject.world.entities.components.towers.TowerType;
+import com.github.griffty.finalproject.world.map.TileGrid;
+import com.github.griffty.finalproject.world.replay.StateHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WorldSaveFileTest {
+    private static final int TICKS_BEFORE_SAVE = 1800;
+    private static final int TICKS_AFTER_LOAD = 1200;
+
+    private Path file;
+
+    @BeforeEach
+    void createFile() throws IOException {
+        file = Files.createTempFile("world", ".sav");
+    }
+
+    @AfterEach
+    void deleteFile() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    void loadedMatchTicksLikeTheUninterruptedOne() throws IOException {
+        assertResumesInSync(WaveScript.load(Constants.MAIN_MAP_ID));
+    }
+
+    @Test
+    void loadedMatchWithHordesTicksLikeTheUninterruptedOne() throws IOException {
+        WaveFormula dense = new WaveFormula(100, 0, 0, 0, 0, 0.05, 0.1, 0, 0.1, 10, 0, 0);
+        assertResumesInSync(WaveScript.endless(dense).withHordes(true));
+    }
+
+    @Test
+    void truncatedOrCorruptSaveLeavesTheWorldUntouched() throws IOException {
+        WorldManager world = played(WaveScript.load(Constants.MAIN_MAP_ID));
+        WorldSaveFile.save(world, file);
+        byte[] bytes = Files.readAllBytes(file);
+        long hash = StateHasher.hash(world);
+
+        for (int length = bytes.length - 1; length > 0; length = length * 7 / 8) {
+            Files.write(file, Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> WorldSaveFile.load(world, file), "load of " + length + " bytes");
+            assertEquals(hash, StateHasher.hash(world), "state after failed load of " + length + " bytes");
+        }
+
+        byte[] corrupt = bytes.clone();
+        corrupt[corrupt.length - 1] = 7;
+        Files.write(file, corrupt);
+        assertThrows(IOException.class, () -> WorldSaveFile.load(world, file), "load with a bad world order");
+        assertEquals(hash, StateHasher.hash(world), "state after failed load with a bad world order");
+    }
+
+    @Test
+    void loadedFileCanBeOverwrittenBySave() throws IOException {
+        WorldManager world = played(WaveScript.load(Constants.MAIN_MAP_ID));
+        WorldSaveFile.save(world, file);
+        WorldSaveFile.load(world, file);
+        long hash = StateHasher.hash(world);
+
+        WorldSaveFile.save(world, file);
+        WorldSaveFile.load(world, file);
+        assertEquals(hash, StateHasher.hash(world));
+    }
+
+    /**
+     * @return a world that has ticked for {@link #TICKS_BEFORE_SAVE} ticks with a tower of every type
+     */
+    private static WorldManager played(WaveScript script) {
+        WorldManager world = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND, script);
+        world.getPlayerVariableHandler().restore(0, 1_000_000);
+        world.start();
+        placeTowers(world, towerTiles(world), 0);
+        for (int t = 0; t < TICKS_BEFORE_SAVE; t++) {
+            world.tick();
+        }
+        return world;
+    }
+
+    /**
+     * Plays a match with every tower type, placed in two batches while enemies are on the road,
+     * saves it, loads the save into a fresh world and ticks both, comparing state hashes.
+     */
+    private void assertResumesInSync(WaveScript script) throws IOException {
+        WorldManager original = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND, script);
+        List<int[]> tiles = towerTiles(original);
+        original.getPlayerVariableHandler().restore(0, 1_000_000);
+        original.start();
+        for (int t = 0; t < TICKS_BEFORE_SAVE; t++) {
+            if (t == 0 || t == TICKS_BEFORE_SAVE / 2) {
+                placeTowers(original, tiles, t == 0 ? 0 : 1);
+            }
+            original.tick();
+        }
+        assertTrue(original.getEnemyGrid().size() > 0, "no enemies on the road when saving");
+
+        WorldSaveFile.save(original, file);
+        WorldManager loaded = WorldManager.createHeadless(Constants.MAIN_MAP_ID, Constants.TICKS_PER_SECOND, script);
+        WorldSaveFile.load(loaded, file);
+        assertEquals(StateHasher.hash(original), StateHasher.hash(loaded), "state right after loading");
+
+        for (int t = 0; t < TICKS_AFTER_LOAD; t++) {
+            original.tick();
+            loaded.tick();
+            assertEquals(StateHasher.hash(original), StateHasher.hash(loaded), "state " + (t + 1) + " ticks after loading");
+        }
+    }
+
+    /**
+     * @return ground tiles next to the road, from the end of the road backwards, so towers are
+     *         placed in a different order than the tiles are stored in
+     */
+    private static List<int[]> towerTiles(WorldManager world) {
+        TileGrid grid = world.getMapManager().getGameMap().getTiles();
+        List<int[]> tiles = new ArrayList<>();
+        for (int y = grid.height() - 1; y >= 0; y--) {
+            for (int x = grid.width() - 1; x >= 0; x--) {
+                if (grid.isGround(x, y) && (grid.isRoad(x + 1, y) || grid.isRoad(x - 1, y)
+                        || grid.isRoad(x, y + 1) || grid.isRoad(x, y - 1))) {
+                    tiles.add(new int[]{x, y});
+                }
+            }
+        }
+        return tiles;
+    }
+
+    /**
+     * Places one tower of every type on every other tile of a batch.
+     */
+    private static void placeTowers(WorldManager world, List<int[]> tiles, int batch) {
+        TowerType[] types = TowerType.values();
+        int step = tiles.size() / (types.length * 2);
+        for (int i = 0; i < types.length; i++) {
+            int[] tile = tiles.get((i * 2 + batch) * step);
+            TowerHelper.placeTower(world, TowerHelper.getTowerClass(types[i]), tile[0], tile[1]);
+        }
+    }
+}